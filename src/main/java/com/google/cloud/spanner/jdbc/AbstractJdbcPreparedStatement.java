@@ -53,6 +53,12 @@ abstract class AbstractJdbcPreparedStatement extends JdbcStatement implements Pr
     return parameters;
   }
 
+  @Override
+  public void close() throws SQLException {
+    parameters.clearParameters();
+    super.close();
+  }
+
   private <T> T checkClosedAndThrowNotOnPreparedStatement() throws SQLException {
     checkClosed();
     throw JdbcSqlExceptionFactory.of(METHOD_NOT_ON_PREPARED_STATEMENT, Code.INVALID_ARGUMENT);
@@ -16,6 +16,7 @@
 
 package com.google.cloud.spanner.jdbc;
 
+import com.google.cloud.spanner.DecodeMode;
 import com.google.cloud.spanner.ErrorCode;
 import com.google.cloud.spanner.Options;
 import com.google.cloud.spanner.Options.QueryOption;
@@ -25,9 +26,14 @@ import com.google.cloud.spanner.connection.AbstractStatementParser;
 import com.google.cloud.spanner.connection.Connection;
 import com.google.cloud.spanner.connection.StatementResult;
 import com.google.cloud.spanner.connection.StatementResult.ClientSideStatementType;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
+import com.google.cloud.spanner.jdbc.LeakDetector.TrackedResource;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Stopwatch;
 import com.google.rpc.Code;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
@@ -55,10 +61,29 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
   private boolean poolable;
   private final JdbcConnection connection;
   private Duration queryTimeout = Duration.ZERO;
+  private QueryFingerprint lastQueryFingerprint;
+  private volatile com.google.cloud.spanner.Statement executingStatement;
+  private volatile long executionStartNanos;
+  private final TrackedResource trackedResource;
+  /** Overrides the execution profiling setting of the connection if not null. */
+  private Boolean executionProfilingEnabled;
+  /** The profiler of the current or last execution of this statement. */
+  private volatile ExecutionProfiler executionProfiler;
+  /** The slow query log execution of the current execution, or null if the log is disabled. */
+  private volatile SlowQueryLog.Execution slowQueryExecution;
 
   AbstractJdbcStatement(JdbcConnection connection) throws SQLException {
     this.connection = connection;
     this.parser = connection.getParser();
+    connection.onStatementOpened(this);
+    this.trackedResource =
+        connection.trackLeaks(
+            this,
+            this instanceof JdbcPreparedStatement
+                ? ResourceType.PREPARED_STATEMENT
+                : ResourceType.STATEMENT,
+            connection::onStatementLeaked,
+            null);
     if (connection.usesDirectExecutor()) {
       this.executingLock = new ReentrantLock();
     } else {
@@ -77,6 +102,10 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
       res = Arrays.copyOf(res, res.length + 1);
       res[res.length - 1] = Options.prefetchChunks(getFetchSize());
     }
+    if (connection.isLazyColumnDecoding()) {
+      res = Arrays.copyOf(res, res.length + 1);
+      res[res.length - 1] = Options.decodeMode(DecodeMode.LAZY_PER_COL);
+    }
     return res;
   }
 
@@ -145,6 +174,7 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
   protected <T> T runWithStatementTimeout(JdbcFunction<Connection, T> function)
       throws SQLException {
     checkClosed();
+    connection.flushAutocommitDmlPipeline();
     StatementTimeout originalTimeout = setTemporaryStatementTimeout();
     try {
       return function.apply(getConnection().getSpannerConnection());
@@ -231,7 +261,9 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
       QueryOption... options)
       throws SQLException {
     Options.QueryOption[] queryOptions = getQueryOptions(options);
+    connection.beforeAutoBatchDmlStatement(statement, true);
     return doWithStatementTimeout(
+        statement,
         () -> {
           com.google.cloud.spanner.ResultSet resultSet;
           if (analyzeMode == null) {
@@ -240,28 +272,101 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
             resultSet = connection.getSpannerConnection().analyzeQuery(statement, analyzeMode);
           }
           return JdbcResultSet.of(this, resultSet);
-        });
+        },
+        ignore -> Operation.QUERY);
   }
 
-  private <T> T doWithStatementTimeout(Supplier<T> runnable) throws SQLException {
-    return doWithStatementTimeout(runnable, ignore -> Boolean.TRUE);
+  private <T> T doWithStatementTimeout(
+      com.google.cloud.spanner.Statement statement,
+      Supplier<T> runnable,
+      Function<T, Operation> operation)
+      throws SQLException {
+    return doWithStatementTimeout(statement, runnable, ignore -> Boolean.TRUE, operation);
   }
 
   private <T> T doWithStatementTimeout(
-      Supplier<T> runnable, Function<T, Boolean> shouldResetTimeout) throws SQLException {
+      com.google.cloud.spanner.Statement statement,
+      Supplier<T> runnable,
+      Function<T, Boolean> shouldResetTimeout,
+      Function<T, Operation> operation)
+      throws SQLException {
+    // Pipelined DML statements must be sent to Spanner before any other statement is executed.
+    connection.flushAutocommitDmlPipeline();
+    // All optional instrumentation is skipped with this single check if it is disabled.
+    boolean instrumented =
+        executionProfilingEnabled != null || connection.isStatementInstrumentationEnabled();
+    String statementTag = null;
+    ExecutionProfiler profiler = null;
+    SlowQueryLog.Execution slowQueryExecution = null;
+    QueryFingerprint fingerprint = null;
+    if (instrumented) {
+      connection.onStatementExecution();
+      statementTag = connection.getStatementTagForMetrics();
+      profiler = beginExecutionProfile();
+      slowQueryExecution = connection.startSlowQueryExecution(statement, statementTag, profiler);
+      long parseStartNanos = profiler == null ? 0L : System.nanoTime();
+      // The fingerprint must be set before the statement is executed, as the result set of a query
+      // is created while the statement is executed.
+      fingerprint = connection.getQueryFingerprint(statement);
+      if (profiler != null) {
+        profiler.setSql(statement.getSql());
+        profiler.record(Phase.PARSE, parseStartNanos, System.nanoTime());
+      }
+    }
+    this.slowQueryExecution = slowQueryExecution;
+    this.lastQueryFingerprint = fingerprint;
     StatementTimeout originalTimeout = setTemporaryStatementTimeout();
     T result = null;
     if (this.executingLock != null) {
       this.executingLock.lock();
       this.executingThread = Thread.currentThread();
     }
+    Span span = instrumented ? connection.startJdbcSpan(JdbcConnection.EXECUTE_SPAN_NAME) : null;
+    // The metrics of the statement are recorded while the span is current, so they can be linked
+    // to the span by an exemplar.
+    Scope scope = span == null ? null : span.makeCurrent();
     try {
-      Stopwatch stopwatch = Stopwatch.createStarted();
+      long startNanos = System.nanoTime();
+      this.executionStartNanos = startNanos;
+      this.executingStatement = statement;
       result = runnable.get();
-      Duration executionDuration = stopwatch.elapsed();
-      connection.recordClientLibLatencyMetric(executionDuration.toMillis());
+      long endNanos = System.nanoTime();
+      long executionNanos = endNanos - startNanos;
+      connection.recordClientLibLatencyNanos(executionNanos);
+      if (instrumented) {
+        Operation operationType = operation.apply(result);
+        if (span != null) {
+          span.setAttribute(Metrics.OPERATION_KEY, operationType.getAttributeValue());
+          if (statementTag != null) {
+            span.setAttribute(Metrics.STATEMENT_TAG_KEY, statementTag);
+          }
+        }
+        if (profiler != null) {
+          profiler.record(Phase.EXECUTE, startNanos, endNanos);
+          // The profile of a query is finished by its result set.
+          if (operationType != Operation.QUERY) {
+            profiler.finish();
+          }
+        }
+        connection.recordOperationLatencyMetric(operationType, statementTag, executionNanos);
+        if (slowQueryExecution != null) {
+          slowQueryExecution.executed(operationType, executionNanos);
+          // The slow query log record of a query is written by its result set.
+          if (operationType != Operation.QUERY) {
+            slowQueryExecution.finish(0L, "ok");
+          }
+        }
+        if (fingerprint != null && !operationType.isClientSide()) {
+          connection.recordQueryExecution(
+              fingerprint, TimeUnit.NANOSECONDS.toMillis(executionNanos));
+        }
+      }
       return result;
     } catch (SpannerException spannerException) {
+      if (spannerException.getErrorCode() == ErrorCode.ABORTED) {
+        connection.recordAbortedOperationMetric();
+      }
+      JdbcConnection.recordJdbcSpanError(span, spannerException);
       if (this.cancelled.get()
           && spannerException.getErrorCode() == ErrorCode.CANCELLED
           && this.executingLock != null) {
@@ -271,6 +376,19 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
       }
       throw JdbcSqlExceptionFactory.of(spannerException);
     } finally {
+      if (scope != null) {
+        scope.close();
+        span.end();
+      }
+      if (profiler != null && !profiler.isExecuted()) {
+        // The execution failed.
+        profiler.record(Phase.EXECUTE, executionStartNanos, System.nanoTime());
+        profiler.finish();
+      }
+      if (slowQueryExecution != null && !slowQueryExecution.isExecuted()) {
+        slowQueryExecution.finish(0L, "error");
+      }
+      this.executingStatement = null;
       if (this.executingLock != null) {
         this.executingThread = null;
         this.cancelled.set(false);
@@ -282,6 +400,88 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
     }
   }
 
+  /**
+   * Returns true if the executions of this statement should be profiled. The setting of the
+   * statement takes precedence over the setting of the connection.
+   */
+  boolean isExecutionProfilingActive() {
+    Boolean enabled = executionProfilingEnabled;
+    return enabled == null ? connection.isExecutionProfilingActive() : enabled;
+  }
+
+  void setExecutionProfilingActive(boolean enabled) {
+    this.executionProfilingEnabled = enabled;
+  }
+
+  /**
+   * Returns the profiler for the execution that is about to start, or null if execution profiling
+   * is disabled. A new profiler is started if the previous execution has been sent to Spanner, so
+   * the phases that precede an execution, such as binding parameters, are added to the profile of
+   * that execution.
+   */
+  ExecutionProfiler beginExecutionProfile() {
+    if (!isExecutionProfilingActive()) {
+      return null;
+    }
+    ExecutionProfiler profiler = executionProfiler;
+    if (profiler == null || profiler.isExecuted() || profiler.isFinished()) {
+      profiler = new ExecutionProfiler();
+      executionProfiler = profiler;
+    }
+    return profiler;
+  }
+
+  /**
+   * Returns the profiler of the current execution if it has not yet finished. This is used by the
+   * result set of a query to add the fetch and convert phases to the profile.
+   */
+  ExecutionProfiler getActiveExecutionProfiler() {
+    ExecutionProfiler profiler = executionProfiler;
+    return profiler == null || profiler.isFinished() ? null : profiler;
+  }
+
+  /**
+   * Returns the slow query log execution of the current execution, or null if the slow query log is
+   * disabled. This is used by the result set of a query to write the record when the result set has
+   * been consumed.
+   */
+  SlowQueryLog.Execution getSlowQueryExecution() {
+    return slowQueryExecution;
+  }
+
+  /**
+   * Returns the profile of the last execution if that execution has finished, or null if there is
+   * none. The profile of an execution that is still in progress is not returned, as this method can
+   * be called by any thread.
+   */
+  ExecutionProfile getExecutionProfile() {
+    ExecutionProfiler profiler = executionProfiler;
+    return profiler == null ? null : profiler.getFinishedProfile();
+  }
+
+  /**
+   * Returns the fingerprint of the last statement that was executed by this statement, or null if
+   * query statistics are disabled. This is used to record the number of rows that are returned by a
+   * query.
+   */
+  QueryFingerprint getLastQueryFingerprint() {
+    return lastQueryFingerprint;
+  }
+
+  void clearLastQueryFingerprint() {
+    this.lastQueryFingerprint = null;
+  }
+
+  /** Returns the statement that is currently being executed, or null if there is none. */
+  com.google.cloud.spanner.Statement getExecutingStatement() {
+    return executingStatement;
+  }
+
+  /** Returns the {@link System#nanoTime()} at which the current execution was started. */
+  long getExecutionStartNanos() {
+    return executionStartNanos;
+  }
+
   /**
    * Do a checked cast from long to int. Throws a {@link SQLException} with code {@link
    * Code#OUT_OF_RANGE} if the update count is too big to fit in an int.
@@ -304,10 +504,14 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
    * @throws SQLException if a database error occurs.
    */
   StatementResult execute(com.google.cloud.spanner.Statement statement) throws SQLException {
+    connection.beforeAutoBatchDmlStatement(statement, false);
     StatementResult statementResult =
         doWithStatementTimeout(
+            statement,
             () -> connection.getSpannerConnection().execute(statement),
-            result -> !resultIsSetStatementTimeout(result));
+            result -> !resultIsSetStatementTimeout(result),
+            Operation::of);
+    connection.afterAutoBatchDmlStatement(statement, statementResult);
     if (resultIsShowStatementTimeout(statementResult)) {
       // We can safely re-run it without first resetting the timeout to the original value, as that
       // has already been done by the 'doWithStatementTimeout' function.
@@ -401,6 +605,12 @@ abstract class AbstractJdbcStatement extends AbstractJdbcWrapper implements Stat
 
   @Override
   public void close() throws SQLException {
+    if (!this.closed) {
+      connection.onStatementClosed(this);
+      if (trackedResource != null) {
+        trackedResource.close();
+      }
+    }
     this.closed = true;
   }
 
@@ -476,7 +476,7 @@ abstract class AbstractJdbcWrapper implements Wrapper {
   static BigDecimal parseBigDecimal(String val) throws SQLException {
     Preconditions.checkNotNull(val);
     try {
-      return new BigDecimal(val);
+      return DecimalParser.parse(val);
     } catch (NumberFormatException e) {
       throw JdbcSqlExceptionFactory.of(
           String.format("%s is not a valid number", val), com.google.rpc.Code.INVALID_ARGUMENT, e);
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Value;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Keeps track of the DML statements that have been buffered by an automatic DML batch, and
+ * determines when the batch should be flushed. A batch is flushed when it reaches the maximum
+ * number of statements, when the estimated size of the buffered statements reaches the maximum
+ * number of bytes, or when the first statement in the batch was buffered longer ago than the
+ * maximum age. The age is checked when a statement is added to the batch, and before the next
+ * statement is executed on the connection. A batch is not flushed by a background timer, so an idle
+ * batch stays buffered until the next statement, query or commit. A limit with value zero is not
+ * enforced.
+ */
+class AutoBatchDmlFlushPolicy {
+  /** The reason that a batch was flushed. This is added as an attribute to the flush metrics. */
+  enum FlushReason {
+    /** The batch reached the maximum number of statements of this policy. */
+    MAX_STATEMENTS("max_statements"),
+    /** The batch reached the maximum estimated size of this policy. */
+    MAX_BYTES("max_bytes"),
+    /** The first statement in the batch was buffered longer ago than the maximum age. */
+    MAX_AGE("max_age"),
+    /** A query was executed while the batch was active. */
+    QUERY("query"),
+    /** The transaction of the batch was committed. */
+    COMMIT("commit");
+
+    private final String attributeValue;
+
+    FlushReason(String attributeValue) {
+      this.attributeValue = attributeValue;
+    }
+
+    String getAttributeValue() {
+      return attributeValue;
+    }
+  }
+
+  private final Ticker ticker;
+  private int maxStatements;
+  private long maxBytes;
+  private Duration maxAge = Duration.ZERO;
+
+  private int bufferedStatements;
+  private long bufferedBytes;
+  private long firstStatementNanos;
+
+  AutoBatchDmlFlushPolicy() {
+    this(Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  AutoBatchDmlFlushPolicy(Ticker ticker) {
+    this.ticker = Preconditions.checkNotNull(ticker);
+  }
+
+  int getMaxStatements() {
+    return maxStatements;
+  }
+
+  void setMaxStatements(int maxStatements) {
+    Preconditions.checkArgument(maxStatements >= 0, "maxStatements must be >= 0");
+    this.maxStatements = maxStatements;
+  }
+
+  long getMaxBytes() {
+    return maxBytes;
+  }
+
+  void setMaxBytes(long maxBytes) {
+    Preconditions.checkArgument(maxBytes >= 0L, "maxBytes must be >= 0");
+    this.maxBytes = maxBytes;
+  }
+
+  Duration getMaxAge() {
+    return maxAge;
+  }
+
+  void setMaxAge(Duration maxAge) {
+    Preconditions.checkNotNull(maxAge);
+    Preconditions.checkArgument(!maxAge.isNegative(), "maxAge must be >= 0");
+    this.maxAge = maxAge;
+  }
+
+  /** Returns true if at least one of the limits of this policy is enforced. */
+  boolean isEnabled() {
+    return maxStatements > 0 || maxBytes > 0L || !maxAge.isZero();
+  }
+
+  int getBufferedStatements() {
+    return bufferedStatements;
+  }
+
+  long getBufferedBytes() {
+    return bufferedBytes;
+  }
+
+  /** Resets the buffer state of this policy. This is called when a batch has been flushed. */
+  void reset() {
+    bufferedStatements = 0;
+    bufferedBytes = 0L;
+    firstStatementNanos = 0L;
+  }
+
+  /**
+   * Registers that the given statement was added to the current batch, and returns the reason that
+   * the batch should be flushed, or null if the batch does not need to be flushed. The size of the
+   * statement is only estimated if the policy has a maximum number of bytes.
+   */
+  FlushReason add(Statement statement) {
+    long now = ticker.read();
+    if (bufferedStatements == 0) {
+      firstStatementNanos = now;
+    }
+    bufferedStatements++;
+    if (maxBytes > 0L) {
+      bufferedBytes += estimateSize(statement);
+    }
+    if (maxStatements > 0 && bufferedStatements >= maxStatements) {
+      return FlushReason.MAX_STATEMENTS;
+    }
+    if (maxBytes > 0L && bufferedBytes >= maxBytes) {
+      return FlushReason.MAX_BYTES;
+    }
+    if (isMaxAgeExceeded(now)) {
+      return FlushReason.MAX_AGE;
+    }
+    return null;
+  }
+
+  /**
+   * Returns true if the current batch contains at least one statement, and the first statement in
+   * the batch was buffered longer ago than the maximum age of this policy.
+   */
+  boolean isMaxAgeExceeded() {
+    return bufferedStatements > 0 && isMaxAgeExceeded(ticker.read());
+  }
+
+  private boolean isMaxAgeExceeded(long now) {
+    return !maxAge.isZero() && now - firstStatementNanos >= maxAge.toNanos();
+  }
+
+  /**
+   * Returns an estimate of the number of bytes that the given statement adds to a batch. The
+   * estimate is based on the length of the SQL string and the serialized size of the protobuf
+   * representation of the parameter values, and does not include any other protocol overhead. The
+   * parameter values are not decoded to Java objects to estimate their size.
+   */
+  static long estimateSize(Statement statement) {
+    long size = statement.getSql().length();
+    for (Map.Entry<String, Value> parameter : statement.getParameters().entrySet()) {
+      size += parameter.getKey().length() + estimateSize(parameter.getValue());
+    }
+    return size;
+  }
+
+  private static long estimateSize(Value value) {
+    if (value == null || value.isNull()) {
+      return 0L;
+    }
+    return value.toProto().getSerializedSize();
+  }
+}
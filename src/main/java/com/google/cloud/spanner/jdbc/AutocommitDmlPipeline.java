@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.connection.Connection;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Buffers DML statements that are executed asynchronously on a connection in autocommit mode. The
+ * buffered statements are sent to Spanner as one DML batch in a single read/write transaction when
+ * the buffer is full, or when the buffer is flushed. The update count of each statement is returned
+ * as an {@link ApiFuture} that is completed when the batch has been committed.
+ *
+ * <p>Waiting for the update count of a statement that is still buffered flushes the buffer, so
+ * the future always completes. The flush sends the batch on the underlying {@link Connection} in
+ * the waiting thread. As for any other operation on the connection, the application must therefore
+ * not wait for a buffered statement while another thread is executing a statement on the same
+ * connection.
+ *
+ * <p>The statements in a flushed batch are applied atomically. If one of the statements fails, the
+ * transaction is rolled back and the futures of all statements in the batch fail with the same
+ * error.
+ */
+class AutocommitDmlPipeline {
+  static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  private final Connection connection;
+  private final int maxBatchSize;
+  private final List<Statement> statements = new ArrayList<>();
+  private final List<PipelinedUpdateCount> updateCounts = new ArrayList<>();
+
+  AutocommitDmlPipeline(Connection connection, int maxBatchSize) {
+    Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+    this.connection = Preconditions.checkNotNull(connection);
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Adds the given statement to the buffer and returns a future for its update count. The buffer is
+   * flushed if it contains the maximum number of statements after adding this statement.
+   */
+  synchronized ApiFuture<Long> add(Statement statement) {
+    PipelinedUpdateCount updateCount = new PipelinedUpdateCount(this);
+    statements.add(Preconditions.checkNotNull(statement));
+    updateCounts.add(updateCount);
+    if (statements.size() >= maxBatchSize) {
+      flush();
+    }
+    return updateCount;
+  }
+
+  /** Returns the number of statements that are currently buffered. */
+  synchronized int size() {
+    return statements.size();
+  }
+
+  /**
+   * Sends all buffered statements to Spanner as one DML batch. This method does not wait for the
+   * batch to finish.
+   */
+  synchronized void flush() {
+    if (statements.isEmpty()) {
+      return;
+    }
+    ImmutableList<Statement> batch = ImmutableList.copyOf(statements);
+    ImmutableList<PipelinedUpdateCount> results = ImmutableList.copyOf(updateCounts);
+    statements.clear();
+    updateCounts.clear();
+    for (PipelinedUpdateCount result : results) {
+      result.flushed = true;
+    }
+
+    ApiFuture<long[]> batchResult;
+    try {
+      batchResult = connection.executeBatchUpdateAsync(batch);
+    } catch (Throwable throwable) {
+      setException(results, throwable);
+      return;
+    }
+    ApiFutures.addCallback(
+        batchResult,
+        new ApiFutureCallback<long[]>() {
+          @Override
+          public void onFailure(Throwable throwable) {
+            setException(results, throwable);
+          }
+
+          @Override
+          public void onSuccess(long[] result) {
+            for (int index = 0; index < results.size(); index++) {
+              if (index < result.length) {
+                results.get(index).set(result[index]);
+              } else {
+                results
+                    .get(index)
+                    .setException(
+                        JdbcSqlExceptionFactory.of(
+                            "Spanner returned fewer update counts than statements in the batch",
+                            com.google.rpc.Code.INTERNAL));
+              }
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private static void setException(List<PipelinedUpdateCount> results, Throwable throwable) {
+    Throwable cause = throwable;
+    if (cause instanceof ExecutionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof SpannerException) {
+      cause = JdbcSqlExceptionFactory.of((SpannerException) cause);
+    } else if (!(cause instanceof JdbcSqlException)) {
+      cause = JdbcSqlExceptionFactory.of(SpannerExceptionFactory.asSpannerException(cause));
+    }
+    for (PipelinedUpdateCount result : results) {
+      result.setException(cause);
+    }
+  }
+
+  /**
+   * Future for the update count of a pipelined DML statement. Waiting for the result of a statement
+   * that has not yet been flushed flushes the pipeline, as the result would otherwise never become
+   * available if the waiting thread is also the thread that should flush the pipeline.
+   */
+  private static final class PipelinedUpdateCount extends AbstractFuture<Long>
+      implements ApiFuture<Long> {
+    private final AutocommitDmlPipeline pipeline;
+    private volatile boolean flushed;
+
+    private PipelinedUpdateCount(AutocommitDmlPipeline pipeline) {
+      this.pipeline = pipeline;
+    }
+
+    @Override
+    protected boolean set(Long value) {
+      return super.set(value);
+    }
+
+    @Override
+    protected boolean setException(Throwable throwable) {
+      return super.setException(throwable);
+    }
+
+    @Override
+    public Long get() throws InterruptedException, ExecutionException {
+      flushIfBuffered();
+      return super.get();
+    }
+
+    @Override
+    public Long get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      flushIfBuffered();
+      return super.get(timeout, unit);
+    }
+
+    private void flushIfBuffered() {
+      if (!flushed && !isDone()) {
+        // This also flushes the statements that were added before this statement, so the
+        // statements are still sent in the order that they were submitted.
+        pipeline.flush();
+      }
+    }
+  }
+}
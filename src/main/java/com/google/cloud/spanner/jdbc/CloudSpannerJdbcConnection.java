@@ -16,6 +16,8 @@
 
 package com.google.cloud.spanner.jdbc;
 
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ServerStream;
 import com.google.cloud.spanner.AbortedDueToConcurrentModificationException;
 import com.google.cloud.spanner.AbortedException;
 import com.google.cloud.spanner.CommitResponse;
@@ -24,6 +26,7 @@ import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.DatabaseId;
 import com.google.cloud.spanner.Dialect;
 import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.MutationGroup;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.PartitionOptions;
 import com.google.cloud.spanner.Spanner;
@@ -31,13 +34,17 @@ import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.connection.AutocommitDmlMode;
 import com.google.cloud.spanner.connection.SavepointSupport;
 import com.google.cloud.spanner.connection.TransactionMode;
+import com.google.spanner.admin.database.v1.UpdateDatabaseDdlMetadata;
+import com.google.spanner.v1.BatchWriteResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.Iterator;
+import java.util.Map;
 import javax.annotation.Nonnull;
 
 /**
@@ -355,6 +362,31 @@ public interface CloudSpannerJdbcConnection extends Connection {
    */
   void bufferedWrite(Iterable<Mutation> mutations) throws SQLException;
 
+  /**
+   * Writes the given mutation groups to the database using the BatchWrite RPC. The mutation groups
+   * are applied non-atomically in an unspecified order. All mutations within a single group are
+   * applied atomically, but there is no atomicity across groups. Each mutation group may be applied
+   * more than once, which means that this method should only be used for idempotent mutations, such
+   * as {@link Mutation.Op#INSERT_OR_UPDATE} and {@link Mutation.Op#REPLACE}.
+   *
+   * <p>The results are streamed back from Cloud Spanner as the groups are applied. Each {@link
+   * BatchWriteResponse} contains the indexes of the mutation groups that it applies to and a status
+   * code. Mutation groups that failed can be retried individually by the application.
+   *
+   * <p>Calling this method is only allowed in autocommit mode. Use {@link
+   * CloudSpannerJdbcStatement#addBatch(MutationGroup)} to execute a batch of mutation groups
+   * through the standard JDBC {@link java.sql.Statement#executeBatch()} method.
+   *
+   * @param mutationGroups The {@link MutationGroup}s to write to the database.
+   * @return a stream of {@link BatchWriteResponse}s with the results of each mutation group.
+   * @throws SQLException if the {@link Connection} is not in autocommit mode or if the {@link
+   *     Connection} is closed.
+   */
+  default ServerStream<BatchWriteResponse> batchWrite(Iterable<MutationGroup> mutationGroups)
+      throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * @return a connection URL that can be used to create a new {@link Connection} that is equal to
    *     the initial state of this connection. If this connection was initially opened in read-only
@@ -488,6 +520,291 @@ public interface CloudSpannerJdbcConnection extends Connection {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Sets the maximum number of statements that are buffered in an automatic DML batch. The batch is
+   * flushed to Spanner when it reaches this number of statements, instead of waiting for a query or
+   * commit to flush the batch. Each flush of an automatic DML batch is recorded in the
+   * spanner/jdbc/auto_batch_dml_flush_sizes and spanner/jdbc/auto_batch_dml_flush_latencies
+   * histograms with the reason of the flush as the flush_reason attribute. The default is 0, which
+   * means that the number of statements is not limited.
+   */
+  default void setAutoBatchDmlMaxBufferedStatements(int maxStatements) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns the maximum number of statements that are buffered in an automatic DML batch. */
+  default int getAutoBatchDmlMaxBufferedStatements() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Sets the maximum estimated size in bytes of the statements that are buffered in an automatic
+   * DML batch. The size of a statement is estimated from the length of the SQL string and the
+   * serialized size of the parameter values. The default is 0, which means that the size is not
+   * limited.
+   */
+  default void setAutoBatchDmlMaxBufferedBytes(long maxBytes) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns the maximum estimated size in bytes of an automatic DML batch. */
+  default long getAutoBatchDmlMaxBufferedBytes() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Sets the maximum time that a statement can be buffered in an automatic DML batch. The age of a
+   * batch is checked each time a statement is added to the batch, and before each statement that is
+   * executed while the batch is active. A batch is not flushed in the background, which means that
+   * an idle batch stays buffered until the next statement, query or commit on the connection. The
+   * default is {@link Duration#ZERO}, which means that the age is not limited.
+   */
+  default void setAutoBatchDmlMaxBufferAge(Duration maxAge) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns the maximum time that a statement can be buffered in an automatic DML batch. */
+  default Duration getAutoBatchDmlMaxBufferAge() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Sets the fraction of result sets on this connection for which streaming metrics are recorded.
+   * These metrics include the time to the first row, the time to consume the result set, the number
+   * of rows and the reason that the result set was closed. The value must be between 0.0 and 1.0.
+   * The default is 1.0, which means that the metrics are recorded for all result sets. Set a lower
+   * value to reduce the overhead of the metrics for workloads that execute many small queries.
+   */
+  default void setResultSetMetricsSamplingRate(double samplingRate) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns the fraction of result sets for which streaming metrics are recorded. */
+  default double getResultSetMetricsSamplingRate() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables query statistics for this connection. When enabled, the execution count,
+   * latency and number of returned rows of each statement are recorded per statement fingerprint.
+   * Statements that only differ in literal values, query parameters, comments or whitespace have
+   * the same fingerprint. The statistics are shared by all connections in the same JVM, and can be
+   * queried with the statement {@code SHOW VARIABLE SPANNER_JDBC.QUERY_STATS} or through JMX with
+   * the {@link QueryStatsMXBean}.
+   *
+   * <p>The default is false, unless the system property {@code spanner.jdbc.enable_query_stats} or
+   * the environment variable {@code SPANNER_JDBC_ENABLE_QUERY_STATS} has been set to true.
+   */
+  default void setQueryStatsEnabled(boolean enabled) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if query statistics are recorded for this connection. */
+  default boolean isQueryStatsEnabled() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables leak detection for the statements and result sets that are created on this
+   * connection after calling this method. A statement or result set that is garbage collected
+   * without having been closed is reported through the {@code spanner/jdbc/leaked_resources} metric
+   * and logged as a warning. The log entry includes the stack trace of the location where the
+   * resource was created for a sample of the leaked resources. The sampling rate is set with the
+   * system property {@code spanner.jdbc.leak_detection_stack_trace_sampling_rate} and is 0.01 by
+   * default. Set the system property {@code spanner.jdbc.leak_detection_close_leaked_resources} to
+   * true to also close the underlying streams of leaked result sets.
+   *
+   * <p>The default is false, unless the system property {@code spanner.jdbc.enable_leak_detection}
+   * or the environment variable {@code SPANNER_JDBC_ENABLE_LEAK_DETECTION} has been set to true.
+   */
+  default void setLeakDetectionEnabled(boolean enabled) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if leak detection is enabled for this connection. */
+  default boolean isLeakDetectionEnabled() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables execution profiling for the statements on this connection. When enabled,
+   * each statement records the time that is spent in each phase of an execution, such as binding
+   * parameters, waiting for Spanner and fetching rows. The profile of the last execution of a
+   * statement is returned by {@link CloudSpannerJdbcStatement#getLastExecutionProfile()}, and the
+   * totals per phase are added as an event to the current OpenTelemetry span. Profiling can also be
+   * enabled with the statement {@code SET SPANNER_JDBC.EXECUTION_PROFILING = true}, and can be
+   * overridden per statement with {@link
+   * CloudSpannerJdbcStatement#setExecutionProfilingEnabled(boolean)}. The default is false.
+   */
+  default void setExecutionProfilingEnabled(boolean enabled) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if execution profiling is enabled for this connection. */
+  default boolean isExecutionProfilingEnabled() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables OpenTelemetry spans for the JDBC calls on this connection. When enabled,
+   * the driver creates a span for each statement execution, for the consumption of each result set,
+   * and for each commit and rollback. The spans of the Spanner client library are created as
+   * children of these spans. The metrics of a statement are recorded in the context of its span, so
+   * an OpenTelemetry SDK with an exemplar filter that samples traced measurements can link the
+   * latency histograms of the driver to the trace of a slow statement.
+   *
+   * <p>The default is false, unless the system property {@code spanner.jdbc.enable_jdbc_spans} or
+   * the environment variable {@code SPANNER_JDBC_ENABLE_JDBC_SPANS} has been set to true.
+   */
+  default void setJdbcSpansEnabled(boolean enabled) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if OpenTelemetry spans are created for the JDBC calls on this connection. */
+  default boolean isJdbcSpansEnabled() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables recording latency snapshots on this connection. When enabled, the latency
+   * of each operation on this connection is recorded in microseconds in an in-process histogram.
+   * The histogram uses the bucket boundaries of the {@code latencyHistogramBoundaries} connection
+   * property, with additional sub-millisecond buckets if the boundaries are in milliseconds. The
+   * recorded latencies can be read with {@link #getLatencySnapshots()}, which can for example be
+   * used by load tests that need percentiles without an OpenTelemetry backend.
+   *
+   * <p>The default is false, unless the system property {@code
+   * spanner.jdbc.enable_latency_snapshots} or the environment variable {@code
+   * SPANNER_JDBC_ENABLE_LATENCY_SNAPSHOTS} has been set to true.
+   */
+  default void setLatencySnapshotsEnabled(boolean enabled) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if latency snapshots are recorded on this connection. */
+  default boolean isLatencySnapshotsEnabled() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns a snapshot of the latencies that have been recorded on this connection while latency
+   * snapshots were enabled. The snapshots are keyed by operation type, for example 'query',
+   * 'update', 'batch_dml' or 'commit'. Operation types without any recorded latencies are not
+   * included in the returned map.
+   */
+  default Map<String, LatencySnapshot> getLatencySnapshots() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Removes all latencies that have been recorded on this connection. */
+  default void resetLatencySnapshots() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Sets the slow query threshold of this connection in milliseconds. A structured JSON record is
+   * written to the logger {@code com.google.cloud.spanner.jdbc.SlowQueryLog} for each statement on
+   * this connection whose execution, including the consumption of the result set of a query, takes
+   * longer than this threshold. The record contains the statement tag, the fingerprint and the
+   * normalized SQL string of the statement, the types of the parameters, the number of rows, the
+   * number of internal retries, and the time spent executing the statement and consuming the
+   * results. The records are written asynchronously, and are dropped if the logger cannot keep up.
+   *
+   * <p>The default is the value of the connection property {@code slowQueryThresholdMs}, or 0 if
+   * that property has not been set. The value 0 disables the slow query log.
+   */
+  default void setSlowQueryThresholdMs(long thresholdMs) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns the slow query threshold of this connection in milliseconds. */
+  default long getSlowQueryThresholdMs() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables lazy column decoding for queries on this connection. When enabled, the
+   * value of a column is only decoded when the application reads the column, and the decoded value
+   * is kept for the rest of the row. This reduces the CPU usage of queries that select many more
+   * columns than the application reads, for example when an ORM maps a wide table to an entity of
+   * which only a few properties are used.
+   *
+   * <p>The default is the value of the connection property {@code lazyColumnDecoding}, or false if
+   * that property has not been set. The setting is applied to queries that are executed after
+   * calling this method.
+   */
+  default void setLazyColumnDecoding(boolean lazyColumnDecoding) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if lazy column decoding is enabled for queries on this connection. */
+  default boolean isLazyColumnDecoding() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Submits the given DDL statements as one batch and returns the long-running operation of the
+   * batch without waiting for it to finish. See {@link #executeDdlBatchAsync(Iterable,
+   * DdlBatchProgressListener)}.
+   */
+  default OperationFuture<Void, UpdateDatabaseDdlMetadata> executeDdlBatchAsync(
+      Iterable<String> statements) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Submits the given DDL statements as one batch and returns the long-running operation of the
+   * batch without waiting for it to finish. The statements are sent directly to Spanner, and are
+   * not part of any transaction or DDL batch on this connection. Multiple batches can be submitted
+   * and awaited concurrently, for example by using {@link
+   * com.google.api.core.ApiFutures#allAsList(Iterable)}. Spanner executes schema changes in the
+   * order in which they are received.
+   *
+   * @param statements the DDL statements to execute
+   * @param listener an optional listener that is called from a background thread when the progress
+   *     of one of the statements changes. The progress is checked each second, and the listener is
+   *     called for all statements when the operation has finished successfully.
+   * @return the long-running operation of the DDL batch. The metadata of the operation contains the
+   *     progress and the commit timestamp of each statement.
+   */
+  default OperationFuture<Void, UpdateDatabaseDdlMetadata> executeDdlBatchAsync(
+      Iterable<String> statements, DdlBatchProgressListener listener) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables pipelined autocommit DML. When enabled, DML statements that are executed
+   * with {@link CloudSpannerJdbcStatement#executeLargeUpdateAsync(String)} or {@link
+   * CloudSpannerJdbcPreparedStatement#executeLargeUpdateAsync()} while the connection is in
+   * autocommit mode are buffered and sent to Spanner in the background as one DML batch in a single
+   * transaction. The update counts are returned as futures that are done when that transaction has
+   * been committed. All statements in a batch are applied atomically; if one statement fails, the
+   * futures of all statements in that batch fail.
+   *
+   * <p>The buffered statements are flushed when the buffer is full, when any other statement is
+   * executed on this connection, when the transaction mode of the connection changes, when the
+   * connection is closed, or when {@link #flushPipelinedDml()} is called. Disabling pipelining
+   * flushes any buffered statements. Waiting for the future of a statement that is still buffered
+   * also flushes the buffered statements.
+   */
+  default void setPipelinedAutocommitDml(boolean pipelinedAutocommitDml) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns whether pipelined autocommit DML is enabled on this connection. */
+  default boolean isPipelinedAutocommitDml() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Sends any pipelined DML statements that are buffered on this connection to Spanner. This method
+   * does not wait for the statements to be committed. Use the futures that were returned for the
+   * statements to wait for the update counts.
+   */
+  default void flushPipelinedDml() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * @see
    *     com.google.cloud.spanner.connection.Connection#addTransactionRetryListener(com.google.cloud.spanner.connection.TransactionRetryListener)
@@ -16,6 +16,7 @@
 
 package com.google.cloud.spanner.jdbc;
 
+import com.google.api.core.ApiFuture;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.PartitionOptions;
 import java.sql.PreparedStatement;
@@ -58,4 +59,15 @@ public interface CloudSpannerJdbcPreparedStatement extends PreparedStatement {
    */
   CloudSpannerJdbcPartitionedQueryResultSet runPartitionedQuery(
       PartitionOptions partitionOptions, QueryOption... options) throws SQLException;
+
+  /**
+   * Executes this DML statement with the current parameter values without waiting for the update
+   * count. The statement is pipelined if pipelined autocommit DML is enabled on the connection. See
+   * {@link CloudSpannerJdbcStatement#executeLargeUpdateAsync(String)} for more information.
+   *
+   * @return a future for the update count of the statement
+   */
+  default ApiFuture<Long> executeLargeUpdateAsync() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.protobuf.AbstractMessage;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * This interface is implemented by {@link ResultSet}s that are returned by Cloud Spanner JDBC
+ * statements. It adds methods for reading ARRAY columns as arrays of primitive values. These
+ * methods do not create a boxed object for each element of the array, and are more efficient than
+ * {@link ResultSet#getArray(int)} for large arrays of numbers. It also adds methods for writing
+ * column values as text without creating an intermediate {@link String} for each value, and for
+ * reading JSON values with a streaming parser.
+ *
+ * <p>The methods return null if the value of the column is NULL, and throw a {@link SQLException}
+ * if the column does not contain an array with the element type of the method, or if the array
+ * contains a NULL element. Calling {@link ResultSet#getObject(int, Class)} with {@code
+ * long[].class}, {@code double[].class}, {@code float[].class}, or {@code boolean[].class} as the
+ * target type is equivalent to calling the corresponding method in this interface.
+ */
+public interface CloudSpannerJdbcResultSet extends ResultSet {
+
+  /**
+   * Returns the value of the given column as a {@code long[]}. The column must contain an
+   * ARRAY&lt;INT64&gt;, an ARRAY&lt;ENUM&gt;, or an ARRAY&lt;OID&gt;.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   */
+  long[] getLongArray(int columnIndex) throws SQLException;
+
+  /** Returns the value of the column with the given label as a {@code long[]}. */
+  long[] getLongArray(String columnLabel) throws SQLException;
+
+  /**
+   * Returns the value of the given column as a {@code double[]}. The column must contain an
+   * ARRAY&lt;FLOAT64&gt;.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   */
+  double[] getDoubleArray(int columnIndex) throws SQLException;
+
+  /** Returns the value of the column with the given label as a {@code double[]}. */
+  double[] getDoubleArray(String columnLabel) throws SQLException;
+
+  /**
+   * Returns the value of the given column as a {@code float[]}. The column must contain an
+   * ARRAY&lt;FLOAT32&gt;.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   */
+  float[] getFloatArray(int columnIndex) throws SQLException;
+
+  /** Returns the value of the column with the given label as a {@code float[]}. */
+  float[] getFloatArray(String columnLabel) throws SQLException;
+
+  /**
+   * Returns the value of the given column as a {@code boolean[]}. The column must contain an
+   * ARRAY&lt;BOOL&gt;.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   */
+  boolean[] getBooleanArray(int columnIndex) throws SQLException;
+
+  /** Returns the value of the column with the given label as a {@code boolean[]}. */
+  boolean[] getBooleanArray(String columnLabel) throws SQLException;
+
+  /**
+   * Writes the value of the given column as text to the given {@link Appendable}, for example a
+   * {@link StringBuilder}, a {@link java.io.Writer} or a {@link java.nio.CharBuffer}. The text is
+   * the same as the value that is returned by {@link ResultSet#getString(int)}. Numbers, timestamps
+   * and dates are formatted directly into a buffer that is reused for all values of this result
+   * set, instead of creating a new {@link String} for each value. This method is intended for
+   * exporting large result sets as text.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   * @param appendable the destination of the text
+   * @return true if a value was written, and false if the value of the column is NULL. Nothing is
+   *     written to the {@link Appendable} for NULL values.
+   */
+  boolean writeColumnTo(int columnIndex, Appendable appendable) throws SQLException;
+
+  /** Writes the value of the column with the given label as text to an {@link Appendable}. */
+  boolean writeColumnTo(String columnLabel, Appendable appendable) throws SQLException;
+
+  /**
+   * Returns the value of the given PROTO or BYTES column as a {@link LazyProtoMessage}. The value
+   * is only parsed when {@link LazyProtoMessage#get()} is called. This is more efficient than
+   * {@link ResultSet#getObject(int, Class)} if the message is only parsed for some of the rows, or
+   * if the bytes of the message are passed on without parsing them.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   * @param messageClass the generated proto message class of the value
+   * @return a {@link LazyProtoMessage} for the value, or null if the value is NULL
+   */
+  <T extends AbstractMessage> LazyProtoMessage<T> getLazyProtoMessage(
+      int columnIndex, Class<T> messageClass) throws SQLException;
+
+  /** Returns the value of the column with the given label as a {@link LazyProtoMessage}. */
+  <T extends AbstractMessage> LazyProtoMessage<T> getLazyProtoMessage(
+      String columnLabel, Class<T> messageClass) throws SQLException;
+}
@@ -16,6 +16,8 @@
 
 package com.google.cloud.spanner.jdbc;
 
+import com.google.api.core.ApiFuture;
+import com.google.cloud.spanner.MutationGroup;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.PartitionOptions;
 import java.sql.ResultSet;
@@ -57,4 +59,64 @@ public interface CloudSpannerJdbcStatement extends Statement {
    */
   CloudSpannerJdbcPartitionedQueryResultSet runPartitionedQuery(
       String query, PartitionOptions partitionOptions, QueryOption... options) throws SQLException;
+
+  /**
+   * Adds the given {@link MutationGroup} to the current batch of this statement. A batch of
+   * mutation groups is executed using the BatchWrite RPC when {@link #executeBatch()} or {@link
+   * #executeLargeBatch()} is called. The update count that is returned for each mutation group is
+   * {@link Statement#SUCCESS_NO_INFO} if the group was applied, and {@link
+   * Statement#EXECUTE_FAILED} if it was not. A {@link java.sql.BatchUpdateException} is thrown if
+   * one or more groups failed, or if Spanner did not return a result for one or more groups. The
+   * update counts of that exception can be used to determine which mutation groups should be
+   * retried.
+   *
+   * <p>Mutation groups cannot be mixed with DML or DDL statements in the same batch, and can only
+   * be executed when the connection is in autocommit mode. See also {@link
+   * CloudSpannerJdbcConnection#batchWrite(Iterable)}.
+   */
+  default void addBatch(MutationGroup mutationGroup) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Executes the given DML statement without waiting for the update count. If pipelined autocommit
+   * DML has been enabled on the connection with {@link
+   * CloudSpannerJdbcConnection#setPipelinedAutocommitDml(boolean)} and the connection is in
+   * autocommit mode, the statement is buffered and sent to Spanner in the background together with
+   * other pipelined statements as one batch in a single transaction. The returned future is done
+   * when that transaction has been committed. Waiting for the future of a statement that is still
+   * buffered sends the buffered statements to Spanner in the waiting thread. This must not be done
+   * while another thread is executing a statement on the same connection.
+   *
+   * <p>The statement is executed directly and the returned future is already done if pipelining is
+   * not enabled, or if the connection is not in autocommit mode.
+   *
+   * @param sql the DML statement to execute
+   * @return a future for the update count of the statement
+   */
+  default ApiFuture<Long> executeLargeUpdateAsync(String sql) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Enables or disables execution profiling for this statement. This overrides the setting of the
+   * connection. See {@link CloudSpannerJdbcConnection#setExecutionProfilingEnabled(boolean)}.
+   */
+  default void setExecutionProfilingEnabled(boolean enabled) throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /** Returns true if the executions of this statement are profiled. */
+  default boolean isExecutionProfilingEnabled() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns the profile of the last execution of this statement, or null if no execution has been
+   * profiled or the last execution has not yet finished. The profile of a query is returned when
+   * all rows have been returned or the result set has been closed.
+   */
+  default ExecutionProfile getLastExecutionProfile() throws SQLException {
+    throw new UnsupportedOperationException();
+  }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+/**
+ * Listener for the progress of the statements in a DDL batch that was submitted with {@link
+ * CloudSpannerJdbcConnection#executeDdlBatchAsync(Iterable, DdlBatchProgressListener)}.
+ */
+@FunctionalInterface
+public interface DdlBatchProgressListener {
+
+  /**
+   * Called when the progress of a statement in the DDL batch has changed. A statement has finished
+   * when the progress is 100. The method is called from a background thread, and should not block.
+   *
+   * @param statementIndex the index of the statement in the batch
+   * @param statement the DDL statement
+   * @param progressPercent the progress of the statement as a percentage between 0 and 100
+   */
+  void onProgress(int statementIndex, String statement, int progressPercent);
+}
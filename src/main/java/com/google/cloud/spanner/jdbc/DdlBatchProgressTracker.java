@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.spanner.admin.database.v1.UpdateDatabaseDdlMetadata;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the progress of the statements in a DDL batch to a {@link DdlBatchProgressListener}. The
+ * tracker periodically checks the latest metadata of the long-running operation of the batch, and
+ * calls the listener for each statement whose progress has changed since the last check. The
+ * metadata is the one that has been fetched by the polling of the operation itself, so the tracker
+ * does not execute any additional RPCs.
+ */
+class DdlBatchProgressTracker implements Runnable {
+  static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(1L);
+
+  private static final ScheduledExecutorService EXECUTOR =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("spanner-jdbc-ddl-progress-%d")
+              .build());
+
+  private final OperationFuture<Void, UpdateDatabaseDdlMetadata> operation;
+  private final ImmutableList<String> statements;
+  private final DdlBatchProgressListener listener;
+  private final int[] reportedProgress;
+  private ScheduledFuture<?> scheduledFuture;
+
+  /** Starts tracking the progress of the given operation. */
+  static void track(
+      OperationFuture<Void, UpdateDatabaseDdlMetadata> operation,
+      ImmutableList<String> statements,
+      DdlBatchProgressListener listener) {
+    track(operation, statements, listener, DEFAULT_CHECK_INTERVAL);
+  }
+
+  @VisibleForTesting
+  static void track(
+      OperationFuture<Void, UpdateDatabaseDdlMetadata> operation,
+      ImmutableList<String> statements,
+      DdlBatchProgressListener listener,
+      Duration checkInterval) {
+    DdlBatchProgressTracker tracker = new DdlBatchProgressTracker(operation, statements, listener);
+    synchronized (tracker) {
+      tracker.scheduledFuture =
+          EXECUTOR.scheduleWithFixedDelay(
+              tracker, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    operation.addListener(tracker::onOperationDone, MoreExecutors.directExecutor());
+  }
+
+  private DdlBatchProgressTracker(
+      OperationFuture<Void, UpdateDatabaseDdlMetadata> operation,
+      ImmutableList<String> statements,
+      DdlBatchProgressListener listener) {
+    this.operation = operation;
+    this.statements = statements;
+    this.listener = listener;
+    this.reportedProgress = new int[statements.size()];
+    Arrays.fill(this.reportedProgress, -1);
+  }
+
+  @Override
+  public void run() {
+    ApiFuture<UpdateDatabaseDdlMetadata> metadata = operation.peekMetadata();
+    if (metadata != null && metadata.isDone()) {
+      try {
+        report(metadata.get());
+      } catch (ExecutionException | InterruptedException ignore) {
+        // Ignore and wait for the next check, or for the operation to finish.
+      }
+    }
+  }
+
+  private void onOperationDone() {
+    synchronized (this) {
+      if (scheduledFuture != null) {
+        scheduledFuture.cancel(false);
+      }
+    }
+    run();
+    boolean succeeded;
+    try {
+      operation.get();
+      succeeded = true;
+    } catch (ExecutionException | InterruptedException | RuntimeException exception) {
+      succeeded = false;
+    }
+    if (succeeded) {
+      // All statements have finished if the operation finished successfully, also if the last
+      // metadata that was returned by Spanner did not include that.
+      for (int index = 0; index < statements.size(); index++) {
+        report(index, 100);
+      }
+    }
+  }
+
+  private void report(UpdateDatabaseDdlMetadata metadata) {
+    for (int index = 0; index < statements.size(); index++) {
+      if (index < metadata.getProgressCount()) {
+        report(index, metadata.getProgress(index).getProgressPercent());
+      } else if (index < metadata.getCommitTimestampsCount()) {
+        // Older versions of Spanner only return commit timestamps for the statements that have
+        // finished, and no progress information.
+        report(index, 100);
+      }
+    }
+  }
+
+  private synchronized void report(int index, int progressPercent) {
+    if (progressPercent > reportedProgress[index]) {
+      reportedProgress[index] = progressPercent;
+      try {
+        listener.onProgress(index, statements.get(index), progressPercent);
+      } catch (RuntimeException ignore) {
+        // Exceptions in the listener should not stop the progress reporting.
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.math.BigDecimal;
+
+/**
+ * Parser for the decimal strings that Spanner returns for PG_NUMERIC values. Plain decimal strings
+ * with at most 18 significant digits are parsed directly into an unscaled long value and a scale.
+ * All other strings, such as strings with an exponent or with more digits, are parsed with {@link
+ * BigDecimal#BigDecimal(String)}. The result is always equal to the result of {@link
+ * BigDecimal#BigDecimal(String)}, including the scale.
+ */
+class DecimalParser {
+  /** The maximum number of digits that always fits in a long. */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  private DecimalParser() {}
+
+  /**
+   * Parses the given string as a {@link BigDecimal}.
+   *
+   * @throws NumberFormatException if the string is not a valid decimal number
+   */
+  static BigDecimal parse(String value) {
+    int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      index++;
+    }
+    if (index == length || length - index > MAX_LONG_DIGITS + 1) {
+      return new BigDecimal(value);
+    }
+    long unscaled = 0L;
+    int digits = 0;
+    int scale = 0;
+    boolean seenPoint = false;
+    for (; index < length; index++) {
+      char c = value.charAt(index);
+      if (c >= '0' && c <= '9') {
+        unscaled = unscaled * 10L + (c - '0');
+        digits++;
+        if (seenPoint) {
+          scale++;
+        }
+      } else if (c == '.' && !seenPoint) {
+        seenPoint = true;
+      } else {
+        // Exponents and invalid characters are handled by BigDecimal.
+        return new BigDecimal(value);
+      }
+    }
+    if (digits == 0 || digits > MAX_LONG_DIGITS) {
+      return new BigDecimal(value);
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+  }
+}
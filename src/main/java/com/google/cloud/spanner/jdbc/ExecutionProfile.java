@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side breakdown of the time that was spent on one execution of a statement. The profile is
+ * only collected when execution profiling is enabled for the statement or its connection, and is
+ * returned by {@link CloudSpannerJdbcStatement#getLastExecutionProfile()}.
+ *
+ * <p>The profile contains the total time and the number of events for each {@link Phase}, and a
+ * timeline of the most recent events. The timeline has a limited capacity, so a profile of a query
+ * that returns many rows only contains the last fetch and convert events. The totals always include
+ * all events.
+ */
+public final class ExecutionProfile {
+  /** The phases of the execution of a statement that are measured by the profiler. */
+  public enum Phase {
+    /** Client-side parsing of the SQL string by the JDBC driver. */
+    PARSE,
+    /** Binding the parameter values of a prepared statement. */
+    BIND,
+    /** Sending the statement to Spanner and waiting for the first result. */
+    EXECUTE,
+    /** Waiting for and decoding the next row of a result set. */
+    FETCH,
+    /** Converting a value in a result set to the Java type that is requested by getObject. */
+    CONVERT
+  }
+
+  /** One measured interval of a phase. */
+  public static final class Event {
+    private final Phase phase;
+    private final long offsetNanos;
+    private final long durationNanos;
+
+    Event(Phase phase, long offsetNanos, long durationNanos) {
+      this.phase = phase;
+      this.offsetNanos = offsetNanos;
+      this.durationNanos = durationNanos;
+    }
+
+    public Phase getPhase() {
+      return phase;
+    }
+
+    /** The start of this event in nanoseconds, relative to the start of the profile. */
+    public long getOffsetNanos() {
+      return offsetNanos;
+    }
+
+    public long getDurationNanos() {
+      return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("+%dns %s %dns", offsetNanos, phase, durationNanos);
+    }
+  }
+
+  private final String sql;
+  private final long elapsedNanos;
+  private final long[] phaseNanos;
+  private final long[] phaseCounts;
+  private final ImmutableList<Event> events;
+  private final long droppedEventCount;
+  private final boolean complete;
+
+  ExecutionProfile(
+      String sql,
+      long elapsedNanos,
+      long[] phaseNanos,
+      long[] phaseCounts,
+      ImmutableList<Event> events,
+      long droppedEventCount,
+      boolean complete) {
+    this.sql = sql;
+    this.elapsedNanos = elapsedNanos;
+    this.phaseNanos = phaseNanos;
+    this.phaseCounts = phaseCounts;
+    this.events = events;
+    this.droppedEventCount = droppedEventCount;
+    this.complete = complete;
+  }
+
+  /** The SQL string of the statement that was profiled. */
+  public String getSql() {
+    return sql;
+  }
+
+  /** The time between the start of the profile and the end of the last event in nanoseconds. */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /** The total time that was spent in the given phase in nanoseconds. */
+  public long getPhaseNanos(Phase phase) {
+    return phaseNanos[phase.ordinal()];
+  }
+
+  /** The number of events that were recorded for the given phase. */
+  public long getPhaseCount(Phase phase) {
+    return phaseCounts[phase.ordinal()];
+  }
+
+  /** The most recent events of this profile in the order that they were recorded. */
+  public List<Event> getEvents() {
+    return events;
+  }
+
+  /** The number of events that were removed from the timeline because it was full. */
+  public long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  /**
+   * Returns true if the execution has finished. The execution of a query is finished when all rows
+   * have been consumed, or when the result set has been closed.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("ExecutionProfile{sql=").append(sql);
+    builder
+        .append(", elapsed=")
+        .append(TimeUnit.NANOSECONDS.toMicros(elapsedNanos))
+        .append("us");
+    for (Phase phase : Phase.values()) {
+      builder
+          .append(", ")
+          .append(phase.name().toLowerCase(Locale.ENGLISH))
+          .append('=')
+          .append(TimeUnit.NANOSECONDS.toMicros(getPhaseNanos(phase)))
+          .append("us/")
+          .append(getPhaseCount(phase));
+    }
+    return builder.append(complete ? "}" : ", incomplete}").toString();
+  }
+}
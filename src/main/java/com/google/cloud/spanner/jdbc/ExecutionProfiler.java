@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Event;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the {@link ExecutionProfile} of one execution of a statement. The events of the profile
+ * are kept in a ring buffer with a fixed capacity, so the memory usage of a profile does not depend
+ * on the number of rows that is returned by a query. The totals per phase are added as an event to
+ * the current span when the execution has finished.
+ *
+ * <p>Events are recorded by one thread at a time: the thread that executes the statement, and then
+ * the thread that consumes its result set. Recording an event does not take any locks. Each event
+ * is published by a volatile write of the number of events after the event has been written, so
+ * other threads that read the number of events also see the events and totals that were recorded
+ * before it. The complete profile is published as an immutable {@link ExecutionProfile} when the
+ * profiler is finished.
+ */
+class ExecutionProfiler {
+  static final int DEFAULT_CAPACITY = 128;
+
+  private static final Pattern SET_EXECUTION_PROFILING =
+      Pattern.compile(
+          "set\\s+spanner_jdbc\\.execution_profiling\\s*(?:=|\\s+to\\s+)\\s*'?(true|false)'?",
+          Pattern.CASE_INSENSITIVE);
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private static final AttributeKey<Long>[] PHASE_NANOS_KEYS = createPhaseNanosKeys();
+
+  @SuppressWarnings("unchecked")
+  private static AttributeKey<Long>[] createPhaseNanosKeys() {
+    AttributeKey<Long>[] keys = new AttributeKey[PHASES.length];
+    for (Phase phase : PHASES) {
+      keys[phase.ordinal()] =
+          AttributeKey.longKey(phase.name().toLowerCase(Locale.ENGLISH) + "_nanos");
+    }
+    return keys;
+  }
+
+  private final long startNanos = System.nanoTime();
+  private final Span span = Span.current();
+  private final long[] phaseNanos = new long[PHASES.length];
+  private final long[] phaseCounts = new long[PHASES.length];
+  private final Phase[] eventPhases;
+  private final long[] eventOffsets;
+  private final long[] eventDurations;
+  /** The number of recorded events. Only written by the thread that records events. */
+  private volatile long eventCount;
+  private long lastEndNanos = startNanos;
+  private String sql;
+  private boolean executed;
+  /** The complete profile. This is set when the profiler is finished. */
+  private volatile ExecutionProfile finishedProfile;
+
+  ExecutionProfiler() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  @VisibleForTesting
+  ExecutionProfiler(int capacity) {
+    this.eventPhases = new Phase[capacity];
+    this.eventOffsets = new long[capacity];
+    this.eventDurations = new long[capacity];
+  }
+
+  /**
+   * Returns the value of a {@code SET SPANNER_JDBC.EXECUTION_PROFILING = true|false} statement, or
+   * null if the given SQL string is not such a statement. This statement is handled by the JDBC
+   * driver, and is not sent to the Connection API.
+   */
+  static Boolean parseSetExecutionProfilingStatement(AbstractStatementParser parser, String sql) {
+    String statement = JdbcStatement.removeCommentsAndTrimIfStartsWith(parser, sql, "set");
+    if (statement == null) {
+      return null;
+    }
+    Matcher matcher = SET_EXECUTION_PROFILING.matcher(statement);
+    return matcher.matches() ? Boolean.valueOf(matcher.group(1)) : null;
+  }
+
+  void setSql(String sql) {
+    this.sql = sql;
+  }
+
+  /** Records an event for the given phase with the given {@link System#nanoTime()} values. */
+  void record(Phase phase, long startNanos, long endNanos) {
+    long duration = endNanos - startNanos;
+    phaseNanos[phase.ordinal()] += duration;
+    phaseCounts[phase.ordinal()]++;
+    long count = eventCount;
+    int index = (int) (count % eventPhases.length);
+    eventPhases[index] = phase;
+    eventOffsets[index] = startNanos - this.startNanos;
+    eventDurations[index] = duration;
+    lastEndNanos = Math.max(lastEndNanos, endNanos);
+    if (phase == Phase.EXECUTE) {
+      executed = true;
+    }
+    // Publish the event. This must be the last write of this method.
+    eventCount = count + 1;
+  }
+
+  /**
+   * Returns true if the statement has been sent to Spanner. A new profiler is started for the next
+   * execution of the statement once this profiler has been executed.
+   */
+  boolean isExecuted() {
+    return executed;
+  }
+
+  boolean isFinished() {
+    return finishedProfile != null;
+  }
+
+  /**
+   * Marks the profile as complete, publishes it, and adds the totals per phase to the current span.
+   */
+  void finish() {
+    if (finishedProfile != null) {
+      return;
+    }
+    finishedProfile = createProfile(true);
+    if (span.isRecording()) {
+      AttributesBuilder attributes = Attributes.builder();
+      for (Phase phase : PHASES) {
+        attributes.put(PHASE_NANOS_KEYS[phase.ordinal()], phaseNanos[phase.ordinal()]);
+      }
+      span.addEvent("Execution profile", attributes.build());
+    }
+  }
+
+  /** Returns the finished profile, or null if the profiler has not yet finished. */
+  ExecutionProfile getFinishedProfile() {
+    return finishedProfile;
+  }
+
+  /**
+   * Returns the finished profile, or a snapshot of the current state of the profile if it has not
+   * yet finished. A snapshot that is taken by another thread than the thread that records events
+   * contains all events that had been published when the snapshot started, but can also contain a
+   * newer event that replaced one of those events in the ring buffer.
+   */
+  ExecutionProfile snapshot() {
+    ExecutionProfile profile = finishedProfile;
+    return profile == null ? createProfile(false) : profile;
+  }
+
+  private ExecutionProfile createProfile(boolean finished) {
+    // Read the volatile event count first, so all events before it are visible.
+    long count = eventCount;
+    int capacity = eventPhases.length;
+    int size = (int) Math.min(count, capacity);
+    ImmutableList.Builder<Event> events = ImmutableList.builderWithExpectedSize(size);
+    for (long i = count - size; i < count; i++) {
+      int index = (int) (i % capacity);
+      events.add(new Event(eventPhases[index], eventOffsets[index], eventDurations[index]));
+    }
+    return new ExecutionProfile(
+        sql,
+        lastEndNanos - startNanos,
+        phaseNanos.clone(),
+        phaseCounts.clone(),
+        events.build(),
+        count - size,
+        finished);
+  }
+}
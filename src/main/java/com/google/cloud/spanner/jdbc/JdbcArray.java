@@ -24,6 +24,10 @@ import com.google.cloud.spanner.Type.StructField;
 import com.google.cloud.spanner.Value;
 import com.google.cloud.spanner.ValueBinder;
 import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Floats;
+import com.google.common.primitives.Longs;
 import com.google.protobuf.AbstractMessage;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Descriptors.Descriptor;
@@ -161,6 +165,40 @@ class JdbcArray implements Array {
     return data;
   }
 
+  /**
+   * Returns the elements of this array as an array of the given primitive type. This is used when
+   * an array is requested as for example {@code long[].class}. Only arrays of BOOL, INT64, FLOAT32
+   * and FLOAT64 values can be returned as primitive arrays.
+   *
+   * @throws SQLException if the element type of this array does not match the given type, or if the
+   *     array contains a null element.
+   */
+  Object getPrimitiveArray(Class<?> componentType) throws SQLException {
+    checkFree();
+    if (data == null) {
+      return null;
+    }
+    try {
+      if (componentType == long.class && data instanceof Long[]) {
+        return Longs.toArray(Arrays.asList((Long[]) data));
+      } else if (componentType == double.class && data instanceof Double[]) {
+        return Doubles.toArray(Arrays.asList((Double[]) data));
+      } else if (componentType == float.class && data instanceof Float[]) {
+        return Floats.toArray(Arrays.asList((Float[]) data));
+      } else if (componentType == boolean.class && data instanceof Boolean[]) {
+        return Booleans.toArray(Arrays.asList((Boolean[]) data));
+      }
+    } catch (NullPointerException e) {
+      throw JdbcSqlExceptionFactory.of(
+          "Array contains a NULL element and cannot be returned as " + componentType + "[]",
+          Code.INVALID_ARGUMENT,
+          e);
+    }
+    throw JdbcSqlExceptionFactory.of(
+        "Cannot get an array of " + type.getTypeName() + " as " + componentType + "[]",
+        Code.INVALID_ARGUMENT);
+  }
+
   @Override
   public Object getArray(Map<String, Class<?>> map) throws SQLException {
     checkFree();
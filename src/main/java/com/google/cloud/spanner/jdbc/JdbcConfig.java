@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.base.Strings;
+import java.util.Locale;
+
+/**
+ * Reads the driver-wide configuration values of the JDBC driver. Each value can be set with a
+ * system property, or with an environment variable with the same name in upper case and with
+ * underscores instead of dots. The system property takes precedence over the environment variable.
+ */
+final class JdbcConfig {
+
+  /**
+   * Returns the value of the given system property, or of the corresponding environment variable if
+   * the system property has not been set.
+   */
+  static String getConfigValue(String systemProperty) {
+    String value = System.getProperty(systemProperty);
+    if (Strings.isNullOrEmpty(value)) {
+      value = System.getenv(systemProperty.replace('.', '_').toUpperCase(Locale.ENGLISH));
+    }
+    return value;
+  }
+
+  /** No instantiation */
+  private JdbcConfig() {}
+}
@@ -20,25 +20,50 @@ import static com.google.cloud.spanner.jdbc.JdbcStatement.ALL_COLUMNS;
 import static com.google.cloud.spanner.jdbc.JdbcStatement.isNullOrEmpty;
 
 import com.google.api.client.util.Preconditions;
+import com.google.api.gax.longrunning.OperationFuture;
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.ServerStream;
 import com.google.cloud.ByteArray;
 import com.google.cloud.spanner.CommitResponse;
+import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.DatabaseId;
+import com.google.cloud.spanner.ErrorCode;
 import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.MutationGroup;
 import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.SpannerOptions;
+import com.google.cloud.spanner.SpannerOptions.CallContextConfigurator;
 import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.connection.AutocommitDmlMode;
 import com.google.cloud.spanner.connection.Connection;
 import com.google.cloud.spanner.connection.ConnectionOptions;
 import com.google.cloud.spanner.connection.ConnectionProperties;
 import com.google.cloud.spanner.connection.SavepointSupport;
+import com.google.cloud.spanner.connection.StatementResult;
+import com.google.cloud.spanner.connection.StatementResult.ResultType;
 import com.google.cloud.spanner.connection.TransactionMode;
+import com.google.cloud.spanner.jdbc.AutoBatchDmlFlushPolicy.FlushReason;
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
+import com.google.cloud.spanner.jdbc.LeakDetector.TrackedResource;
+import com.google.cloud.spanner.jdbc.Metrics.CloseReason;
+import com.google.cloud.spanner.jdbc.Metrics.LatencyOptions;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.MapMaker;
+import com.google.spanner.admin.database.v1.UpdateDatabaseDdlMetadata;
+import com.google.spanner.v1.BatchWriteResponse;
+import io.grpc.MethodDescriptor;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Array;
@@ -52,10 +77,19 @@ import java.sql.SQLException;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
@@ -94,13 +128,114 @@ class JdbcConnection extends AbstractJdbcConnection {
 
   private final Attributes openTelemetryMetricsAttributes;
 
+  private final MetricAttributes metricAttributes;
+
+  private boolean pipelinedAutocommitDml;
+
+  private volatile AutocommitDmlPipeline autocommitDmlPipeline;
+
+  private final AutoBatchDmlFlushPolicy autoBatchDmlFlushPolicy = new AutoBatchDmlFlushPolicy();
+
+  private final TransactionReplayCostTracker replayCostTracker;
+
+  private volatile double resultSetMetricsSamplingRate = 1.0d;
+
+  private volatile boolean queryStatsEnabled;
+
+  private volatile boolean leakDetectionEnabled;
+
+  private volatile boolean executionProfilingEnabled;
+
+  static final String EXECUTE_SPAN_NAME = "CloudSpannerJdbc.Execute";
+  static final String RESULT_SET_SPAN_NAME = "CloudSpannerJdbc.ResultSet";
+  static final String COMMIT_SPAN_NAME = "CloudSpannerJdbc.Commit";
+  static final String ROLLBACK_SPAN_NAME = "CloudSpannerJdbc.Rollback";
+
+  private final Tracer tracer;
+
+  private final Attributes openTelemetryTraceAttributes;
+
+  private volatile boolean jdbcSpansEnabled;
+
+  private volatile boolean latencySnapshotsEnabled;
+
+  /** Whether operation latencies of this connection are added to the JMX statistics. */
+  private final boolean jmxOperationLatenciesEnabled;
+
+  /**
+   * Whether any of the optional instrumentation of statements is enabled for this connection. This
+   * is updated when one of these settings is changed, so statements can skip all instrumentation
+   * with a single check. See {@link #isStatementInstrumentationEnabled()}.
+   */
+  private volatile boolean statementInstrumentationEnabled;
+
+  /**
+   * The latency snapshot histograms of this connection, indexed by operation type. A histogram is
+   * created when the first latency of its operation type is recorded.
+   */
+  private final AtomicReferenceArray<LatencyHistogram> latencyHistograms =
+      new AtomicReferenceArray<>(Operation.values().length);
+
+  /** The bucket boundaries in microseconds of the latency snapshot histograms. */
+  private final List<Long> latencySnapshotBucketBoundaries;
+
+  /** The slow query threshold in milliseconds. Zero disables the slow query log. */
+  private volatile long slowQueryThresholdMs;
+
+  private final SlowQueryLog.Options slowQueryLogOptions;
+
+  /** Whether queries on this connection only decode the columns that are read. */
+  private volatile boolean lazyColumnDecoding;
+
+  /**
+   * The statements on this connection that have not been closed. The statements are weakly
+   * referenced, so statements that are never closed can still be garbage collected.
+   */
+  private final Set<AbstractJdbcStatement> openStatements =
+      Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+
+  private final AtomicInteger openResultSetCount = new AtomicInteger();
+
   JdbcConnection(String connectionUrl, ConnectionOptions options) throws SQLException {
+    this(connectionUrl, options, SlowQueryLog.Options.DEFAULT);
+  }
+
+  JdbcConnection(
+      String connectionUrl, ConnectionOptions options, SlowQueryLog.Options slowQueryLogOptions)
+      throws SQLException {
+    this(connectionUrl, options, slowQueryLogOptions, LatencyOptions.DEFAULT);
+  }
+
+  JdbcConnection(
+      String connectionUrl,
+      ConnectionOptions options,
+      SlowQueryLog.Options slowQueryLogOptions,
+      LatencyOptions latencyOptions)
+      throws SQLException {
     super(connectionUrl, options);
+    this.slowQueryLogOptions = slowQueryLogOptions;
+    this.slowQueryThresholdMs = slowQueryLogOptions.getThresholdMs();
     this.useLegacyIsValidCheck = useLegacyValidCheck();
+    this.queryStatsEnabled = isEnabledByConfig("spanner.jdbc.enable_query_stats");
+    this.leakDetectionEnabled = isEnabledByConfig("spanner.jdbc.enable_leak_detection");
+    this.jdbcSpansEnabled = isEnabledByConfig("spanner.jdbc.enable_jdbc_spans");
+    this.latencySnapshotsEnabled = isEnabledByConfig("spanner.jdbc.enable_latency_snapshots");
+    this.jmxOperationLatenciesEnabled =
+        isEnabledByConfig("spanner.jdbc.enable_jmx_operation_latencies");
+    updateStatementInstrumentation();
     OpenTelemetry openTelemetry = getSpanner().getOptions().getOpenTelemetry();
     this.openTelemetryMetricsAttributes =
         createOpenTelemetryAttributes(getConnectionOptions().getDatabaseId(), false);
-    this.metrics = new Metrics(openTelemetry);
+    this.metrics = new Metrics(openTelemetry, latencyOptions);
+    this.latencySnapshotBucketBoundaries = latencyOptions.getMicrosBucketBoundaries();
+    this.tracer = openTelemetry.getTracer(Metrics.INSTRUMENTATION_SCOPE);
+    this.openTelemetryTraceAttributes =
+        createOpenTelemetryAttributes(getConnectionOptions().getDatabaseId(), true);
+    this.metricAttributes = new MetricAttributes(openTelemetryMetricsAttributes);
+    this.replayCostTracker =
+        new TransactionReplayCostTracker(metrics, openTelemetryMetricsAttributes);
+    getSpannerConnection().addTransactionRetryListener(replayCostTracker);
+    JdbcConnectionRegistry.getInstance().register(this);
   }
 
   static boolean useLegacyValidCheck() {
@@ -114,6 +249,33 @@ class JdbcConnection extends AbstractJdbcConnection {
     return false;
   }
 
+  /**
+   * Returns true if the given system property, or the corresponding environment variable, is set to
+   * true. This is used for the default values of the optional instrumentation of a connection.
+   */
+  static boolean isEnabledByConfig(String systemProperty) {
+    return Boolean.parseBoolean(JdbcConfig.getConfigValue(systemProperty));
+  }
+
+  private void updateStatementInstrumentation() {
+    this.statementInstrumentationEnabled =
+        queryStatsEnabled
+            || slowQueryThresholdMs > 0L
+            || executionProfilingEnabled
+            || jdbcSpansEnabled
+            || latencySnapshotsEnabled
+            || jmxOperationLatenciesEnabled;
+  }
+
+  /**
+   * Returns true if statements on this connection should run the optional instrumentation hooks,
+   * such as metrics, spans, query statistics, execution profiles and the slow query log. All hooks
+   * are skipped if this method returns false, and only the client library latency is recorded.
+   */
+  boolean isStatementInstrumentationEnabled() {
+    return statementInstrumentationEnabled || metrics.isEnabled();
+  }
+
   @VisibleForTesting
   static Attributes createOpenTelemetryAttributes(
       DatabaseId databaseId, boolean includeConnectionId) {
@@ -128,8 +290,248 @@ class JdbcConnection extends AbstractJdbcConnection {
     return attributesBuilder.build();
   }
 
+  /** Records the given client library latency in milliseconds. */
   public void recordClientLibLatencyMetric(long value) {
-    metrics.recordClientLibLatency(value, openTelemetryMetricsAttributes);
+    recordClientLibLatencyNanos(TimeUnit.MILLISECONDS.toNanos(value));
+  }
+
+  void recordClientLibLatencyNanos(long nanos) {
+    metrics.recordClientLibLatency(nanos, openTelemetryMetricsAttributes);
+  }
+
+  /** Records the latency in nanoseconds of an operation on this connection. */
+  void recordOperationLatencyMetric(Operation operation, String statementTag, long nanos) {
+    if (metrics.isEnabled()) {
+      metrics.recordOperationLatency(nanos, metricAttributes.get(operation, statementTag));
+    }
+    recordOperationLatency(operation, nanos);
+  }
+
+  /** Records the size and the latency in nanoseconds of a batch on this connection. */
+  void recordBatchMetrics(Operation operation, long batchSize, long nanos) {
+    if (metrics.isEnabled()) {
+      Attributes attributes = metricAttributes.get(operation);
+      metrics.recordBatchSize(batchSize, attributes);
+      metrics.recordOperationLatency(nanos, attributes);
+    }
+    recordOperationLatency(operation, nanos);
+  }
+
+  /** Adds the given latency to the JMX statistics and the latency snapshots, if enabled. */
+  private void recordOperationLatency(Operation operation, long nanos) {
+    if (jmxOperationLatenciesEnabled) {
+      JdbcConnectionRegistry.getInstance()
+          .recordOperationLatency(operation, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+    recordLatencySnapshot(operation, nanos);
+  }
+
+  /**
+   * Returns a new slow query log execution for the given statement, or null if the slow query log
+   * is disabled for this connection.
+   */
+  SlowQueryLog.Execution startSlowQueryExecution(
+      com.google.cloud.spanner.Statement statement,
+      String statementTag,
+      ExecutionProfiler profiler) {
+    long thresholdMs = slowQueryThresholdMs;
+    if (thresholdMs == 0L) {
+      return null;
+    }
+    return new SlowQueryLog.Execution(
+        SlowQueryLog.getInstance(),
+        this,
+        statement,
+        statementTag,
+        profiler,
+        TimeUnit.MILLISECONDS.toNanos(thresholdMs),
+        slowQueryLogOptions.getSampleRate(),
+        slowQueryLogOptions.isLogParameterValues());
+  }
+
+  private void recordLatencySnapshot(Operation operation, long nanos) {
+    if (!latencySnapshotsEnabled) {
+      return;
+    }
+    LatencyHistogram histogram = latencyHistograms.get(operation.ordinal());
+    if (histogram == null) {
+      latencyHistograms.compareAndSet(
+          operation.ordinal(), null, new LatencyHistogram(latencySnapshotBucketBoundaries));
+      histogram = latencyHistograms.get(operation.ordinal());
+    }
+    histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+  }
+
+  void recordAbortedOperationMetric() {
+    if (metrics.isEnabled()) {
+      metrics.recordAbortedOperation(metricAttributes.get());
+    }
+  }
+
+  void recordResultSetFirstRowMetric(long nanos, Context context) {
+    metrics.recordResultSetFirstRowLatency(nanos, metricAttributes.get(), context);
+  }
+
+  void recordResultSetConsumedMetric(long nanos, long rows, CloseReason reason, Context context) {
+    metrics.recordResultSetConsumed(nanos, rows, metricAttributes.get(reason), context);
+  }
+
+  /**
+   * Records the percentage of the available column values of a result set that were read by the
+   * application.
+   */
+  void recordResultSetDecodedColumnsMetric(long percentage, CloseReason reason, Context context) {
+    metrics.recordResultSetDecodedColumns(percentage, metricAttributes.get(reason), context);
+  }
+
+  /**
+   * Starts a span with the given name as a child of the current span if JDBC spans are enabled for
+   * this connection, and otherwise returns null.
+   */
+  Span startJdbcSpan(String name) {
+    if (!jdbcSpansEnabled) {
+      return null;
+    }
+    return tracer.spanBuilder(name).setAllAttributes(openTelemetryTraceAttributes).startSpan();
+  }
+
+  /** Marks the given span as failed with the given error. The span may be null. */
+  static void recordJdbcSpanError(Span span, Throwable error) {
+    if (span != null) {
+      span.setStatus(StatusCode.ERROR, error.getMessage());
+      span.recordException(error);
+    }
+  }
+
+  /**
+   * Returns true if the streaming metrics of the next result set that is created on this connection
+   * should be recorded, based on the result set metrics sampling rate. This always returns false if
+   * metrics are disabled.
+   */
+  boolean sampleResultSetMetrics() {
+    if (!metrics.isEnabled()) {
+      return false;
+    }
+    double rate = resultSetMetricsSamplingRate;
+    return rate >= 1.0d || (rate > 0.0d && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  void onStatementOpened(AbstractJdbcStatement statement) {
+    openStatements.add(statement);
+    metrics.addOpenStatements(1L, metricAttributes.get());
+  }
+
+  void onStatementClosed(AbstractJdbcStatement statement) {
+    openStatements.remove(statement);
+    metrics.addOpenStatements(-1L, metricAttributes.get());
+  }
+
+  /**
+   * Called when a statement on this connection was garbage collected without having been closed.
+   * The statement has already been removed from the set of open statements by the garbage
+   * collector.
+   */
+  void onStatementLeaked() {
+    metrics.addOpenStatements(-1L, metricAttributes.get());
+  }
+
+  void onResultSetOpened() {
+    openResultSetCount.incrementAndGet();
+    metrics.addOpenResultSets(1L, metricAttributes.get());
+  }
+
+  void onResultSetClosed() {
+    openResultSetCount.decrementAndGet();
+    metrics.addOpenResultSets(-1L, metricAttributes.get());
+  }
+
+  /**
+   * Registers the given statement or result set with the leak detector if leak detection is enabled
+   * for this connection. Returns the reference that must be closed when the resource is closed, or
+   * null if leak detection is disabled. See {@link LeakDetector#track} for the release and close
+   * actions.
+   */
+  TrackedResource trackLeaks(
+      Object resource, ResourceType type, Runnable releaseAction, Runnable closeAction) {
+    if (!leakDetectionEnabled) {
+      return null;
+    }
+    return LeakDetector.getInstance().track(resource, type, this, releaseAction, closeAction);
+  }
+
+  /** Returns true if statements on this connection should collect an execution profile. */
+  boolean isExecutionProfilingActive() {
+    return executionProfilingEnabled;
+  }
+
+  void recordLeakedResourceMetric(ResourceType type) {
+    metrics.recordLeakedResource(metricAttributes.get(type));
+  }
+
+  /**
+   * Returns the statement tag that will be used for the next statement on this connection, so it
+   * can be added as an attribute to the metrics of that statement. Statement tags are not supported
+   * in batches, and this method returns null if a batch is active.
+   */
+  String getStatementTagForMetrics() {
+    Connection connection = getSpannerConnection();
+    try {
+      return connection.isBatchActive() ? null : connection.getStatementTag();
+    } catch (SpannerException ignore) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the fingerprint of the given statement if query statistics are enabled for this
+   * connection, and otherwise null.
+   */
+  QueryFingerprint getQueryFingerprint(com.google.cloud.spanner.Statement statement)
+      throws SQLException {
+    if (!queryStatsEnabled) {
+      return null;
+    }
+    return QueryFingerprint.of(getDialect(), getParser(), statement.getSql());
+  }
+
+  void recordQueryExecution(QueryFingerprint fingerprint, long latency) {
+    QueryStatsTracker.getInstance().recordExecution(fingerprint, latency);
+  }
+
+  void recordQueryRows(QueryFingerprint fingerprint, long rows) {
+    QueryStatsTracker.getInstance().recordRows(fingerprint, rows);
+  }
+
+  /** Returns the statements on this connection that have not been closed. */
+  Set<AbstractJdbcStatement> getOpenStatements() {
+    return openStatements;
+  }
+
+  int getOpenResultSetCount() {
+    return openResultSetCount.get();
+  }
+
+  /** Returns the fully qualified name of the database of this connection. */
+  String getDatabaseName() {
+    return getConnectionOptions().getDatabaseId().getName();
+  }
+
+  /** Returns the tracker that measures the cost of internal transaction retries. */
+  TransactionReplayCostTracker getReplayCostTracker() {
+    return replayCostTracker;
+  }
+
+  /**
+   * Registers that a statement is about to be executed on this connection. This is only called if
+   * statement instrumentation is enabled, as the replay cost is only used for metrics and the slow
+   * query log.
+   */
+  void onStatementExecution() {
+    replayCostTracker.onStatement(!getSpannerConnection().isTransactionStarted());
+  }
+
+  void recordAutoBatchDmlFlushMetric(long batchSize, long nanos, FlushReason reason) {
+    metrics.recordAutoBatchDmlFlush(batchSize, nanos, metricAttributes.get(reason));
   }
 
   @Override
@@ -260,6 +662,7 @@ class JdbcConnection extends AbstractJdbcConnection {
     try {
       // According to the JDBC spec's we need to commit the current transaction when changing
       // autocommit mode.
+      flushAutocommitDmlPipeline();
       if (getSpannerConnection().isAutocommit() != autoCommit
           && getSpannerConnection().isTransactionStarted()) {
         commit();
@@ -279,29 +682,60 @@ class JdbcConnection extends AbstractJdbcConnection {
   @Override
   public void commit() throws SQLException {
     checkClosed();
-    try {
+    Span span = startJdbcSpan(COMMIT_SPAN_NAME);
+    try (Scope ignore = span == null ? null : span.makeCurrent()) {
+      flushAutocommitDmlPipeline();
+      if (autoBatchDmlFlushPolicy.getBufferedStatements() > 0
+          && getSpannerConnection().isDmlBatchActive()) {
+        // Flush the batch before the commit, so the flush is measured separately from the commit.
+        runAutoBatchDml(FlushReason.COMMIT);
+      }
+      long startNanos = System.nanoTime();
       getSpannerConnection().commit();
+      recordOperationLatencyMetric(Operation.COMMIT, null, System.nanoTime() - startNanos);
     } catch (SpannerException e) {
+      if (e.getErrorCode() == ErrorCode.ABORTED) {
+        recordAbortedOperationMetric();
+      }
+      recordJdbcSpanError(span, e);
       throw JdbcSqlExceptionFactory.of(e);
+    } finally {
+      if (span != null) {
+        span.end();
+      }
     }
   }
 
   @Override
   public void rollback() throws SQLException {
     checkClosed();
-    try {
+    Span span = startJdbcSpan(ROLLBACK_SPAN_NAME);
+    try (Scope ignore = span == null ? null : span.makeCurrent()) {
+      flushAutocommitDmlPipeline();
+      long startNanos = System.nanoTime();
       getSpannerConnection().rollback();
+      recordOperationLatencyMetric(Operation.ROLLBACK, null, System.nanoTime() - startNanos);
     } catch (SpannerException e) {
+      recordJdbcSpanError(span, e);
       throw JdbcSqlExceptionFactory.of(e);
+    } finally {
+      if (span != null) {
+        span.end();
+      }
     }
   }
 
   @Override
   public void close() throws SQLException {
     try {
+      if (!isClosed()) {
+        flushAutocommitDmlPipeline();
+      }
       getSpannerConnection().close();
     } catch (SpannerException e) {
       throw JdbcSqlExceptionFactory.of(e);
+    } finally {
+      JdbcConnectionRegistry.getInstance().unregister(this);
     }
   }
 
@@ -710,6 +1144,161 @@ class JdbcConnection extends AbstractJdbcConnection {
     }
   }
 
+  @Override
+  public ServerStream<BatchWriteResponse> batchWrite(Iterable<MutationGroup> mutationGroups)
+      throws SQLException {
+    Preconditions.checkNotNull(mutationGroups);
+    checkClosed();
+    JdbcPreconditions.checkState(
+        getSpannerConnection().isAutocommit() && !getSpannerConnection().isInTransaction(),
+        "batchWrite is only allowed in autocommit mode");
+    try {
+      flushAutocommitDmlPipeline();
+      DatabaseClient client = getSpannerConnection().getDatabaseClient();
+      if (!getSpannerConnection().hasStatementTimeout()) {
+        return client.batchWriteAtLeastOnce(mutationGroups);
+      }
+      // The statement timeout of the connection is not applied to RPCs that are executed directly
+      // on the database client, so it is set on the call context of the BatchWrite RPC.
+      Duration timeout =
+          Duration.ofNanos(getSpannerConnection().getStatementTimeout(TimeUnit.NANOSECONDS));
+      io.grpc.Context context =
+          io.grpc.Context.current()
+              .withValue(
+                  SpannerOptions.CALL_CONTEXT_CONFIGURATOR_KEY,
+                  new BatchWriteTimeoutConfigurator(timeout));
+      io.grpc.Context previous = context.attach();
+      try {
+        return client.batchWriteAtLeastOnce(mutationGroups);
+      } finally {
+        context.detach(previous);
+      }
+    } catch (SpannerException e) {
+      throw JdbcSqlExceptionFactory.of(e);
+    }
+  }
+
+  /** Sets the given timeout on the call context of BatchWrite RPCs. */
+  private static final class BatchWriteTimeoutConfigurator implements CallContextConfigurator {
+    private static final String BATCH_WRITE_METHOD = "google.spanner.v1.Spanner/BatchWrite";
+
+    private final Duration timeout;
+
+    private BatchWriteTimeoutConfigurator(Duration timeout) {
+      this.timeout = timeout;
+    }
+
+    @Override
+    public <ReqT, RespT> ApiCallContext configure(
+        ApiCallContext context, ReqT request, MethodDescriptor<ReqT, RespT> method) {
+      return BATCH_WRITE_METHOD.equals(method.getFullMethodName())
+          ? context.withTimeoutDuration(timeout)
+          : null;
+    }
+  }
+
+  @Override
+  public OperationFuture<Void, UpdateDatabaseDdlMetadata> executeDdlBatchAsync(
+      Iterable<String> statements) throws SQLException {
+    return executeDdlBatchAsync(statements, null);
+  }
+
+  @Override
+  public OperationFuture<Void, UpdateDatabaseDdlMetadata> executeDdlBatchAsync(
+      Iterable<String> statements, DdlBatchProgressListener listener) throws SQLException {
+    Preconditions.checkNotNull(statements);
+    checkClosed();
+    JdbcPreconditions.checkState(
+        !getSpannerConnection().isReadOnly(), "DDL statements are not allowed in read-only mode");
+    ImmutableList.Builder<String> builder = ImmutableList.builder();
+    for (String sql : statements) {
+      JdbcPreconditions.checkArgument(
+          sql != null && getParser().isDdlStatement(sql), "not a DDL statement: " + sql);
+      builder.add(getParser().removeCommentsAndTrim(sql));
+    }
+    ImmutableList<String> ddl = builder.build();
+    JdbcPreconditions.checkArgument(!ddl.isEmpty(), "no DDL statements");
+    try {
+      DatabaseId databaseId = getDatabaseId();
+      OperationFuture<Void, UpdateDatabaseDdlMetadata> operation =
+          getSpanner()
+              .getDatabaseAdminClient()
+              .updateDatabaseDdl(
+                  databaseId.getInstanceId().getInstance(),
+                  databaseId.getDatabase(),
+                  ddl,
+                  /* operationId= */ null);
+      if (listener != null) {
+        DdlBatchProgressTracker.track(operation, ddl, listener);
+      }
+      return operation;
+    } catch (SpannerException e) {
+      throw JdbcSqlExceptionFactory.of(e);
+    }
+  }
+
+  @Override
+  public void setPipelinedAutocommitDml(boolean pipelinedAutocommitDml) throws SQLException {
+    checkClosed();
+    if (!pipelinedAutocommitDml) {
+      flushAutocommitDmlPipeline();
+    }
+    this.pipelinedAutocommitDml = pipelinedAutocommitDml;
+  }
+
+  @Override
+  public boolean isPipelinedAutocommitDml() throws SQLException {
+    checkClosed();
+    return pipelinedAutocommitDml;
+  }
+
+  @Override
+  public void flushPipelinedDml() throws SQLException {
+    checkClosed();
+    try {
+      flushAutocommitDmlPipeline();
+    } catch (SpannerException e) {
+      throw JdbcSqlExceptionFactory.of(e);
+    }
+  }
+
+  /**
+   * Returns the pipeline that should be used for asynchronous DML statements on this connection, or
+   * null if pipelining is not enabled or the connection is not in autocommit mode.
+   */
+  AutocommitDmlPipeline getAutocommitDmlPipeline() {
+    if (!pipelinedAutocommitDml
+        || !getSpannerConnection().isAutocommit()
+        || getSpannerConnection().isInTransaction()) {
+      return null;
+    }
+    AutocommitDmlPipeline pipeline = autocommitDmlPipeline;
+    if (pipeline == null) {
+      synchronized (this) {
+        pipeline = autocommitDmlPipeline;
+        if (pipeline == null) {
+          pipeline =
+              new AutocommitDmlPipeline(
+                  getSpannerConnection(), AutocommitDmlPipeline.DEFAULT_MAX_BATCH_SIZE);
+          autocommitDmlPipeline = pipeline;
+        }
+      }
+    }
+    return pipeline;
+  }
+
+  /**
+   * Sends any buffered pipelined DML statements to Spanner. This is called before any other
+   * statement is executed on this connection, so the pipelined statements are always executed in
+   * the order that they were submitted.
+   */
+  void flushAutocommitDmlPipeline() {
+    AutocommitDmlPipeline pipeline = autocommitDmlPipeline;
+    if (pipeline != null) {
+      pipeline.flush();
+    }
+  }
+
   /**
    * Convenience method for calling a setter and translating any {@link SpannerException} to a
    * {@link SQLException}.
@@ -806,6 +1395,238 @@ class JdbcConnection extends AbstractJdbcConnection {
     return get(Connection::isAutoBatchDmlUpdateCountVerification);
   }
 
+  @Override
+  public void setAutoBatchDmlMaxBufferedStatements(int maxStatements) throws SQLException {
+    checkClosed();
+    JdbcPreconditions.checkArgument(maxStatements >= 0, maxStatements);
+    autoBatchDmlFlushPolicy.setMaxStatements(maxStatements);
+  }
+
+  @Override
+  public int getAutoBatchDmlMaxBufferedStatements() throws SQLException {
+    checkClosed();
+    return autoBatchDmlFlushPolicy.getMaxStatements();
+  }
+
+  @Override
+  public void setAutoBatchDmlMaxBufferedBytes(long maxBytes) throws SQLException {
+    checkClosed();
+    JdbcPreconditions.checkArgument(maxBytes >= 0L, maxBytes);
+    autoBatchDmlFlushPolicy.setMaxBytes(maxBytes);
+  }
+
+  @Override
+  public long getAutoBatchDmlMaxBufferedBytes() throws SQLException {
+    checkClosed();
+    return autoBatchDmlFlushPolicy.getMaxBytes();
+  }
+
+  @Override
+  public void setAutoBatchDmlMaxBufferAge(Duration maxAge) throws SQLException {
+    checkClosed();
+    JdbcPreconditions.checkArgument(maxAge != null && !maxAge.isNegative(), maxAge);
+    autoBatchDmlFlushPolicy.setMaxAge(maxAge);
+  }
+
+  @Override
+  public Duration getAutoBatchDmlMaxBufferAge() throws SQLException {
+    checkClosed();
+    return autoBatchDmlFlushPolicy.getMaxAge();
+  }
+
+  @Override
+  public void setResultSetMetricsSamplingRate(double samplingRate) throws SQLException {
+    checkClosed();
+    JdbcPreconditions.checkArgument(samplingRate >= 0.0d && samplingRate <= 1.0d, samplingRate);
+    this.resultSetMetricsSamplingRate = samplingRate;
+  }
+
+  @Override
+  public double getResultSetMetricsSamplingRate() throws SQLException {
+    checkClosed();
+    return resultSetMetricsSamplingRate;
+  }
+
+  @Override
+  public void setQueryStatsEnabled(boolean enabled) throws SQLException {
+    checkClosed();
+    this.queryStatsEnabled = enabled;
+    updateStatementInstrumentation();
+  }
+
+  @Override
+  public boolean isQueryStatsEnabled() throws SQLException {
+    checkClosed();
+    return queryStatsEnabled;
+  }
+
+  @Override
+  public void setLeakDetectionEnabled(boolean enabled) throws SQLException {
+    checkClosed();
+    this.leakDetectionEnabled = enabled;
+  }
+
+  @Override
+  public boolean isLeakDetectionEnabled() throws SQLException {
+    checkClosed();
+    return leakDetectionEnabled;
+  }
+
+  @Override
+  public void setExecutionProfilingEnabled(boolean enabled) throws SQLException {
+    checkClosed();
+    this.executionProfilingEnabled = enabled;
+    updateStatementInstrumentation();
+  }
+
+  @Override
+  public boolean isExecutionProfilingEnabled() throws SQLException {
+    checkClosed();
+    return executionProfilingEnabled;
+  }
+
+  @Override
+  public void setJdbcSpansEnabled(boolean enabled) throws SQLException {
+    checkClosed();
+    this.jdbcSpansEnabled = enabled;
+    updateStatementInstrumentation();
+  }
+
+  @Override
+  public boolean isJdbcSpansEnabled() throws SQLException {
+    checkClosed();
+    return jdbcSpansEnabled;
+  }
+
+  @Override
+  public void setLatencySnapshotsEnabled(boolean enabled) throws SQLException {
+    checkClosed();
+    this.latencySnapshotsEnabled = enabled;
+    updateStatementInstrumentation();
+  }
+
+  @Override
+  public boolean isLatencySnapshotsEnabled() throws SQLException {
+    checkClosed();
+    return latencySnapshotsEnabled;
+  }
+
+  @Override
+  public Map<String, LatencySnapshot> getLatencySnapshots() throws SQLException {
+    checkClosed();
+    Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+    for (Operation operation : Operation.values()) {
+      LatencyHistogram histogram = latencyHistograms.get(operation.ordinal());
+      if (histogram != null) {
+        snapshots.put(operation.getAttributeValue(), histogram.snapshot());
+      }
+    }
+    return Collections.unmodifiableMap(snapshots);
+  }
+
+  @Override
+  public void resetLatencySnapshots() throws SQLException {
+    checkClosed();
+    for (int i = 0; i < latencyHistograms.length(); i++) {
+      LatencyHistogram histogram = latencyHistograms.get(i);
+      if (histogram != null) {
+        histogram.reset();
+      }
+    }
+  }
+
+  @Override
+  public void setSlowQueryThresholdMs(long thresholdMs) throws SQLException {
+    checkClosed();
+    JdbcPreconditions.checkArgument(thresholdMs >= 0L, thresholdMs);
+    this.slowQueryThresholdMs = thresholdMs;
+    updateStatementInstrumentation();
+  }
+
+  @Override
+  public long getSlowQueryThresholdMs() throws SQLException {
+    checkClosed();
+    return slowQueryThresholdMs;
+  }
+
+  @Override
+  public void setLazyColumnDecoding(boolean lazyColumnDecoding) throws SQLException {
+    checkClosed();
+    this.lazyColumnDecoding = lazyColumnDecoding;
+  }
+
+  @Override
+  public boolean isLazyColumnDecoding() throws SQLException {
+    checkClosed();
+    return lazyColumnDecoding;
+  }
+
+  /**
+   * Prepares the automatic DML batch of this connection for the execution of the given statement.
+   * The state of the flush policy is reset if the batch has been flushed or discarded by another
+   * statement, such as a rollback. An active batch is flushed before a query is executed, so the
+   * flush is measured separately from the query. An active batch that has exceeded the maximum age
+   * of the flush policy is flushed before the statement is executed, so a statement is never added
+   * to a batch that has been idle for longer than the maximum age.
+   */
+  void beforeAutoBatchDmlStatement(com.google.cloud.spanner.Statement statement, boolean isQuery)
+      throws SQLException {
+    if (autoBatchDmlFlushPolicy.getBufferedStatements() == 0) {
+      return;
+    }
+    if (!getSpannerConnection().isDmlBatchActive()) {
+      autoBatchDmlFlushPolicy.reset();
+      return;
+    }
+    try {
+      if (isQuery || getParser().isQuery(statement.getSql())) {
+        runAutoBatchDml(FlushReason.QUERY);
+      } else if (autoBatchDmlFlushPolicy.isMaxAgeExceeded()) {
+        runAutoBatchDml(FlushReason.MAX_AGE);
+      }
+    } catch (SpannerException e) {
+      throw JdbcSqlExceptionFactory.of(e);
+    }
+  }
+
+  /**
+   * Registers the given statement with the automatic DML batch flush policy if it was buffered in
+   * an automatic DML batch, and flushes the batch if one of the limits of the policy has been
+   * reached.
+   */
+  void afterAutoBatchDmlStatement(
+      com.google.cloud.spanner.Statement statement, StatementResult result) throws SQLException {
+    if (result.getResultType() != ResultType.UPDATE_COUNT
+        || result.getClientSideStatementType() != null) {
+      return;
+    }
+    Connection connection = getSpannerConnection();
+    if (!connection.isAutoBatchDml() || !connection.isDmlBatchActive()) {
+      autoBatchDmlFlushPolicy.reset();
+      return;
+    }
+    FlushReason reason = autoBatchDmlFlushPolicy.add(statement);
+    if (reason != null) {
+      try {
+        runAutoBatchDml(reason);
+      } catch (SpannerException e) {
+        throw JdbcSqlExceptionFactory.of(e);
+      }
+    }
+  }
+
+  /** Flushes the automatic DML batch of this connection and records the flush metrics. */
+  private void runAutoBatchDml(FlushReason reason) {
+    int batchSize = autoBatchDmlFlushPolicy.getBufferedStatements();
+    autoBatchDmlFlushPolicy.reset();
+    long startNanos = System.nanoTime();
+    try {
+      getSpannerConnection().runBatch();
+    } finally {
+      recordAutoBatchDmlFlushMetric(batchSize, System.nanoTime() - startNanos, reason);
+    }
+  }
+
   @SuppressWarnings("deprecation")
   private static final class JdbcToSpannerTransactionRetryListener
       implements com.google.cloud.spanner.connection.TransactionRetryListener {
@@ -885,7 +1706,7 @@ class JdbcConnection extends AbstractJdbcConnection {
   public Iterator<TransactionRetryListener> getTransactionRetryListeners() throws SQLException {
     checkClosed();
     return Iterators.transform(
-        getSpannerConnection().getTransactionRetryListeners(),
+        getUserTransactionRetryListeners(),
         input -> {
           if (input instanceof JdbcToSpannerTransactionRetryListener) {
             return ((JdbcToSpannerTransactionRetryListener) input).delegate;
@@ -898,7 +1719,18 @@ class JdbcConnection extends AbstractJdbcConnection {
   public Iterator<com.google.cloud.spanner.connection.TransactionRetryListener>
       getTransactionRetryListenersFromConnection() throws SQLException {
     checkClosed();
-    return getSpannerConnection().getTransactionRetryListeners();
+    return getUserTransactionRetryListeners();
+  }
+
+  /**
+   * Returns the transaction retry listeners of the Spanner connection, excluding the internal
+   * listener that is used for metrics.
+   */
+  private Iterator<com.google.cloud.spanner.connection.TransactionRetryListener>
+      getUserTransactionRetryListeners() {
+    return Iterators.filter(
+        getSpannerConnection().getTransactionRetryListeners(),
+        listener -> listener != replayCostTracker);
   }
 
   @Override
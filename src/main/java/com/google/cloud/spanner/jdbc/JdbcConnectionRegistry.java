@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.Spanner;
+import com.google.cloud.spanner.SpannerOptions;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.MapMaker;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the JDBC connections that are open in this JVM, and exposes statistics about these
+ * connections through JMX. See {@link JdbcConnectionsMXBean} and {@link SpannerPoolMXBean}.
+ */
+class JdbcConnectionRegistry implements JdbcConnectionsMXBean, SpannerPoolMXBean {
+  private static final class Holder {
+    private static final JdbcConnectionRegistry INSTANCE = createAndRegister();
+  }
+
+  /**
+   * Returns the connection registry of this JVM. The registry is registered in the platform MBean
+   * server the first time that this method is called.
+   */
+  static JdbcConnectionRegistry getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private static JdbcConnectionRegistry createAndRegister() {
+    JdbcConnectionRegistry registry = new JdbcConnectionRegistry();
+    JmxRegistration.register(
+        registry, JdbcConnectionsMXBean.class, JdbcConnectionsMXBean.OBJECT_NAME);
+    JmxRegistration.register(registry, SpannerPoolMXBean.class, SpannerPoolMXBean.OBJECT_NAME);
+    return registry;
+  }
+
+  private final Set<JdbcConnection> connections =
+      Collections.newSetFromMap(new MapMaker().weakKeys().makeMap());
+  private final Map<Operation, LatencyHistogram> operationLatencies;
+
+  @VisibleForTesting
+  JdbcConnectionRegistry() {
+    EnumMap<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    for (Operation operation : Operation.values()) {
+      latencies.put(operation, new LatencyHistogram());
+    }
+    this.operationLatencies = latencies;
+  }
+
+  void register(JdbcConnection connection) {
+    connections.add(connection);
+  }
+
+  void unregister(JdbcConnection connection) {
+    connections.remove(connection);
+  }
+
+  void recordOperationLatency(Operation operation, long latencyMillis) {
+    operationLatencies.get(operation).record(latencyMillis);
+  }
+
+  @Override
+  public int getOpenConnectionCount() {
+    return connections.size();
+  }
+
+  @Override
+  public Map<String, Integer> getOpenConnectionCountPerDatabase() {
+    Map<String, Integer> result = new TreeMap<>();
+    for (JdbcConnection connection : connections) {
+      result.merge(connection.getDatabaseName(), 1, Integer::sum);
+    }
+    return result;
+  }
+
+  /** Returns the number of open statements per database. */
+  Map<String, Integer> getOpenStatementCountPerDatabase() {
+    Map<String, Integer> result = new TreeMap<>();
+    for (JdbcConnection connection : connections) {
+      result.merge(
+          connection.getDatabaseName(), connection.getOpenStatements().size(), Integer::sum);
+    }
+    return result;
+  }
+
+  /** Returns the number of open result sets per database. */
+  Map<String, Integer> getOpenResultSetCountPerDatabase() {
+    Map<String, Integer> result = new TreeMap<>();
+    for (JdbcConnection connection : connections) {
+      result.merge(connection.getDatabaseName(), connection.getOpenResultSetCount(), Integer::sum);
+    }
+    return result;
+  }
+
+  @Override
+  public int getOpenStatementCount() {
+    int count = 0;
+    for (JdbcConnection connection : connections) {
+      count += connection.getOpenStatements().size();
+    }
+    return count;
+  }
+
+  @Override
+  public int getOpenResultSetCount() {
+    int count = 0;
+    for (JdbcConnection connection : connections) {
+      count += connection.getOpenResultSetCount();
+    }
+    return count;
+  }
+
+  @Override
+  public int getExecutingStatementCount() {
+    int count = 0;
+    for (JdbcConnection connection : connections) {
+      for (AbstractJdbcStatement statement : connection.getOpenStatements()) {
+        if (statement.getExecutingStatement() != null) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public List<LatencyStatistics> getOperationLatencies() {
+    List<LatencyStatistics> result = new ArrayList<>(operationLatencies.size());
+    for (Map.Entry<Operation, LatencyHistogram> entry : operationLatencies.entrySet()) {
+      LatencyHistogram histogram = entry.getValue();
+      result.add(
+          new LatencyStatistics(
+              entry.getKey().getAttributeValue(),
+              histogram.getCount(),
+              histogram.getPercentile(0.5d),
+              histogram.getPercentile(0.99d)));
+    }
+    return result;
+  }
+
+  @Override
+  public String[] dumpActiveStatements() {
+    List<String> result = new ArrayList<>();
+    long now = System.nanoTime();
+    for (JdbcConnection connection : connections) {
+      for (AbstractJdbcStatement statement : connection.getOpenStatements()) {
+        com.google.cloud.spanner.Statement executing = statement.getExecutingStatement();
+        if (executing != null) {
+          long elapsedMillis =
+              TimeUnit.NANOSECONDS.toMillis(now - statement.getExecutionStartNanos());
+          result.add(
+              String.format(
+                  "%s %dms: %s",
+                  connection.getDatabaseName(),
+                  elapsedMillis,
+                  normalize(connection, executing.getSql())));
+        }
+      }
+    }
+    return result.toArray(new String[0]);
+  }
+
+  /** Removes all literals from the given SQL string, so these are not included in a dump. */
+  private static String normalize(JdbcConnection connection, String sql) {
+    try {
+      return QueryFingerprint.of(connection.getDialect(), connection.getParser(), sql)
+          .getNormalizedSql();
+    } catch (SQLException | RuntimeException ignore) {
+      return "<unknown>";
+    }
+  }
+
+  @Override
+  public List<SpannerInstanceStatistics> getSpannerInstances() {
+    Map<Spanner, Integer> connectionCounts = new IdentityHashMap<>();
+    for (JdbcConnection connection : connections) {
+      connectionCounts.merge(connection.getSpanner(), 1, Integer::sum);
+    }
+    List<SpannerInstanceStatistics> result = new ArrayList<>(connectionCounts.size());
+    for (Map.Entry<Spanner, Integer> entry : connectionCounts.entrySet()) {
+      SpannerOptions options = entry.getKey().getOptions();
+      result.add(
+          new SpannerInstanceStatistics(
+              options.getHost(),
+              options.getProjectId(),
+              entry.getValue(),
+              options.getNumChannels(),
+              options.getSessionPoolOptions().getMinSessions(),
+              options.getSessionPoolOptions().getMaxSessions()));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface for the JDBC connections that are open in this JVM. The MBean is registered
+ * in the platform MBean server with the object name {@value #OBJECT_NAME} when the first connection
+ * is opened.
+ */
+public interface JdbcConnectionsMXBean {
+  /** The object name of the connections MBean. */
+  String OBJECT_NAME = "com.google.cloud.spanner.jdbc:type=Connections";
+
+  /** Returns the number of open JDBC connections. */
+  int getOpenConnectionCount();
+
+  /**
+   * Returns the number of open JDBC connections per database. The keys of the map are fully
+   * qualified database names.
+   */
+  Map<String, Integer> getOpenConnectionCountPerDatabase();
+
+  /** Returns the number of open JDBC statements on all open connections. */
+  int getOpenStatementCount();
+
+  /** Returns the number of open JDBC result sets on all open connections. */
+  int getOpenResultSetCount();
+
+  /**
+   * Returns the number of statements that are currently being executed. This is the number of
+   * in-flight requests of the JDBC driver, and does not include requests that are executed in the
+   * background, such as streaming the rows of a result set.
+   */
+  int getExecutingStatementCount();
+
+  /**
+   * Returns the latency statistics per operation type for all connections in this JVM. Latencies
+   * are only recorded if the system property {@code spanner.jdbc.enable_jmx_operation_latencies} or
+   * the environment variable {@code SPANNER_JDBC_ENABLE_JMX_OPERATION_LATENCIES} is set to true
+   * when a connection is created.
+   */
+  List<LatencyStatistics> getOperationLatencies();
+
+  /**
+   * Returns a description of each statement that is currently being executed. Each entry contains
+   * the database, the time that the statement has been executing, and the SQL string of the
+   * statement with all literals replaced by '?'.
+   */
+  String[] dumpActiveStatements();
+}
@@ -18,6 +18,8 @@ package com.google.cloud.spanner.jdbc;
 
 import static com.google.cloud.spanner.jdbc.JdbcDriver.appendPropertiesToUrl;
 import static com.google.cloud.spanner.jdbc.JdbcDriver.buildConnectionOptions;
+import static com.google.cloud.spanner.jdbc.JdbcDriver.createConnection;
+import static com.google.cloud.spanner.jdbc.JdbcDriver.extractJdbcProperties;
 import static com.google.cloud.spanner.jdbc.JdbcDriver.maybeAddUserAgent;
 
 import com.google.cloud.spanner.connection.ConnectionOptions;
@@ -38,6 +40,9 @@ public class JdbcDataSource extends AbstractJdbcWrapper implements DataSource {
   private Boolean readonly;
   private Boolean retryAbortsInternally;
 
+  /** The connection properties in the URL that are handled by the JDBC driver itself. */
+  private Properties cachedJdbcProperties;
+
   private volatile ConnectionOptions cachedConnectionOptions;
 
   // Make sure the JDBC driver class is loaded.
@@ -91,12 +96,18 @@ public class JdbcDataSource extends AbstractJdbcWrapper implements DataSource {
           }
           Properties properties = createProperties();
           maybeAddUserAgent(properties);
-          String connectionUri = appendPropertiesToUrl(url.substring(5), properties);
+          Properties jdbcProperties = new Properties();
+          String connectionUri =
+              appendPropertiesToUrl(
+                  extractJdbcProperties(url.substring(5), jdbcProperties), properties);
+          // The JDBC properties are written before the volatile connection options, so they are
+          // visible to every thread that sees the connection options.
+          cachedJdbcProperties = jdbcProperties;
           cachedConnectionOptions = buildConnectionOptions(connectionUri, properties);
         }
       }
     }
-    return new JdbcConnection(getUrl(), cachedConnectionOptions);
+    return createConnection(getUrl(), cachedConnectionOptions, cachedJdbcProperties);
   }
 
   @Override
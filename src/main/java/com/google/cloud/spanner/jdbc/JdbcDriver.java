@@ -24,8 +24,11 @@ import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.connection.ConnectionOptions;
 import com.google.cloud.spanner.connection.ConnectionOptionsHelper;
 import com.google.cloud.spanner.connection.ConnectionProperty;
+import com.google.cloud.spanner.jdbc.Metrics.LatencyOptions;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.rpc.Code;
 import io.opentelemetry.api.OpenTelemetry;
 import java.sql.Connection;
@@ -35,6 +38,7 @@ import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
+import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.function.Supplier;
@@ -129,6 +133,23 @@ import java.util.regex.Pattern;
  *   <li>numChannels (int): Sets the number of gRPC channels to use. Defaults to 4.
  *   <li>rpcPriority (String): Sets the priority for all RPC invocations from this connection.
  *       Defaults to HIGH.
+ *   <li>slowQueryThresholdMs (long): Writes a structured JSON record to the slow query log for each
+ *       statement whose execution and result consumption takes longer than this number of
+ *       milliseconds. Defaults to 0, which disables the slow query log. @see {@link
+ *       CloudSpannerJdbcConnection#setSlowQueryThresholdMs(long)} for more information.
+ *   <li>slowQueryLogSampleRate (double): The fraction of slow statements that is written to the
+ *       slow query log. Defaults to 1.0.
+ *   <li>slowQueryLogParameterValues (boolean): Includes the parameter values of a statement in the
+ *       slow query log. Defaults to false, which only includes the parameter types.
+ *   <li>lazyColumnDecoding (boolean): Only decodes the columns of a row that are read by the
+ *       application. Defaults to false. @see {@link
+ *       CloudSpannerJdbcConnection#setLazyColumnDecoding(boolean)} for more information.
+ *   <li>latencyHistogramUnit (string): The unit of the latency histograms of the connection, either
+ *       'ms' or 'us'. Defaults to 'ms'. Use 'us' to record sub-millisecond latencies.
+ *   <li>latencyHistogramBoundaries (string): A comma-separated list of increasing bucket boundaries
+ *       for the latency histograms of the connection, in the unit of the latency histograms.
+ *       Connections that use the same OpenTelemetry instance should use the same unit and
+ *       boundaries.
  * </ul>
  */
 public class JdbcDriver implements Driver {
@@ -140,6 +161,31 @@ public class JdbcDriver implements Driver {
    */
   public static final String OPEN_TELEMETRY_PROPERTY_KEY = "openTelemetry";
 
+  static final String SLOW_QUERY_THRESHOLD_MS = "slowQueryThresholdMs";
+  static final String SLOW_QUERY_LOG_SAMPLE_RATE = "slowQueryLogSampleRate";
+  static final String SLOW_QUERY_LOG_PARAMETER_VALUES = "slowQueryLogParameterValues";
+  static final String LAZY_COLUMN_DECODING = "lazyColumnDecoding";
+  static final String LATENCY_HISTOGRAM_UNIT = "latencyHistogramUnit";
+  static final String LATENCY_HISTOGRAM_BOUNDARIES = "latencyHistogramBoundaries";
+
+  /**
+   * The connection properties that are handled by the JDBC driver itself. These properties are
+   * removed from the connection URL before it is passed to the Connection API.
+   */
+  private static final ImmutableMap<String, String> JDBC_CONNECTION_PROPERTIES =
+      ImmutableMap.<String, String>builder()
+          .put(SLOW_QUERY_THRESHOLD_MS.toLowerCase(Locale.ENGLISH), SLOW_QUERY_THRESHOLD_MS)
+          .put(SLOW_QUERY_LOG_SAMPLE_RATE.toLowerCase(Locale.ENGLISH), SLOW_QUERY_LOG_SAMPLE_RATE)
+          .put(
+              SLOW_QUERY_LOG_PARAMETER_VALUES.toLowerCase(Locale.ENGLISH),
+              SLOW_QUERY_LOG_PARAMETER_VALUES)
+          .put(LAZY_COLUMN_DECODING.toLowerCase(Locale.ENGLISH), LAZY_COLUMN_DECODING)
+          .put(LATENCY_HISTOGRAM_UNIT.toLowerCase(Locale.ENGLISH), LATENCY_HISTOGRAM_UNIT)
+          .put(
+              LATENCY_HISTOGRAM_BOUNDARIES.toLowerCase(Locale.ENGLISH),
+              LATENCY_HISTOGRAM_BOUNDARIES)
+          .build();
+
   private static final String JDBC_API_CLIENT_LIB_TOKEN = "sp-jdbc";
   // Updated to version 2 when upgraded to Java 8 (JDBC 4.2)
   static final int MAJOR_VERSION = 2;
@@ -228,13 +274,13 @@ public class JdbcDriver implements Driver {
           // Connection API. Also set the user-agent if we detect that the connection
           // comes from known framework like Hibernate, and there is no other user-agent set.
           maybeAddUserAgent(info);
-          String connectionUri = appendPropertiesToUrl(url.substring(5), info);
+          Properties jdbcProperties = new Properties();
+          String connectionUri =
+              appendPropertiesToUrl(
+                  extractJdbcProperties(url.substring(5), jdbcProperties),
+                  extractJdbcProperties(info, jdbcProperties));
           ConnectionOptions options = buildConnectionOptions(connectionUri, info);
-          JdbcConnection connection = new JdbcConnection(url, options);
-          if (options.getWarnings() != null) {
-            connection.pushWarning(new SQLWarning(options.getWarnings()));
-          }
-          return connection;
+          return createConnection(url, options, jdbcProperties);
         }
       } catch (SpannerException e) {
         throw JdbcSqlExceptionFactory.of(e);
@@ -248,6 +294,32 @@ public class JdbcDriver implements Driver {
     return null;
   }
 
+  /**
+   * Creates a connection with the given options and applies the connection properties that are
+   * handled by the JDBC driver itself. This is used for connections that are created by both the
+   * driver and {@link JdbcDataSource}.
+   */
+  static JdbcConnection createConnection(
+      String url, ConnectionOptions options, Properties jdbcProperties) throws SQLException {
+    OpenMetricsEndpoint.maybeStartConfiguredEndpoint();
+    SlowQueryLog.Options slowQueryLogOptions;
+    LatencyOptions latencyOptions;
+    try {
+      slowQueryLogOptions = SlowQueryLog.Options.fromProperties(jdbcProperties);
+      latencyOptions = LatencyOptions.fromProperties(jdbcProperties);
+    } catch (IllegalArgumentException e) {
+      throw JdbcSqlExceptionFactory.of(e.getMessage(), Code.INVALID_ARGUMENT, e);
+    }
+    JdbcConnection connection =
+        new JdbcConnection(url, options, slowQueryLogOptions, latencyOptions);
+    connection.setLazyColumnDecoding(
+        Boolean.parseBoolean(jdbcProperties.getProperty(LAZY_COLUMN_DECODING)));
+    if (options.getWarnings() != null) {
+      connection.pushWarning(new SQLWarning(options.getWarnings()));
+    }
+    return connection;
+  }
+
   static ConnectionOptions buildConnectionOptions(String connectionUrl, Properties info) {
     ConnectionOptions.Builder builder =
         ConnectionOptions.newBuilder().setTracingPrefix("JDBC").setUri(connectionUrl);
@@ -308,6 +380,53 @@ public class JdbcDriver implements Driver {
     return isHibernate.get();
   }
 
+  /**
+   * Removes the properties that are handled by the JDBC driver from the given URL, and adds these
+   * to the given {@link Properties}. Property names are case-insensitive, and are added to the
+   * {@link Properties} with their canonical name.
+   */
+  static String extractJdbcProperties(String url, Properties jdbcProperties) {
+    String[] parts = url.split(";");
+    StringBuilder result = new StringBuilder(parts[0]);
+    for (int i = 1; i < parts.length; i++) {
+      int separator = parts[i].indexOf('=');
+      String name =
+          separator < 0 ? null : getJdbcPropertyName(parts[i].substring(0, separator));
+      if (name != null) {
+        jdbcProperties.setProperty(name, parts[i].substring(separator + 1));
+      } else {
+        result.append(';').append(parts[i]);
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Returns a copy of the given {@link Properties} without the properties that are handled by the
+   * JDBC driver. These are added to the given JDBC {@link Properties}. The given info {@link
+   * Properties} are not modified.
+   */
+  static Properties extractJdbcProperties(Properties info, Properties jdbcProperties) {
+    Properties result = new Properties();
+    for (Entry<Object, Object> entry : info.entrySet()) {
+      String name =
+          entry.getKey() instanceof String && entry.getValue() instanceof String
+              ? getJdbcPropertyName((String) entry.getKey())
+              : null;
+      if (name != null) {
+        jdbcProperties.setProperty(name, (String) entry.getValue());
+      } else {
+        result.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return result;
+  }
+
+  /** Returns the canonical name of the given JDBC property, or null if it is not one. */
+  private static String getJdbcPropertyName(String key) {
+    return JDBC_CONNECTION_PROPERTIES.get(key.trim().toLowerCase(Locale.ENGLISH));
+  }
+
   static String appendPropertiesToUrl(String url, Properties info) {
     StringBuilder res = new StringBuilder(url);
     for (Entry<Object, Object> entry : info.entrySet()) {
@@ -325,15 +444,80 @@ public class JdbcDriver implements Driver {
 
   @Override
   public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
-    String connectionUri = appendPropertiesToUrl(url.substring(5), info);
-    DriverPropertyInfo[] res =
-        new DriverPropertyInfo[ConnectionPropertiesHelper.VALID_CONNECTION_PROPERTIES.size()];
-    int i = 0;
+    Properties jdbcProperties = new Properties();
+    String connectionUri =
+        appendPropertiesToUrl(
+            extractJdbcProperties(url.substring(5), jdbcProperties),
+            extractJdbcProperties(info, jdbcProperties));
+    ImmutableList.Builder<DriverPropertyInfo> res = ImmutableList.builder();
     for (ConnectionProperty<?> prop : ConnectionPropertiesHelper.VALID_CONNECTION_PROPERTIES) {
-      res[i] = ConnectionPropertiesHelper.toDriverPropertyInfo(connectionUri, prop);
-      i++;
+      res.add(ConnectionPropertiesHelper.toDriverPropertyInfo(connectionUri, prop));
     }
-    return res;
+    res.add(
+        toDriverPropertyInfo(
+            jdbcProperties,
+            SLOW_QUERY_THRESHOLD_MS,
+            "0",
+            "Writes a structured JSON record to the slow query log for each statement whose "
+                + "execution and result consumption takes longer than this number of "
+                + "milliseconds. 0 disables the slow query log."));
+    res.add(
+        toDriverPropertyInfo(
+            jdbcProperties,
+            SLOW_QUERY_LOG_SAMPLE_RATE,
+            "1.0",
+            "The fraction of slow statements that is written to the slow query log."));
+    res.add(
+        toDriverPropertyInfo(
+            jdbcProperties,
+            SLOW_QUERY_LOG_PARAMETER_VALUES,
+            "false",
+            "Includes the parameter values of a statement in the slow query log.",
+            "true",
+            "false"));
+    res.add(
+        toDriverPropertyInfo(
+            jdbcProperties,
+            LAZY_COLUMN_DECODING,
+            "false",
+            "Only decodes the columns of a row that are read by the application.",
+            "true",
+            "false"));
+    res.add(
+        toDriverPropertyInfo(
+            jdbcProperties,
+            LATENCY_HISTOGRAM_UNIT,
+            "ms",
+            "The unit of the latency histograms of the connection.",
+            "ms",
+            "us"));
+    res.add(
+        toDriverPropertyInfo(
+            jdbcProperties,
+            LATENCY_HISTOGRAM_BOUNDARIES,
+            "",
+            "A comma-separated list of increasing bucket boundaries for the latency histograms of "
+                + "the connection, in the unit of the latency histograms."));
+    return res.build().toArray(new DriverPropertyInfo[0]);
+  }
+
+  /** Returns the {@link DriverPropertyInfo} of a property that is handled by the JDBC driver. */
+  private static DriverPropertyInfo toDriverPropertyInfo(
+      Properties jdbcProperties,
+      String name,
+      String defaultValue,
+      String description,
+      String... choices) {
+    DriverPropertyInfo result =
+        new DriverPropertyInfo(name, jdbcProperties.getProperty(name, defaultValue));
+    result.description = description;
+    result.choices = choices.length == 0 ? null : choices;
+    return result;
+  }
+
+  /** Returns the names of the connection properties that are handled by the JDBC driver. */
+  static ImmutableList<String> getJdbcPropertyNames() {
+    return ImmutableList.copyOf(JDBC_CONNECTION_PROPERTIES.values());
   }
 
   @Override
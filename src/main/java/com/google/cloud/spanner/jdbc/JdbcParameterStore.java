@@ -56,7 +56,9 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -69,6 +71,9 @@ class JdbcParameterStore {
   private static final int INITIAL_PARAMETERS_ARRAY_SIZE = 10;
 
   private static final class JdbcParameter {
+    /** Incremented each time that the parameter is set. */
+    private int version;
+
     private Object value;
     private Integer type;
     private Integer nullable;
@@ -90,6 +95,32 @@ class JdbcParameterStore {
 
   private final Dialect dialect;
 
+  /**
+   * The Spanner {@link Value} that was created for the last float[] or double[] value of each
+   * parameter. Applications that execute the same statement multiple times with the same vector,
+   * for example for a vector distance query, reuse the value instead of copying the vector for each
+   * execution. The cache is cleared by {@link #clearParameters()}.
+   */
+  private final Map<Integer, CachedVectorValue> vectorValues = new HashMap<>();
+
+  /**
+   * A cached {@link Value} for a float[] or double[] parameter value. The cached value is only used
+   * if the parameter value is the same array instance, and the parameter has not been set again
+   * since the value was created. An application that changes the contents of an array must
+   * therefore set the parameter again to bind the new contents.
+   */
+  private static final class CachedVectorValue {
+    private final Object array;
+    private final int version;
+    private final Value value;
+
+    private CachedVectorValue(Object array, int version, Value value) {
+      this.array = array;
+      this.version = version;
+      this.value = value;
+    }
+  }
+
   JdbcParameterStore(Dialect dialect) {
     this.dialect = dialect;
   }
@@ -98,6 +129,7 @@ class JdbcParameterStore {
     parametersList = new ArrayList<>(INITIAL_PARAMETERS_ARRAY_SIZE);
     highestIndex = 0;
     table = null;
+    vectorValues.clear();
   }
 
   /** Get parameter value. Index is 1-based. */
@@ -231,6 +263,7 @@ class JdbcParameterStore {
       parametersList.set(arrayIndex, new JdbcParameter());
     }
     JdbcParameter param = parametersList.get(arrayIndex);
+    param.version++;
     param.value = value;
     param.type = sqlType;
     param.scaleOrLength = scaleOrLength;
@@ -415,7 +448,33 @@ class JdbcParameterStore {
 
   /** Bind a JDBC parameter to a parameter on a Spanner {@link Statement}. */
   Builder bindParameterValue(ValueBinder<Builder> binder, int index) throws SQLException {
-    return setValue(binder, getParameter(index), getType(index));
+    Object value = getParameter(index);
+    Integer type = getType(index);
+    // A float[] or double[] without a type or with type ARRAY is always bound as a FLOAT32 or
+    // FLOAT64 array. Other types are converted by setValue.
+    if ((value instanceof float[] || value instanceof double[])
+        && (type == null || type == Types.ARRAY)) {
+      return binder.to(getVectorValue(index, value));
+    }
+    return setValue(binder, value, type);
+  }
+
+  /**
+   * Returns a FLOAT32 or FLOAT64 array {@link Value} for the given float[] or double[] parameter
+   * value. The value is reused if the parameter has not been set since it was last bound.
+   */
+  private Value getVectorValue(int index, Object array) {
+    int version = parametersList.get(index - 1).version;
+    CachedVectorValue cached = vectorValues.get(index);
+    if (cached != null && cached.array == array && cached.version == version) {
+      return cached.value;
+    }
+    Value value =
+        array instanceof float[]
+            ? Value.float32Array((float[]) array)
+            : Value.float64Array((double[]) array);
+    vectorValues.put(index, new CachedVectorValue(array, version, value));
+    return value;
   }
 
   /** Set a value from a JDBC parameter on a Spanner {@link Statement}. */
@@ -529,7 +588,7 @@ class JdbcParameterStore {
         } else if (value instanceof URL) {
           stringValue = value.toString();
         } else if (value instanceof UUID) {
-          stringValue = ((UUID) value).toString();
+          stringValue = UuidParser.toString((UUID) value);
         } else {
           throw JdbcSqlExceptionFactory.of(value + " is not a valid string", Code.INVALID_ARGUMENT);
         }
@@ -691,7 +750,16 @@ class JdbcParameterStore {
   /** Set the parameter value based purely on the type of the value. */
   private Builder setParamWithUnknownType(ValueBinder<Builder> binder, Object value)
       throws SQLException {
-    if (Boolean.class.isAssignableFrom(value.getClass())) {
+    if (value instanceof UUID) {
+      // Bind UUID values as untyped strings to allow them to be used with all types that support
+      // string values (e.g. STRING, UUID). UUIDs are checked first, as they are often used as
+      // primary key values.
+      return binder.to(
+          Value.untyped(
+              com.google.protobuf.Value.newBuilder()
+                  .setStringValue(UuidParser.toString((UUID) value))
+                  .build()));
+    } else if (Boolean.class.isAssignableFrom(value.getClass())) {
       return binder.to((Boolean) value);
     } else if (Byte.class.isAssignableFrom(value.getClass())) {
       return binder.to(((Byte) value).longValue());
@@ -729,12 +797,6 @@ class JdbcParameterStore {
     } else if (Time.class.isAssignableFrom(value.getClass())) {
       Time timeValue = (Time) value;
       return binder.to(JdbcTypeConverter.toGoogleTimestamp(new Timestamp(timeValue.getTime())));
-    } else if (UUID.class.isAssignableFrom(value.getClass())) {
-      // Bind UUID values as untyped strings to allow them to be used with all types that support
-      // string values (e.g. STRING, UUID).
-      return binder.to(
-          Value.untyped(
-              com.google.protobuf.Value.newBuilder().setStringValue(value.toString()).build()));
     } else if (String.class.isAssignableFrom(value.getClass())) {
       String stringVal = (String) value;
       return binder.to(stringVal);
@@ -763,10 +825,12 @@ class JdbcParameterStore {
       return binder.to(s.toString());
     } else if (char[].class.isAssignableFrom(value.getClass())) {
       return binder.to(String.valueOf((char[]) value));
+    } else if (float[].class.isAssignableFrom(value.getClass())) {
+      return binder.toFloat32Array((float[]) value);
+    } else if (double[].class.isAssignableFrom(value.getClass())) {
+      return binder.toFloat64Array((double[]) value);
     } else if (URL.class.isAssignableFrom(value.getClass())) {
       return binder.to(value.toString());
-    } else if (UUID.class.isAssignableFrom(value.getClass())) {
-      return binder.to(((UUID) value).toString());
     } else if (byte[].class.isAssignableFrom(value.getClass())) {
       return binder.to(ByteArray.copyFrom((byte[]) value));
     } else if (InputStream.class.isAssignableFrom(value.getClass())) {
@@ -900,11 +964,17 @@ class JdbcParameterStore {
     } else if (float[].class.isAssignableFrom(value.getClass())) {
       return binder.toFloat32Array((float[]) value);
     } else if (Float[].class.isAssignableFrom(value.getClass())) {
-      return binder.toFloat32Array(toFloatList((Float[]) value));
+      float[] floats = toFloatArray((Float[]) value);
+      return floats == null
+          ? binder.toFloat32Array(toFloatList((Float[]) value))
+          : binder.toFloat32Array(floats);
     } else if (double[].class.isAssignableFrom(value.getClass())) {
       return binder.toFloat64Array((double[]) value);
     } else if (Double[].class.isAssignableFrom(value.getClass())) {
-      return binder.toFloat64Array(toDoubleList((Double[]) value));
+      double[] doubles = toDoubleArray((Double[]) value);
+      return doubles == null
+          ? binder.toFloat64Array(toDoubleList((Double[]) value))
+          : binder.toFloat64Array(doubles);
     } else if (BigDecimal[].class.isAssignableFrom(value.getClass())) {
       if (dialect == Dialect.POSTGRESQL) {
         return binder.toPgNumericArray(
@@ -1010,6 +1080,34 @@ class JdbcParameterStore {
     return res;
   }
 
+  /**
+   * Unboxes the given array, or returns null if the array contains a null element. Binding a
+   * primitive array does not create a boxed object per element, which is significant for large
+   * arrays, such as vector embeddings.
+   */
+  private static float[] toFloatArray(Float[] input) {
+    float[] res = new float[input.length];
+    for (int i = 0; i < input.length; i++) {
+      if (input[i] == null) {
+        return null;
+      }
+      res[i] = input[i];
+    }
+    return res;
+  }
+
+  /** Unboxes the given array, or returns null if the array contains a null element. */
+  private static double[] toDoubleArray(Double[] input) {
+    double[] res = new double[input.length];
+    for (int i = 0; i < input.length; i++) {
+      if (input[i] == null) {
+        return null;
+      }
+      res[i] = input[i];
+    }
+    return res;
+  }
+
   private List<Double> toDoubleList(Number[] input) {
     List<Double> res = new ArrayList<>(input.length);
     for (Number number : input) {
@@ -16,6 +16,7 @@
 
 package com.google.cloud.spanner.jdbc;
 
+import com.google.api.core.ApiFuture;
 import com.google.cloud.spanner.Dialect;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.PartitionOptions;
@@ -25,6 +26,7 @@ import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.connection.AbstractStatementParser.ParametersInfo;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
@@ -79,20 +81,35 @@ class JdbcPreparedStatement extends AbstractJdbcPreparedStatement
     return builder.build();
   }
 
+  /**
+   * Creates the statement that is executed with the current parameter values, and adds the time
+   * that was spent binding the parameters to the execution profile if profiling is enabled.
+   */
+  private Statement bindStatement() throws SQLException {
+    ExecutionProfiler profiler = beginExecutionProfile();
+    if (profiler == null) {
+      return createStatement();
+    }
+    long startNanos = System.nanoTime();
+    Statement statement = createStatement();
+    profiler.record(Phase.BIND, startNanos, System.nanoTime());
+    return statement;
+  }
+
   @Override
   public ResultSet executeQuery() throws SQLException {
     checkClosed();
-    return executeQuery(createStatement());
+    return executeQuery(bindStatement());
   }
 
   ResultSet executeQueryWithOptions(QueryOption... options) throws SQLException {
     checkClosed();
-    return executeQuery(createStatement(), options);
+    return executeQuery(bindStatement(), options);
   }
 
   @Override
   public int executeUpdate() throws SQLException {
-    long count = executeLargeUpdate(createStatement(), generatedKeysColumns);
+    long count = executeLargeUpdate(bindStatement(), generatedKeysColumns);
     if (count > Integer.MAX_VALUE) {
       throw JdbcSqlExceptionFactory.of(
           "update count too large for executeUpdate: " + count, Code.OUT_OF_RANGE);
@@ -102,12 +119,17 @@ class JdbcPreparedStatement extends AbstractJdbcPreparedStatement
 
   @Override
   public long executeLargeUpdate() throws SQLException {
-    return executeLargeUpdate(createStatement(), generatedKeysColumns);
+    return executeLargeUpdate(bindStatement(), generatedKeysColumns);
+  }
+
+  @Override
+  public ApiFuture<Long> executeLargeUpdateAsync() throws SQLException {
+    return executeLargeUpdateAsync(createStatement());
   }
 
   @Override
   public boolean execute() throws SQLException {
-    return executeStatement(createStatement(), generatedKeysColumns);
+    return executeStatement(bindStatement(), generatedKeysColumns);
   }
 
   @Override
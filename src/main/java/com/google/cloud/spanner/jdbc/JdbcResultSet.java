@@ -24,10 +24,24 @@ import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.Type.Code;
 import com.google.cloud.spanner.Value;
 import com.google.cloud.spanner.connection.PartitionedQueryResultSet;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import com.google.cloud.spanner.jdbc.JdbcTypeConverter.ValueConverter;
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
+import com.google.cloud.spanner.jdbc.LeakDetector.TrackedResource;
+import com.google.cloud.spanner.jdbc.Metrics.CloseReason;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Longs;
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.Parser;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
@@ -47,16 +61,25 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 /** Implementation of {@link ResultSet} for Cloud Spanner */
-class JdbcResultSet extends AbstractJdbcResultSet {
+class JdbcResultSet extends AbstractJdbcResultSet implements CloudSpannerJdbcResultSet {
+  private static final AttributeKey<Long> ROWS_KEY = AttributeKey.longKey("rows");
+  private static final AttributeKey<Long> FIRST_ROW_MILLIS_KEY =
+      AttributeKey.longKey("first_row_ms");
+  private static final AttributeKey<Long> CONSUMPTION_MILLIS_KEY =
+      AttributeKey.longKey("consumption_ms");
 
   static JdbcResultSet of(com.google.cloud.spanner.ResultSet resultSet) {
     return of(resultSet, ImmutableSet.of());
@@ -139,7 +162,49 @@ class JdbcResultSet extends AbstractJdbcResultSet {
   private boolean nextCalledForMetaData = false;
   private boolean nextCalledForMetaDataResult = false;
   private long currentRow = 0L;
+  private final TransactionReplayCostTracker replayCostTracker;
+  private final JdbcConnection connection;
+  /** The connection that records streaming metrics, or null if this result set is not sampled. */
+  private final JdbcConnection metricsConnection;
+  private final Span span;
+  /** The span that covers the consumption of this result set, or null if JDBC spans are off. */
+  private final Span resultSetSpan;
+  private final QueryFingerprint queryFingerprint;
+  private final long createdNanos;
+  private long rowCount;
+  private boolean consumedMetricRecorded;
+  /**
+   * Bitset of the columns that have been read in the current row, or null if this result set is not
+   * sampled for metrics, or no column has been read yet.
+   */
+  private long[] decodedColumns;
+  /** The total number of column values that have been read in the rows that were consumed. */
+  private long decodedColumnValues;
   private final ImmutableSet<Integer> columnsAllowedUncheckedLongCastToShort;
+  private final TrackedResource trackedResource;
+  /** The profiler of the execution that created this result set, or null if not profiled. */
+  private final ExecutionProfiler profiler;
+  /** The slow query log execution of the query, or null if the slow query log is disabled. */
+  private final SlowQueryLog.Execution slowQueryExecution;
+  /**
+   * The target type of the last call to {@link #getObject(int, Class)} for each column, and the
+   * converter for that target type. These are created when {@link #getObject(int, Class)} is called
+   * for the first time.
+   */
+  private Class<?>[] converterTargetTypes;
+
+  private ValueConverter[] converters;
+
+  /** Buffer for formatting values as text. This is created when it is used for the first time. */
+  private StringBuilder textBuffer;
+
+  /**
+   * The parsed values of PG_NUMERIC columns and the rows that they belong to. A value is parsed
+   * once per row, and is shared by all getters that read the column as a number.
+   */
+  private BigDecimal[] pgNumericValues;
+
+  private long[] pgNumericRows;
 
   JdbcResultSet(Statement statement, com.google.cloud.spanner.ResultSet spanner) {
     this(statement, spanner, ImmutableSet.of());
@@ -152,6 +217,134 @@ class JdbcResultSet extends AbstractJdbcResultSet {
     super(spanner);
     this.statement = statement;
     this.columnsAllowedUncheckedLongCastToShort = columnsAllowedUncheckedLongCastToShort;
+    JdbcConnection connection =
+        statement instanceof AbstractJdbcStatement
+            ? ((AbstractJdbcStatement) statement).getConnection()
+            : null;
+    this.replayCostTracker = connection == null ? null : connection.getReplayCostTracker();
+    this.connection = connection;
+    if (connection != null) {
+      connection.onResultSetOpened();
+      // The actions only reference the Spanner result set and the connection, as any reference
+      // to this result set would prevent it from being garbage collected.
+      this.trackedResource =
+          connection.trackLeaks(
+              this, ResourceType.RESULT_SET, connection::onResultSetClosed, spanner::close);
+    } else {
+      this.trackedResource = null;
+    }
+    this.metricsConnection =
+        connection != null && connection.sampleResultSetMetrics() ? connection : null;
+    this.resultSetSpan =
+        connection == null ? null : connection.startJdbcSpan(JdbcConnection.RESULT_SET_SPAN_NAME);
+    if (resultSetSpan != null) {
+      this.span = resultSetSpan;
+    } else {
+      this.span = metricsConnection == null ? Span.getInvalid() : Span.current();
+    }
+    this.createdNanos = metricsConnection == null ? 0L : System.nanoTime();
+    this.queryFingerprint =
+        connection == null ? null : ((AbstractJdbcStatement) statement).getLastQueryFingerprint();
+    this.profiler =
+        connection == null
+            ? null
+            : ((AbstractJdbcStatement) statement).getActiveExecutionProfiler();
+    this.slowQueryExecution =
+        connection == null ? null : ((AbstractJdbcStatement) statement).getSlowQueryExecution();
+  }
+
+  private long elapsedNanos() {
+    return System.nanoTime() - createdNanos;
+  }
+
+  /**
+   * Records the consumption time, the number of rows and the close reason of this result set. This
+   * is done when all rows have been returned, when fetching the next row fails, or when the result
+   * set is closed, whichever happens first. The same information is added as an event to the
+   * current span, if there is one. The number of rows is also added to the query statistics, if
+   * these are enabled. The span of the result set is ended if JDBC spans are enabled, and a record
+   * is written to the slow query log if the query exceeded the slow query threshold.
+   */
+  private void recordConsumedMetric(CloseReason reason) {
+    if (consumedMetricRecorded) {
+      return;
+    }
+    consumedMetricRecorded = true;
+    if (profiler != null) {
+      profiler.finish();
+    }
+    if (slowQueryExecution != null) {
+      slowQueryExecution.finish(rowCount, reason.getAttributeValue());
+    }
+    if (queryFingerprint != null) {
+      connection.recordQueryRows(queryFingerprint, rowCount);
+    }
+    if (metricsConnection != null) {
+      long latency = elapsedNanos();
+      metricsConnection.recordResultSetConsumedMetric(
+          latency, rowCount, reason, Context.current().with(span));
+      countDecodedColumns();
+      if (rowCount > 0L) {
+        int columnCount = spanner.getColumnCount();
+        if (columnCount > 0) {
+          metricsConnection.recordResultSetDecodedColumnsMetric(
+              decodedColumnValues * 100L / (rowCount * columnCount),
+              reason,
+              Context.current().with(span));
+        }
+      }
+      if (span.isRecording()) {
+        span.addEvent(
+            "Result set consumed",
+            Attributes.of(
+                ROWS_KEY,
+                rowCount,
+                CONSUMPTION_MILLIS_KEY,
+                TimeUnit.NANOSECONDS.toMillis(latency),
+                Metrics.CLOSE_REASON_KEY,
+                reason.getAttributeValue()));
+      }
+    }
+    if (resultSetSpan != null) {
+      resultSetSpan.setAttribute(ROWS_KEY, rowCount);
+      resultSetSpan.setAttribute(Metrics.CLOSE_REASON_KEY, reason.getAttributeValue());
+      if (reason == CloseReason.ERROR) {
+        resultSetSpan.setStatus(StatusCode.ERROR);
+      }
+      resultSetSpan.end();
+    }
+  }
+
+  /**
+   * Adds the number of columns that were read in the current row to the total number of decoded
+   * column values, and clears the columns that were read.
+   */
+  private void countDecodedColumns() {
+    if (decodedColumns != null) {
+      for (int index = 0; index < decodedColumns.length; index++) {
+        decodedColumnValues += Long.bitCount(decodedColumns[index]);
+        decodedColumns[index] = 0L;
+      }
+    }
+  }
+
+  /** Registers that the given column has been read in the current row. */
+  private void markDecodedColumn(int columnIndex) {
+    int spannerIndex = columnIndex - 1;
+    if (decodedColumns == null) {
+      decodedColumns = new long[(spanner.getColumnCount() + 63) / 64];
+    }
+    int word = spannerIndex >>> 6;
+    if (word >= 0 && word < decodedColumns.length) {
+      decodedColumns[word] |= 1L << spannerIndex;
+    }
+  }
+
+  /** Adds an event for the given phase to the execution profile, if this result set is profiled. */
+  private void recordProfilePhase(Phase phase, long startNanos) {
+    if (profiler != null) {
+      profiler.record(phase, startNanos, System.nanoTime());
+    }
   }
 
   void checkClosedAndValidRow() throws SQLException {
@@ -171,12 +364,39 @@ class JdbcResultSet extends AbstractJdbcResultSet {
   @Override
   public boolean next() throws SQLException {
     checkClosed();
+    if (metricsConnection != null) {
+      countDecodedColumns();
+    }
     currentRow++;
     if (nextCalledForMetaData) {
       nextReturnedFalse = !nextCalledForMetaDataResult;
       nextCalledForMetaData = false;
     } else {
-      nextReturnedFalse = !spanner.next();
+      long fetchStartNanos = profiler == null ? 0L : System.nanoTime();
+      try {
+        nextReturnedFalse = !spanner.next();
+      } catch (RuntimeException exception) {
+        recordProfilePhase(Phase.FETCH, fetchStartNanos);
+        recordConsumedMetric(CloseReason.ERROR);
+        throw exception;
+      }
+      recordProfilePhase(Phase.FETCH, fetchStartNanos);
+    }
+    if (nextReturnedFalse) {
+      recordConsumedMetric(CloseReason.EXHAUSTED);
+    } else {
+      if (++rowCount == 1L && metricsConnection != null) {
+        long latency = elapsedNanos();
+        metricsConnection.recordResultSetFirstRowMetric(latency, Context.current().with(span));
+        if (span.isRecording()) {
+          span.addEvent(
+              "First row received",
+              Attributes.of(FIRST_ROW_MILLIS_KEY, TimeUnit.NANOSECONDS.toMillis(latency)));
+        }
+      }
+      if (replayCostTracker != null) {
+        replayCostTracker.onRow();
+      }
     }
 
     return !nextReturnedFalse;
@@ -184,6 +404,15 @@ class JdbcResultSet extends AbstractJdbcResultSet {
 
   @Override
   public void close() {
+    if (!this.closed) {
+      recordConsumedMetric(CloseReason.CLOSED_EARLY);
+      if (connection != null) {
+        connection.onResultSetClosed();
+      }
+      if (trackedResource != null) {
+        trackedResource.close();
+      }
+    }
     spanner.close();
     this.closed = true;
   }
@@ -195,6 +424,9 @@ class JdbcResultSet extends AbstractJdbcResultSet {
   }
 
   private boolean isNull(int columnIndex) {
+    if (metricsConnection != null) {
+      markDecodedColumn(columnIndex);
+    }
     wasNull = spanner.isNull(columnIndex - 1);
     return wasNull;
   }
@@ -311,9 +543,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
             ? (byte) 0
             : checkedCastToByte(spanner.getBigDecimal(spannerIndex).toBigInteger());
       case PG_NUMERIC:
-        return isNull
-            ? (byte) 0
-            : checkedCastToByte(parseBigDecimal(spanner.getString(spannerIndex)).toBigInteger());
+        return isNull ? (byte) 0 : checkedCastToByte(getPgNumeric(spannerIndex).toBigInteger());
       case STRING:
         return isNull ? (byte) 0 : checkedCastToByte(parseLong(spanner.getString(spannerIndex)));
       case BYTES:
@@ -360,9 +590,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
             ? (short) 0
             : checkedCastToShort(spanner.getBigDecimal(spannerIndex).toBigInteger());
       case PG_NUMERIC:
-        return isNull
-            ? 0
-            : checkedCastToShort(parseBigDecimal(spanner.getString(spannerIndex)).toBigInteger());
+        return isNull ? 0 : checkedCastToShort(getPgNumeric(spannerIndex).toBigInteger());
       case STRING:
         return isNull ? 0 : checkedCastToShort(parseLong(spanner.getString(spannerIndex)));
       case BYTES:
@@ -401,9 +629,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
       case NUMERIC:
         return isNull ? 0 : checkedCastToInt(spanner.getBigDecimal(spannerIndex).toBigInteger());
       case PG_NUMERIC:
-        return isNull
-            ? 0
-            : checkedCastToInt(parseBigDecimal(spanner.getString(spannerIndex)).toBigInteger());
+        return isNull ? 0 : checkedCastToInt(getPgNumeric(spannerIndex).toBigInteger());
       case STRING:
         return isNull ? 0 : checkedCastToInt(parseLong(spanner.getString(spannerIndex)));
       case BYTES:
@@ -438,9 +664,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
       case NUMERIC:
         return isNull ? 0L : checkedCastToLong(spanner.getBigDecimal(spannerIndex).toBigInteger());
       case PG_NUMERIC:
-        return isNull
-            ? 0L
-            : checkedCastToLong(parseBigDecimal(spanner.getString(spannerIndex)).toBigInteger());
+        return isNull ? 0L : checkedCastToLong(getPgNumeric(spannerIndex).toBigInteger());
       case STRING:
         return isNull ? 0L : parseLong(spanner.getString(spannerIndex));
       case BYTES:
@@ -510,7 +734,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
       case NUMERIC:
         return isNull ? 0 : spanner.getBigDecimal(spannerIndex).doubleValue();
       case PG_NUMERIC:
-        return isNull ? 0 : parseDouble(spanner.getString(spannerIndex));
+        return isNull ? 0 : getPgNumericAsDouble(spannerIndex);
       case STRING:
         return isNull ? 0 : parseDouble(spanner.getString(spannerIndex));
       case BYTES:
@@ -639,7 +863,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
       case UUID:
         return spanner.getUuid(spannerIndex);
       case STRING:
-        return UUID.fromString(spanner.getString(spannerIndex));
+        return UuidParser.parse(spanner.getString(spannerIndex));
       case BYTES:
       case DATE:
       case TIMESTAMP:
@@ -796,8 +1020,11 @@ class JdbcResultSet extends AbstractJdbcResultSet {
   @Override
   public Object getObject(int columnIndex) throws SQLException {
     checkClosedAndValidRow();
+    long convertStartNanos = profiler == null ? 0L : System.nanoTime();
     Type type = spanner.getColumnType(columnIndex - 1);
-    return isNull(columnIndex) ? null : getObject(type, columnIndex);
+    Object result = isNull(columnIndex) ? null : getObject(type, columnIndex);
+    recordProfilePhase(Phase.CONVERT, convertStartNanos);
+    return result;
   }
 
   private Object getObject(Type type, int columnIndex) throws SQLException {
@@ -821,11 +1048,10 @@ class JdbcResultSet extends AbstractJdbcResultSet {
       case NUMERIC:
         return getBigDecimal(columnIndex);
       case PG_NUMERIC:
-        final String value = getString(columnIndex);
         try {
-          return parseBigDecimal(value);
+          return getPgNumeric(columnIndex - 1);
         } catch (Exception e) {
-          return parseDouble(value);
+          return parseDouble(spanner.getString(columnIndex - 1));
         }
       case STRING:
       case JSON:
@@ -919,7 +1145,7 @@ class JdbcResultSet extends AbstractJdbcResultSet {
         res = isNull ? null : spanner.getBigDecimal(spannerIndex);
         break;
       case PG_NUMERIC:
-        res = isNull ? null : parseBigDecimal(spanner.getString(spannerIndex));
+        res = isNull ? null : getPgNumeric(spannerIndex);
         break;
       case STRING:
         try {
@@ -1005,6 +1231,245 @@ class JdbcResultSet extends AbstractJdbcResultSet {
     }
   }
 
+  @Override
+  public long[] getLongArray(int columnIndex) throws SQLException {
+    checkClosedAndValidRow();
+    boolean isNull = isNull(columnIndex);
+    Type type = spanner.getColumnType(columnIndex - 1);
+    Code elementCode = getArrayElementCode(type, "long[]");
+    if (elementCode != Code.INT64 && elementCode != Code.ENUM && elementCode != Code.PG_OID) {
+      throw createInvalidToGetAs("long[]", type);
+    }
+    if (isNull) {
+      return null;
+    }
+    try {
+      return elementCode == Code.INT64
+          ? spanner.getLongArray(columnIndex - 1)
+          : Longs.toArray(spanner.getLongList(columnIndex - 1));
+    } catch (NullPointerException e) {
+      throw createNullElementException("long[]", columnIndex, e);
+    }
+  }
+
+  @Override
+  public long[] getLongArray(String columnLabel) throws SQLException {
+    checkClosedAndValidRow();
+    return getLongArray(findColumn(columnLabel));
+  }
+
+  @Override
+  public double[] getDoubleArray(int columnIndex) throws SQLException {
+    checkClosedAndValidRow();
+    boolean isNull = isNull(columnIndex);
+    Type type = spanner.getColumnType(columnIndex - 1);
+    if (getArrayElementCode(type, "double[]") != Code.FLOAT64) {
+      throw createInvalidToGetAs("double[]", type);
+    }
+    if (isNull) {
+      return null;
+    }
+    try {
+      return spanner.getDoubleArray(columnIndex - 1);
+    } catch (NullPointerException e) {
+      throw createNullElementException("double[]", columnIndex, e);
+    }
+  }
+
+  @Override
+  public double[] getDoubleArray(String columnLabel) throws SQLException {
+    checkClosedAndValidRow();
+    return getDoubleArray(findColumn(columnLabel));
+  }
+
+  @Override
+  public float[] getFloatArray(int columnIndex) throws SQLException {
+    checkClosedAndValidRow();
+    boolean isNull = isNull(columnIndex);
+    Type type = spanner.getColumnType(columnIndex - 1);
+    if (getArrayElementCode(type, "float[]") != Code.FLOAT32) {
+      throw createInvalidToGetAs("float[]", type);
+    }
+    if (isNull) {
+      return null;
+    }
+    try {
+      return spanner.getFloatArray(columnIndex - 1);
+    } catch (NullPointerException e) {
+      throw createNullElementException("float[]", columnIndex, e);
+    }
+  }
+
+  @Override
+  public float[] getFloatArray(String columnLabel) throws SQLException {
+    checkClosedAndValidRow();
+    return getFloatArray(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean[] getBooleanArray(int columnIndex) throws SQLException {
+    checkClosedAndValidRow();
+    boolean isNull = isNull(columnIndex);
+    Type type = spanner.getColumnType(columnIndex - 1);
+    if (getArrayElementCode(type, "boolean[]") != Code.BOOL) {
+      throw createInvalidToGetAs("boolean[]", type);
+    }
+    if (isNull) {
+      return null;
+    }
+    try {
+      return spanner.getBooleanArray(columnIndex - 1);
+    } catch (NullPointerException e) {
+      throw createNullElementException("boolean[]", columnIndex, e);
+    }
+  }
+
+  @Override
+  public boolean[] getBooleanArray(String columnLabel) throws SQLException {
+    checkClosedAndValidRow();
+    return getBooleanArray(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean writeColumnTo(int columnIndex, Appendable appendable) throws SQLException {
+    checkClosedAndValidRow();
+    Preconditions.checkNotNull(appendable);
+    if (isNull(columnIndex)) {
+      // getString(int) returns null for NULL values, and throws an exception if the type of the
+      // column cannot be read as a string.
+      getString(columnIndex);
+      return false;
+    }
+    int spannerIndex = columnIndex - 1;
+    Code type = getMainTypeCode(spanner.getColumnType(spannerIndex));
+    try {
+      switch (type) {
+        case BOOL:
+          appendable.append(spanner.getBoolean(spannerIndex) ? "true" : "false");
+          return true;
+        case BYTES:
+        case PROTO:
+          appendable.append(
+              JdbcTypeConverter.appendBase64(getTextBuffer(), spanner.getBytes(spannerIndex)));
+          return true;
+        case DATE:
+          appendable.append(
+              JdbcTypeConverter.appendDate(getTextBuffer(), spanner.getDate(spannerIndex)));
+          return true;
+        case FLOAT32:
+          appendable.append(getTextBuffer().append(spanner.getFloat(spannerIndex)));
+          return true;
+        case FLOAT64:
+          appendable.append(getTextBuffer().append(spanner.getDouble(spannerIndex)));
+          return true;
+        case INT64:
+        case ENUM:
+          appendable.append(getTextBuffer().append(spanner.getLong(spannerIndex)));
+          return true;
+        case NUMERIC:
+          appendable.append(spanner.getBigDecimal(spannerIndex).toString());
+          return true;
+        case PG_NUMERIC:
+        case STRING:
+          appendable.append(spanner.getString(spannerIndex));
+          return true;
+        case JSON:
+          appendable.append(spanner.getJson(spannerIndex));
+          return true;
+        case PG_JSONB:
+          appendable.append(spanner.getPgJsonb(spannerIndex));
+          return true;
+        case TIMESTAMP:
+          appendable.append(
+              JdbcTypeConverter.appendTimestamp(
+                  getTextBuffer(), spanner.getTimestamp(spannerIndex)));
+          return true;
+        case STRUCT:
+        case ARRAY:
+        default:
+          throw createInvalidToGetAs("string", type);
+      }
+    } catch (IOException exception) {
+      throw JdbcSqlExceptionFactory.of(
+          "Could not write value: " + exception.getMessage(),
+          com.google.rpc.Code.UNKNOWN,
+          exception);
+    }
+  }
+
+  @Override
+  public boolean writeColumnTo(String columnLabel, Appendable appendable) throws SQLException {
+    checkClosedAndValidRow();
+    return writeColumnTo(findColumn(columnLabel), appendable);
+  }
+
+  /**
+   * Returns the value of the given PG_NUMERIC column in the current row as a {@link BigDecimal}.
+   * The value is parsed the first time that it is read in a row, and the parsed value is reused for
+   * the rest of the row. The column must not be NULL.
+   *
+   * @param spannerIndex the first column is 0, the second is 1, ...
+   */
+  private BigDecimal getPgNumeric(int spannerIndex) throws SQLException {
+    if (pgNumericValues == null) {
+      int columnCount = spanner.getColumnCount();
+      pgNumericValues = new BigDecimal[columnCount];
+      pgNumericRows = new long[columnCount];
+    }
+    if (pgNumericRows[spannerIndex] != currentRow || pgNumericValues[spannerIndex] == null) {
+      pgNumericValues[spannerIndex] = parseBigDecimal(spanner.getString(spannerIndex));
+      pgNumericRows[spannerIndex] = currentRow;
+    }
+    return pgNumericValues[spannerIndex];
+  }
+
+  /**
+   * Returns the value of the given PG_NUMERIC column in the current row as a double. The parsed
+   * {@link BigDecimal} value is used if the column has already been read as a number in this row.
+   * Otherwise, the value is parsed directly as a double, as the value could also be NaN.
+   */
+  private double getPgNumericAsDouble(int spannerIndex) throws SQLException {
+    if (pgNumericValues != null
+        && pgNumericRows[spannerIndex] == currentRow
+        && pgNumericValues[spannerIndex] != null) {
+      return pgNumericValues[spannerIndex].doubleValue();
+    }
+    return parseDouble(spanner.getString(spannerIndex));
+  }
+
+  /** Returns the empty buffer that is used to format values in {@link #writeColumnTo}. */
+  private StringBuilder getTextBuffer() {
+    if (textBuffer == null) {
+      textBuffer = new StringBuilder(32);
+    } else {
+      textBuffer.setLength(0);
+    }
+    return textBuffer;
+  }
+
+  private Code getArrayElementCode(Type type, String javaType) throws SQLException {
+    if (type.getCode() != Code.ARRAY) {
+      throw createInvalidToGetAs(javaType, type);
+    }
+    return type.getArrayElementType().getCode();
+  }
+
+  private static SQLException createInvalidToGetAs(String javaType, Type type) {
+    return JdbcSqlExceptionFactory.of(
+        String.format("Invalid column type to get as %s: %s", javaType, type),
+        com.google.rpc.Code.INVALID_ARGUMENT);
+  }
+
+  private static SQLException createNullElementException(
+      String javaType, int columnIndex, NullPointerException cause) {
+    return JdbcSqlExceptionFactory.of(
+        String.format(
+            "Column with index %d contains a NULL element and cannot be returned as %s",
+            columnIndex, javaType),
+        com.google.rpc.Code.INVALID_ARGUMENT,
+        cause);
+  }
+
   @Override
   public Date getDate(int columnIndex, Calendar cal) throws SQLException {
     checkClosedAndValidRow();
@@ -1170,13 +1635,119 @@ class JdbcResultSet extends AbstractJdbcResultSet {
   @Override
   public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
     checkClosedAndValidRow();
-    return convertObject(getObject(columnIndex), type, spanner.getColumnType(columnIndex - 1));
+    // Arrays of primitive values are read directly from the underlying result set, without
+    // creating a boxed object for each element.
+    if (type == long[].class) {
+      return type.cast(getLongArray(columnIndex));
+    } else if (type == double[].class) {
+      return type.cast(getDoubleArray(columnIndex));
+    } else if (type == float[].class) {
+      return type.cast(getFloatArray(columnIndex));
+    } else if (type == boolean[].class) {
+      return type.cast(getBooleanArray(columnIndex));
+    }
+    // UUIDs are read directly from UUID and STRING columns, without the generic converters.
+    if (type == UUID.class) {
+      Code code = spanner.getColumnType(columnIndex - 1).getCode();
+      if (code == Code.UUID || code == Code.STRING) {
+        return type.cast(getUUID(columnIndex));
+      }
+    }
+    // Dates and timestamps are converted directly to java.time values, without creating an
+    // intermediate java.sql.Date or java.sql.Timestamp.
+    if (type == Instant.class || type == OffsetDateTime.class || type == LocalDate.class) {
+      int spannerIndex = columnIndex - 1;
+      Code code = spanner.getColumnType(spannerIndex).getCode();
+      if (code == Code.TIMESTAMP && type != LocalDate.class) {
+        if (isNull(columnIndex)) {
+          return null;
+        }
+        Instant instant = JdbcTypeConverter.toInstant(spanner.getTimestamp(spannerIndex));
+        return type == Instant.class
+            ? type.cast(instant)
+            : type.cast(JdbcTypeConverter.toOffsetDateTime(instant));
+      } else if (code == Code.DATE && type == LocalDate.class) {
+        return isNull(columnIndex)
+            ? null
+            : type.cast(JdbcTypeConverter.toLocalDate(spanner.getDate(spannerIndex)));
+      }
+    }
+    // Proto messages are parsed with the cached parser of the message class directly from the
+    // bytes of the column. The byte array is owned by this method, so the message can share it.
+    if (AbstractMessage.class.isAssignableFrom(type)) {
+      Parser<?> parser = getProtoParser(columnIndex, type);
+      if (parser != null) {
+        byte[] bytes = getBytes(columnIndex);
+        return bytes == null
+            ? null
+            : JdbcTypeConverter.parseProtoMessageAliased(type, parser, bytes);
+      }
+    }
+    Object value = getObject(columnIndex);
+    return convertObject(value, type, getConverter(columnIndex, type));
+  }
+
+  /**
+   * Returns the parser for the given proto message class if the given column contains values that
+   * can be parsed as that message, and otherwise null.
+   */
+  private Parser<?> getProtoParser(int columnIndex, Class<?> messageClass) throws SQLException {
+    Code code = spanner.getColumnType(columnIndex - 1).getCode();
+    if (code != Code.PROTO && code != Code.BYTES) {
+      return null;
+    }
+    return JdbcTypeConverter.getProtoParser(messageClass);
+  }
+
+  @Override
+  public <T extends AbstractMessage> LazyProtoMessage<T> getLazyProtoMessage(
+      int columnIndex, Class<T> messageClass) throws SQLException {
+    checkClosedAndValidRow();
+    Preconditions.checkNotNull(messageClass);
+    Parser<?> parser = getProtoParser(columnIndex, messageClass);
+    if (parser == null) {
+      throw JdbcSqlExceptionFactory.of(
+          "Cannot convert "
+              + spanner.getColumnType(columnIndex - 1).getCode()
+              + " to "
+              + messageClass.getName(),
+          com.google.rpc.Code.INVALID_ARGUMENT);
+    }
+    byte[] bytes = getBytes(columnIndex);
+    return bytes == null ? null : new LazyProtoMessage<>(messageClass, parser, bytes);
+  }
+
+  @Override
+  public <T extends AbstractMessage> LazyProtoMessage<T> getLazyProtoMessage(
+      String columnLabel, Class<T> messageClass) throws SQLException {
+    checkClosedAndValidRow();
+    return getLazyProtoMessage(findColumn(columnLabel), messageClass);
   }
 
   @Override
   public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
     checkClosedAndValidRow();
-    return convertObject(getObject(columnLabel), type, spanner.getColumnType(columnLabel));
+    return getObject(findColumn(columnLabel), type);
+  }
+
+  /**
+   * Returns the converter from the type of the given column to the given Java type. The converter
+   * is cached for each column, so repeatedly reading a column as the same Java type only looks up
+   * the converter once.
+   */
+  private ValueConverter getConverter(int columnIndex, Class<?> targetType) throws SQLException {
+    if (converters == null) {
+      int columnCount = spanner.getColumnCount();
+      converterTargetTypes = new Class<?>[columnCount];
+      converters = new ValueConverter[columnCount];
+    }
+    int index = columnIndex - 1;
+    if (targetType == null || converterTargetTypes[index] != targetType) {
+      converters[index] =
+          JdbcTypeConverter.getConverter(spanner.getColumnType(index), targetType);
+      converterTargetTypes[index] = targetType;
+    }
+    return converters[index];
   }
 
   @Override
@@ -1234,8 +1805,12 @@ class JdbcResultSet extends AbstractJdbcResultSet {
   }
 
   @SuppressWarnings("unchecked")
-  private <T> T convertObject(Object o, Class<T> javaType, Type type) throws SQLException {
-    return (T) JdbcTypeConverter.convert(o, type, javaType);
+  private <T> T convertObject(Object o, Class<T> javaType, ValueConverter converter)
+      throws SQLException {
+    long convertStartNanos = profiler == null ? 0L : System.nanoTime();
+    T result = (T) JdbcTypeConverter.convert(o, javaType, converter);
+    recordProfilePhase(Phase.CONVERT, convertStartNanos);
+    return result;
   }
 
   private Object convertObject(Object o, Map<String, Class<?>> map, Type type) throws SQLException {
@@ -1244,6 +1819,9 @@ class JdbcResultSet extends AbstractJdbcResultSet {
     if (o == null) return null;
     Class<?> javaType = map.get(type.getCode().name());
     if (javaType == null) return o;
-    return JdbcTypeConverter.convert(o, type, javaType);
+    long convertStartNanos = profiler == null ? 0L : System.nanoTime();
+    Object result = JdbcTypeConverter.convert(o, type, javaType);
+    recordProfilePhase(Phase.CONVERT, convertStartNanos);
+    return result;
   }
 }
@@ -136,6 +136,16 @@ public final class JdbcSqlExceptionFactory {
       this.code = Code.forNumber(cause.getCode());
     }
 
+    private JdbcSqlBatchUpdateException(String message, Code code, int[] updateCounts) {
+      super(message, code.name(), code.getNumber(), updateCounts);
+      this.code = code;
+    }
+
+    private JdbcSqlBatchUpdateException(String message, Code code, long[] updateCounts) {
+      super(message, code.name(), code.getNumber(), updateCounts, null);
+      this.code = code;
+    }
+
     @Override
     public Code getCode() {
       return code;
@@ -330,4 +340,14 @@ public final class JdbcSqlExceptionFactory {
       long[] updateCounts, SpannerBatchUpdateException cause) {
     return new JdbcSqlBatchUpdateException(updateCounts, cause);
   }
+
+  /** Creates a {@link JdbcSqlException} for a batch that failed without a Spanner exception. */
+  static BatchUpdateException batchException(int[] updateCounts, String message, Code code) {
+    return new JdbcSqlBatchUpdateException(code.name() + ": " + message, code, updateCounts);
+  }
+
+  /** Creates a {@link JdbcSqlException} for a large batch that failed without a Spanner error. */
+  static BatchUpdateException batchException(long[] updateCounts, String message, Code code) {
+    return new JdbcSqlBatchUpdateException(code.name() + ": " + message, code, updateCounts);
+  }
 }
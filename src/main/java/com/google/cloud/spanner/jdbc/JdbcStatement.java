@@ -18,21 +18,32 @@ package com.google.cloud.spanner.jdbc;
 
 import static com.google.cloud.spanner.jdbc.JdbcConnection.NO_GENERATED_KEY_COLUMNS;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.ServerStream;
+import com.google.cloud.spanner.MutationGroup;
 import com.google.cloud.spanner.Options;
 import com.google.cloud.spanner.Options.QueryOption;
 import com.google.cloud.spanner.PartitionOptions;
 import com.google.cloud.spanner.ResultSets;
 import com.google.cloud.spanner.SpannerBatchUpdateException;
 import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.SpannerExceptionFactory;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.Type.StructField;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
 import com.google.cloud.spanner.connection.AbstractStatementParser.ParsedStatement;
 import com.google.cloud.spanner.connection.StatementResult;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Longs;
 import com.google.rpc.Code;
+import com.google.spanner.v1.BatchWriteResponse;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -48,7 +59,8 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
   enum BatchType {
     NONE,
     DML,
-    DDL
+    DDL,
+    MUTATION_GROUPS
   }
 
   private ResultSet currentResultSet;
@@ -57,6 +69,7 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
   private int fetchSize;
   private BatchType currentBatchType = BatchType.NONE;
   final List<Statement> batchedStatements = new ArrayList<>();
+  final List<MutationGroup> batchedMutationGroups = new ArrayList<>();
 
   JdbcStatement(JdbcConnection connection) throws SQLException {
     super(connection);
@@ -71,9 +84,66 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
   @Override
   public ResultSet executeQuery(String sql) throws SQLException {
     checkClosed();
+    if (QueryStatsTracker.isShowQueryStatsStatement(parser, sql)) {
+      return executeShowQueryStats();
+    }
     return executeQuery(Statement.of(sql));
   }
 
+  /**
+   * Returns the given SQL string without comments and leading and trailing whitespace if it starts
+   * with the given keyword, and otherwise null. This is used to recognize the client-side
+   * statements that are handled by the JDBC driver. It is called for every statement, so it only
+   * looks at the first characters of the SQL string, unless the SQL string starts with a comment.
+   */
+  static String removeCommentsAndTrimIfStartsWith(
+      AbstractStatementParser parser, String sql, String keyword) {
+    int index = 0;
+    while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+      index++;
+    }
+    if (index == sql.length()) {
+      return null;
+    }
+    try {
+      char first = sql.charAt(index);
+      if (first == '-' || first == '/' || first == '#') {
+        // The statement could start with a comment.
+        String trimmed = parser.removeCommentsAndTrim(sql);
+        return trimmed.regionMatches(true, 0, keyword, 0, keyword.length()) ? trimmed : null;
+      }
+      return sql.regionMatches(true, index, keyword, 0, keyword.length())
+          ? parser.removeCommentsAndTrim(sql)
+          : null;
+    } catch (SpannerException ignore) {
+      return null;
+    }
+  }
+
+  /**
+   * Executes the client-side statement {@code SHOW VARIABLE SPANNER_JDBC.QUERY_STATS}. This
+   * statement is handled by the JDBC driver, and is not sent to the Connection API.
+   */
+  private JdbcResultSet executeShowQueryStats() {
+    clearLastQueryFingerprint();
+    return JdbcResultSet.of(this, QueryStatsTracker.getInstance().createResultSet());
+  }
+
+  /**
+   * Executes the given statement if it is a client-side {@code SET SPANNER_JDBC.EXECUTION_PROFILING
+   * = true|false} statement, and returns true if it was. This statement is handled by the JDBC
+   * driver, and is not sent to the Connection API.
+   */
+  private boolean executeSetExecutionProfiling(Statement statement) throws SQLException {
+    Boolean enabled =
+        ExecutionProfiler.parseSetExecutionProfilingStatement(parser, statement.getSql());
+    if (enabled == null) {
+      return false;
+    }
+    getConnection().setExecutionProfilingEnabled(enabled);
+    return true;
+  }
+
   /**
    * @see java.sql.Statement#executeUpdate(String)
    *     <p>This method allows both DML and DDL statements to be executed. It assumes that the user
@@ -110,8 +180,16 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
       throws SQLException {
     Preconditions.checkNotNull(generatedKeysColumns);
     checkClosed();
+    if (executeSetExecutionProfiling(statement)) {
+      return 0L;
+    }
+    ExecutionProfiler profiler = beginExecutionProfile();
+    long parseStartNanos = profiler == null ? 0L : System.nanoTime();
     Statement statementWithReturningClause =
         addReturningToStatement(statement, generatedKeysColumns);
+    if (profiler != null) {
+      profiler.record(Phase.PARSE, parseStartNanos, System.nanoTime());
+    }
     StatementResult result = execute(statementWithReturningClause);
     switch (result.getResultType()) {
       case RESULT_SET:
@@ -135,6 +213,29 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
     }
   }
 
+  @Override
+  public ApiFuture<Long> executeLargeUpdateAsync(String sql) throws SQLException {
+    return executeLargeUpdateAsync(Statement.of(sql));
+  }
+
+  /**
+   * Adds the given DML statement to the autocommit DML pipeline of the connection if pipelining is
+   * active, and otherwise executes the statement directly and returns a future that is already
+   * done.
+   */
+  ApiFuture<Long> executeLargeUpdateAsync(Statement statement) throws SQLException {
+    checkClosed();
+    AutocommitDmlPipeline pipeline = getConnection().getAutocommitDmlPipeline();
+    if (pipeline == null) {
+      return ApiFutures.immediateFuture(executeLargeUpdate(statement, NO_GENERATED_KEY_COLUMNS));
+    }
+    ParsedStatement parsedStatement = getConnection().getParser().parse(statement);
+    JdbcPreconditions.checkArgument(
+        parsedStatement.isUpdate() && !parsedStatement.hasReturningClause(),
+        "Only DML statements without a THEN RETURN/RETURNING clause can be pipelined");
+    return pipeline.add(statement);
+  }
+
   /**
    * Extracts the update count from the given result set and then closes the result set. This method
    * may only be called for a {@link com.google.cloud.spanner.ResultSet} where all rows have been
@@ -260,9 +361,24 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
   boolean executeStatement(Statement statement, ImmutableList<String> generatedKeysColumns)
       throws SQLException {
     checkClosed();
+    if (QueryStatsTracker.isShowQueryStatsStatement(parser, statement.getSql())) {
+      setCurrentResultSet(executeShowQueryStats());
+      currentUpdateCount = JdbcConstants.STATEMENT_RESULT_SET;
+      return true;
+    }
+    if (executeSetExecutionProfiling(statement)) {
+      setCurrentResultSet(null);
+      currentUpdateCount = JdbcConstants.STATEMENT_NO_RESULT;
+      return false;
+    }
+    ExecutionProfiler profiler = beginExecutionProfile();
+    long parseStartNanos = profiler == null ? 0L : System.nanoTime();
     // This will return the same Statement instance if no THEN RETURN clause is added to the
     // statement.
     Statement statementWithReturning = addReturningToStatement(statement, generatedKeysColumns);
+    if (profiler != null) {
+      profiler.record(Phase.PARSE, parseStartNanos, System.nanoTime());
+    }
     StatementResult result = execute(statementWithReturning);
     switch (result.getResultType()) {
       case RESULT_SET:
@@ -389,10 +505,18 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
    *     client side statement) or if the connection of this statement has an active batch.
    */
   void checkAndSetBatchType(String sql) throws SQLException {
-    BatchType type = determineStatementBatchType(sql);
+    checkAndSetBatchType(determineStatementBatchType(sql));
+  }
+
+  private void checkAndSetBatchType(BatchType type) throws SQLException {
     if (this.currentBatchType == BatchType.NONE) {
       this.currentBatchType = type;
     } else if (this.currentBatchType != type) {
+      if (this.currentBatchType == BatchType.MUTATION_GROUPS || type == BatchType.MUTATION_GROUPS) {
+        throw JdbcSqlExceptionFactory.of(
+            "Mixing SQL statements and mutation groups in a batch is not allowed.",
+            Code.INVALID_ARGUMENT);
+      }
       throw JdbcSqlExceptionFactory.of(
           "Mixing DML and DDL statements in a batch is not allowed.", Code.INVALID_ARGUMENT);
     }
@@ -405,10 +529,19 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
     batchedStatements.add(Statement.of(sql));
   }
 
+  @Override
+  public void addBatch(MutationGroup mutationGroup) throws SQLException {
+    checkClosed();
+    JdbcPreconditions.checkArgument(mutationGroup != null, "mutationGroup is null");
+    checkAndSetBatchType(BatchType.MUTATION_GROUPS);
+    batchedMutationGroups.add(mutationGroup);
+  }
+
   @Override
   public void clearBatch() throws SQLException {
     checkClosed();
     batchedStatements.clear();
+    batchedMutationGroups.clear();
     this.currentBatchType = BatchType.NONE;
   }
 
@@ -423,9 +556,35 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
 
   private long[] executeBatch(boolean large) throws SQLException {
     checkClosed();
+    getConnection().flushAutocommitDmlPipeline();
+    Operation operation;
+    int batchSize;
+    switch (this.currentBatchType) {
+      case DML:
+        operation = Operation.BATCH_DML;
+        batchSize = batchedStatements.size();
+        break;
+      case DDL:
+        operation = Operation.BATCH_DDL;
+        batchSize = batchedStatements.size();
+        break;
+      case MUTATION_GROUPS:
+        operation = Operation.BATCH_WRITE;
+        batchSize = batchedMutationGroups.size();
+        break;
+      default:
+        return executeBatch(large, this.currentBatchType);
+    }
+    long startNanos = System.nanoTime();
+    long[] result = executeBatch(large, this.currentBatchType);
+    getConnection().recordBatchMetrics(operation, batchSize, System.nanoTime() - startNanos);
+    return result;
+  }
+
+  private long[] executeBatch(boolean large, BatchType batchType) throws SQLException {
     StatementTimeout originalTimeout = setTemporaryStatementTimeout();
     try {
-      switch (this.currentBatchType) {
+      switch (batchType) {
         case DML:
           try {
             return getConnection().getSpannerConnection().executeBatchUpdate(batchedStatements);
@@ -461,20 +620,84 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
           } catch (SpannerException e) {
             throw JdbcSqlExceptionFactory.of(e);
           }
+        case MUTATION_GROUPS:
+          return executeMutationGroupBatch(large);
         case NONE:
           // There is no batch on this statement, this is a no-op.
           return new long[0];
         default:
           throw JdbcSqlExceptionFactory.unsupported(
-              String.format("Unknown batch type: %s", this.currentBatchType.name()));
+              String.format("Unknown batch type: %s", batchType.name()));
       }
     } finally {
       resetStatementTimeout(originalTimeout);
       batchedStatements.clear();
+      batchedMutationGroups.clear();
       this.currentBatchType = BatchType.NONE;
     }
   }
 
+  /**
+   * Executes the batched mutation groups using the BatchWrite RPC. The responses are streamed back
+   * from Spanner, and each response contains the indexes of the mutation groups that it applies to.
+   * Groups that were applied get {@link java.sql.Statement#SUCCESS_NO_INFO} as their update count.
+   * Groups that failed in any response, or that were not included in any response, get {@link
+   * java.sql.Statement#EXECUTE_FAILED}, and a {@link java.sql.BatchUpdateException} is thrown after
+   * all responses have been received. The query timeout of this statement is applied to the RPC.
+   */
+  private long[] executeMutationGroupBatch(boolean large) throws SQLException {
+    long[] res = new long[batchedMutationGroups.size()];
+    Arrays.fill(res, java.sql.Statement.EXECUTE_FAILED);
+    boolean[] failed = new boolean[res.length];
+    com.google.rpc.Status firstError = null;
+    try {
+      ServerStream<BatchWriteResponse> responses =
+          getConnection().batchWrite(batchedMutationGroups);
+      for (BatchWriteResponse response : responses) {
+        boolean success = response.getStatus().getCode() == Code.OK_VALUE;
+        if (!success && firstError == null) {
+          firstError = response.getStatus();
+        }
+        for (int index : response.getIndexesList()) {
+          if (index < 0 || index >= res.length) {
+            responses.cancel();
+            throw JdbcSqlExceptionFactory.of(
+                "Spanner returned an invalid mutation group index: " + index, Code.INTERNAL);
+          }
+          // A group that failed stays failed, also if it is included in a later response.
+          failed[index] |= !success;
+          res[index] =
+              failed[index]
+                  ? java.sql.Statement.EXECUTE_FAILED
+                  : java.sql.Statement.SUCCESS_NO_INFO;
+        }
+      }
+    } catch (SpannerException e) {
+      throw JdbcSqlExceptionFactory.of(e);
+    } catch (ApiException e) {
+      throw JdbcSqlExceptionFactory.of(SpannerExceptionFactory.asSpannerException(e));
+    }
+    String message = null;
+    Code code = null;
+    if (firstError != null) {
+      code =
+          Code.forNumber(firstError.getCode()) == null
+              ? Code.UNKNOWN
+              : Code.forNumber(firstError.getCode());
+      message = "One or more mutation groups failed: " + firstError.getMessage();
+    } else if (Longs.contains(res, java.sql.Statement.EXECUTE_FAILED)) {
+      code = Code.INTERNAL;
+      message = "Spanner did not return a result for one or more mutation groups";
+    }
+    if (message != null) {
+      if (large) {
+        throw JdbcSqlExceptionFactory.batchException(res, message, code);
+      }
+      throw JdbcSqlExceptionFactory.batchException(convertUpdateCounts(res), message, code);
+    }
+    return res;
+  }
+
   @VisibleForTesting
   int[] convertUpdateCounts(long[] updateCounts) throws SQLException {
     int[] res = new int[updateCounts.length];
@@ -607,6 +830,24 @@ class JdbcStatement extends AbstractJdbcStatement implements CloudSpannerJdbcSta
         connection -> JdbcResultSet.of(this, connection.runPartition(encodedPartitionId)));
   }
 
+  @Override
+  public void setExecutionProfilingEnabled(boolean enabled) throws SQLException {
+    checkClosed();
+    setExecutionProfilingActive(enabled);
+  }
+
+  @Override
+  public boolean isExecutionProfilingEnabled() throws SQLException {
+    checkClosed();
+    return isExecutionProfilingActive();
+  }
+
+  @Override
+  public ExecutionProfile getLastExecutionProfile() throws SQLException {
+    checkClosed();
+    return getExecutionProfile();
+  }
+
   @Override
   public CloudSpannerJdbcPartitionedQueryResultSet runPartitionedQuery(
       String query, PartitionOptions partitionOptions, QueryOption... options) throws SQLException {
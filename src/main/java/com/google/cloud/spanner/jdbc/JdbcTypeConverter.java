@@ -24,26 +24,38 @@ import com.google.cloud.spanner.Type.Code;
 import com.google.cloud.spanner.Value;
 import com.google.common.base.Preconditions;
 import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
 import com.google.protobuf.ProtocolMessageEnum;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.SQLException;
 import java.sql.Time;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /** Convenience class for converting values between Java, JDBC and Cloud Spanner. */
@@ -76,10 +88,19 @@ class JdbcTypeConverter {
    *     input value and input type are not consistent with each other.
    */
   static Object convert(Object value, Type type, Class<?> targetType) throws SQLException {
-    JdbcPreconditions.checkArgument(type != null, "type may not be null");
-    JdbcPreconditions.checkArgument(targetType != null, "targetType may not be null");
+    ValueConverter converter = getConverter(type, targetType);
     checkValidTypeAndValueForConvert(type, value);
+    return convert(value, targetType, converter);
+  }
 
+  /**
+   * Converts the given value to the Java {@link Class} type using a converter that was returned by
+   * {@link #getConverter(Type, Class)} for the same target type. This method does not verify that
+   * the value is consistent with the type of the converter, and should only be used for values that
+   * are read from a result set.
+   */
+  static Object convert(Object value, Class<?> targetType, ValueConverter converter)
+      throws SQLException {
     if (value == null) {
       return null;
     }
@@ -87,180 +108,377 @@ class JdbcTypeConverter {
       return value;
     }
     try {
-      if (targetType.equals(Value.class)) {
-        return convertToSpannerValue(value, type);
-      }
-      if (targetType.equals(String.class)) {
-        if (type.getCode() == Code.BYTES || type.getCode() == Code.PROTO)
-          return new String((byte[]) value, UTF8);
-        if (type.getCode() == Code.TIMESTAMP) {
-          Timestamp timestamp = Timestamp.of((java.sql.Timestamp) value);
-          return TIMESTAMP_FORMAT.format(
-              ZonedDateTime.ofInstant(
-                  Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()),
-                  ZoneId.systemDefault()));
-        }
-        return value.toString();
-      }
-      if (targetType.equals(byte[].class)) {
-        if (type.getCode() == Code.BYTES || type.getCode() == Code.PROTO) return value;
-        if (type.getCode() == Code.STRING
-            || type.getCode() == Code.JSON
-            || type.getCode() == Code.PG_JSONB) return ((String) value).getBytes(UTF8);
-      }
-      if (targetType.equals(Boolean.class)) {
-        if (type.getCode() == Code.BOOL) return value;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM) return (Long) value != 0;
-        if (type.getCode() == Code.FLOAT32) {
-          return (Float) value != 0f;
+      return converter.convert(value);
+    } catch (SQLException e) {
+      throw e;
+    } catch (Exception e) {
+      throw JdbcSqlExceptionFactory.of(
+          "Cannot convert " + value + " to " + targetType.getName(),
+          com.google.rpc.Code.INVALID_ARGUMENT,
+          e);
+    }
+  }
+
+  /** Converts a value with a specific Spanner type to a specific Java type. */
+  @FunctionalInterface
+  interface ValueConverter {
+    Object convert(Object value) throws Exception;
+  }
+
+  /**
+   * The converters for each combination of target type and Spanner type code. The converters for a
+   * target type are computed the first time that the target type is used, and are indexed by the
+   * ordinal of the type code. An entry is null if the conversion is not supported. Conversions that
+   * depend on more than the type code, such as conversions to {@link Value} or to protobuf types,
+   * are not included in this table. The converters in the table do not reference the target type,
+   * so the table does not prevent the target type from being unloaded.
+   */
+  private static final ClassValue<ValueConverter[]> CONVERTERS =
+      new ClassValue<ValueConverter[]>() {
+        @Override
+        protected ValueConverter[] computeValue(Class<?> targetType) {
+          Code[] codes = Code.values();
+          ValueConverter[] converters = new ValueConverter[codes.length];
+          for (Code code : codes) {
+            converters[code.ordinal()] = compile(code, targetType);
+          }
+          return converters;
         }
-        if (type.getCode() == Code.FLOAT64) return (Double) value != 0d;
-        if (type.getCode() == Code.NUMERIC) return !value.equals(BigDecimal.ZERO);
-        if (type.getCode() == Code.PG_NUMERIC)
-          return !AbstractJdbcWrapper.parseBigDecimal((String) value).equals(BigDecimal.ZERO);
-      }
-      if (targetType.equals(BigDecimal.class)) {
-        if (type.getCode() == Code.BOOL) return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM)
-          return BigDecimal.valueOf((Long) value);
-        if (type.getCode() == Code.NUMERIC) return value;
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.parseBigDecimal((String) value);
+      };
+
+  /**
+   * Returns a converter for values with the given Spanner type to the given Java type. Converting a
+   * value with a converter is a single method call, and the converter can be reused for all values
+   * with the same type.
+   */
+  static ValueConverter getConverter(Type type, Class<?> targetType) throws SQLException {
+    JdbcPreconditions.checkArgument(type != null, "type may not be null");
+    JdbcPreconditions.checkArgument(targetType != null, "targetType may not be null");
+    if (targetType.equals(Value.class)) {
+      return value -> convertToSpannerValue(value, type);
+    }
+    if (AbstractMessage.class.isAssignableFrom(targetType)
+        && (type.getCode() == Code.PROTO || type.getCode() == Code.BYTES)) {
+      return compileProtoConverter(targetType, "parseFrom", byte[].class);
+    }
+    if (ProtocolMessageEnum.class.isAssignableFrom(targetType)
+        && (type.getCode() == Code.ENUM || type.getCode() == Code.INT64)) {
+      return compileProtoConverter(targetType, "forNumber", int.class);
+    }
+    if (targetType.isArray() && type.getCode() == Code.ARRAY) {
+      Code elementCode = type.getArrayElementType().getCode();
+      Class<?> componentType = targetType.getComponentType();
+      if (componentType.isPrimitive() && componentType != byte.class) {
+        return value -> ((JdbcArray) value).getPrimitiveArray(componentType);
       }
-      if (targetType.equals(Long.class)) {
-        if (type.getCode() == Code.BOOL) return (Boolean) value ? 1L : 0L;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM) return value;
-        if (type.getCode() == Code.NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToLong(((BigDecimal) value).toBigInteger());
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToLong(
-              AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+      if ((elementCode == Code.PROTO || elementCode == Code.BYTES)
+          && AbstractMessage.class.isAssignableFrom(componentType)) {
+        return value -> convertArrayOfProtoMessage(value, targetType);
       }
-      if (targetType.equals(Integer.class)) {
-        if (type.getCode() == Code.BOOL) return (Boolean) value ? 1 : 0;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM)
-          return AbstractJdbcWrapper.checkedCastToInt((Long) value);
-        if (type.getCode() == Code.NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToInt(((BigDecimal) value).toBigInteger());
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToInt(
-              AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+      if ((elementCode == Code.ENUM || elementCode == Code.INT64)
+          && ProtocolMessageEnum.class.isAssignableFrom(componentType)) {
+        return value -> convertArrayOfProtoEnum(value, targetType);
       }
-      if (targetType.equals(Short.class)) {
-        if (type.getCode() == Code.BOOL) return (Boolean) value ? 1 : 0;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM)
-          return AbstractJdbcWrapper.checkedCastToShort((Long) value);
-        if (type.getCode() == Code.NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToShort(((BigDecimal) value).toBigInteger());
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToShort(
-              AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+    }
+    ValueConverter converter = CONVERTERS.get(targetType)[type.getCode().ordinal()];
+    if (converter == null && (type.getCode() == Code.JSON || type.getCode() == Code.PG_JSONB)) {
+      JsonCodec codec = JsonCodecs.find(targetType);
+      if (codec != null) {
+        return value -> {
+          try (Reader reader = new StringReader((String) value)) {
+            return codec.decode(reader, targetType);
+          }
+        };
       }
-      if (targetType.equals(Byte.class)) {
-        if (type.getCode() == Code.BOOL) return (Boolean) value ? 1 : 0;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM)
-          return AbstractJdbcWrapper.checkedCastToByte((Long) value);
-        if (type.getCode() == Code.NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToByte(((BigDecimal) value).toBigInteger());
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToByte(
-              AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+    }
+    return converter == null ? unsupported(type.getCode(), targetType) : converter;
+  }
+
+  /**
+   * Cache of the {@link Parser} of each generated proto message class. The value is null for
+   * classes that do not have a static {@code getDefaultInstance()} method.
+   */
+  private static final ClassValue<Parser<?>> PROTO_PARSERS =
+      new ClassValue<Parser<?>>() {
+        @Override
+        protected Parser<?> computeValue(Class<?> type) {
+          try {
+            Method method = type.getMethod("getDefaultInstance");
+            return ((MessageLite) method.invoke(null)).getParserForType();
+          } catch (ReflectiveOperationException | RuntimeException ignore) {
+            return null;
+          }
+        }
+      };
+
+  /**
+   * Returns the {@link Parser} for the given proto message class, or null if the class is not a
+   * generated proto message class. The parser is looked up once for each class.
+   */
+  static Parser<?> getProtoParser(Class<?> messageClass) {
+    return PROTO_PARSERS.get(messageClass);
+  }
+
+  /**
+   * Parses a proto message from the given bytes. The bytes fields of the parsed message refer to
+   * the given array instead of to a copy of the data. The array may therefore not be modified after
+   * calling this method. String fields are always decoded into new {@link String}s.
+   */
+  static <T> T parseProtoMessageAliased(Class<T> type, Parser<?> parser, byte[] bytes)
+      throws SQLException {
+    try {
+      CodedInputStream input = UnsafeByteOperations.unsafeWrap(bytes).newCodedInput();
+      input.enableAliasing(true);
+      Object message = parser.parseFrom(input);
+      input.checkLastTagWas(0);
+      return type.cast(message);
+    } catch (InvalidProtocolBufferException | ClassCastException e) {
+      throw JdbcSqlExceptionFactory.of(
+          "Cannot convert bytes to " + type.getName(), com.google.rpc.Code.INVALID_ARGUMENT, e);
+    }
+  }
+
+  private static ValueConverter compileProtoConverter(
+      Class<?> targetType, String methodName, Class<?> parameterType) {
+    if (parameterType == byte[].class) {
+      Parser<?> parser = getProtoParser(targetType);
+      if (parser != null) {
+        return value -> targetType.cast(parser.parseFrom((byte[]) value));
       }
-      if (targetType.equals(BigInteger.class)) {
-        if (type.getCode() == Code.BOOL) return (Boolean) value ? BigInteger.ONE : BigInteger.ZERO;
-        if (type.getCode() == Code.INT64 || type.getCode() == Code.ENUM)
-          return BigInteger.valueOf((Long) value);
-        if (type.getCode() == Code.NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToBigInteger((BigDecimal) value);
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.checkedCastToBigInteger(
-              AbstractJdbcWrapper.parseBigDecimal((String) value));
+    }
+    Method method;
+    try {
+      method = targetType.getMethod(methodName, parameterType);
+    } catch (NoSuchMethodException | SecurityException e) {
+      return value -> {
+        throw e;
+      };
+    }
+    if (parameterType == int.class) {
+      return value ->
+          targetType.cast(method.invoke(null, AbstractJdbcWrapper.checkedCastToInt((Long) value)));
+    }
+    return value -> targetType.cast(method.invoke(null, value));
+  }
+
+  private static ValueConverter unsupported(Code code, Class<?> targetType) {
+    return value -> {
+      throw JdbcSqlExceptionFactory.of(
+          "Cannot convert " + code.name() + " to " + targetType.getName(),
+          com.google.rpc.Code.INVALID_ARGUMENT);
+    };
+  }
+
+  /**
+   * Returns the converter for values with the given type code to the given Java type, or null if
+   * the conversion is not supported.
+   */
+  private static ValueConverter compile(Code code, Class<?> targetType) {
+    if (targetType.equals(String.class)) {
+      switch (code) {
+        case BYTES:
+        case PROTO:
+          return value -> new String((byte[]) value, UTF8);
+        case TIMESTAMP:
+          return value -> {
+            Timestamp timestamp = Timestamp.of((java.sql.Timestamp) value);
+            return TIMESTAMP_FORMAT.format(
+                ZonedDateTime.ofInstant(
+                    Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()),
+                    ZoneId.systemDefault()));
+          };
+        default:
+          return Object::toString;
       }
-      if (targetType.equals(Float.class)) {
-        if (type.getCode() == Code.BOOL)
-          return (Boolean) value ? Float.valueOf(1f) : Float.valueOf(0f);
-        if (type.getCode() == Code.FLOAT32) {
-          return value;
-        }
-        if (type.getCode() == Code.FLOAT64)
-          return AbstractJdbcWrapper.checkedCastToFloat((Double) value);
-        if (type.getCode() == Code.NUMERIC) return ((BigDecimal) value).floatValue();
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.parseFloat((String) value);
+    }
+    if (targetType.equals(byte[].class)) {
+      switch (code) {
+        case BYTES:
+        case PROTO:
+          return value -> value;
+        case STRING:
+        case JSON:
+        case PG_JSONB:
+          return value -> ((String) value).getBytes(UTF8);
+        default:
+          return null;
       }
-      if (targetType.equals(Double.class)) {
-        if (type.getCode() == Code.BOOL)
-          return (Boolean) value ? Double.valueOf(1d) : Double.valueOf(0d);
-        if (type.getCode() == Code.FLOAT64 || type.getCode() == Code.FLOAT32) {
-          return value;
-        }
-        if (type.getCode() == Code.NUMERIC) return ((BigDecimal) value).doubleValue();
-        if (type.getCode() == Code.PG_NUMERIC)
-          return AbstractJdbcWrapper.parseDouble((String) value);
+    }
+    if (targetType.equals(Boolean.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> value;
+        case INT64:
+        case ENUM:
+          return value -> (Long) value != 0;
+        case FLOAT32:
+          return value -> (Float) value != 0f;
+        case FLOAT64:
+          return value -> (Double) value != 0d;
+        case NUMERIC:
+          return value -> !value.equals(BigDecimal.ZERO);
+        case PG_NUMERIC:
+          return value ->
+              !AbstractJdbcWrapper.parseBigDecimal((String) value).equals(BigDecimal.ZERO);
+        default:
+          return null;
       }
-      if (targetType.equals(java.sql.Date.class)) {
-        if (type.getCode() == Code.DATE) return value;
+    }
+    if (targetType.equals(BigDecimal.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+        case INT64:
+        case ENUM:
+          return value -> BigDecimal.valueOf((Long) value);
+        case NUMERIC:
+          return value -> value;
+        case PG_NUMERIC:
+          return value -> AbstractJdbcWrapper.parseBigDecimal((String) value);
+        default:
+          return null;
       }
-      if (targetType.equals(LocalDate.class)) {
-        if (type.getCode() == Code.DATE) {
-          return ((java.sql.Date) value).toLocalDate();
-        }
+    }
+    if (targetType.equals(Long.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? 1L : 0L;
+        case INT64:
+        case ENUM:
+          return value -> value;
+        case NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToLong(((BigDecimal) value).toBigInteger());
+        case PG_NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToLong(
+                  AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+        default:
+          return null;
       }
-      if (targetType.equals(java.sql.Timestamp.class)) {
-        if (type.getCode() == Code.TIMESTAMP) return value;
+    }
+    if (targetType.equals(Integer.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? 1 : 0;
+        case INT64:
+        case ENUM:
+          return value -> AbstractJdbcWrapper.checkedCastToInt((Long) value);
+        case NUMERIC:
+          return value -> AbstractJdbcWrapper.checkedCastToInt(((BigDecimal) value).toBigInteger());
+        case PG_NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToInt(
+                  AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+        default:
+          return null;
       }
-      if (targetType.equals(OffsetDateTime.class)) {
-        if (type.getCode() == Code.TIMESTAMP) {
-          Timestamp timestamp = Timestamp.of((java.sql.Timestamp) value);
-          return OffsetDateTime.ofInstant(
-              Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()),
-              ZoneId.systemDefault());
-        }
+    }
+    if (targetType.equals(Short.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? 1 : 0;
+        case INT64:
+        case ENUM:
+          return value -> AbstractJdbcWrapper.checkedCastToShort((Long) value);
+        case NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToShort(((BigDecimal) value).toBigInteger());
+        case PG_NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToShort(
+                  AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+        default:
+          return null;
       }
-      if (AbstractMessage.class.isAssignableFrom(targetType)) {
-        if (type.getCode() == Code.PROTO || type.getCode() == Code.BYTES) {
-          Method parseMethodParseFrom = targetType.getMethod("parseFrom", byte[].class);
-          return targetType.cast(parseMethodParseFrom.invoke(null, value));
-        }
+    }
+    if (targetType.equals(Byte.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? 1 : 0;
+        case INT64:
+        case ENUM:
+          return value -> AbstractJdbcWrapper.checkedCastToByte((Long) value);
+        case NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToByte(((BigDecimal) value).toBigInteger());
+        case PG_NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToByte(
+                  AbstractJdbcWrapper.parseBigDecimal((String) value).toBigInteger());
+        default:
+          return null;
       }
-      if (ProtocolMessageEnum.class.isAssignableFrom(targetType)) {
-        if (type.getCode() == Code.ENUM || type.getCode() == Code.INT64) {
-          Method parseMethodForNumber = targetType.getMethod("forNumber", int.class);
-          return targetType.cast(
-              parseMethodForNumber.invoke(
-                  null, AbstractJdbcWrapper.checkedCastToInt((Long) value)));
-        }
+    }
+    if (targetType.equals(BigInteger.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? BigInteger.ONE : BigInteger.ZERO;
+        case INT64:
+        case ENUM:
+          return value -> BigInteger.valueOf((Long) value);
+        case NUMERIC:
+          return value -> AbstractJdbcWrapper.checkedCastToBigInteger((BigDecimal) value);
+        case PG_NUMERIC:
+          return value ->
+              AbstractJdbcWrapper.checkedCastToBigInteger(
+                  AbstractJdbcWrapper.parseBigDecimal((String) value));
+        default:
+          return null;
       }
-      if (targetType.equals(java.sql.Array.class)) {
-        if (type.getCode() == Code.ARRAY) return value;
+    }
+    if (targetType.equals(Float.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? Float.valueOf(1f) : Float.valueOf(0f);
+        case FLOAT32:
+          return value -> value;
+        case FLOAT64:
+          return value -> AbstractJdbcWrapper.checkedCastToFloat((Double) value);
+        case NUMERIC:
+          return value -> ((BigDecimal) value).floatValue();
+        case PG_NUMERIC:
+          return value -> AbstractJdbcWrapper.parseFloat((String) value);
+        default:
+          return null;
       }
-      if (targetType.isArray() && type.getCode() == Code.ARRAY) {
-        if (type.getArrayElementType().getCode() == Code.PROTO
-            || type.getArrayElementType().getCode() == Code.BYTES) {
-          Object res = convertArrayOfProtoMessage(value, targetType);
-          if (res != null) {
-            return res;
-          }
-        }
-        if (type.getArrayElementType().getCode() == Code.ENUM
-            || type.getArrayElementType().getCode() == Code.INT64) {
-          Object res = convertArrayOfProtoEnum(value, targetType);
-          if (res != null) {
-            return res;
-          }
-        }
+    }
+    if (targetType.equals(Double.class)) {
+      switch (code) {
+        case BOOL:
+          return value -> (Boolean) value ? Double.valueOf(1d) : Double.valueOf(0d);
+        case FLOAT32:
+        case FLOAT64:
+          return value -> value;
+        case NUMERIC:
+          return value -> ((BigDecimal) value).doubleValue();
+        case PG_NUMERIC:
+          return value -> AbstractJdbcWrapper.parseDouble((String) value);
+        default:
+          return null;
       }
-    } catch (SQLException e) {
-      throw e;
-    } catch (Exception e) {
-      throw JdbcSqlExceptionFactory.of(
-          "Cannot convert " + value + " to " + targetType.getName(),
-          com.google.rpc.Code.INVALID_ARGUMENT,
-          e);
     }
-    throw JdbcSqlExceptionFactory.of(
-        "Cannot convert " + type.getCode().name() + " to " + targetType.getName(),
-        com.google.rpc.Code.INVALID_ARGUMENT);
+    if (targetType.equals(java.sql.Date.class)) {
+      return code == Code.DATE ? value -> value : null;
+    }
+    if (targetType.equals(LocalDate.class)) {
+      return code == Code.DATE ? value -> ((java.sql.Date) value).toLocalDate() : null;
+    }
+    if (targetType.equals(java.sql.Timestamp.class)) {
+      return code == Code.TIMESTAMP ? value -> value : null;
+    }
+    if (targetType.equals(Instant.class)) {
+      return code == Code.TIMESTAMP ? value -> ((java.sql.Timestamp) value).toInstant() : null;
+    }
+    if (targetType.equals(OffsetDateTime.class)) {
+      return code == Code.TIMESTAMP
+          ? value -> toOffsetDateTime(((java.sql.Timestamp) value).toInstant())
+          : null;
+    }
+    if (targetType.equals(java.sql.Array.class)) {
+      return code == Code.ARRAY ? value -> value : null;
+    }
+    return null;
   }
 
   /**
@@ -272,11 +490,18 @@ class JdbcTypeConverter {
     if (AbstractMessage.class.isAssignableFrom(componentType)) {
       byte[][] result = (byte[][]) ((JdbcArray) value).getArray();
       Object obj = java.lang.reflect.Array.newInstance(componentType, result.length);
-      Method parseMethodParseFrom = componentType.getMethod("parseFrom", byte[].class);
+      Parser<?> parser = getProtoParser(componentType);
+      Method parseMethodParseFrom =
+          parser == null ? componentType.getMethod("parseFrom", byte[].class) : null;
       for (int i = 0; i < result.length; i++) {
         if (result[i] != null) {
           java.lang.reflect.Array.set(
-              obj, i, componentType.cast(parseMethodParseFrom.invoke(null, result[i])));
+              obj,
+              i,
+              componentType.cast(
+                  parser == null
+                      ? parseMethodParseFrom.invoke(null, result[i])
+                      : parser.parseFrom(result[i])));
         }
       }
       return obj;
@@ -464,8 +689,146 @@ class JdbcTypeConverter {
     return res;
   }
 
+  private static final long SECONDS_PER_DAY = TimeUnit.DAYS.toSeconds(1L);
+
+  /** Cache of the {@link ZoneRules} of the time zones that are used for date/time conversions. */
+  private static final ConcurrentMap<String, ZoneRules> ZONE_RULES = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the {@link ZoneRules} of the given {@link TimeZone}, or null if the time zone has no
+   * corresponding {@link ZoneId}. The rules are cached by time zone ID, so converting values in the
+   * same time zone does not repeatedly look up the zone rules.
+   */
+  static ZoneRules getZoneRules(TimeZone timeZone) {
+    ZoneRules rules = ZONE_RULES.get(timeZone.getID());
+    if (rules == null) {
+      try {
+        rules = timeZone.toZoneId().getRules();
+      } catch (DateTimeException ignore) {
+        // Custom time zones with an ID that is not known to java.time cannot be cached.
+        return null;
+      }
+      ZONE_RULES.putIfAbsent(timeZone.getID(), rules);
+    }
+    return rules;
+  }
+
+  /** Returns an {@link OffsetDateTime} for the given {@link Instant} in the default time zone. */
+  static OffsetDateTime toOffsetDateTime(Instant instant) {
+    ZoneRules rules = getZoneRules(TimeZone.getDefault());
+    return rules == null
+        ? OffsetDateTime.ofInstant(instant, ZoneId.systemDefault())
+        : OffsetDateTime.ofInstant(instant, rules.getOffset(instant));
+  }
+
+  /** Returns an {@link Instant} for the given {@link Timestamp}. */
+  static Instant toInstant(Timestamp timestamp) {
+    return timestamp == null
+        ? null
+        : Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+  }
+
+  /** Returns a {@link LocalDate} for the given {@link Date}. */
+  static LocalDate toLocalDate(Date date) {
+    return date == null
+        ? null
+        : LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
+  }
+
+  /**
+   * Appends the given {@link Date} to the given {@link StringBuilder} in the same format as {@link
+   * Date#toString()}, and returns the {@link StringBuilder}.
+   */
+  static StringBuilder appendDate(StringBuilder builder, Date date) {
+    return appendDate(builder, date.getYear(), date.getMonth(), date.getDayOfMonth());
+  }
+
+  private static StringBuilder appendDate(StringBuilder builder, int year, int month, int day) {
+    appendPadded(builder, year, 4).append('-');
+    appendPadded(builder, month, 2).append('-');
+    return appendPadded(builder, day, 2);
+  }
+
+  /**
+   * Appends the given {@link Timestamp} to the given {@link StringBuilder} in the same RFC 3339
+   * format as {@link Timestamp#toString()}, and returns the {@link StringBuilder}.
+   */
+  static StringBuilder appendTimestamp(StringBuilder builder, Timestamp timestamp) {
+    long seconds = timestamp.getSeconds();
+    LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(seconds, SECONDS_PER_DAY));
+    int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+    appendDate(builder, date.getYear(), date.getMonthValue(), date.getDayOfMonth()).append('T');
+    appendPadded(builder, secondOfDay / 3600, 2).append(':');
+    appendPadded(builder, secondOfDay / 60 % 60, 2).append(':');
+    appendPadded(builder, secondOfDay % 60, 2);
+    if (timestamp.getNanos() != 0) {
+      appendPadded(builder.append('.'), timestamp.getNanos(), 9);
+    }
+    return builder.append('Z');
+  }
+
+  /** Appends the given non-negative value with leading zeros up to the given number of digits. */
+  private static StringBuilder appendPadded(StringBuilder builder, int value, int digits) {
+    for (int limit = 10, remaining = digits - 1; remaining > 0; limit *= 10, remaining--) {
+      if (value < limit) {
+        builder.append('0');
+      }
+    }
+    return builder.append(value);
+  }
+
+  private static final char[] BASE64_ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+  /**
+   * Appends the given {@link ByteArray} to the given {@link StringBuilder} as a Base64 string in
+   * the same format as {@link ByteArray#toBase64()}, and returns the {@link StringBuilder}. The
+   * bytes are read directly from the value, without copying them or creating an intermediate
+   * string.
+   */
+  static StringBuilder appendBase64(StringBuilder builder, ByteArray bytes) {
+    ByteBuffer buffer = bytes.asReadOnlyByteBuffer();
+    builder.ensureCapacity(builder.length() + (buffer.remaining() + 2) / 3 * 4);
+    while (buffer.remaining() >= 3) {
+      int block = (buffer.get() & 0xff) << 16 | (buffer.get() & 0xff) << 8 | buffer.get() & 0xff;
+      builder
+          .append(BASE64_ALPHABET[block >>> 18])
+          .append(BASE64_ALPHABET[block >>> 12 & 0x3f])
+          .append(BASE64_ALPHABET[block >>> 6 & 0x3f])
+          .append(BASE64_ALPHABET[block & 0x3f]);
+    }
+    if (buffer.remaining() == 1) {
+      int block = (buffer.get() & 0xff) << 16;
+      builder
+          .append(BASE64_ALPHABET[block >>> 18])
+          .append(BASE64_ALPHABET[block >>> 12 & 0x3f])
+          .append("==");
+    } else if (buffer.remaining() == 2) {
+      int block = (buffer.get() & 0xff) << 16 | (buffer.get() & 0xff) << 8;
+      builder
+          .append(BASE64_ALPHABET[block >>> 18])
+          .append(BASE64_ALPHABET[block >>> 12 & 0x3f])
+          .append(BASE64_ALPHABET[block >>> 6 & 0x3f])
+          .append('=');
+    }
+    return builder;
+  }
+
+  /**
+   * Calendar that is used to convert dates in the default time zone. The calendar is reused for
+   * each conversion on the same thread, instead of creating a new calendar for each value.
+   */
+  private static final ThreadLocal<Calendar> DEFAULT_CALENDAR =
+      ThreadLocal.withInitial(Calendar::getInstance);
+
   static java.sql.Date toSqlDate(Date date) {
-    return toSqlDate(date, Calendar.getInstance());
+    if (date == null) {
+      return null;
+    }
+    Calendar cal = DEFAULT_CALENDAR.get();
+    cal.setTimeZone(TimeZone.getDefault());
+    cal.clear();
+    return toSqlDate(date, cal);
   }
 
   static java.sql.Date toSqlDate(Date date, Calendar cal) {
@@ -497,7 +860,28 @@ class JdbcTypeConverter {
   }
 
   static java.sql.Timestamp getAsSqlTimestamp(Timestamp ts, Calendar cal) {
-    return ts == null ? null : getTimestampInCalendar(ts.toSqlTimestamp(), cal);
+    if (ts == null) {
+      return null;
+    }
+    java.sql.Timestamp res =
+        new java.sql.Timestamp(getMillisInTimeZone(toEpochMillis(ts), cal.getTimeZone()));
+    res.setNanos(ts.getNanos());
+    return res;
+  }
+
+  /** Returns the epoch milliseconds of the given {@link Timestamp}, rounded down. */
+  private static long toEpochMillis(Timestamp ts) {
+    return ts.getSeconds() * 1000L + ts.getNanos() / 1_000_000;
+  }
+
+  /**
+   * Shifts the given epoch milliseconds by the offset of the given time zone, so the wall clock
+   * time in UTC of the result is equal to the wall clock time in the time zone of the input.
+   */
+  private static long getMillisInTimeZone(long millis, TimeZone timeZone) {
+    // To calculate the offset for DST correctly, we need to add DST savings and check if the
+    // given epoch milli is in daylight savings time.
+    return millis + timeZone.getOffset(millis + timeZone.getRawOffset() + timeZone.getDSTSavings());
   }
 
   static java.sql.Timestamp getTimestampInCalendar(java.sql.Timestamp sqlTs, Calendar cal) {
@@ -516,26 +900,16 @@ class JdbcTypeConverter {
   private static java.sql.Timestamp getOrSetTimestampInCalendar(
       java.sql.Timestamp sqlTs, Calendar cal, GetOrSetTimestampInCalendar getOrSet) {
     if (sqlTs != null) {
-      // Get a calendar in the requested timezone
-      Calendar newCal = Calendar.getInstance(cal.getTimeZone());
-      // set the millisecond time on this calendar from the timestamp
-      newCal.setTimeInMillis(sqlTs.getTime());
-
-      TimeZone timeZone = newCal.getTimeZone();
-      long totalMillis = newCal.getTimeInMillis();
-      // to calculate the offset for DST correctly, we need to add DST savings and check if
-      // given epoch milli is in daylight savings time.
-      if (getOrSet == GetOrSetTimestampInCalendar.GET) {
-        totalMillis += timeZone.getRawOffset() + timeZone.getDSTSavings();
-      }
-
-      // then shift the time of the calendar by the difference between UTC and the timezone of the
-      // given calendar
-      int offset = newCal.getTimeZone().getOffset(totalMillis);
-      newCal.add(
-          Calendar.MILLISECOND, getOrSet == GetOrSetTimestampInCalendar.GET ? offset : -offset);
+      // Shift the time by the difference between UTC and the timezone of the given calendar. The
+      // shift is calculated directly from the time zone, without creating a new calendar.
+      TimeZone timeZone = cal.getTimeZone();
+      long millis = sqlTs.getTime();
+      long shiftedMillis =
+          getOrSet == GetOrSetTimestampInCalendar.GET
+              ? getMillisInTimeZone(millis, timeZone)
+              : millis - timeZone.getOffset(millis);
       // then use that to create a sql timestamp
-      java.sql.Timestamp res = new java.sql.Timestamp(newCal.getTimeInMillis());
+      java.sql.Timestamp res = new java.sql.Timestamp(shiftedMillis);
       // set the nanosecond value that will also set the millisecond value of the timestamp
       // as the nanosecond value contains all fraction of a second information
       res.setNanos(sqlTs.getNanos());
@@ -580,28 +954,34 @@ class JdbcTypeConverter {
     return res;
   }
 
-  @SuppressWarnings("deprecation")
   static Time toSqlTime(Timestamp ts) {
-    if (ts != null) {
-      java.sql.Timestamp sqlTs = toSqlTimestamp(ts);
-      Time time = new Time(sqlTs.getHours(), sqlTs.getMinutes(), sqlTs.getSeconds());
-      time.setTime(
-          time.getTime() + TimeUnit.MILLISECONDS.convert(sqlTs.getNanos(), TimeUnit.NANOSECONDS));
-      return time;
-    }
-    return null;
+    return ts == null ? null : toSqlTime(toEpochMillis(ts), ts.getNanos());
   }
 
-  @SuppressWarnings("deprecation")
   static Time toSqlTime(Timestamp ts, Calendar cal) {
-    if (ts != null) {
-      java.sql.Timestamp sqlTs = getAsSqlTimestamp(ts, cal);
-      Time time = new Time(sqlTs.getHours(), sqlTs.getMinutes(), sqlTs.getSeconds());
-      time.setTime(
-          time.getTime() + TimeUnit.MILLISECONDS.convert(sqlTs.getNanos(), TimeUnit.NANOSECONDS));
-      return time;
-    }
-    return null;
+    return ts == null
+        ? null
+        : toSqlTime(getMillisInTimeZone(toEpochMillis(ts), cal.getTimeZone()), ts.getNanos());
+  }
+
+  /**
+   * Returns a {@link Time} on 1 January 1970 with the wall clock time in the default time zone of
+   * the given epoch milliseconds, and the fraction of a second of the given nanos. This uses the
+   * same {@link TimeZone} offsets as {@link Time#Time(int, int, int)}, but reuses a calendar for
+   * each thread instead of creating intermediate {@link java.sql.Timestamp} and {@link Time}
+   * objects.
+   */
+  private static Time toSqlTime(long millis, int nanos) {
+    Calendar cal = DEFAULT_CALENDAR.get();
+    cal.setTimeZone(TimeZone.getDefault());
+    cal.setTimeInMillis(millis);
+    int hour = cal.get(Calendar.HOUR_OF_DAY);
+    int minute = cal.get(Calendar.MINUTE);
+    int second = cal.get(Calendar.SECOND);
+    cal.clear();
+    cal.set(1970, Calendar.JANUARY, 1, hour, minute, second);
+    return new Time(
+        cal.getTimeInMillis() + TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS));
   }
 
   @SuppressWarnings("deprecation")
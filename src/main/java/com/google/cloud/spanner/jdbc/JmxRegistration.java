@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/** Registers the MBeans of the JDBC driver in the platform MBean server. */
+final class JmxRegistration {
+  private JmxRegistration() {}
+
+  /**
+   * Registers the given object as an MXBean with the given management interface and object name.
+   * Returns false if the MBean could not be registered, for example because a different class
+   * loader has already registered an MBean with the same name. The driver keeps working without the
+   * MBean in that case.
+   */
+  static <T> boolean register(T mbean, Class<T> mbeanInterface, String objectName) {
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(
+              new StandardMBean(mbean, mbeanInterface, /* isMXBean= */ true),
+              new ObjectName(objectName));
+      return true;
+    } catch (JMException | SecurityException ignore) {
+      return false;
+    }
+  }
+}
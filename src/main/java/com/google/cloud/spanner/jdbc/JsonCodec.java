@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.ResultSet;
+
+/**
+ * Service provider interface for decoding JSON and PG_JSONB values into Java objects. Codecs are
+ * discovered with {@link java.util.ServiceLoader}. To register a codec, add the fully qualified
+ * class name of the implementation to a {@code
+ * META-INF/services/com.google.cloud.spanner.jdbc.JsonCodec} file on the classpath. The
+ * implementation must have a public no-argument constructor.
+ *
+ * <p>A codec is used by {@link ResultSet#getObject(int, Class)} when the column contains a JSON or
+ * PG_JSONB value, and the requested type is not one of the types that are supported by the JDBC
+ * driver, such as {@link String}. The first registered codec that can decode the requested type is
+ * used. The codec reads the JSON value from a {@link Reader}, which allows it to decode large
+ * documents incrementally, without first creating a tree representation of the whole document.
+ *
+ * <p>Implementations must be thread-safe, as one codec instance is shared by all connections.
+ */
+public interface JsonCodec {
+
+  /** Returns true if this codec can decode JSON values into instances of the given type. */
+  boolean canDecode(Class<?> type);
+
+  /**
+   * Decodes the JSON value that is read from the given {@link Reader} into an instance of the given
+   * type. The {@link Reader} is closed by the caller.
+   */
+  <T> T decode(Reader reader, Class<T> type) throws IOException;
+}
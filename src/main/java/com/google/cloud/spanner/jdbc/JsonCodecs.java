@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Registry of the {@link JsonCodec}s that have been registered with {@link ServiceLoader}. */
+class JsonCodecs {
+  private static final Logger logger = Logger.getLogger(JsonCodecs.class.getName());
+
+  /** The codecs are loaded the first time that a codec is requested. */
+  private static final class Holder {
+    private static final ImmutableList<JsonCodec> CODECS = load();
+  }
+
+  private JsonCodecs() {}
+
+  private static ImmutableList<JsonCodec> load() {
+    ImmutableList.Builder<JsonCodec> builder = ImmutableList.builder();
+    try {
+      for (JsonCodec codec : ServiceLoader.load(JsonCodec.class)) {
+        builder.add(codec);
+      }
+    } catch (ServiceConfigurationError error) {
+      logger.log(Level.WARNING, "Could not load JSON codecs", error);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the first registered codec that can decode JSON values into the given type, or null if
+   * there is no such codec.
+   */
+  static JsonCodec find(Class<?> type) {
+    for (JsonCodec codec : Holder.CODECS) {
+      if (codec.canDecode(type)) {
+        return codec;
+      }
+    }
+    return null;
+  }
+}
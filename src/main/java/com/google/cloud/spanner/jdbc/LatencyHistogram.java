@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with fixed bucket boundaries that can be read back in-process. The
+ * OpenTelemetry histograms in {@link Metrics} can only be read by an exporter. This histogram is
+ * used for the statistics that are exposed through JMX and client-side SHOW statements, and for the
+ * latency snapshots of a connection.
+ *
+ * <p>The histogram uses the bucket boundaries of the latency metrics. These are in milliseconds,
+ * unless other boundaries are given when the histogram is created. Percentiles are reported as the
+ * upper boundary of the bucket that contains the percentile.
+ */
+class LatencyHistogram {
+  private static final long[] DEFAULT_BUCKET_BOUNDARIES =
+      toArray(Metrics.RPC_MILLIS_BUCKET_BOUNDARIES);
+
+  private final long[] bucketBoundaries;
+
+  private final AtomicLongArray buckets;
+
+  private final LongAdder total = new LongAdder();
+
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+  private final AtomicLong max = new AtomicLong();
+
+  LatencyHistogram() {
+    this(DEFAULT_BUCKET_BOUNDARIES);
+  }
+
+  /** Creates a histogram with the given increasing bucket boundaries. */
+  LatencyHistogram(List<Long> bucketBoundaries) {
+    this(toArray(bucketBoundaries));
+  }
+
+  private LatencyHistogram(long[] bucketBoundaries) {
+    this.bucketBoundaries = bucketBoundaries;
+    this.buckets = new AtomicLongArray(bucketBoundaries.length + 1);
+  }
+
+  private static long[] toArray(List<Long> values) {
+    return values.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /** Records the given latency in the unit of the bucket boundaries. Negative values count as 0. */
+  void record(long latency) {
+    long value = Math.max(0L, latency);
+    int bucket = Arrays.binarySearch(bucketBoundaries, value);
+    buckets.incrementAndGet(bucket < 0 ? -bucket - 1 : bucket);
+    total.add(value);
+    if (value < min.get()) {
+      min.accumulateAndGet(value, Math::min);
+    }
+    if (value > max.get()) {
+      max.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  /** Returns the number of recorded latencies. */
+  long getCount() {
+    long count = 0L;
+    for (int i = 0; i < buckets.length(); i++) {
+      count += buckets.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the upper boundary of the bucket that contains the given percentile, or zero if no
+   * latencies have been recorded. Latencies that are larger than the largest bucket boundary are
+   * reported as the largest boundary.
+   */
+  long getPercentile(double percentile) {
+    long[] counts = new long[buckets.length()];
+    long count = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets.get(i);
+      count += counts[i];
+    }
+    if (count == 0L) {
+      return 0L;
+    }
+    long rank = (long) Math.ceil(percentile * count);
+    long cumulative = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= rank) {
+        return bucketBoundaries[Math.min(i, bucketBoundaries.length - 1)];
+      }
+    }
+    return bucketBoundaries[bucketBoundaries.length - 1];
+  }
+
+  /**
+   * Returns a snapshot of the recorded latencies of a histogram with bucket boundaries in
+   * microseconds. The snapshot is not atomic with respect to concurrent recordings.
+   */
+  LatencySnapshot snapshot() {
+    long[] counts = new long[buckets.length()];
+    long count = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets.get(i);
+      count += counts[i];
+    }
+    long minValue = min.get();
+    return new LatencySnapshot(
+        bucketBoundaries,
+        counts,
+        count,
+        count == 0L || minValue == Long.MAX_VALUE ? 0L : minValue,
+        max.get(),
+        total.sum());
+  }
+
+  /** Removes all recorded latencies. */
+  void reset() {
+    for (int i = 0; i < buckets.length(); i++) {
+      buckets.set(i, 0L);
+    }
+    total.reset();
+    min.set(Long.MAX_VALUE);
+    max.set(0L);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable snapshot of the latencies of one type of operation on a connection. The latencies
+ * are recorded in an in-process histogram in microseconds, which means that percentiles can be read
+ * without an OpenTelemetry backend. The histogram uses the latency bucket boundaries of the
+ * connection, with additional sub-millisecond buckets if the boundaries are in milliseconds. The
+ * count, minimum, maximum and mean are exact. All values are returned in microseconds.
+ *
+ * @see CloudSpannerJdbcConnection#getLatencySnapshots()
+ */
+public final class LatencySnapshot {
+  private final long[] bucketBoundaries;
+  private final long[] counts;
+  private final long count;
+  private final long minMicros;
+  private final long maxMicros;
+  private final long totalMicros;
+
+  LatencySnapshot(
+      long[] bucketBoundaries,
+      long[] counts,
+      long count,
+      long minMicros,
+      long maxMicros,
+      long totalMicros) {
+    this.bucketBoundaries = bucketBoundaries;
+    this.counts = counts;
+    this.count = count;
+    this.minMicros = minMicros;
+    this.maxMicros = maxMicros;
+    this.totalMicros = totalMicros;
+  }
+
+  /** Returns the number of recorded latencies. */
+  public long getCount() {
+    return count;
+  }
+
+  /** Returns the lowest recorded latency in microseconds, or zero if the snapshot is empty. */
+  public long getMinMicros() {
+    return minMicros;
+  }
+
+  /** Returns the highest recorded latency in microseconds, or zero if the snapshot is empty. */
+  public long getMaxMicros() {
+    return maxMicros;
+  }
+
+  /** Returns the mean latency in microseconds, or zero if the snapshot is empty. */
+  public double getMeanMicros() {
+    return count == 0L ? 0.0d : (double) totalMicros / count;
+  }
+
+  /**
+   * Returns the latency in microseconds at the given percentile, or zero if the snapshot is empty.
+   * The returned value is the upper boundary of the bucket that contains the percentile, and is
+   * never higher than the highest recorded latency.
+   *
+   * @param percentile the percentile to return, between 0.0 and 100.0 (inclusive)
+   */
+  public long getValueAtPercentile(double percentile) {
+    Preconditions.checkArgument(
+        percentile >= 0.0d && percentile <= 100.0d, "percentile must be between 0 and 100");
+    if (count == 0L) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0d * count));
+    long cumulative = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= rank) {
+        return i < bucketBoundaries.length ? Math.min(bucketBoundaries[i], maxMicros) : maxMicros;
+      }
+    }
+    return maxMicros;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d, min=%dus, p50=%dus, p90=%dus, p99=%dus, p99.9=%dus, max=%dus",
+        count,
+        minMicros,
+        getValueAtPercentile(50.0d),
+        getValueAtPercentile(90.0d),
+        getValueAtPercentile(99.0d),
+        getValueAtPercentile(99.9d),
+        maxMicros);
+  }
+}
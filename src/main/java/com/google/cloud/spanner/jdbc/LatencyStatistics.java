@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.beans.ConstructorProperties;
+
+/** Latency statistics of one type of operation. See {@link JdbcConnectionsMXBean}. */
+public final class LatencyStatistics {
+  private final String operation;
+  private final long count;
+  private final long p50LatencyMillis;
+  private final long p99LatencyMillis;
+
+  @ConstructorProperties({"operation", "count", "p50LatencyMillis", "p99LatencyMillis"})
+  public LatencyStatistics(
+      String operation, long count, long p50LatencyMillis, long p99LatencyMillis) {
+    this.operation = operation;
+    this.count = count;
+    this.p50LatencyMillis = p50LatencyMillis;
+    this.p99LatencyMillis = p99LatencyMillis;
+  }
+
+  /** The type of operation, for example 'query', 'update' or 'commit'. */
+  public String getOperation() {
+    return operation;
+  }
+
+  /** The number of operations that have been executed. */
+  public long getCount() {
+    return count;
+  }
+
+  /** The median latency in milliseconds. */
+  public long getP50LatencyMillis() {
+    return p50LatencyMillis;
+  }
+
+  /** The 99th percentile latency in milliseconds. */
+  public long getP99LatencyMillis() {
+    return p99LatencyMillis;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s (count: %d, p50: %dms, p99: %dms)",
+        operation, count, p50LatencyMillis, p99LatencyMillis);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+import java.sql.SQLException;
+
+/**
+ * Proto message value from a {@link CloudSpannerJdbcResultSet} that is parsed the first time that
+ * it is accessed. The serialized message is kept in memory until then. The bytes fields of the
+ * parsed message share the serialized bytes instead of creating a copy. String fields are decoded
+ * into new {@link String}s.
+ *
+ * @see CloudSpannerJdbcResultSet#getLazyProtoMessage(int, Class)
+ */
+public final class LazyProtoMessage<T extends AbstractMessage> {
+  private final Class<T> messageClass;
+  private final Parser<?> parser;
+  private final byte[] bytes;
+  private volatile T message;
+
+  LazyProtoMessage(Class<T> messageClass, Parser<?> parser, byte[] bytes) {
+    this.messageClass = Preconditions.checkNotNull(messageClass);
+    this.parser = Preconditions.checkNotNull(parser);
+    this.bytes = Preconditions.checkNotNull(bytes);
+  }
+
+  /** Returns the class of the proto message. */
+  public Class<T> getMessageClass() {
+    return messageClass;
+  }
+
+  /** Returns the serialized message. This method does not parse or copy the message. */
+  public ByteString getBytes() {
+    return UnsafeByteOperations.unsafeWrap(bytes);
+  }
+
+  /** Returns true if the message has already been parsed. */
+  public boolean isParsed() {
+    return message != null;
+  }
+
+  /**
+   * Returns the proto message. The message is parsed the first time that this method is called, and
+   * the same instance is returned for all subsequent calls.
+   */
+  public T get() throws SQLException {
+    T result = message;
+    if (result == null) {
+      synchronized (this) {
+        result = message;
+        if (result == null) {
+          result = JdbcTypeConverter.parseProtoMessageAliased(messageClass, parser, bytes);
+          message = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return messageClass.getName() + "(" + bytes.length + " bytes)";
+  }
+}
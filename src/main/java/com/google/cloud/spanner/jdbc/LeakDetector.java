@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Detects JDBC statements and result sets that are garbage collected without having been closed.
+ * Each tracked resource is registered with a {@link PhantomReference} that is removed when the
+ * resource is closed. A reference that is enqueued by the garbage collector therefore belongs to a
+ * resource that was never closed. Leaks are reported through the {@code
+ * spanner/jdbc/leaked_resources} metric and are logged as a warning.
+ *
+ * <p>The cost of tracking a resource is one reference object and one insert and remove in a
+ * concurrent set. Capturing the stack trace of the location where a resource was created is more
+ * expensive, and is therefore only done for a sample of the resources. The sampling rate can be set
+ * with the system property {@code spanner.jdbc.leak_detection_stack_trace_sampling_rate}.
+ *
+ * <p>The open statements and result sets that are counted by the connection of a leaked resource
+ * are always decremented when the leak is detected. The underlying Spanner result set of a leaked
+ * result set is only closed if the system property {@code
+ * spanner.jdbc.leak_detection_close_leaked_resources} is set to true.
+ */
+class LeakDetector {
+  private static final Logger logger = Logger.getLogger(LeakDetector.class.getName());
+
+  static final double DEFAULT_STACK_TRACE_SAMPLING_RATE = 0.01d;
+
+  /** The type of resource that is tracked. This is added as an attribute to the leak metric. */
+  enum ResourceType {
+    STATEMENT,
+    PREPARED_STATEMENT,
+    RESULT_SET;
+
+    private final String attributeValue = name().toLowerCase(Locale.ENGLISH);
+
+    String getAttributeValue() {
+      return attributeValue;
+    }
+
+    String getDescription() {
+      return attributeValue.replace('_', ' ');
+    }
+  }
+
+  /** Exception that is only used to capture the stack trace of the creation of a resource. */
+  static final class AllocationSite extends Throwable {
+    private AllocationSite(ResourceType type) {
+      super("The leaked " + type.getDescription() + " was created here");
+    }
+  }
+
+  /**
+   * Reference to a tracked resource. The reference does not prevent the resource from being garbage
+   * collected, and holds all the information that is needed to report and clean up the resource
+   * after it has been collected.
+   */
+  static final class TrackedResource extends PhantomReference<Object> {
+    private final LeakDetector detector;
+    private final ResourceType type;
+    private final JdbcConnection connection;
+    private final AllocationSite allocationSite;
+    private final Runnable releaseAction;
+    private final Runnable closeAction;
+
+    private TrackedResource(
+        LeakDetector detector,
+        Object resource,
+        ResourceType type,
+        JdbcConnection connection,
+        AllocationSite allocationSite,
+        Runnable releaseAction,
+        Runnable closeAction) {
+      super(resource, detector.queue);
+      this.detector = detector;
+      this.type = type;
+      this.connection = connection;
+      this.allocationSite = allocationSite;
+      this.releaseAction = releaseAction;
+      this.closeAction = closeAction;
+    }
+
+    ResourceType getType() {
+      return type;
+    }
+
+    AllocationSite getAllocationSite() {
+      return allocationSite;
+    }
+
+    /** Marks the resource as closed. This must be called when the resource is closed. */
+    void close() {
+      if (detector.trackedResources.remove(this)) {
+        clear();
+      }
+    }
+  }
+
+  private static final class Holder {
+    private static final LeakDetector INSTANCE = createAndStart();
+
+    private static LeakDetector createAndStart() {
+      LeakDetector detector =
+          new LeakDetector(stackTraceSamplingRate(), closeLeakedResources());
+      Thread thread = new Thread(detector::run, "spanner-jdbc-leak-detector");
+      thread.setDaemon(true);
+      thread.start();
+      return detector;
+    }
+  }
+
+  static LeakDetector getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private final double stackTraceSamplingRate;
+  private final boolean closeLeakedResources;
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+  /** Holds on to the references of all resources that have not been closed or collected. */
+  private final Set<TrackedResource> trackedResources = ConcurrentHashMap.newKeySet();
+
+  private final AtomicLong leakCount = new AtomicLong();
+
+  @VisibleForTesting
+  LeakDetector(double stackTraceSamplingRate, boolean closeLeakedResources) {
+    Preconditions.checkArgument(
+        stackTraceSamplingRate >= 0.0d && stackTraceSamplingRate <= 1.0d,
+        "stackTraceSamplingRate must be between 0.0 and 1.0");
+    this.stackTraceSamplingRate = stackTraceSamplingRate;
+    this.closeLeakedResources = closeLeakedResources;
+  }
+
+  static double stackTraceSamplingRate() {
+    String value =
+        JdbcConfig.getConfigValue("spanner.jdbc.leak_detection_stack_trace_sampling_rate");
+    if (!Strings.isNullOrEmpty(value)) {
+      try {
+        double rate = Double.parseDouble(value);
+        if (rate >= 0.0d && rate <= 1.0d) {
+          return rate;
+        }
+      } catch (NumberFormatException ignore) {
+        // Fall through to the default.
+      }
+    }
+    return DEFAULT_STACK_TRACE_SAMPLING_RATE;
+  }
+
+  static boolean closeLeakedResources() {
+    return Boolean.parseBoolean(
+        JdbcConfig.getConfigValue("spanner.jdbc.leak_detection_close_leaked_resources"));
+  }
+
+  /**
+   * Starts tracking the given resource. The returned reference must be closed when the resource is
+   * closed. The release action is always executed if the resource is collected without having been
+   * closed, and should update the bookkeeping of open resources. The close action is only executed
+   * if the detector has also been configured to close leaked resources. The actions must not
+   * reference the resource itself, as that would prevent the resource from being collected.
+   */
+  TrackedResource track(
+      Object resource,
+      ResourceType type,
+      JdbcConnection connection,
+      Runnable releaseAction,
+      Runnable closeAction) {
+    AllocationSite allocationSite = null;
+    double rate = stackTraceSamplingRate;
+    if (rate >= 1.0d || (rate > 0.0d && ThreadLocalRandom.current().nextDouble() < rate)) {
+      allocationSite = new AllocationSite(type);
+    }
+    TrackedResource trackedResource =
+        new TrackedResource(
+            this, resource, type, connection, allocationSite, releaseAction, closeAction);
+    trackedResources.add(trackedResource);
+    return trackedResource;
+  }
+
+  /** Returns the number of resources that are tracked and that have not been closed. */
+  int getTrackedResourceCount() {
+    return trackedResources.size();
+  }
+
+  /** Returns the number of leaked resources that have been detected by this detector. */
+  long getLeakCount() {
+    return leakCount.get();
+  }
+
+  private void run() {
+    while (true) {
+      try {
+        processLeak(queue.remove());
+      } catch (InterruptedException interruptedException) {
+        return;
+      } catch (RuntimeException exception) {
+        logger.log(Level.FINE, "Failed to process a leaked JDBC resource", exception);
+      }
+    }
+  }
+
+  /**
+   * Waits for at most the given number of milliseconds for a leaked resource, and processes it if
+   * one was found. Returns true if a leaked resource was processed.
+   */
+  @VisibleForTesting
+  boolean processNextLeak(long timeoutMillis) throws InterruptedException {
+    Reference<?> reference = queue.remove(timeoutMillis);
+    return reference != null && processLeak(reference);
+  }
+
+  private boolean processLeak(Reference<?> reference) {
+    TrackedResource trackedResource = (TrackedResource) reference;
+    // The resource could have been closed after it was enqueued.
+    if (!trackedResources.remove(trackedResource)) {
+      return false;
+    }
+    trackedResource.clear();
+    leakCount.incrementAndGet();
+    ResourceType type = trackedResource.type;
+    trackedResource.connection.recordLeakedResourceMetric(type);
+    if (trackedResource.releaseAction != null) {
+      try {
+        trackedResource.releaseAction.run();
+      } catch (RuntimeException exception) {
+        logger.log(
+            Level.FINE, "Failed to release a leaked JDBC " + type.getDescription(), exception);
+      }
+    }
+    if (logger.isLoggable(Level.WARNING)) {
+      String message =
+          String.format(
+              "A JDBC %s on database %s was garbage collected without being closed. "
+                  + "Always close statements and result sets, for example by using "
+                  + "try-with-resources.%s",
+              type.getDescription(),
+              trackedResource.connection.getDatabaseName(),
+              trackedResource.allocationSite == null
+                  ? " Set the system property"
+                      + " spanner.jdbc.leak_detection_stack_trace_sampling_rate to 1.0"
+                      + " to log where leaked resources are created."
+                  : "");
+      logger.log(Level.WARNING, message, trackedResource.allocationSite);
+    }
+    if (closeLeakedResources && trackedResource.closeAction != null) {
+      try {
+        trackedResource.closeAction.run();
+      } catch (RuntimeException exception) {
+        logger.log(Level.FINE, "Failed to close a leaked JDBC " + type.getDescription(), exception);
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.jdbc.AutoBatchDmlFlushPolicy.FlushReason;
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
+import com.google.cloud.spanner.jdbc.Metrics.CloseReason;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
+import com.google.common.base.Strings;
+import io.opentelemetry.api.common.Attributes;
+import java.util.EnumMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * Precomputed OpenTelemetry {@link Attributes} for the metrics of a connection. Creating {@link
+ * Attributes} requires allocating and sorting a new attribute set. This class creates all
+ * combinations of the connection attributes and the operation type, result set close reason,
+ * automatic DML batch flush reason and leaked resource type once, so recording a metric does not
+ * need to allocate any new objects.
+ *
+ * <p>Attributes that include a statement tag are created the first time that a statement tag is
+ * used. The number of distinct statement tags that is added as an attribute is limited to {@link
+ * #MAX_STATEMENT_TAGS} to prevent unbounded cardinality of the metrics. All other statement tags
+ * are recorded as {@link #OTHER_STATEMENT_TAG}.
+ */
+class MetricAttributes {
+  static final int MAX_STATEMENT_TAGS = 100;
+  static final String OTHER_STATEMENT_TAG = "__other__";
+
+  private final Attributes attributes;
+  private final EnumMap<Operation, Attributes> operationAttributes;
+  private final EnumMap<Operation, Attributes> otherStatementTagAttributes;
+  private final EnumMap<CloseReason, Attributes> closeReasonAttributes;
+  private final EnumMap<FlushReason, Attributes> flushReasonAttributes;
+  private final EnumMap<ResourceType, Attributes> resourceTypeAttributes;
+  private final ConcurrentMap<String, EnumMap<Operation, Attributes>> statementTagAttributes =
+      new ConcurrentHashMap<>();
+
+  MetricAttributes(Attributes attributes) {
+    this.attributes = attributes;
+    this.operationAttributes = createOperationAttributes(attributes, null);
+    this.otherStatementTagAttributes = createOperationAttributes(attributes, OTHER_STATEMENT_TAG);
+    this.closeReasonAttributes = new EnumMap<>(CloseReason.class);
+    for (CloseReason reason : CloseReason.values()) {
+      closeReasonAttributes.put(
+          reason,
+          attributes.toBuilder().put(Metrics.CLOSE_REASON_KEY, reason.getAttributeValue()).build());
+    }
+    this.flushReasonAttributes = new EnumMap<>(FlushReason.class);
+    for (FlushReason reason : FlushReason.values()) {
+      flushReasonAttributes.put(
+          reason,
+          attributes.toBuilder().put(Metrics.FLUSH_REASON_KEY, reason.getAttributeValue()).build());
+    }
+    this.resourceTypeAttributes = new EnumMap<>(ResourceType.class);
+    for (ResourceType type : ResourceType.values()) {
+      resourceTypeAttributes.put(
+          type,
+          attributes.toBuilder().put(Metrics.RESOURCE_TYPE_KEY, type.getAttributeValue()).build());
+    }
+  }
+
+  private static EnumMap<Operation, Attributes> createOperationAttributes(
+      Attributes attributes, @Nullable String statementTag) {
+    EnumMap<Operation, Attributes> result = new EnumMap<>(Operation.class);
+    for (Operation operation : Operation.values()) {
+      if (statementTag == null) {
+        result.put(
+            operation,
+            attributes.toBuilder()
+                .put(Metrics.OPERATION_KEY, operation.getAttributeValue())
+                .build());
+      } else {
+        result.put(
+            operation,
+            attributes.toBuilder()
+                .put(Metrics.OPERATION_KEY, operation.getAttributeValue())
+                .put(Metrics.STATEMENT_TAG_KEY, statementTag)
+                .build());
+      }
+    }
+    return result;
+  }
+
+  /** Returns the attributes of the connection. */
+  Attributes get() {
+    return attributes;
+  }
+
+  /** Returns the attributes of the connection and the given operation. */
+  Attributes get(Operation operation) {
+    return operationAttributes.get(operation);
+  }
+
+  /** Returns the attributes of the connection and the given result set close reason. */
+  Attributes get(CloseReason reason) {
+    return closeReasonAttributes.get(reason);
+  }
+
+  /** Returns the attributes of the connection and the given automatic DML batch flush reason. */
+  Attributes get(FlushReason reason) {
+    return flushReasonAttributes.get(reason);
+  }
+
+  /** Returns the attributes of the connection and the given type of leaked resource. */
+  Attributes get(ResourceType type) {
+    return resourceTypeAttributes.get(type);
+  }
+
+  /**
+   * Returns the attributes of the connection, the given operation and the given statement tag. The
+   * statement tag is not included if it is null or empty.
+   */
+  Attributes get(Operation operation, @Nullable String statementTag) {
+    if (Strings.isNullOrEmpty(statementTag)) {
+      return get(operation);
+    }
+    EnumMap<Operation, Attributes> tagAttributes = statementTagAttributes.get(statementTag);
+    if (tagAttributes == null) {
+      if (statementTagAttributes.size() >= MAX_STATEMENT_TAGS) {
+        tagAttributes = otherStatementTagAttributes;
+      } else {
+        tagAttributes =
+            statementTagAttributes.computeIfAbsent(
+                statementTag, tag -> createOperationAttributes(attributes, tag));
+      }
+    }
+    return tagAttributes.get(operation);
+  }
+}
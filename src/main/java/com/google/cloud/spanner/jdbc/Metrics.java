@@ -15,39 +15,687 @@
  */
 package com.google.cloud.spanner.jdbc;
 
+import com.google.cloud.spanner.connection.StatementResult;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.context.Context;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 class Metrics {
+  /**
+   * The unit of the latency histograms. All latencies are measured with nanosecond precision and
+   * converted to this unit when they are recorded.
+   */
+  enum LatencyUnit {
+    MILLISECONDS("ms", TimeUnit.MILLISECONDS),
+    MICROSECONDS("us", TimeUnit.MICROSECONDS);
+
+    private final String unit;
+    private final TimeUnit timeUnit;
+
+    LatencyUnit(String unit, TimeUnit timeUnit) {
+      this.unit = unit;
+      this.timeUnit = timeUnit;
+    }
+
+    String getUnit() {
+      return unit;
+    }
+
+    long fromNanos(long nanos) {
+      return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Returns the unit with the given symbol, or null if there is no such unit. */
+    static LatencyUnit of(String unit) {
+      for (LatencyUnit latencyUnit : values()) {
+        if (latencyUnit.unit.equalsIgnoreCase(unit)) {
+          return latencyUnit;
+        }
+      }
+      return null;
+    }
+  }
+
+  /** The type of operation that is added as an attribute to the operation metrics. */
+  enum Operation {
+    QUERY,
+    UPDATE,
+    DDL,
+    BATCH_DML,
+    BATCH_DDL,
+    BATCH_WRITE,
+    COMMIT,
+    ROLLBACK,
+    CLIENT_SIDE;
+
+    private final String attributeValue = name().toLowerCase(Locale.ENGLISH);
+
+    String getAttributeValue() {
+      return attributeValue;
+    }
+
+    /** Returns true if this operation is a client-side statement. */
+    boolean isClientSide() {
+      return this == COMMIT || this == ROLLBACK || this == CLIENT_SIDE;
+    }
+
+    /** Returns the operation type of a statement that returned the given result. */
+    static Operation of(StatementResult result) {
+      if (result.getClientSideStatementType() != null) {
+        switch (result.getClientSideStatementType()) {
+          case COMMIT:
+            return COMMIT;
+          case ROLLBACK:
+            return ROLLBACK;
+          default:
+            return CLIENT_SIDE;
+        }
+      }
+      switch (result.getResultType()) {
+        case RESULT_SET:
+          return QUERY;
+        case UPDATE_COUNT:
+          return UPDATE;
+        case NO_RESULT:
+        default:
+          return DDL;
+      }
+    }
+  }
+
+  /** The reason that a result set stopped returning rows. */
+  enum CloseReason {
+    /** All rows in the result set were returned. */
+    EXHAUSTED,
+    /** The result set was closed before all rows were returned. */
+    CLOSED_EARLY,
+    /** The result set failed with an error while returning rows. */
+    ERROR;
+
+    private final String attributeValue = name().toLowerCase(Locale.ENGLISH);
+
+    String getAttributeValue() {
+      return attributeValue;
+    }
+  }
+
+  static final AttributeKey<String> OPERATION_KEY = AttributeKey.stringKey("operation");
+  static final AttributeKey<String> STATEMENT_TAG_KEY = AttributeKey.stringKey("statement_tag");
+  static final AttributeKey<String> CLOSE_REASON_KEY = AttributeKey.stringKey("close_reason");
+  static final AttributeKey<String> RESOURCE_TYPE_KEY = AttributeKey.stringKey("resource_type");
+  static final AttributeKey<String> FLUSH_REASON_KEY = AttributeKey.stringKey("flush_reason");
+  static final AttributeKey<String> RETRY_RESULT_KEY = AttributeKey.stringKey("result");
+
   static final String INSTRUMENTATION_SCOPE = "cloud.google.com/java";
   static final String SPANNER_CLIENT_LIB_LATENCY = "spanner/jdbc/client_lib_latencies";
   static final String SPANNER_CLIENT_LIB_LATENCY_DESCRIPTION =
       "Latency when the client library receives a call and returns a response";
 
+  static final String AUTO_BATCH_DML_FLUSH_SIZE = "spanner/jdbc/auto_batch_dml_flush_sizes";
+  static final String AUTO_BATCH_DML_FLUSH_SIZE_DESCRIPTION =
+      "Number of statements in an automatic DML batch that was flushed";
+  static final String AUTO_BATCH_DML_FLUSH_LATENCY = "spanner/jdbc/auto_batch_dml_flush_latencies";
+  static final String AUTO_BATCH_DML_FLUSH_LATENCY_DESCRIPTION =
+      "Latency of flushing an automatic DML batch";
+
+  static final String OPERATION_LATENCY = "spanner/jdbc/operation_latencies";
+  static final String OPERATION_LATENCY_DESCRIPTION =
+      "Latency of JDBC operations per operation type";
+  static final String BATCH_SIZE = "spanner/jdbc/batch_sizes";
+  static final String BATCH_SIZE_DESCRIPTION = "Number of statements or mutation groups in a batch";
+  static final String ABORTED_OPERATIONS = "spanner/jdbc/aborted_operations";
+  static final String ABORTED_OPERATIONS_DESCRIPTION =
+      "Number of operations that failed because the transaction was aborted";
+  static final String RESULT_SET_ROWS = "spanner/jdbc/result_set_rows";
+  static final String RESULT_SET_ROWS_DESCRIPTION =
+      "Number of rows that were returned by a result set";
+  static final String RESULT_SET_DECODED_COLUMNS = "spanner/jdbc/result_set_decoded_columns";
+  static final String RESULT_SET_DECODED_COLUMNS_DESCRIPTION =
+      "Percentage of the available column values of a result set that were read by the application";
+  static final String RESULT_SET_FIRST_ROW_LATENCY = "spanner/jdbc/result_set_first_row_latencies";
+  static final String RESULT_SET_FIRST_ROW_LATENCY_DESCRIPTION =
+      "Time between the creation of a result set and the first row being returned";
+  static final String RESULT_SET_CONSUMPTION_LATENCY =
+      "spanner/jdbc/result_set_consumption_latencies";
+  static final String RESULT_SET_CONSUMPTION_LATENCY_DESCRIPTION =
+      "Time between the creation of a result set and the result set being consumed or closed";
+  static final String OPEN_STATEMENTS = "spanner/jdbc/open_statements";
+  static final String OPEN_STATEMENTS_DESCRIPTION = "Number of open JDBC statements";
+  static final String OPEN_RESULT_SETS = "spanner/jdbc/open_result_sets";
+  static final String OPEN_RESULT_SETS_DESCRIPTION = "Number of open JDBC result sets";
+  static final String LEAKED_RESOURCES = "spanner/jdbc/leaked_resources";
+  static final String LEAKED_RESOURCES_DESCRIPTION =
+      "Number of JDBC statements and result sets that were garbage collected without being closed";
+
+  static final String TRANSACTION_RETRY_LATENCY = "spanner/jdbc/transaction_retry_latencies";
+  static final String TRANSACTION_RETRY_LATENCY_DESCRIPTION =
+      "Latency of internal retries of aborted read/write transactions";
+  static final String TRANSACTION_RETRY_STATEMENTS = "spanner/jdbc/transaction_retry_statements";
+  static final String TRANSACTION_RETRY_STATEMENTS_DESCRIPTION =
+      "Number of statements that were replayed by an internal transaction retry";
+  static final String TRANSACTION_RETRY_ROWS = "spanner/jdbc/transaction_retry_rows";
+  static final String TRANSACTION_RETRY_ROWS_DESCRIPTION =
+      "Number of rows that were read by the transaction before it was retried";
+
+  static final List<Long> RPC_MILLIS_BUCKET_BOUNDARIES =
+      Arrays.asList(
+          1L, 2L, 3L, 4L, 5L, 6L, 8L, 10L, 13L, 16L, 20L, 25L, 30L, 40L, 50L, 65L, 80L, 100L, 130L,
+          160L, 200L, 250L, 300L, 400L, 500L, 650L, 800L, 1000L, 2000L, 5000L, 10000L, 20000L,
+          50000L, 100000L);
+
+  static final List<Long> BATCH_SIZE_BUCKET_BOUNDARIES =
+      Arrays.asList(
+          1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L, 2000L, 5000L, 10000L, 20000L);
+
+  static final List<Long> ROW_COUNT_BUCKET_BOUNDARIES =
+      Arrays.asList(1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L);
+
+  static final List<Long> PERCENTAGE_BUCKET_BOUNDARIES =
+      Arrays.asList(1L, 5L, 10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+
+  /** The additional bucket boundaries in microseconds below one millisecond. */
+  private static final List<Long> SUB_MILLISECOND_BUCKET_BOUNDARIES =
+      Arrays.asList(10L, 25L, 50L, 100L, 250L, 500L);
+
+  /**
+   * The default bucket boundaries of the latency histograms when these are recorded in
+   * microseconds. These are the millisecond boundaries with additional sub-millisecond buckets.
+   */
+  static final List<Long> RPC_MICROS_BUCKET_BOUNDARIES =
+      toMicrosBucketBoundaries(RPC_MILLIS_BUCKET_BOUNDARIES);
+
+  /**
+   * Converts the given bucket boundaries in milliseconds to microseconds, and adds the
+   * sub-millisecond boundaries that are lower than the first boundary.
+   */
+  @VisibleForTesting
+  static List<Long> toMicrosBucketBoundaries(List<Long> millisBoundaries) {
+    long first = TimeUnit.MILLISECONDS.toMicros(millisBoundaries.get(0));
+    ImmutableList.Builder<Long> builder = ImmutableList.builder();
+    for (long boundary : SUB_MILLISECOND_BUCKET_BOUNDARIES) {
+      if (boundary < first) {
+        builder.add(boundary);
+      }
+    }
+    for (long boundary : millisBoundaries) {
+      builder.add(TimeUnit.MILLISECONDS.toMicros(boundary));
+    }
+    return builder.build();
+  }
+
+  /**
+   * The unit and the bucket boundaries of the latency histograms of a connection. These are set
+   * with the connection properties {@code latencyHistogramUnit} and {@code
+   * latencyHistogramBoundaries}.
+   *
+   * <p>Connections that use the same OpenTelemetry instance should use the same options. The
+   * latency histograms of these connections are recorded by the same instruments, and the bucket
+   * boundaries of an instrument are defined by the first connection that creates it. Exponential
+   * histograms can be used by registering a view with a base-2 exponential bucket histogram
+   * aggregation for the latency instruments in the OpenTelemetry SDK.
+   */
+  static final class LatencyOptions {
+    static final LatencyOptions DEFAULT =
+        new LatencyOptions(LatencyUnit.MILLISECONDS, RPC_MILLIS_BUCKET_BOUNDARIES);
+
+    private final LatencyUnit unit;
+    private final List<Long> bucketBoundaries;
+
+    LatencyOptions(LatencyUnit unit, List<Long> bucketBoundaries) {
+      this.unit = Preconditions.checkNotNull(unit);
+      this.bucketBoundaries = ImmutableList.copyOf(bucketBoundaries);
+      Preconditions.checkArgument(!this.bucketBoundaries.isEmpty(), "No bucket boundaries");
+    }
+
+    /**
+     * Returns the latency histogram settings in the given connection properties. The unit is either
+     * 'ms' (default) or 'us'. The boundaries are a comma-separated list of increasing values in
+     * that unit. Throws an {@link IllegalArgumentException} if one of the properties has an invalid
+     * value.
+     */
+    static LatencyOptions fromProperties(Properties properties) {
+      String unitValue = properties.getProperty(JdbcDriver.LATENCY_HISTOGRAM_UNIT);
+      LatencyUnit unit = LatencyUnit.MILLISECONDS;
+      if (!Strings.isNullOrEmpty(unitValue)) {
+        unit = LatencyUnit.of(unitValue.trim());
+        Preconditions.checkArgument(
+            unit != null, "Invalid value for %s: %s", JdbcDriver.LATENCY_HISTOGRAM_UNIT, unitValue);
+      }
+      String boundaries = properties.getProperty(JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES);
+      if (Strings.isNullOrEmpty(boundaries)) {
+        return unit == LatencyUnit.MICROSECONDS
+            ? new LatencyOptions(unit, RPC_MICROS_BUCKET_BOUNDARIES)
+            : DEFAULT;
+      }
+      return new LatencyOptions(unit, parseBucketBoundaries(boundaries));
+    }
+
+    /** Parses a comma-separated list of non-negative and increasing bucket boundaries. */
+    @VisibleForTesting
+    static List<Long> parseBucketBoundaries(String value) {
+      List<Long> boundaries = new ArrayList<>();
+      try {
+        for (String boundary : Splitter.on(',').trimResults().omitEmptyStrings().split(value)) {
+          long parsed = Long.parseLong(boundary);
+          Preconditions.checkArgument(
+              parsed >= 0L
+                  && (boundaries.isEmpty() || parsed > boundaries.get(boundaries.size() - 1)),
+              "Boundaries must be non-negative and increasing");
+          boundaries.add(parsed);
+        }
+        Preconditions.checkArgument(!boundaries.isEmpty(), "No boundaries");
+      } catch (IllegalArgumentException exception) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Invalid value for %s: %s (%s)",
+                JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES, value, exception.getMessage()),
+            exception);
+      }
+      return boundaries;
+    }
+
+    LatencyUnit getUnit() {
+      return unit;
+    }
+
+    List<Long> getBucketBoundaries() {
+      return bucketBoundaries;
+    }
+
+    /**
+     * Returns the bucket boundaries in microseconds. These are used for the in-process latency
+     * snapshots of a connection, which always have sub-millisecond buckets.
+     */
+    List<Long> getMicrosBucketBoundaries() {
+      return unit == LatencyUnit.MICROSECONDS
+          ? bucketBoundaries
+          : toMicrosBucketBoundaries(bucketBoundaries);
+    }
+  }
+
+  /** The unit of the latency histograms of these metrics. */
+  private final LatencyUnit latencyUnit;
+
   private final LongHistogram spannerClientLibLatencies;
 
-  Metrics(OpenTelemetry openTelemetry) {
+  private final LongHistogram autoBatchDmlFlushSizes;
+
+  private final LongHistogram autoBatchDmlFlushLatencies;
+
+  private final LongHistogram transactionRetryLatencies;
+
+  private final LongHistogram transactionRetryStatements;
+
+  private final LongHistogram transactionRetryRows;
+
+  private final LongHistogram operationLatencies;
+
+  private final LongHistogram batchSizes;
+
+  private final LongCounter abortedOperations;
+
+  private final LongHistogram resultSetRows;
+
+  private final LongHistogram resultSetDecodedColumns;
+
+  private final LongHistogram resultSetFirstRowLatencies;
+
+  private final LongHistogram resultSetConsumptionLatencies;
+
+  private final LongUpDownCounter openStatements;
+
+  private final LongUpDownCounter openResultSets;
+
+  private final LongCounter leakedResources;
+
+  /** The same metrics in the in-memory registry that is served by {@link OpenMetricsEndpoint}. */
+  private final OpenMetricsRegistry.Histogram clientLibLatencySeries;
+
+  private final OpenMetricsRegistry.Histogram autoBatchDmlFlushSizeSeries;
+
+  private final OpenMetricsRegistry.Histogram autoBatchDmlFlushLatencySeries;
+
+  private final OpenMetricsRegistry.Histogram transactionRetryLatencySeries;
+
+  private final OpenMetricsRegistry.Histogram transactionRetryStatementSeries;
+
+  private final OpenMetricsRegistry.Histogram transactionRetryRowSeries;
+
+  private final OpenMetricsRegistry.Histogram operationLatencySeries;
+
+  private final OpenMetricsRegistry.Histogram batchSizeSeries;
+
+  private final OpenMetricsRegistry.Counter abortedOperationSeries;
+
+  private final OpenMetricsRegistry.Histogram resultSetRowSeries;
+
+  private final OpenMetricsRegistry.Histogram resultSetDecodedColumnSeries;
+
+  private final OpenMetricsRegistry.Histogram resultSetFirstRowLatencySeries;
+
+  private final OpenMetricsRegistry.Histogram resultSetConsumptionLatencySeries;
+
+  private final OpenMetricsRegistry.Counter leakedResourceSeries;
+
+  /** Whether the meter provider of the OpenTelemetry instance of these metrics is not a no-op. */
+  private final boolean openTelemetryEnabled;
+
+  private final OpenMetricsRegistry registry;
+
+  Metrics(OpenTelemetry openTelemetry, LatencyOptions latencyOptions) {
+    this(openTelemetry, OpenMetricsRegistry.getInstance(), latencyOptions);
+  }
+
+  Metrics(
+      OpenTelemetry openTelemetry, OpenMetricsRegistry registry, LatencyOptions latencyOptions) {
+    this.openTelemetryEnabled = openTelemetry.getMeterProvider() != MeterProvider.noop();
+    this.registry = registry;
+    this.latencyUnit = latencyOptions.getUnit();
+    String latencyUnitName = latencyUnit.getUnit();
+    List<Long> latencyBoundaries = latencyOptions.getBucketBoundaries();
     Meter meter = openTelemetry.getMeter(INSTRUMENTATION_SCOPE);
-    List<Long> RPC_MILLIS_BUCKET_BOUNDARIES =
-        Arrays.asList(
-            1L, 2L, 3L, 4L, 5L, 6L, 8L, 10L, 13L, 16L, 20L, 25L, 30L, 40L, 50L, 65L, 80L, 100L,
-            130L, 160L, 200L, 250L, 300L, 400L, 500L, 650L, 800L, 1000L, 2000L, 5000L, 10000L,
-            20000L, 50000L, 100000L);
     spannerClientLibLatencies =
         meter
             .histogramBuilder(SPANNER_CLIENT_LIB_LATENCY)
             .ofLongs()
             .setDescription(SPANNER_CLIENT_LIB_LATENCY_DESCRIPTION)
-            .setUnit("ms")
-            .setExplicitBucketBoundariesAdvice(RPC_MILLIS_BUCKET_BOUNDARIES)
+            .setUnit(latencyUnitName)
+            .setExplicitBucketBoundariesAdvice(latencyBoundaries)
+            .build();
+    autoBatchDmlFlushSizes =
+        meter
+            .histogramBuilder(AUTO_BATCH_DML_FLUSH_SIZE)
+            .ofLongs()
+            .setDescription(AUTO_BATCH_DML_FLUSH_SIZE_DESCRIPTION)
+            .setUnit("{statement}")
+            .setExplicitBucketBoundariesAdvice(BATCH_SIZE_BUCKET_BOUNDARIES)
+            .build();
+    autoBatchDmlFlushLatencies =
+        meter
+            .histogramBuilder(AUTO_BATCH_DML_FLUSH_LATENCY)
+            .ofLongs()
+            .setDescription(AUTO_BATCH_DML_FLUSH_LATENCY_DESCRIPTION)
+            .setUnit(latencyUnitName)
+            .setExplicitBucketBoundariesAdvice(latencyBoundaries)
+            .build();
+    transactionRetryLatencies =
+        meter
+            .histogramBuilder(TRANSACTION_RETRY_LATENCY)
+            .ofLongs()
+            .setDescription(TRANSACTION_RETRY_LATENCY_DESCRIPTION)
+            .setUnit(latencyUnitName)
+            .setExplicitBucketBoundariesAdvice(latencyBoundaries)
+            .build();
+    transactionRetryStatements =
+        meter
+            .histogramBuilder(TRANSACTION_RETRY_STATEMENTS)
+            .ofLongs()
+            .setDescription(TRANSACTION_RETRY_STATEMENTS_DESCRIPTION)
+            .setUnit("{statement}")
+            .setExplicitBucketBoundariesAdvice(BATCH_SIZE_BUCKET_BOUNDARIES)
+            .build();
+    transactionRetryRows =
+        meter
+            .histogramBuilder(TRANSACTION_RETRY_ROWS)
+            .ofLongs()
+            .setDescription(TRANSACTION_RETRY_ROWS_DESCRIPTION)
+            .setUnit("{row}")
+            .setExplicitBucketBoundariesAdvice(ROW_COUNT_BUCKET_BOUNDARIES)
+            .build();
+    operationLatencies =
+        meter
+            .histogramBuilder(OPERATION_LATENCY)
+            .ofLongs()
+            .setDescription(OPERATION_LATENCY_DESCRIPTION)
+            .setUnit(latencyUnitName)
+            .setExplicitBucketBoundariesAdvice(latencyBoundaries)
+            .build();
+    batchSizes =
+        meter
+            .histogramBuilder(BATCH_SIZE)
+            .ofLongs()
+            .setDescription(BATCH_SIZE_DESCRIPTION)
+            .setUnit("{statement}")
+            .setExplicitBucketBoundariesAdvice(BATCH_SIZE_BUCKET_BOUNDARIES)
+            .build();
+    abortedOperations =
+        meter
+            .counterBuilder(ABORTED_OPERATIONS)
+            .setDescription(ABORTED_OPERATIONS_DESCRIPTION)
+            .setUnit("{operation}")
+            .build();
+    resultSetRows =
+        meter
+            .histogramBuilder(RESULT_SET_ROWS)
+            .ofLongs()
+            .setDescription(RESULT_SET_ROWS_DESCRIPTION)
+            .setUnit("{row}")
+            .setExplicitBucketBoundariesAdvice(ROW_COUNT_BUCKET_BOUNDARIES)
+            .build();
+    resultSetDecodedColumns =
+        meter
+            .histogramBuilder(RESULT_SET_DECODED_COLUMNS)
+            .ofLongs()
+            .setDescription(RESULT_SET_DECODED_COLUMNS_DESCRIPTION)
+            .setUnit("%")
+            .setExplicitBucketBoundariesAdvice(PERCENTAGE_BUCKET_BOUNDARIES)
+            .build();
+    resultSetFirstRowLatencies =
+        meter
+            .histogramBuilder(RESULT_SET_FIRST_ROW_LATENCY)
+            .ofLongs()
+            .setDescription(RESULT_SET_FIRST_ROW_LATENCY_DESCRIPTION)
+            .setUnit(latencyUnitName)
+            .setExplicitBucketBoundariesAdvice(latencyBoundaries)
             .build();
+    resultSetConsumptionLatencies =
+        meter
+            .histogramBuilder(RESULT_SET_CONSUMPTION_LATENCY)
+            .ofLongs()
+            .setDescription(RESULT_SET_CONSUMPTION_LATENCY_DESCRIPTION)
+            .setUnit(latencyUnitName)
+            .setExplicitBucketBoundariesAdvice(latencyBoundaries)
+            .build();
+    openStatements =
+        meter
+            .upDownCounterBuilder(OPEN_STATEMENTS)
+            .setDescription(OPEN_STATEMENTS_DESCRIPTION)
+            .setUnit("{statement}")
+            .build();
+    openResultSets =
+        meter
+            .upDownCounterBuilder(OPEN_RESULT_SETS)
+            .setDescription(OPEN_RESULT_SETS_DESCRIPTION)
+            .setUnit("{result_set}")
+            .build();
+    leakedResources =
+        meter
+            .counterBuilder(LEAKED_RESOURCES)
+            .setDescription(LEAKED_RESOURCES_DESCRIPTION)
+            .setUnit("{resource}")
+            .build();
+
+    clientLibLatencySeries =
+        registry.histogram(
+            SPANNER_CLIENT_LIB_LATENCY,
+            SPANNER_CLIENT_LIB_LATENCY_DESCRIPTION,
+            latencyUnitName,
+            latencyBoundaries);
+    autoBatchDmlFlushSizeSeries =
+        registry.histogram(
+            AUTO_BATCH_DML_FLUSH_SIZE,
+            AUTO_BATCH_DML_FLUSH_SIZE_DESCRIPTION,
+            "{statement}",
+            BATCH_SIZE_BUCKET_BOUNDARIES);
+    autoBatchDmlFlushLatencySeries =
+        registry.histogram(
+            AUTO_BATCH_DML_FLUSH_LATENCY,
+            AUTO_BATCH_DML_FLUSH_LATENCY_DESCRIPTION,
+            latencyUnitName,
+            latencyBoundaries);
+    transactionRetryLatencySeries =
+        registry.histogram(
+            TRANSACTION_RETRY_LATENCY,
+            TRANSACTION_RETRY_LATENCY_DESCRIPTION,
+            latencyUnitName,
+            latencyBoundaries);
+    transactionRetryStatementSeries =
+        registry.histogram(
+            TRANSACTION_RETRY_STATEMENTS,
+            TRANSACTION_RETRY_STATEMENTS_DESCRIPTION,
+            "{statement}",
+            BATCH_SIZE_BUCKET_BOUNDARIES);
+    transactionRetryRowSeries =
+        registry.histogram(
+            TRANSACTION_RETRY_ROWS,
+            TRANSACTION_RETRY_ROWS_DESCRIPTION,
+            "{row}",
+            ROW_COUNT_BUCKET_BOUNDARIES);
+    operationLatencySeries =
+        registry.histogram(
+            OPERATION_LATENCY,
+            OPERATION_LATENCY_DESCRIPTION,
+            latencyUnitName,
+            latencyBoundaries);
+    batchSizeSeries =
+        registry.histogram(
+            BATCH_SIZE, BATCH_SIZE_DESCRIPTION, "{statement}", BATCH_SIZE_BUCKET_BOUNDARIES);
+    abortedOperationSeries = registry.counter(ABORTED_OPERATIONS, ABORTED_OPERATIONS_DESCRIPTION);
+    resultSetRowSeries =
+        registry.histogram(
+            RESULT_SET_ROWS, RESULT_SET_ROWS_DESCRIPTION, "{row}", ROW_COUNT_BUCKET_BOUNDARIES);
+    resultSetDecodedColumnSeries =
+        registry.histogram(
+            RESULT_SET_DECODED_COLUMNS,
+            RESULT_SET_DECODED_COLUMNS_DESCRIPTION,
+            "%",
+            PERCENTAGE_BUCKET_BOUNDARIES);
+    resultSetFirstRowLatencySeries =
+        registry.histogram(
+            RESULT_SET_FIRST_ROW_LATENCY,
+            RESULT_SET_FIRST_ROW_LATENCY_DESCRIPTION,
+            latencyUnitName,
+            latencyBoundaries);
+    resultSetConsumptionLatencySeries =
+        registry.histogram(
+            RESULT_SET_CONSUMPTION_LATENCY,
+            RESULT_SET_CONSUMPTION_LATENCY_DESCRIPTION,
+            latencyUnitName,
+            latencyBoundaries);
+    leakedResourceSeries = registry.counter(LEAKED_RESOURCES, LEAKED_RESOURCES_DESCRIPTION);
+  }
+
+  /**
+   * Returns true if these metrics are recorded by OpenTelemetry or by the OpenMetrics registry.
+   * Callers can skip computing the values and the attributes of a metric if this returns false.
+   */
+  boolean isEnabled() {
+    return openTelemetryEnabled || registry.isEnabled();
   }
 
-  void recordClientLibLatency(long value, Attributes attributes) {
+  /** Records the given client library latency in nanoseconds. */
+  void recordClientLibLatency(long nanos, Attributes attributes) {
+    long value = latencyUnit.fromNanos(nanos);
     spannerClientLibLatencies.record(value, attributes);
+    clientLibLatencySeries.record(value, attributes);
+  }
+
+  /** Records the given operation latency in nanoseconds. */
+  void recordOperationLatency(long nanos, Attributes attributes) {
+    long value = latencyUnit.fromNanos(nanos);
+    operationLatencies.record(value, attributes);
+    operationLatencySeries.record(value, attributes);
+  }
+
+  void recordBatchSize(long value, Attributes attributes) {
+    batchSizes.record(value, attributes);
+    batchSizeSeries.record(value, attributes);
+  }
+
+  void recordAbortedOperation(Attributes attributes) {
+    abortedOperations.add(1L, attributes);
+    abortedOperationSeries.add(1L, attributes);
+  }
+
+  /**
+   * Records the time in nanoseconds to the first row of a result set. The context should contain
+   * the span of the query, so an SDK that samples exemplars can link the measurement to the trace
+   * of the query, also if the row is fetched outside the scope of that span.
+   */
+  void recordResultSetFirstRowLatency(long nanos, Attributes attributes, Context context) {
+    long value = latencyUnit.fromNanos(nanos);
+    resultSetFirstRowLatencies.record(value, attributes, context);
+    resultSetFirstRowLatencySeries.record(value, attributes);
+  }
+
+  /**
+   * Records the consumption of a result set with the given context. The latency is given in
+   * nanoseconds.
+   */
+  void recordResultSetConsumed(long nanos, long rows, Attributes attributes, Context context) {
+    long value = latencyUnit.fromNanos(nanos);
+    resultSetConsumptionLatencies.record(value, attributes, context);
+    resultSetRows.record(rows, attributes, context);
+    resultSetConsumptionLatencySeries.record(value, attributes);
+    resultSetRowSeries.record(rows, attributes);
+  }
+
+  /**
+   * Records the percentage of the column values of a result set that were read by the application.
+   * A low percentage indicates that the query selects more columns than the application uses.
+   */
+  void recordResultSetDecodedColumns(long percentage, Attributes attributes, Context context) {
+    resultSetDecodedColumns.record(percentage, attributes, context);
+    resultSetDecodedColumnSeries.record(percentage, attributes);
+  }
+
+  void addOpenStatements(long value, Attributes attributes) {
+    openStatements.add(value, attributes);
+  }
+
+  void addOpenResultSets(long value, Attributes attributes) {
+    openResultSets.add(value, attributes);
+  }
+
+  void recordLeakedResource(Attributes attributes) {
+    leakedResources.add(1L, attributes);
+    leakedResourceSeries.add(1L, attributes);
+  }
+
+  /** Records a transaction retry. The latency is given in nanoseconds. */
+  void recordTransactionRetry(long nanos, long statements, long rows, Attributes attributes) {
+    long value = latencyUnit.fromNanos(nanos);
+    transactionRetryLatencies.record(value, attributes);
+    transactionRetryStatements.record(statements, attributes);
+    transactionRetryRows.record(rows, attributes);
+    transactionRetryLatencySeries.record(value, attributes);
+    transactionRetryStatementSeries.record(statements, attributes);
+    transactionRetryRowSeries.record(rows, attributes);
+  }
+
+  /** Records the flush of an automatic DML batch. The latency is given in nanoseconds. */
+  void recordAutoBatchDmlFlush(long batchSize, long nanos, Attributes attributes) {
+    long value = latencyUnit.fromNanos(nanos);
+    autoBatchDmlFlushSizes.record(batchSize, attributes);
+    autoBatchDmlFlushLatencies.record(value, attributes);
+    autoBatchDmlFlushSizeSeries.record(batchSize, attributes);
+    autoBatchDmlFlushLatencySeries.record(value, attributes);
   }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An embedded HTTP endpoint that serves the metrics of the JDBC driver in OpenMetrics text format
+ * on the path {@value #PATH}. This can be used to scrape the metrics of the driver with Prometheus
+ * without an OpenTelemetry collector.
+ *
+ * <p>Starting an endpoint enables recording metrics in an in-memory registry. The registry contains
+ * the same histograms and counters as the OpenTelemetry metrics of the driver. The endpoint also
+ * serves the gauges {@code spanner_jdbc_open_connections}, {@code spanner_jdbc_open_statements} and
+ * {@code spanner_jdbc_open_result_sets} per database, and the gauge {@code
+ * spanner_jdbc_executing_statements}. These gauges are computed from the open connections when the
+ * metrics are scraped. Recording the other metrics does not take any locks.
+ *
+ * <p>The endpoint does not require authentication, and the metrics contain database names and
+ * statement tags. {@link #start(int)} therefore only listens on the loopback address. Use {@link
+ * #start(InetSocketAddress)} to make the endpoint reachable from other hosts.
+ *
+ * <p>An endpoint on the loopback address can also be started by setting the system property {@code
+ * spanner.jdbc.openmetrics_port} or the environment variable {@code SPANNER_JDBC_OPENMETRICS_PORT}
+ * to the port that the endpoint should listen on. This endpoint is started when the first
+ * connection is created by {@link JdbcDriver} or {@link JdbcDataSource}.
+ *
+ * <pre>{@code
+ * try (OpenMetricsEndpoint endpoint = OpenMetricsEndpoint.start(9464)) {
+ *   // Run the application.
+ * }
+ * }</pre>
+ */
+public final class OpenMetricsEndpoint implements AutoCloseable {
+  private static final Logger logger = Logger.getLogger(OpenMetricsEndpoint.class.getName());
+
+  /** The path that the metrics are served on. */
+  public static final String PATH = "/metrics";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /** Whether the endpoint that is configured with a system property or env var has been started. */
+  private static final AtomicBoolean CONFIGURED_ENDPOINT_STARTED = new AtomicBoolean();
+
+  /** Starts an endpoint that listens on the given port on the loopback address. */
+  public static OpenMetricsEndpoint start(int port) throws IOException {
+    return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+  }
+
+  /** Starts an endpoint that listens on the given address. */
+  public static OpenMetricsEndpoint start(InetSocketAddress address) throws IOException {
+    return start(OpenMetricsRegistry.getInstance(), address);
+  }
+
+  /**
+   * Starts an endpoint on the loopback address if the system property {@code
+   * spanner.jdbc.openmetrics_port} or the environment variable {@code
+   * SPANNER_JDBC_OPENMETRICS_PORT} has been set. The endpoint is only started by the first call to
+   * this method.
+   */
+  static void maybeStartConfiguredEndpoint() {
+    String port = JdbcConfig.getConfigValue("spanner.jdbc.openmetrics_port");
+    if (Strings.isNullOrEmpty(port) || !CONFIGURED_ENDPOINT_STARTED.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      start(Integer.parseInt(port.trim()));
+    } catch (IOException | IllegalArgumentException exception) {
+      logger.log(Level.WARNING, "Could not start OpenMetrics endpoint on port " + port, exception);
+    }
+  }
+
+  private static OpenMetricsEndpoint start(
+      OpenMetricsRegistry registry, InetSocketAddress address) throws IOException {
+    Preconditions.checkNotNull(address);
+    OpenMetricsEndpoint endpoint = new OpenMetricsEndpoint(registry, address);
+    registry.setEnabled(true);
+    return endpoint;
+  }
+
+  private OpenMetricsEndpoint(OpenMetricsRegistry registry, InetSocketAddress address)
+      throws IOException {
+    this.server = HttpServer.create(address, 0);
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("spanner-jdbc-openmetrics-%d")
+                .build());
+    this.server.setExecutor(executor);
+    this.server.createContext(PATH, exchange -> handle(registry, exchange));
+    this.server.start();
+  }
+
+  private static void handle(OpenMetricsRegistry registry, HttpExchange exchange)
+      throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1L);
+        return;
+      }
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try (Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8)) {
+        registry.write(writer, JdbcConnectionRegistry.getInstance());
+      }
+      exchange.getResponseHeaders().set("Content-Type", OpenMetricsRegistry.CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, buffer.size());
+      try (OutputStream body = exchange.getResponseBody()) {
+        buffer.writeTo(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /** Returns the address that this endpoint is listening on. */
+  public InetSocketAddress getAddress() {
+    return server.getAddress();
+  }
+
+  /**
+   * Stops this endpoint. Metrics are still recorded in the in-memory registry after the endpoint
+   * has been stopped, so a new endpoint returns the same cumulative values.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+}
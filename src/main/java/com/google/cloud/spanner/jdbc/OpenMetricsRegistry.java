@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory registry for the metrics of the JDBC driver that can be written in OpenMetrics text
+ * format. This allows the metrics of the driver to be scraped by Prometheus without an
+ * OpenTelemetry collector, see {@link OpenMetricsEndpoint}.
+ *
+ * <p>The registry is disabled by default, and no values are recorded until it is enabled. It is
+ * enabled when an {@link OpenMetricsEndpoint} is started.
+ *
+ * <p>All values are recorded in {@link LongAdder}s, so recording a value does not take any locks
+ * and does not contend with concurrent scrapes. A scrape reads each adder once, which means that
+ * the values of a scrape are not an atomic snapshot.
+ *
+ * <p>The registry is shared by all connections in the JVM and never removes a series, so the number
+ * of series per metric is bounded by {@link #MAX_SERIES_PER_FAMILY}. Values with attributes that
+ * would create more series than that are recorded in one overflow series with the attribute {@code
+ * otel.metric.overflow=true}, in the same way as the cardinality limit of OpenTelemetry.
+ */
+class OpenMetricsRegistry {
+  static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+  /** The maximum number of series of one metric family, excluding the overflow series. */
+  static final int MAX_SERIES_PER_FAMILY = 2000;
+
+  /** The attributes of the series that values are recorded in when a family has too many series. */
+  static final Attributes OVERFLOW_ATTRIBUTES =
+      Attributes.of(AttributeKey.booleanKey("otel.metric.overflow"), true);
+
+  private static final AttributeKey<String> DATABASE_KEY = AttributeKey.stringKey("database");
+
+  private static final OpenMetricsRegistry INSTANCE = new OpenMetricsRegistry();
+
+  /** Returns the registry of this JVM. */
+  static OpenMetricsRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /** The type of a metric family. */
+  enum Type {
+    COUNTER("counter"),
+    GAUGE("gauge"),
+    HISTOGRAM("histogram");
+
+    private final String name;
+
+    Type(String name) {
+      this.name = name;
+    }
+  }
+
+  /** A named metric with one series per distinct set of attributes. */
+  abstract static class Family<S> {
+    private final OpenMetricsRegistry registry;
+    private final String name;
+    private final String help;
+    private final String unit;
+    final ConcurrentMap<Attributes, S> series = new ConcurrentHashMap<>();
+
+    private Family(OpenMetricsRegistry registry, String name, String help, String unit) {
+      this.registry = registry;
+      this.name = name;
+      this.help = help;
+      this.unit = unit;
+    }
+
+    abstract Type getType();
+
+    abstract S newSeries();
+
+    /**
+     * Returns the series for the given attributes, or null if the registry is disabled. The
+     * overflow series is returned if the family already contains the maximum number of series.
+     */
+    final S getSeries(Attributes attributes) {
+      if (!registry.enabled) {
+        return null;
+      }
+      S result = series.get(attributes);
+      if (result == null) {
+        // The size check is not atomic with the insert, so concurrent inserts can exceed the limit
+        // by a few series. That is fine, as the limit only needs to bound the memory usage.
+        Attributes key = series.size() < MAX_SERIES_PER_FAMILY ? attributes : OVERFLOW_ATTRIBUTES;
+        result = series.computeIfAbsent(key, ignore -> newSeries());
+      }
+      return result;
+    }
+
+    abstract void writeSeries(Writer writer, String name, Attributes attributes, S series)
+        throws IOException;
+  }
+
+  /** A monotonically increasing counter. */
+  static final class Counter extends Family<LongAdder> {
+    private Counter(OpenMetricsRegistry registry, String name, String help) {
+      super(registry, name, help, null);
+    }
+
+    @Override
+    Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    LongAdder newSeries() {
+      return new LongAdder();
+    }
+
+    void add(long value, Attributes attributes) {
+      LongAdder adder = getSeries(attributes);
+      if (adder != null) {
+        adder.add(value);
+      }
+    }
+
+    @Override
+    void writeSeries(Writer writer, String name, Attributes attributes, LongAdder series)
+        throws IOException {
+      writeSample(writer, name + "_total", attributes, null, series.sum());
+    }
+  }
+
+  /** A gauge that is updated by adding positive or negative values. */
+  static final class Gauge extends Family<LongAdder> {
+    private Gauge(OpenMetricsRegistry registry, String name, String help) {
+      super(registry, name, help, null);
+    }
+
+    @Override
+    Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    LongAdder newSeries() {
+      return new LongAdder();
+    }
+
+    void add(long value, Attributes attributes) {
+      LongAdder adder = getSeries(attributes);
+      if (adder != null) {
+        adder.add(value);
+      }
+    }
+
+    @Override
+    void writeSeries(Writer writer, String name, Attributes attributes, LongAdder series)
+        throws IOException {
+      writeSample(writer, name, attributes, null, series.sum());
+    }
+  }
+
+  /** A histogram with fixed bucket boundaries. */
+  static final class Histogram extends Family<HistogramSeries> {
+    private final long[] boundaries;
+
+    private Histogram(
+        OpenMetricsRegistry registry, String name, String help, String unit, List<Long> bounds) {
+      super(registry, name, help, unit);
+      this.boundaries = bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Override
+    Type getType() {
+      return Type.HISTOGRAM;
+    }
+
+    @Override
+    HistogramSeries newSeries() {
+      return new HistogramSeries(boundaries.length + 1);
+    }
+
+    void record(long value, Attributes attributes) {
+      HistogramSeries histogram = getSeries(attributes);
+      if (histogram != null) {
+        histogram.record(boundaries, value);
+      }
+    }
+
+    @Override
+    void writeSeries(Writer writer, String name, Attributes attributes, HistogramSeries series)
+        throws IOException {
+      long cumulative = 0L;
+      for (int i = 0; i < series.buckets.length; i++) {
+        cumulative += series.buckets[i].sum();
+        String le = i < boundaries.length ? Long.toString(boundaries[i]) : "+Inf";
+        writeSample(writer, name + "_bucket", attributes, le, cumulative);
+      }
+      writeSample(writer, name + "_count", attributes, null, cumulative);
+      writeSample(writer, name + "_sum", attributes, null, series.sum.sum());
+    }
+  }
+
+  /** The buckets and the sum of one histogram series. */
+  static final class HistogramSeries {
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+
+    private HistogramSeries(int bucketCount) {
+      buckets = new LongAdder[bucketCount];
+      for (int i = 0; i < bucketCount; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
+
+    private void record(long[] boundaries, long value) {
+      // Buckets are upper-inclusive, so a value that is equal to a boundary is in that bucket.
+      int index = Arrays.binarySearch(boundaries, value);
+      buckets[index < 0 ? -index - 1 : index].increment();
+      sum.add(value);
+    }
+  }
+
+  private final ConcurrentMap<String, Family<?>> families = new ConcurrentHashMap<>();
+
+  private volatile boolean enabled;
+
+  @VisibleForTesting
+  OpenMetricsRegistry() {}
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /** Returns the counter with the given name, and registers it if it does not yet exist. */
+  Counter counter(String name, String help) {
+    String metricName = sanitize(name);
+    return register(metricName, Counter.class, () -> new Counter(this, metricName, help));
+  }
+
+  /** Returns the gauge with the given name, and registers it if it does not yet exist. */
+  Gauge gauge(String name, String help) {
+    String metricName = sanitize(name);
+    return register(metricName, Gauge.class, () -> new Gauge(this, metricName, help));
+  }
+
+  /**
+   * Returns the histogram with the given name, and registers it if it does not yet exist. The name
+   * of a histogram with a time unit is suffixed with the unit, following the Prometheus naming
+   * conventions.
+   */
+  Histogram histogram(String name, String help, String unit, List<Long> boundaries) {
+    String unitName = unitName(unit);
+    String metricName = unitName == null ? sanitize(name) : sanitize(name) + "_" + unitName;
+    return register(
+        metricName,
+        Histogram.class,
+        () -> new Histogram(this, metricName, help, unitName, boundaries));
+  }
+
+  /**
+   * Returns the family with the given name, and creates it with the given factory if it does not
+   * yet exist. The factory is not invoked if the family has already been registered.
+   */
+  private <F extends Family<?>> F register(String name, Class<F> type, Supplier<F> factory) {
+    Family<?> family = families.get(name);
+    if (family == null) {
+      family = families.computeIfAbsent(name, ignore -> factory.get());
+    }
+    Preconditions.checkState(
+        type.isInstance(family), "%s is already registered as a %s", name, family.getType().name);
+    return type.cast(family);
+  }
+
+  /**
+   * Writes all metrics in this registry in OpenMetrics text format. The gauges for the number of
+   * open connections, statements and result sets per database and the number of executing
+   * statements are computed from the connection registry while writing, so they always reflect the
+   * current state of the connections, including the statements and result sets that were opened
+   * before the registry was enabled.
+   */
+  void write(Writer writer, JdbcConnectionRegistry connectionRegistry) throws IOException {
+    for (Family<?> family : families.values()) {
+      writeFamily(writer, family);
+    }
+    if (connectionRegistry != null) {
+      writePerDatabaseGauge(
+          writer,
+          "spanner_jdbc_open_connections",
+          "Number of open JDBC connections",
+          connectionRegistry.getOpenConnectionCountPerDatabase());
+      writePerDatabaseGauge(
+          writer,
+          sanitize(Metrics.OPEN_STATEMENTS),
+          Metrics.OPEN_STATEMENTS_DESCRIPTION,
+          connectionRegistry.getOpenStatementCountPerDatabase());
+      writePerDatabaseGauge(
+          writer,
+          sanitize(Metrics.OPEN_RESULT_SETS),
+          Metrics.OPEN_RESULT_SETS_DESCRIPTION,
+          connectionRegistry.getOpenResultSetCountPerDatabase());
+      writeHeader(
+          writer,
+          "spanner_jdbc_executing_statements",
+          Type.GAUGE,
+          "Number of JDBC statements that are currently executing",
+          null);
+      writeSample(
+          writer,
+          "spanner_jdbc_executing_statements",
+          Attributes.empty(),
+          null,
+          connectionRegistry.getExecutingStatementCount());
+    }
+    writer.write("# EOF\n");
+  }
+
+  private static void writePerDatabaseGauge(
+      Writer writer, String name, String help, Map<String, Integer> values) throws IOException {
+    writeHeader(writer, name, Type.GAUGE, help, null);
+    for (Map.Entry<String, Integer> entry : values.entrySet()) {
+      writeSample(
+          writer, name, Attributes.of(DATABASE_KEY, entry.getKey()), null, entry.getValue());
+    }
+  }
+
+  private static <S> void writeFamily(Writer writer, Family<S> family) throws IOException {
+    writeHeader(writer, family.name, family.getType(), family.help, family.unit);
+    for (Map.Entry<Attributes, S> entry : family.series.entrySet()) {
+      family.writeSeries(writer, family.name, entry.getKey(), entry.getValue());
+    }
+  }
+
+  private static void writeHeader(Writer writer, String name, Type type, String help, String unit)
+      throws IOException {
+    writer.write("# TYPE " + name + " " + type.name + "\n");
+    if (unit != null) {
+      writer.write("# UNIT " + name + " " + unit + "\n");
+    }
+    writer.write("# HELP " + name + " " + escape(help) + "\n");
+  }
+
+  private static void writeSample(
+      Writer writer, String name, Attributes attributes, String le, long value)
+      throws IOException {
+    writer.write(name);
+    if (!attributes.isEmpty() || le != null) {
+      StringBuilder labels = new StringBuilder("{");
+      attributes.forEach(
+          (key, attributeValue) -> {
+            if (labels.length() > 1) {
+              labels.append(',');
+            }
+            labels
+                .append(sanitize(key.getKey()))
+                .append("=\"")
+                .append(escape(String.valueOf(attributeValue)))
+                .append('"');
+          });
+      if (le != null) {
+        if (labels.length() > 1) {
+          labels.append(',');
+        }
+        labels.append("le=\"").append(le).append('"');
+      }
+      writer.write(labels.append('}').toString());
+    }
+    writer.write(" " + value + "\n");
+  }
+
+  /** Returns the OpenMetrics name of a time unit, or null if the unit is not a time unit. */
+  private static String unitName(String unit) {
+    if ("ms".equals(unit)) {
+      return "milliseconds";
+    } else if ("us".equals(unit)) {
+      return "microseconds";
+    }
+    return null;
+  }
+
+  /** Replaces all characters that are not allowed in a metric or label name with underscores. */
+  @VisibleForTesting
+  static String sanitize(String name) {
+    StringBuilder builder = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      boolean valid =
+          (c >= 'a' && c <= 'z')
+              || (c >= 'A' && c <= 'Z')
+              || c == '_'
+              || (i > 0 && c >= '0' && c <= '9');
+      builder.append(valid ? c : '_');
+    }
+    return builder.toString();
+  }
+
+  private static String escape(String value) {
+    StringBuilder builder = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\') {
+        builder.append("\\\\");
+      } else if (c == '\n') {
+        builder.append("\\n");
+      } else if (c == '"') {
+        builder.append("\\\"");
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+}
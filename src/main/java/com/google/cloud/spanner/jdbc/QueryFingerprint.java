@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The fingerprint of a SQL statement. Statements that only differ in literal values, query
+ * parameters, comments, whitespace or the casing of keywords and identifiers get the same
+ * fingerprint. The normalized SQL string of a statement replaces all literals and query parameters
+ * with '?', and collapses IN-lists, array literals and multi-row VALUES lists to a single element.
+ *
+ * <p>Comments are removed with the {@link AbstractStatementParser} of the dialect of the statement.
+ * Fingerprints are cached per dialect, so statements that are executed repeatedly are only
+ * normalized once.
+ */
+final class QueryFingerprint {
+  static final int CACHE_SIZE = 1000;
+
+  private static final Map<Dialect, Cache<String, QueryFingerprint>> CACHES = createCaches();
+
+  private static final Pattern IN_LIST = Pattern.compile("\\bin\\(\\?(?:, \\?)+\\)");
+  private static final Pattern ARRAY_LITERAL = Pattern.compile("\\[\\?(?:, \\?)+]");
+  private static final Pattern VALUES_LIST = Pattern.compile("(\\((?:\\?, )*\\?\\))(?:, \\1)+");
+
+  private static final String OPERATOR_CHARS = "<>=!|&+-*/%^~:";
+
+  private final String normalizedSql;
+  private final String fingerprint;
+
+  private static Map<Dialect, Cache<String, QueryFingerprint>> createCaches() {
+    Map<Dialect, Cache<String, QueryFingerprint>> caches = new EnumMap<>(Dialect.class);
+    for (Dialect dialect : Dialect.values()) {
+      caches.put(dialect, CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build());
+    }
+    return caches;
+  }
+
+  /** Returns the fingerprint of the given SQL string. */
+  static QueryFingerprint of(Dialect dialect, AbstractStatementParser parser, String sql) {
+    Preconditions.checkNotNull(dialect);
+    Preconditions.checkNotNull(sql);
+    Cache<String, QueryFingerprint> cache = CACHES.get(dialect);
+    QueryFingerprint fingerprint = cache.getIfPresent(sql);
+    if (fingerprint == null) {
+      String sqlWithoutComments;
+      try {
+        sqlWithoutComments = parser.removeCommentsAndTrim(sql);
+      } catch (SpannerException ignore) {
+        // The statement contains an unclosed literal or comment. Spanner will reject the
+        // statement, but it is still recorded with the original SQL string.
+        sqlWithoutComments = sql;
+      }
+      fingerprint = new QueryFingerprint(normalize(dialect, sqlWithoutComments));
+      cache.put(sql, fingerprint);
+    }
+    return fingerprint;
+  }
+
+  @VisibleForTesting
+  QueryFingerprint(String normalizedSql) {
+    this.normalizedSql = normalizedSql;
+    this.fingerprint =
+        Hashing.farmHashFingerprint64()
+            .hashString(normalizedSql, StandardCharsets.UTF_8)
+            .toString();
+  }
+
+  /** Returns the normalized SQL string that this fingerprint was calculated from. */
+  String getNormalizedSql() {
+    return normalizedSql;
+  }
+
+  /** Returns the fingerprint as a 16-character hexadecimal string. */
+  String getFingerprint() {
+    return fingerprint;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof QueryFingerprint)) {
+      return false;
+    }
+    return normalizedSql.equals(((QueryFingerprint) o).normalizedSql);
+  }
+
+  @Override
+  public int hashCode() {
+    return normalizedSql.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return fingerprint + ": " + normalizedSql;
+  }
+
+  /**
+   * Normalizes the given SQL string. The SQL string should not contain any comments. Literals and
+   * query parameters are replaced by '?', unquoted keywords and identifiers are converted to lower
+   * case, and all tokens are separated by exactly one space, except for punctuation.
+   */
+  @VisibleForTesting
+  static String normalize(Dialect dialect, String sql) {
+    boolean postgres = dialect == Dialect.POSTGRESQL;
+    StringBuilder result = new StringBuilder(sql.length());
+    int length = sql.length();
+    int index = 0;
+    while (index < length) {
+      char c = sql.charAt(index);
+      int end;
+      if (Character.isWhitespace(c)) {
+        index++;
+        continue;
+      } else if (c == '\'' || (c == '"' && !postgres)) {
+        end = skipQuoted(sql, index, !postgres, !postgres, postgres);
+        appendToken(result, "?");
+      } else if (c == '"' || c == '`') {
+        // Quoted identifiers are case-sensitive and are copied as-is.
+        end = skipQuoted(sql, index, false, c == '`', postgres);
+        appendToken(result, sql.substring(index, end));
+      } else if (Character.isDigit(c)
+          || (c == '.' && index + 1 < length && Character.isDigit(sql.charAt(index + 1)))) {
+        end = skipNumber(sql, index);
+        appendToken(result, "?");
+      } else if (c == '?' || (c == '$' && postgres && isDigit(sql, index + 1))) {
+        end = skipIdentifier(sql, index + 1);
+        appendToken(result, "?");
+      } else if (c == '@' && !postgres && isIdentifierStart(sql, index + 1)) {
+        end = skipIdentifier(sql, index + 1);
+        appendToken(result, "?");
+      } else if (c == '$' && postgres && (end = skipDollarQuoted(sql, index)) > index) {
+        appendToken(result, "?");
+      } else if (Character.isLetter(c) || c == '_') {
+        end = skipIdentifier(sql, index);
+        if (isStringPrefix(sql.substring(index, end), postgres)
+            && end < length
+            && (sql.charAt(end) == '\'' || (sql.charAt(end) == '"' && !postgres))) {
+          boolean backslashEscapes = !postgres || Character.toLowerCase(c) == 'e';
+          end = skipQuoted(sql, end, !postgres, backslashEscapes, postgres);
+          appendToken(result, "?");
+        } else {
+          appendToken(result, sql.substring(index, end).toLowerCase(Locale.ENGLISH));
+        }
+      } else if (OPERATOR_CHARS.indexOf(c) > -1) {
+        end = index + 1;
+        while (end < length && OPERATOR_CHARS.indexOf(sql.charAt(end)) > -1) {
+          end++;
+        }
+        appendToken(result, sql.substring(index, end));
+      } else {
+        end = index + 1;
+        appendToken(result, String.valueOf(c));
+      }
+      index = end;
+    }
+    String normalized = IN_LIST.matcher(result).replaceAll("in(?)");
+    normalized = ARRAY_LITERAL.matcher(normalized).replaceAll("[?]");
+    return VALUES_LIST.matcher(normalized).replaceAll("$1");
+  }
+
+  /**
+   * Appends a token to the normalized SQL string. Tokens are separated by one space, except after
+   * an opening bracket or before a closing bracket, and around punctuation. An opening bracket is
+   * only preceded by a space if it follows a comma, so function calls and lists of tuples are
+   * normalized in the same way regardless of the original whitespace.
+   */
+  private static void appendToken(StringBuilder result, String token) {
+    if (result.length() > 0) {
+      char last = result.charAt(result.length() - 1);
+      char first = token.charAt(0);
+      boolean openingBracket = first == '(' || first == '[';
+      if ("([{.@".indexOf(last) == -1
+          && ")]},.;".indexOf(first) == -1
+          && (!openingBracket || last == ',')) {
+        result.append(' ');
+      }
+    }
+    result.append(token);
+  }
+
+  private static boolean isStringPrefix(String identifier, boolean postgres) {
+    String prefix = identifier.toLowerCase(Locale.ENGLISH);
+    if (postgres) {
+      return prefix.equals("e") || prefix.equals("b") || prefix.equals("x");
+    }
+    return prefix.equals("r")
+        || prefix.equals("b")
+        || prefix.equals("rb")
+        || prefix.equals("br");
+  }
+
+  private static boolean isDigit(String sql, int index) {
+    return index < sql.length() && Character.isDigit(sql.charAt(index));
+  }
+
+  private static boolean isIdentifierStart(String sql, int index) {
+    return index < sql.length()
+        && (Character.isLetter(sql.charAt(index)) || sql.charAt(index) == '_');
+  }
+
+  private static int skipIdentifier(String sql, int index) {
+    while (index < sql.length()
+        && (Character.isLetterOrDigit(sql.charAt(index)) || sql.charAt(index) == '_')) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int skipNumber(String sql, int index) {
+    int length = sql.length();
+    while (index < length) {
+      char c = sql.charAt(index);
+      if ((c == 'e' || c == 'E')
+          && index + 1 < length
+          && (sql.charAt(index + 1) == '+' || sql.charAt(index + 1) == '-')) {
+        index += 2;
+      } else if (Character.isLetterOrDigit(c) || c == '.' || c == '_') {
+        index++;
+      } else {
+        break;
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Returns the index directly after the quoted literal or identifier that starts at the given
+   * index. Returns the length of the string if the literal is not closed.
+   */
+  private static int skipQuoted(
+      String sql,
+      int index,
+      boolean tripleQuotes,
+      boolean backslashEscapes,
+      boolean doubledQuoteEscapes) {
+    int length = sql.length();
+    char quote = sql.charAt(index);
+    boolean triple = tripleQuotes && isTripleQuote(sql, index, quote);
+    index += triple ? 3 : 1;
+    while (index < length) {
+      char c = sql.charAt(index);
+      if (backslashEscapes && c == '\\') {
+        index += 2;
+        continue;
+      }
+      if (c == quote) {
+        if (triple) {
+          if (isTripleQuote(sql, index, quote)) {
+            return index + 3;
+          }
+        } else if (doubledQuoteEscapes && index + 1 < length && sql.charAt(index + 1) == quote) {
+          index += 2;
+          continue;
+        } else {
+          return index + 1;
+        }
+      }
+      index++;
+    }
+    return length;
+  }
+
+  private static boolean isTripleQuote(String sql, int index, char quote) {
+    return index + 2 < sql.length()
+        && sql.charAt(index) == quote
+        && sql.charAt(index + 1) == quote
+        && sql.charAt(index + 2) == quote;
+  }
+
+  /**
+   * Returns the index directly after the PostgreSQL dollar-quoted string that starts at the given
+   * index, or the given index if there is no dollar-quoted string at that position.
+   */
+  private static int skipDollarQuoted(String sql, int index) {
+    int tagEnd = index + 1;
+    if (isDigit(sql, tagEnd)) {
+      return index;
+    }
+    tagEnd = skipIdentifier(sql, tagEnd);
+    if (tagEnd >= sql.length() || sql.charAt(tagEnd) != '$') {
+      return index;
+    }
+    String tag = sql.substring(index, tagEnd + 1);
+    int close = sql.indexOf(tag, tagEnd + 1);
+    return close == -1 ? sql.length() : close + tag.length();
+  }
+}
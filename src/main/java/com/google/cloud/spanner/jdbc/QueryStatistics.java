@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Execution statistics of all statements with the same fingerprint. Statements that only differ in
+ * literal values, query parameters, comments or whitespace have the same fingerprint. See {@link
+ * QueryStatsMXBean}.
+ *
+ * <p>The execution count is an upper bound. When the maximum number of fingerprints is being
+ * tracked, a new fingerprint replaces the least frequently executed fingerprint and inherits its
+ * execution count. The inherited count is returned by {@link #getExecutionCountError()}. The
+ * latency percentiles and the row count only include the executions that were recorded after the
+ * fingerprint was added.
+ */
+public final class QueryStatistics {
+  private final String fingerprint;
+  private final String normalizedSql;
+  private final long executionCount;
+  private final long executionCountError;
+  private final long p50LatencyMillis;
+  private final long p99LatencyMillis;
+  private final long rowCount;
+
+  @ConstructorProperties({
+    "fingerprint",
+    "normalizedSql",
+    "executionCount",
+    "executionCountError",
+    "p50LatencyMillis",
+    "p99LatencyMillis",
+    "rowCount"
+  })
+  public QueryStatistics(
+      String fingerprint,
+      String normalizedSql,
+      long executionCount,
+      long executionCountError,
+      long p50LatencyMillis,
+      long p99LatencyMillis,
+      long rowCount) {
+    this.fingerprint = fingerprint;
+    this.normalizedSql = normalizedSql;
+    this.executionCount = executionCount;
+    this.executionCountError = executionCountError;
+    this.p50LatencyMillis = p50LatencyMillis;
+    this.p99LatencyMillis = p99LatencyMillis;
+    this.rowCount = rowCount;
+  }
+
+  /** The fingerprint of the statements as a 16-character hexadecimal string. */
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  /** The normalized SQL string of the statements. Literals and parameters are replaced by '?'. */
+  public String getNormalizedSql() {
+    return normalizedSql;
+  }
+
+  /** The number of executions of statements with this fingerprint. */
+  public long getExecutionCount() {
+    return executionCount;
+  }
+
+  /** The maximum overestimation of the execution count. */
+  public long getExecutionCountError() {
+    return executionCountError;
+  }
+
+  /**
+   * The median execution latency in milliseconds. The latency is the time until the statement
+   * returned a result, and does not include the time that was spent consuming a result set.
+   */
+  public long getP50LatencyMillis() {
+    return p50LatencyMillis;
+  }
+
+  /** The 99th percentile execution latency in milliseconds. */
+  public long getP99LatencyMillis() {
+    return p99LatencyMillis;
+  }
+
+  /** The total number of rows that were returned by statements with this fingerprint. */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: %s (executions: %d, p50: %dms, p99: %dms, rows: %d)",
+        fingerprint,
+        normalizedSql,
+        executionCount,
+        p50LatencyMillis,
+        p99LatencyMillis,
+        rowCount);
+  }
+}
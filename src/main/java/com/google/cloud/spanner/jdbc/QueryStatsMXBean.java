@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.util.List;
+
+/**
+ * Management interface for the query statistics that are collected by the Cloud Spanner JDBC
+ * driver. Query statistics are collected for connections that have query statistics enabled, see
+ * {@link CloudSpannerJdbcConnection#setQueryStatsEnabled(boolean)}. The statistics are registered
+ * in the platform MBean server with the object name {@value #OBJECT_NAME}.
+ */
+public interface QueryStatsMXBean {
+  /** The object name of the query statistics MBean. */
+  String OBJECT_NAME = "com.google.cloud.spanner.jdbc:type=QueryStats";
+
+  /**
+   * Returns the statistics of the most frequently executed statements, ordered by the number of
+   * executions in descending order.
+   */
+  List<QueryStatistics> getTopQueries();
+
+  /** Returns the number of distinct statement fingerprints that are currently tracked. */
+  int getTrackedQueryCount();
+
+  /** Removes all collected query statistics. */
+  void reset();
+}
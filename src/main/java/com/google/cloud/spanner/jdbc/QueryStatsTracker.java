@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.StructField;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps track of the execution count, latency and number of returned rows of the most frequently
+ * executed statement fingerprints in this JVM. See {@link QueryFingerprint}.
+ *
+ * <p>The number of tracked fingerprints is limited with an approximation of the Space-Saving
+ * algorithm: When the maximum number of fingerprints is being tracked and a new fingerprint is
+ * recorded, the fingerprint with the lowest execution count in a random sample of {@link
+ * #EVICTION_SAMPLE_SIZE} tracked fingerprints is removed, and the new fingerprint inherits that
+ * execution count. Sampling keeps the cost of adding a new fingerprint independent of the number of
+ * tracked fingerprints. Recording an execution of a fingerprint that is already being tracked does
+ * not take any locks. Adding a new fingerprint is synchronized.
+ *
+ * <p>The statistics can be queried with the client-side statement {@code SHOW VARIABLE
+ * SPANNER_JDBC.QUERY_STATS}, and through JMX with the {@link QueryStatsMXBean}.
+ */
+class QueryStatsTracker implements QueryStatsMXBean {
+  static final int DEFAULT_CAPACITY = 500;
+
+  /** The number of tracked fingerprints that is sampled to find the fingerprint to remove. */
+  static final int EVICTION_SAMPLE_SIZE = 8;
+
+  private static final Pattern SHOW_QUERY_STATS =
+      Pattern.compile(
+          "show\\s+(?:variable\\s+)?spanner_jdbc\\.query_stats", Pattern.CASE_INSENSITIVE);
+
+  private static final Type RESULT_SET_TYPE =
+      Type.struct(
+          StructField.of("FINGERPRINT", Type.string()),
+          StructField.of("NORMALIZED_SQL", Type.string()),
+          StructField.of("EXECUTION_COUNT", Type.int64()),
+          StructField.of("EXECUTION_COUNT_ERROR", Type.int64()),
+          StructField.of("P50_LATENCY_MS", Type.int64()),
+          StructField.of("P99_LATENCY_MS", Type.int64()),
+          StructField.of("ROW_COUNT", Type.int64()));
+
+  private static final class Holder {
+    private static final QueryStatsTracker INSTANCE = createAndRegister();
+  }
+
+  /**
+   * Returns the query statistics tracker of this JVM. The tracker is registered in the platform
+   * MBean server the first time that this method is called.
+   */
+  static QueryStatsTracker getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private static QueryStatsTracker createAndRegister() {
+    QueryStatsTracker tracker = new QueryStatsTracker(DEFAULT_CAPACITY);
+    // The statistics are still available through the client-side SHOW statement if the MBean
+    // could not be registered.
+    JmxRegistration.register(tracker, QueryStatsMXBean.class, OBJECT_NAME);
+    return tracker;
+  }
+
+  /**
+   * Returns true if the given SQL string is a {@code SHOW VARIABLE SPANNER_JDBC.QUERY_STATS}
+   * statement. The {@code VARIABLE} keyword is optional, so PostgreSQL-style {@code SHOW
+   * SPANNER_JDBC.QUERY_STATS} is also accepted.
+   */
+  static boolean isShowQueryStatsStatement(AbstractStatementParser parser, String sql) {
+    String statement = JdbcStatement.removeCommentsAndTrimIfStartsWith(parser, sql, "show");
+    return statement != null && SHOW_QUERY_STATS.matcher(statement).matches();
+  }
+
+  /** Execution statistics of one fingerprint. */
+  private static final class Entry {
+    private final QueryFingerprint fingerprint;
+    private final long countError;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private Entry(QueryFingerprint fingerprint, long countError) {
+      this.fingerprint = fingerprint;
+      this.countError = countError;
+      this.count.add(countError);
+    }
+
+    private void recordExecution(long latencyMillis) {
+      count.increment();
+      latencies.record(latencyMillis);
+    }
+
+    private QueryStatistics toStatistics() {
+      return new QueryStatistics(
+          fingerprint.getFingerprint(),
+          fingerprint.getNormalizedSql(),
+          count.sum(),
+          countError,
+          latencies.getPercentile(0.5d),
+          latencies.getPercentile(0.99d),
+          rows.sum());
+    }
+  }
+
+  private final int capacity;
+  private final ConcurrentMap<QueryFingerprint, Entry> entries = new ConcurrentHashMap<>();
+  private final Object lock = new Object();
+
+  /**
+   * The tracked entries in the order that they were added. An evicted entry is replaced by the new
+   * entry. This allows the entries to be sampled by a random index. Guarded by {@link #lock}.
+   */
+  private final Entry[] slots;
+
+  /** The number of slots that are in use. Guarded by {@link #lock}. */
+  private int usedSlots;
+
+  @VisibleForTesting
+  QueryStatsTracker(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    this.capacity = capacity;
+    this.slots = new Entry[capacity];
+  }
+
+  /** Records an execution of a statement with the given fingerprint. */
+  void recordExecution(QueryFingerprint fingerprint, long latencyMillis) {
+    getOrCreateEntry(fingerprint).recordExecution(latencyMillis);
+  }
+
+  /**
+   * Records the number of rows that were returned by a statement with the given fingerprint. The
+   * rows are not recorded if the fingerprint is no longer being tracked.
+   */
+  void recordRows(QueryFingerprint fingerprint, long rows) {
+    Entry entry = entries.get(fingerprint);
+    if (entry != null) {
+      entry.rows.add(rows);
+    }
+  }
+
+  private Entry getOrCreateEntry(QueryFingerprint fingerprint) {
+    Entry entry = entries.get(fingerprint);
+    if (entry != null) {
+      return entry;
+    }
+    synchronized (lock) {
+      entry = entries.get(fingerprint);
+      if (entry != null) {
+        return entry;
+      }
+      long countError = 0L;
+      int slot;
+      if (usedSlots < capacity) {
+        slot = usedSlots++;
+      } else {
+        slot = findEvictionSlot();
+        Entry evicted = slots[slot];
+        entries.remove(evicted.fingerprint);
+        countError = evicted.count.sum();
+      }
+      entry = new Entry(fingerprint, countError);
+      slots[slot] = entry;
+      entries.put(fingerprint, entry);
+      return entry;
+    }
+  }
+
+  /**
+   * Returns the slot of the entry with the lowest execution count in a random sample of the
+   * entries. All entries are compared if the capacity is not larger than the sample size.
+   */
+  private int findEvictionSlot() {
+    boolean sample = capacity > EVICTION_SAMPLE_SIZE;
+    int candidates = sample ? EVICTION_SAMPLE_SIZE : capacity;
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int minimumSlot = -1;
+    long minimumCount = Long.MAX_VALUE;
+    for (int i = 0; i < candidates; i++) {
+      int candidate = sample ? random.nextInt(capacity) : i;
+      long candidateCount = slots[candidate].count.sum();
+      if (candidateCount < minimumCount) {
+        minimumSlot = candidate;
+        minimumCount = candidateCount;
+      }
+    }
+    return minimumSlot;
+  }
+
+  @Override
+  public List<QueryStatistics> getTopQueries() {
+    List<QueryStatistics> result = new ArrayList<>(entries.size());
+    for (Entry entry : entries.values()) {
+      result.add(entry.toStatistics());
+    }
+    result.sort(Comparator.comparingLong(QueryStatistics::getExecutionCount).reversed());
+    return result;
+  }
+
+  @Override
+  public int getTrackedQueryCount() {
+    return entries.size();
+  }
+
+  @Override
+  public void reset() {
+    synchronized (lock) {
+      entries.clear();
+      Arrays.fill(slots, null);
+      usedSlots = 0;
+    }
+  }
+
+  /** Returns the current statistics as a result set for a SHOW statement. */
+  ResultSet createResultSet() {
+    List<Struct> rows = new ArrayList<>();
+    for (QueryStatistics statistics : getTopQueries()) {
+      rows.add(
+          Struct.newBuilder()
+              .set("FINGERPRINT")
+              .to(statistics.getFingerprint())
+              .set("NORMALIZED_SQL")
+              .to(statistics.getNormalizedSql())
+              .set("EXECUTION_COUNT")
+              .to(statistics.getExecutionCount())
+              .set("EXECUTION_COUNT_ERROR")
+              .to(statistics.getExecutionCountError())
+              .set("P50_LATENCY_MS")
+              .to(statistics.getP50LatencyMillis())
+              .set("P99_LATENCY_MS")
+              .to(statistics.getP99LatencyMillis())
+              .set("ROW_COUNT")
+              .to(statistics.getRowCount())
+              .build());
+    }
+    return ResultSets.forRows(RESULT_SET_TYPE, rows);
+  }
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Writes a structured JSON record for each statement whose execution and result consumption took
+ * longer than the slow query threshold of its connection. The records are written to the logger
+ * {@code com.google.cloud.spanner.jdbc.SlowQueryLog} at level INFO. The records can also be written
+ * to a local rolling file by setting the system property {@code spanner.jdbc.slow_query_log_file}
+ * or the environment variable {@code SPANNER_JDBC_SLOW_QUERY_LOG_FILE} to a {@link FileHandler}
+ * file name pattern.
+ *
+ * <p>Records are handed off to a background thread through a bounded queue. A record is dropped if
+ * the queue is full, so writing the log never blocks the thread that executed the statement. The
+ * number of dropped records is logged when the queue has space again. The thread that executed the
+ * statement only captures the values of a record. Normalizing the statement and building the JSON
+ * string are done by the background thread.
+ *
+ * <p>A record contains the normalized SQL string and fingerprint of the statement, but no literals
+ * or parameter values, unless logging parameter values has been enabled for the connection.
+ */
+class SlowQueryLog {
+  private static final Logger logger = Logger.getLogger(SlowQueryLog.class.getName());
+
+  static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+  /** The maximum size of a log file before the file handler rolls over to the next file. */
+  private static final int FILE_SIZE_LIMIT = 10 * 1024 * 1024;
+
+  private static final int FILE_COUNT = 5;
+
+  private static final class Holder {
+    private static final SlowQueryLog INSTANCE = createAndStart();
+  }
+
+  static SlowQueryLog getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  private static SlowQueryLog createAndStart() {
+    String file = JdbcConfig.getConfigValue("spanner.jdbc.slow_query_log_file");
+    if (!Strings.isNullOrEmpty(file)) {
+      try {
+        FileHandler handler = new FileHandler(file, FILE_SIZE_LIMIT, FILE_COUNT, true);
+        handler.setFormatter(
+            new Formatter() {
+              @Override
+              public String format(LogRecord record) {
+                return formatMessage(record) + System.lineSeparator();
+              }
+            });
+        logger.addHandler(handler);
+        // Only write the records to the file, and not also to the handlers of the root logger.
+        logger.setUseParentHandlers(false);
+      } catch (IOException | RuntimeException exception) {
+        logger.log(Level.WARNING, "Could not open slow query log file " + file, exception);
+      }
+    }
+    SlowQueryLog log = new SlowQueryLog(DEFAULT_QUEUE_CAPACITY, logger::info);
+    Thread thread = new Thread(log::run, "spanner-jdbc-slow-query-log");
+    thread.setDaemon(true);
+    thread.start();
+    return log;
+  }
+
+  private final BlockingQueue<Supplier<String>> queue;
+  private final Consumer<String> sink;
+  private final LongAdder droppedRecords = new LongAdder();
+
+  @VisibleForTesting
+  SlowQueryLog(int capacity, Consumer<String> sink) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.sink = Preconditions.checkNotNull(sink);
+  }
+
+  /**
+   * Adds the given record to the queue, and returns false if the record was dropped. The record is
+   * converted to a string on the background thread.
+   */
+  boolean offer(Supplier<String> record) {
+    if (queue.offer(record)) {
+      return true;
+    }
+    droppedRecords.increment();
+    return false;
+  }
+
+  long getDroppedRecordCount() {
+    return droppedRecords.sum();
+  }
+
+  private void run() {
+    while (true) {
+      try {
+        writeNext(Long.MAX_VALUE);
+      } catch (InterruptedException interruptedException) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Waits for the next record and writes it to the sink. Returns false if no record was available
+   * within the given timeout.
+   */
+  @VisibleForTesting
+  boolean writeNext(long timeoutMillis) throws InterruptedException {
+    Supplier<String> record = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    if (record == null) {
+      return false;
+    }
+    long dropped = droppedRecords.sumThenReset();
+    if (dropped > 0L) {
+      logger.log(Level.WARNING, "Dropped {0} slow query records, as the queue was full", dropped);
+    }
+    try {
+      sink.accept(record.get());
+    } catch (RuntimeException exception) {
+      logger.log(Level.WARNING, "Failed to write slow query record", exception);
+    }
+    return true;
+  }
+
+  /** The slow query log settings of a connection. */
+  static final class Options {
+    static final Options DEFAULT = new Options(0L, 1.0d, false);
+
+    private final long thresholdMs;
+    private final double sampleRate;
+    private final boolean logParameterValues;
+
+    Options(long thresholdMs, double sampleRate, boolean logParameterValues) {
+      Preconditions.checkArgument(
+          thresholdMs >= 0L,
+          "Invalid value for %s: %s",
+          JdbcDriver.SLOW_QUERY_THRESHOLD_MS,
+          thresholdMs);
+      Preconditions.checkArgument(
+          sampleRate >= 0.0d && sampleRate <= 1.0d,
+          "Invalid value for %s: %s",
+          JdbcDriver.SLOW_QUERY_LOG_SAMPLE_RATE,
+          sampleRate);
+      this.thresholdMs = thresholdMs;
+      this.sampleRate = sampleRate;
+      this.logParameterValues = logParameterValues;
+    }
+
+    /**
+     * Returns the slow query log settings in the given connection properties. Throws an {@link
+     * IllegalArgumentException} if one of the properties has an invalid value.
+     */
+    static Options fromProperties(Properties properties) {
+      String threshold = properties.getProperty(JdbcDriver.SLOW_QUERY_THRESHOLD_MS);
+      String sampleRate = properties.getProperty(JdbcDriver.SLOW_QUERY_LOG_SAMPLE_RATE);
+      String parameterValues = properties.getProperty(JdbcDriver.SLOW_QUERY_LOG_PARAMETER_VALUES);
+      try {
+        return new Options(
+            Strings.isNullOrEmpty(threshold) ? 0L : Long.parseLong(threshold.trim()),
+            Strings.isNullOrEmpty(sampleRate) ? 1.0d : Double.parseDouble(sampleRate.trim()),
+            Boolean.parseBoolean(parameterValues));
+      } catch (NumberFormatException exception) {
+        throw new IllegalArgumentException(
+            "Invalid slow query log property: " + exception.getMessage(), exception);
+      }
+    }
+
+    long getThresholdMs() {
+      return thresholdMs;
+    }
+
+    double getSampleRate() {
+      return sampleRate;
+    }
+
+    boolean isLogParameterValues() {
+      return logParameterValues;
+    }
+  }
+
+  /**
+   * Keeps track of one execution of a statement on a connection with a slow query threshold. The
+   * execution is finished when the statement has been executed, or when the result set of a query
+   * has been consumed or closed. A record is written to the log if the execution took longer than
+   * the threshold.
+   */
+  static final class Execution {
+    private final SlowQueryLog log;
+    private final JdbcConnection connection;
+    private final Statement statement;
+    private final String statementTag;
+    private final ExecutionProfiler profiler;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final boolean logParameterValues;
+    private final long startNanos = System.nanoTime();
+    private final long retriesAtStart;
+    private Operation operation;
+    private long executeNanos = -1L;
+    private boolean finished;
+
+    Execution(
+        SlowQueryLog log,
+        JdbcConnection connection,
+        Statement statement,
+        String statementTag,
+        ExecutionProfiler profiler,
+        long thresholdNanos,
+        double sampleRate,
+        boolean logParameterValues) {
+      this.log = log;
+      this.connection = connection;
+      this.statement = statement;
+      this.statementTag = statementTag;
+      this.profiler = profiler;
+      this.thresholdNanos = thresholdNanos;
+      this.sampleRate = sampleRate;
+      this.logParameterValues = logParameterValues;
+      this.retriesAtStart = connection.getReplayCostTracker().getRetries();
+    }
+
+    /** Registers that the statement was executed successfully. */
+    void executed(Operation operation, long executeNanos) {
+      this.operation = operation;
+      this.executeNanos = executeNanos;
+    }
+
+    boolean isExecuted() {
+      return executeNanos >= 0L;
+    }
+
+    /**
+     * Finishes this execution and writes a record to the log if the execution was slow. The number
+     * of rows is only included for queries.
+     */
+    void finish(long rows, String outcome) {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      long totalNanos = System.nanoTime() - startNanos;
+      if (totalNanos < thresholdNanos
+          || (sampleRate < 1.0d && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+        return;
+      }
+      log.offer(new Record(this, totalNanos, rows, outcome));
+    }
+  }
+
+  /**
+   * The values of one slow query record. The values that can change after the execution has
+   * finished are captured when the record is created, and the JSON string is built when the record
+   * is written.
+   */
+  private static final class Record implements Supplier<String> {
+    private final Execution execution;
+    private final Instant timestamp = Instant.now();
+    private final String database;
+    private final Dialect dialect;
+    private final AbstractStatementParser parser;
+    private final long totalNanos;
+    private final long rows;
+    private final String outcome;
+    private final long retries;
+    private final ExecutionProfile profile;
+    private final Operation operation;
+    private final long executeNanos;
+
+    private Record(Execution execution, long totalNanos, long rows, String outcome) {
+      this.execution = execution;
+      this.database = execution.connection.getDatabaseName();
+      this.dialect = execution.connection.getDialect();
+      this.parser = execution.connection.getParser();
+      this.totalNanos = totalNanos;
+      this.rows = rows;
+      this.outcome = outcome;
+      this.retries =
+          execution.connection.getReplayCostTracker().getRetries() - execution.retriesAtStart;
+      this.profile = execution.profiler == null ? null : execution.profiler.snapshot();
+      this.operation = execution.operation;
+      this.executeNanos = execution.executeNanos;
+    }
+
+    @Override
+    public String get() {
+      StringBuilder json = new StringBuilder(256).append('{');
+      appendField(json, "timestamp", timestamp.toString());
+      appendField(json, "database", database);
+      if (operation != null) {
+        appendField(json, "operation", operation.getAttributeValue());
+      }
+      appendField(json, "outcome", outcome);
+      if (execution.statementTag != null) {
+        appendField(json, "statement_tag", execution.statementTag);
+      }
+      try {
+        QueryFingerprint fingerprint =
+            QueryFingerprint.of(dialect, parser, execution.statement.getSql());
+        appendField(json, "fingerprint", fingerprint.getFingerprint());
+        appendField(json, "normalized_sql", fingerprint.getNormalizedSql());
+      } catch (SQLException | RuntimeException ignore) {
+        // Do not fail the record if the statement could not be normalized.
+      }
+      appendParameters(json, execution.statement, execution.logParameterValues);
+      if (operation == Operation.QUERY) {
+        appendField(json, "rows", rows);
+      }
+      appendField(
+          json,
+          "estimated_statement_bytes",
+          AutoBatchDmlFlushPolicy.estimateSize(execution.statement));
+      appendField(json, "retries", retries);
+      appendField(json, "total_us", TimeUnit.NANOSECONDS.toMicros(totalNanos));
+      if (executeNanos >= 0L) {
+        appendField(json, "execute_us", TimeUnit.NANOSECONDS.toMicros(executeNanos));
+        if (operation == Operation.QUERY) {
+          appendField(
+              json, "consume_us", TimeUnit.NANOSECONDS.toMicros(totalNanos - executeNanos));
+        }
+      }
+      if (profile != null) {
+        json.append(",\"phases_us\":{");
+        int length = json.length();
+        for (Phase phase : Phase.values()) {
+          if (json.length() > length) {
+            json.append(',');
+          }
+          appendString(json, phase.name().toLowerCase(Locale.ENGLISH));
+          json.append(':').append(TimeUnit.NANOSECONDS.toMicros(profile.getPhaseNanos(phase)));
+        }
+        json.append('}');
+      }
+      return json.append('}').toString();
+    }
+
+    private static void appendParameters(
+        StringBuilder json, Statement statement, boolean logParameterValues) {
+      Map<String, Value> parameters = statement.getParameters();
+      if (parameters.isEmpty()) {
+        return;
+      }
+      json.append(",\"parameter_types\":{");
+      appendParameterMap(json, parameters, false);
+      json.append('}');
+      if (logParameterValues) {
+        json.append(",\"parameter_values\":{");
+        appendParameterMap(json, parameters, true);
+        json.append('}');
+      }
+    }
+
+    private static void appendParameterMap(
+        StringBuilder json, Map<String, Value> parameters, boolean values) {
+      boolean first = true;
+      for (Map.Entry<String, Value> parameter : parameters.entrySet()) {
+        if (!first) {
+          json.append(',');
+        }
+        first = false;
+        appendString(json, parameter.getKey());
+        json.append(':');
+        Value value = parameter.getValue();
+        if (value == null || (values && value.isNull())) {
+          json.append("null");
+        } else {
+          appendString(json, values ? value.toString() : value.getType().toString());
+        }
+      }
+    }
+  }
+
+  private static void appendField(StringBuilder json, String name, String value) {
+    if (json.length() > 1) {
+      json.append(',');
+    }
+    appendString(json, name);
+    json.append(':');
+    appendString(json, value);
+  }
+
+  private static void appendField(StringBuilder json, String name, long value) {
+    if (json.length() > 1) {
+      json.append(',');
+    }
+    appendString(json, name);
+    json.append(':').append(value);
+  }
+
+  @VisibleForTesting
+  static void appendString(StringBuilder json, String value) {
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+      }
+    }
+    json.append('"');
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Statistics of a {@link com.google.cloud.spanner.Spanner} instance that is shared by one or more
+ * JDBC connections. See {@link SpannerPoolMXBean}.
+ */
+public final class SpannerInstanceStatistics {
+  private final String host;
+  private final String projectId;
+  private final int openConnectionCount;
+  private final int numChannels;
+  private final int minSessions;
+  private final int maxSessions;
+
+  @ConstructorProperties({
+    "host",
+    "projectId",
+    "openConnectionCount",
+    "numChannels",
+    "minSessions",
+    "maxSessions"
+  })
+  public SpannerInstanceStatistics(
+      String host,
+      String projectId,
+      int openConnectionCount,
+      int numChannels,
+      int minSessions,
+      int maxSessions) {
+    this.host = host;
+    this.projectId = projectId;
+    this.openConnectionCount = openConnectionCount;
+    this.numChannels = numChannels;
+    this.minSessions = minSessions;
+    this.maxSessions = maxSessions;
+  }
+
+  /** The host that the Spanner instance connects to. */
+  public String getHost() {
+    return host;
+  }
+
+  /** The project of the Spanner instance. */
+  public String getProjectId() {
+    return projectId;
+  }
+
+  /** The number of open JDBC connections that use the Spanner instance. */
+  public int getOpenConnectionCount() {
+    return openConnectionCount;
+  }
+
+  /** The number of gRPC channels of the Spanner instance. */
+  public int getNumChannels() {
+    return numChannels;
+  }
+
+  /** The configured minimum number of sessions in the session pool. */
+  public int getMinSessions() {
+    return minSessions;
+  }
+
+  /** The configured maximum number of sessions in the session pool. */
+  public int getMaxSessions() {
+    return maxSessions;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s/%s (connections: %d, channels: %d, sessions: %d-%d)",
+        host, projectId, openConnectionCount, numChannels, minSessions, maxSessions);
+  }
+}
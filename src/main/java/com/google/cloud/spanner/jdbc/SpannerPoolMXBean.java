@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.util.List;
+
+/**
+ * Management interface for the {@link com.google.cloud.spanner.Spanner} instances that are shared
+ * by the JDBC connections in this JVM. Connections with the same host, credentials and client
+ * options use the same {@link com.google.cloud.spanner.Spanner} instance. The MBean is registered
+ * in the platform MBean server with the object name {@value #OBJECT_NAME} when the first connection
+ * is opened.
+ */
+public interface SpannerPoolMXBean {
+  /** The object name of the Spanner pool MBean. */
+  String OBJECT_NAME = "com.google.cloud.spanner.jdbc:type=SpannerPool";
+
+  /** Returns the statistics of each Spanner instance that is used by an open connection. */
+  List<SpannerInstanceStatistics> getSpannerInstances();
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.connection.TransactionRetryListener;
+import io.opentelemetry.api.common.Attributes;
+import java.util.EnumMap;
+import java.util.Locale;
+
+/**
+ * Measures the cost of internal retries of aborted read/write transactions. A retry replays all
+ * statements that were executed in the transaction, and the cost of a retry is therefore
+ * proportional to the number of statements and rows that were read by the transaction before it was
+ * aborted. This tracker counts the statements and rows that are returned by this JDBC connection in
+ * the current transaction, and records these together with the duration and the result of each
+ * retry.
+ *
+ * <p>The counters are only updated by the thread that is using the connection. The retry itself is
+ * executed while that thread is waiting for the statement or commit that was aborted.
+ */
+class TransactionReplayCostTracker implements TransactionRetryListener {
+  private final Metrics metrics;
+  private final EnumMap<RetryResult, Attributes> resultAttributes;
+
+  private long statements;
+  private long rows;
+  private long retryStartNanos;
+  private long retries;
+
+  TransactionReplayCostTracker(Metrics metrics, Attributes attributes) {
+    this.metrics = metrics;
+    this.resultAttributes = new EnumMap<>(RetryResult.class);
+    for (RetryResult result : RetryResult.values()) {
+      resultAttributes.put(
+          result,
+          attributes.toBuilder()
+              .put(Metrics.RETRY_RESULT_KEY, result.name().toLowerCase(Locale.ROOT))
+              .build());
+    }
+  }
+
+  /**
+   * Registers that a statement is executed. The counters are reset if the statement starts a new
+   * transaction.
+   */
+  void onStatement(boolean newTransaction) {
+    if (newTransaction) {
+      statements = 0L;
+      rows = 0L;
+    }
+    statements++;
+  }
+
+  /** Registers that a row was returned by a result set on this connection. */
+  void onRow() {
+    rows++;
+  }
+
+  long getStatements() {
+    return statements;
+  }
+
+  long getRows() {
+    return rows;
+  }
+
+  /** Returns the total number of internal transaction retries on this connection. */
+  long getRetries() {
+    return retries;
+  }
+
+  @Override
+  public void retryStarting(Timestamp transactionStarted, long transactionId, int retryAttempt) {
+    retryStartNanos = System.nanoTime();
+    retries++;
+  }
+
+  @Override
+  public void retryFinished(
+      Timestamp transactionStarted, long transactionId, int retryAttempt, RetryResult result) {
+    metrics.recordTransactionRetry(
+        System.nanoTime() - retryStartNanos, statements, rows, resultAttributes.get(result));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Parser and formatter for UUID strings. Strings in the canonical 36-character form are parsed
+ * directly into the two long values of a {@link UUID}, and {@link UUID}s are formatted from their
+ * two long values into one character array. All other strings are parsed with {@link
+ * UUID#fromString(String)}. The results are always equal to the results of {@link
+ * UUID#fromString(String)} and {@link UUID#toString()}.
+ */
+class UuidParser {
+  /** The length of a UUID in the canonical form, e.g. 83b988cf-1f4e-428a-be3d-cc712621942e. */
+  private static final int LENGTH = 36;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /** The value of each hexadecimal ASCII character, and -1 for all other characters. */
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  static {
+    Arrays.fill(HEX_VALUES, (byte) -1);
+    for (int i = 0; i < 10; i++) {
+      HEX_VALUES['0' + i] = (byte) i;
+    }
+    for (int i = 0; i < 6; i++) {
+      HEX_VALUES['a' + i] = (byte) (10 + i);
+      HEX_VALUES['A' + i] = (byte) (10 + i);
+    }
+  }
+
+  private UuidParser() {}
+
+  /**
+   * Parses the given string as a {@link UUID}.
+   *
+   * @throws IllegalArgumentException if the string is not a valid UUID
+   */
+  static UUID parse(String value) {
+    if (value.length() == LENGTH
+        && value.charAt(8) == '-'
+        && value.charAt(13) == '-'
+        && value.charAt(18) == '-'
+        && value.charAt(23) == '-') {
+      long part1 = parseHex(value, 0, 8);
+      long part2 = parseHex(value, 9, 13);
+      long part3 = parseHex(value, 14, 18);
+      long part4 = parseHex(value, 19, 23);
+      long part5 = parseHex(value, 24, 36);
+      if ((part1 | part2 | part3 | part4 | part5) >= 0L) {
+        return new UUID(part1 << 32 | part2 << 16 | part3, part4 << 48 | part5);
+      }
+    }
+    // Invalid and non-canonical strings are handled by UUID#fromString.
+    return UUID.fromString(value);
+  }
+
+  /**
+   * Returns the value of the hexadecimal digits between begin and end, or -1 if the string contains
+   * a character that is not a hexadecimal digit. At most 12 digits may be parsed.
+   */
+  private static long parseHex(String value, int begin, int end) {
+    long result = 0L;
+    for (int index = begin; index < end; index++) {
+      char c = value.charAt(index);
+      int digit = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+      if (digit < 0) {
+        return -1L;
+      }
+      result = result << 4 | digit;
+    }
+    return result;
+  }
+
+  /** Returns the canonical string representation of the given {@link UUID}. */
+  static String toString(UUID uuid) {
+    char[] chars = new char[LENGTH];
+    long mostSignificantBits = uuid.getMostSignificantBits();
+    long leastSignificantBits = uuid.getLeastSignificantBits();
+    formatHex(mostSignificantBits >>> 32, chars, 0, 8);
+    chars[8] = '-';
+    formatHex(mostSignificantBits >>> 16, chars, 9, 4);
+    chars[13] = '-';
+    formatHex(mostSignificantBits, chars, 14, 4);
+    chars[18] = '-';
+    formatHex(leastSignificantBits >>> 48, chars, 19, 4);
+    chars[23] = '-';
+    formatHex(leastSignificantBits, chars, 24, 12);
+    return new String(chars);
+  }
+
+  /** Writes the lowest digits of the given value as hexadecimal digits to the given array. */
+  private static void formatHex(long value, char[] chars, int offset, int digits) {
+    for (int index = offset + digits - 1; index >= offset; index--) {
+      chars[index] = HEX_DIGITS[(int) value & 0xf];
+      value >>>= 4;
+    }
+  }
+}
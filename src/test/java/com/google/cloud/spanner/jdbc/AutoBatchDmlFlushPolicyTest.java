@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.ByteArray;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spanner.jdbc.AutoBatchDmlFlushPolicy.FlushReason;
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class AutoBatchDmlFlushPolicyTest {
+  private static final Statement INSERT = Statement.of("insert into foo (id) values (1)");
+
+  private static final class FakeTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+
+    void advance(Duration duration) {
+      nanos.addAndGet(duration.toNanos());
+    }
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy();
+    assertFalse(policy.isEnabled());
+    for (int i = 0; i < 1000; i++) {
+      assertNull(policy.add(INSERT));
+    }
+    assertEquals(1000, policy.getBufferedStatements());
+    policy.reset();
+    assertEquals(0, policy.getBufferedStatements());
+    assertEquals(0L, policy.getBufferedBytes());
+  }
+
+  @Test
+  public void testMaxStatements() {
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy();
+    policy.setMaxStatements(3);
+    assertTrue(policy.isEnabled());
+    assertNull(policy.add(INSERT));
+    assertNull(policy.add(INSERT));
+    assertEquals(FlushReason.MAX_STATEMENTS, policy.add(INSERT));
+  }
+
+  @Test
+  public void testMaxBytes() {
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy();
+    policy.setMaxBytes(INSERT.getSql().length() * 2L);
+    assertNull(policy.add(INSERT));
+    assertEquals(INSERT.getSql().length(), policy.getBufferedBytes());
+    assertEquals(FlushReason.MAX_BYTES, policy.add(INSERT));
+  }
+
+  @Test
+  public void testSizeIsOnlyEstimatedWithMaxBytes() {
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy();
+    policy.setMaxStatements(10);
+    assertNull(policy.add(INSERT));
+    assertEquals(1, policy.getBufferedStatements());
+    assertEquals(0L, policy.getBufferedBytes());
+  }
+
+  @Test
+  public void testMaxAge() {
+    FakeTicker ticker = new FakeTicker();
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy(ticker);
+    policy.setMaxAge(Duration.ofMillis(100L));
+    assertNull(policy.add(INSERT));
+    ticker.advance(Duration.ofMillis(99L));
+    assertNull(policy.add(INSERT));
+    ticker.advance(Duration.ofMillis(1L));
+    assertEquals(FlushReason.MAX_AGE, policy.add(INSERT));
+
+    // The age is calculated from the first statement in a new batch.
+    policy.reset();
+    ticker.advance(Duration.ofSeconds(10L));
+    assertNull(policy.add(INSERT));
+  }
+
+  @Test
+  public void testMaxAgeExceeded() {
+    FakeTicker ticker = new FakeTicker();
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy(ticker);
+    policy.setMaxAge(Duration.ofMillis(100L));
+    // An empty batch never exceeds the maximum age.
+    ticker.advance(Duration.ofSeconds(1L));
+    assertFalse(policy.isMaxAgeExceeded());
+
+    assertNull(policy.add(INSERT));
+    ticker.advance(Duration.ofMillis(99L));
+    assertFalse(policy.isMaxAgeExceeded());
+    ticker.advance(Duration.ofMillis(1L));
+    assertTrue(policy.isMaxAgeExceeded());
+
+    policy.reset();
+    assertFalse(policy.isMaxAgeExceeded());
+    policy.setMaxAge(Duration.ZERO);
+    assertNull(policy.add(INSERT));
+    ticker.advance(Duration.ofSeconds(10L));
+    assertFalse(policy.isMaxAgeExceeded());
+  }
+
+  @Test
+  public void testEstimateSize() {
+    String sql = "insert into foo (id, name, data) values (@id, @name, @data)";
+    ByteArray data = ByteArray.copyFrom(new byte[100]);
+    Statement statement =
+        Statement.newBuilder(sql)
+            .bind("id")
+            .to(1L)
+            .bind("name")
+            .to("test")
+            .bind("data")
+            .to(data)
+            .build();
+    assertEquals(
+        sql.length()
+            + "id".length()
+            + serializedSize(Value.int64(1L))
+            + "name".length()
+            + serializedSize(Value.string("test"))
+            + "data".length()
+            + serializedSize(Value.bytes(data)),
+        AutoBatchDmlFlushPolicy.estimateSize(statement));
+  }
+
+  @Test
+  public void testEstimateSizeOfNullValue() {
+    String sql = "insert into foo (id) values (@id)";
+    Statement statement = Statement.newBuilder(sql).bind("id").to((Long) null).build();
+    assertEquals(sql.length() + "id".length(), AutoBatchDmlFlushPolicy.estimateSize(statement));
+  }
+
+  @Test
+  public void testEstimateArraySize() {
+    String sql = "insert into foo (ids, names, data) values (@ids, @names, @data)";
+    Value ids = Value.int64Array(new long[] {1L, 2L, 3L});
+    Value names = Value.stringArray(Arrays.asList("one", null, "three"));
+    Value data = Value.bytesArray(Arrays.asList(ByteArray.copyFrom(new byte[10]), null));
+    Statement statement =
+        Statement.newBuilder(sql)
+            .bind("ids")
+            .to(ids)
+            .bind("names")
+            .to(names)
+            .bind("data")
+            .to(data)
+            .build();
+    assertEquals(
+        sql.length()
+            + "ids".length()
+            + serializedSize(ids)
+            + "names".length()
+            + serializedSize(names)
+            + "data".length()
+            + serializedSize(data),
+        AutoBatchDmlFlushPolicy.estimateSize(statement));
+  }
+
+  private static long serializedSize(Value value) {
+    return value.toProto().getSerializedSize();
+  }
+
+  @Test
+  public void testInvalidLimits() {
+    AutoBatchDmlFlushPolicy policy = new AutoBatchDmlFlushPolicy();
+    assertThrows(IllegalArgumentException.class, () -> policy.setMaxStatements(-1));
+    assertThrows(IllegalArgumentException.class, () -> policy.setMaxBytes(-1L));
+    assertThrows(IllegalArgumentException.class, () -> policy.setMaxAge(Duration.ofMillis(-1L)));
+  }
+}
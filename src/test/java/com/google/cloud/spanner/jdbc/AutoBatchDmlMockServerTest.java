@@ -26,6 +26,7 @@ import com.google.spanner.v1.ExecuteBatchDmlRequest;
 import com.google.spanner.v1.ExecuteSqlRequest;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.concurrent.ThreadLocalRandom;
@@ -320,6 +321,72 @@ public class AutoBatchDmlMockServerTest extends AbstractMockServerTest {
     assertEquals(0, mockSpanner.countRequestsOfType(ExecuteSqlRequest.class));
   }
 
+  @Test
+  public void testMaxBufferedStatements() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      connection.setAutoCommit(false);
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      cloudSpannerJdbcConnection.setAutoBatchDml(true);
+      cloudSpannerJdbcConnection.setAutoBatchDmlMaxBufferedStatements(2);
+      assertEquals(2, cloudSpannerJdbcConnection.getAutoBatchDmlMaxBufferedStatements());
+
+      try (Statement statement = connection.createStatement()) {
+        repeat(() -> assertEquals(1, statement.executeUpdate(NON_PARAMETERIZED_INSERT)), 5);
+      }
+      assertEquals(2, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+      connection.commit();
+    }
+    assertEquals(3, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+    assertEquals(0, mockSpanner.countRequestsOfType(ExecuteSqlRequest.class));
+  }
+
+  @Test
+  public void testMaxBufferedBytes() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      connection.setAutoCommit(false);
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      cloudSpannerJdbcConnection.setAutoBatchDml(true);
+      // Each statement reaches this limit, so each statement is flushed directly.
+      cloudSpannerJdbcConnection.setAutoBatchDmlMaxBufferedBytes(NON_PARAMETERIZED_INSERT.length());
+
+      try (Statement statement = connection.createStatement()) {
+        repeat(() -> assertEquals(1, statement.executeUpdate(NON_PARAMETERIZED_INSERT)), 3);
+      }
+      assertEquals(3, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+      connection.commit();
+    }
+    assertEquals(3, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+  }
+
+  @Test
+  public void testQueryResetsFlushPolicy() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      connection.setAutoCommit(false);
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      cloudSpannerJdbcConnection.setAutoBatchDml(true);
+      cloudSpannerJdbcConnection.setAutoBatchDmlMaxBufferedStatements(2);
+
+      try (Statement statement = connection.createStatement()) {
+        assertEquals(1, statement.executeUpdate(NON_PARAMETERIZED_INSERT));
+        // The query flushes the batch, which means that the next statement starts a new batch.
+        try (ResultSet resultSet = statement.executeQuery(SELECT_COUNT_STATEMENT.getSql())) {
+          while (resultSet.next()) {
+            // ignore
+          }
+        }
+        assertEquals(1, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+        assertEquals(1, statement.executeUpdate(NON_PARAMETERIZED_INSERT));
+        assertEquals(1, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+        assertEquals(1, statement.executeUpdate(NON_PARAMETERIZED_INSERT));
+        assertEquals(2, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+      }
+      connection.commit();
+    }
+  }
+
   interface SQLRunnable {
     void run() throws SQLException;
   }
@@ -21,6 +21,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.longrunning.OperationFuture;
 import com.google.cloud.spanner.MockSpannerServiceImpl.StatementResult;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.connection.AbstractMockServerTest;
@@ -30,12 +32,18 @@ import com.google.protobuf.Any;
 import com.google.protobuf.Empty;
 import com.google.rpc.Code;
 import com.google.spanner.admin.database.v1.GetDatabaseDdlResponse;
+import com.google.spanner.admin.database.v1.OperationProgress;
 import com.google.spanner.admin.database.v1.UpdateDatabaseDdlMetadata;
+import com.google.spanner.admin.database.v1.UpdateDatabaseDdlRequest;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -166,4 +174,87 @@ public class DdlMockServerTest extends AbstractMockServerTest {
       mockDatabaseAdmin.getRequests().clear();
     }
   }
+
+  private static Operation createDdlOperation(List<String> statements) {
+    UpdateDatabaseDdlMetadata.Builder metadata =
+        UpdateDatabaseDdlMetadata.newBuilder().addAllStatements(statements);
+    for (int i = 0; i < statements.size(); i++) {
+      metadata.addProgress(OperationProgress.newBuilder().setProgressPercent(100));
+    }
+    return Operation.newBuilder()
+        .setDone(true)
+        .setResponse(Any.pack(Empty.getDefaultInstance()))
+        .setMetadata(Any.pack(metadata.build()))
+        .build();
+  }
+
+  @Test
+  public void testExecuteDdlBatchAsync() throws Exception {
+    List<String> ddl =
+        ImmutableList.of(
+            "create table foo (id int64) primary key (id)",
+            "create table bar (id int64) primary key (id)");
+    mockDatabaseAdmin.addResponse(createDdlOperation(ddl));
+
+    Map<Integer, Integer> progress = new ConcurrentHashMap<>();
+    CountDownLatch finished = new CountDownLatch(ddl.size());
+    try (Connection connection = createConnection(/* autoCommit= */ true)) {
+      OperationFuture<Void, UpdateDatabaseDdlMetadata> operation =
+          connection
+              .unwrap(CloudSpannerJdbcConnection.class)
+              .executeDdlBatchAsync(
+                  ddl,
+                  (index, statement, percent) -> {
+                    assertEquals(ddl.get(index), statement);
+                    progress.put(index, percent);
+                    if (percent == 100) {
+                      finished.countDown();
+                    }
+                  });
+      operation.get();
+      assertTrue(finished.await(10L, TimeUnit.SECONDS));
+      assertEquals(100, progress.get(0).intValue());
+      assertEquals(100, progress.get(1).intValue());
+    }
+    assertEquals(1, mockDatabaseAdmin.getRequests().size());
+    UpdateDatabaseDdlRequest request =
+        (UpdateDatabaseDdlRequest) mockDatabaseAdmin.getRequests().get(0);
+    assertEquals(ddl, request.getStatementsList());
+    mockDatabaseAdmin.getRequests().clear();
+  }
+
+  @Test
+  public void testExecuteDdlBatchesConcurrently() throws Exception {
+    List<String> ddl1 = ImmutableList.of("create table foo (id int64) primary key (id)");
+    List<String> ddl2 = ImmutableList.of("create table bar (id int64) primary key (id)");
+    mockDatabaseAdmin.addResponse(createDdlOperation(ddl1));
+    mockDatabaseAdmin.addResponse(createDdlOperation(ddl2));
+
+    try (Connection connection = createConnection(/* autoCommit= */ false)) {
+      CloudSpannerJdbcConnection spannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      ApiFutures.allAsList(
+              ImmutableList.of(
+                  spannerJdbcConnection.executeDdlBatchAsync(ddl1),
+                  spannerJdbcConnection.executeDdlBatchAsync(ddl2)))
+          .get();
+    }
+    assertEquals(2, mockDatabaseAdmin.getRequests().size());
+    mockDatabaseAdmin.getRequests().clear();
+  }
+
+  @Test
+  public void testExecuteDdlBatchAsync_rejectsNonDdl() throws SQLException {
+    try (Connection connection = createConnection(/* autoCommit= */ true)) {
+      JdbcSqlExceptionImpl exception =
+          assertThrows(
+              JdbcSqlExceptionImpl.class,
+              () ->
+                  connection
+                      .unwrap(CloudSpannerJdbcConnection.class)
+                      .executeDdlBatchAsync(ImmutableList.of("select * from foo")));
+      assertEquals(Code.INVALID_ARGUMENT, exception.getCode());
+    }
+    assertEquals(0, mockDatabaseAdmin.getRequests().size());
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class DecimalParserTest {
+
+  private static void assertParse(String value) {
+    BigDecimal expected = new BigDecimal(value);
+    BigDecimal actual = DecimalParser.parse(value);
+    assertEquals(value, expected, actual);
+    assertEquals(value, expected.scale(), actual.scale());
+  }
+
+  @Test
+  public void testParse() {
+    for (String value :
+        new String[] {
+          "0",
+          "-0",
+          "+0",
+          "0.00",
+          "-0.00",
+          "1",
+          "-1",
+          "3.14",
+          "-3.14",
+          "1.",
+          ".5",
+          "-.5",
+          "00012.3400",
+          "999999999999999999",
+          "-999999999999999999",
+          "0.999999999999999999",
+          "9999999999999999999",
+          "-12345678901234567890.123456789",
+          "1e10",
+          "1.5E-3",
+          "-2.5e+2"
+        }) {
+      assertParse(value);
+    }
+  }
+
+  @Test
+  public void testParseInvalid() {
+    for (String value : new String[] {"", "-", "+", ".", "-.", "NaN", "1.2.3", "12a", "1e", " 1"}) {
+      assertThrows(value, NumberFormatException.class, () -> DecimalParser.parse(value));
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.MockSpannerServiceImpl.StatementResult;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ExecutionProfileMockServerTest extends AbstractMockServerTest {
+  private static final String PARAMETERIZED_QUERY = "SELECT COUNT(*) FROM FOO WHERE ID=?";
+  private static final String PARAMETERIZED_QUERY_NAMED = "SELECT COUNT(*) FROM FOO WHERE ID=@p1";
+
+  @BeforeClass
+  public static void setupResults() {
+    mockSpanner.putStatementResult(
+        StatementResult.query(
+            Statement.newBuilder(PARAMETERIZED_QUERY_NAMED).bind("p1").to(1L).build(),
+            SELECT_COUNT_RESULTSET_BEFORE_INSERT));
+  }
+
+  @After
+  public void clearRequests() {
+    mockSpanner.clearRequests();
+  }
+
+  @Test
+  public void testProfilingDisabledByDefault() throws SQLException {
+    try (Connection connection = createJdbcConnection();
+        java.sql.Statement statement = connection.createStatement()) {
+      assertFalse(
+          connection.unwrap(CloudSpannerJdbcConnection.class).isExecutionProfilingEnabled());
+      statement.executeUpdate(INSERT_STATEMENT.getSql());
+      assertNull(statement.unwrap(CloudSpannerJdbcStatement.class).getLastExecutionProfile());
+    }
+  }
+
+  @Test
+  public void testProfileQuery() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      assertFalse(
+          connection.createStatement().execute("SET SPANNER_JDBC.EXECUTION_PROFILING = true"));
+      assertTrue(connection.unwrap(CloudSpannerJdbcConnection.class).isExecutionProfilingEnabled());
+
+      try (PreparedStatement statement = connection.prepareStatement(PARAMETERIZED_QUERY)) {
+        statement.setLong(1, 1L);
+        CloudSpannerJdbcStatement cloudSpannerJdbcStatement =
+            statement.unwrap(CloudSpannerJdbcStatement.class);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          assertTrue(resultSet.next());
+          assertEquals(COUNT_BEFORE_INSERT, resultSet.getObject(1));
+          assertEquals(COUNT_BEFORE_INSERT, resultSet.getObject(1, Long.class));
+
+          // The profile is only returned when the execution has finished.
+          assertNull(cloudSpannerJdbcStatement.getLastExecutionProfile());
+
+          assertFalse(resultSet.next());
+        }
+        ExecutionProfile profile = cloudSpannerJdbcStatement.getLastExecutionProfile();
+        assertTrue(profile.isComplete());
+        assertEquals(PARAMETERIZED_QUERY_NAMED, profile.getSql());
+        assertEquals(1L, profile.getPhaseCount(Phase.BIND));
+        assertEquals(1L, profile.getPhaseCount(Phase.PARSE));
+        assertEquals(1L, profile.getPhaseCount(Phase.EXECUTE));
+        assertEquals(2L, profile.getPhaseCount(Phase.FETCH));
+        assertEquals(3L, profile.getPhaseCount(Phase.CONVERT));
+        assertTrue(profile.getPhaseNanos(Phase.EXECUTE) > 0L);
+        assertEquals(Phase.BIND, profile.getEvents().get(0).getPhase());
+        assertEquals(8, profile.getEvents().size());
+      }
+    }
+  }
+
+  @Test
+  public void testProfileUpdate() throws SQLException {
+    try (Connection connection = createJdbcConnection();
+        java.sql.Statement statement = connection.createStatement()) {
+      connection.unwrap(CloudSpannerJdbcConnection.class).setExecutionProfilingEnabled(true);
+      assertEquals(1, statement.executeUpdate(INSERT_STATEMENT.getSql()));
+      ExecutionProfile first =
+          statement.unwrap(CloudSpannerJdbcStatement.class).getLastExecutionProfile();
+      assertTrue(first.isComplete());
+      assertEquals(1L, first.getPhaseCount(Phase.EXECUTE));
+      assertEquals(0L, first.getPhaseCount(Phase.FETCH));
+
+      // Each execution gets a new profile.
+      assertEquals(1, statement.executeUpdate(INSERT_STATEMENT.getSql()));
+      ExecutionProfile second =
+          statement.unwrap(CloudSpannerJdbcStatement.class).getLastExecutionProfile();
+      assertEquals(1L, second.getPhaseCount(Phase.EXECUTE));
+    }
+  }
+
+  @Test
+  public void testStatementOverridesConnection() throws SQLException {
+    try (Connection connection = createJdbcConnection();
+        java.sql.Statement profiled = connection.createStatement();
+        java.sql.Statement notProfiled = connection.createStatement()) {
+      CloudSpannerJdbcStatement cloudSpannerJdbcStatement =
+          profiled.unwrap(CloudSpannerJdbcStatement.class);
+      cloudSpannerJdbcStatement.setExecutionProfilingEnabled(true);
+      assertTrue(cloudSpannerJdbcStatement.isExecutionProfilingEnabled());
+
+      profiled.executeUpdate(INSERT_STATEMENT.getSql());
+      notProfiled.executeUpdate(INSERT_STATEMENT.getSql());
+      assertNotNull(cloudSpannerJdbcStatement.getLastExecutionProfile());
+      assertNull(notProfiled.unwrap(CloudSpannerJdbcStatement.class).getLastExecutionProfile());
+
+      connection.createStatement().execute("SET SPANNER_JDBC.EXECUTION_PROFILING = true");
+      cloudSpannerJdbcStatement.setExecutionProfilingEnabled(false);
+      assertFalse(cloudSpannerJdbcStatement.isExecutionProfilingEnabled());
+      assertTrue(
+          notProfiled.unwrap(CloudSpannerJdbcStatement.class).isExecutionProfilingEnabled());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Event;
+import com.google.cloud.spanner.jdbc.ExecutionProfile.Phase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ExecutionProfilerTest {
+
+  @Test
+  public void testTotalsAndTimeline() {
+    ExecutionProfiler profiler = new ExecutionProfiler(4);
+    profiler.setSql("select 1");
+    long start = System.nanoTime();
+    profiler.record(Phase.BIND, start, start + 10L);
+    assertFalse(profiler.isExecuted());
+    profiler.record(Phase.EXECUTE, start + 10L, start + 110L);
+    assertTrue(profiler.isExecuted());
+    profiler.record(Phase.FETCH, start + 110L, start + 130L);
+
+    ExecutionProfile profile = profiler.snapshot();
+    assertEquals("select 1", profile.getSql());
+    assertFalse(profile.isComplete());
+    assertEquals(10L, profile.getPhaseNanos(Phase.BIND));
+    assertEquals(100L, profile.getPhaseNanos(Phase.EXECUTE));
+    assertEquals(20L, profile.getPhaseNanos(Phase.FETCH));
+    assertEquals(0L, profile.getPhaseCount(Phase.CONVERT));
+    assertEquals(3, profile.getEvents().size());
+    assertEquals(0L, profile.getDroppedEventCount());
+
+    Event execute = profile.getEvents().get(1);
+    assertEquals(Phase.EXECUTE, execute.getPhase());
+    assertEquals(100L, execute.getDurationNanos());
+    assertEquals(
+        profile.getEvents().get(0).getOffsetNanos() + 10L, execute.getOffsetNanos());
+    assertTrue(profile.getElapsedNanos() >= 130L);
+
+    profiler.finish();
+    assertTrue(profiler.isFinished());
+    assertTrue(profiler.snapshot().isComplete());
+  }
+
+  @Test
+  public void testRingBuffer() {
+    ExecutionProfiler profiler = new ExecutionProfiler(4);
+    long start = System.nanoTime();
+    for (int i = 0; i < 10; i++) {
+      profiler.record(Phase.FETCH, start + i, start + i + 1L);
+    }
+    profiler.record(Phase.CONVERT, start + 10L, start + 12L);
+
+    ExecutionProfile profile = profiler.snapshot();
+    assertEquals(10L, profile.getPhaseCount(Phase.FETCH));
+    assertEquals(10L, profile.getPhaseNanos(Phase.FETCH));
+    assertEquals(2L, profile.getPhaseNanos(Phase.CONVERT));
+    assertEquals(4, profile.getEvents().size());
+    assertEquals(7L, profile.getDroppedEventCount());
+    // The timeline contains the most recent events in the order that they were recorded.
+    assertEquals(Phase.FETCH, profile.getEvents().get(0).getPhase());
+    assertEquals(Phase.CONVERT, profile.getEvents().get(3).getPhase());
+    assertTrue(
+        profile.getEvents().get(0).getOffsetNanos() < profile.getEvents().get(3).getOffsetNanos());
+  }
+
+  @Test
+  public void testParseSetExecutionProfilingStatement() {
+    AbstractStatementParser parser =
+        AbstractStatementParser.getInstance(Dialect.GOOGLE_STANDARD_SQL);
+    assertEquals(
+        Boolean.TRUE,
+        ExecutionProfiler.parseSetExecutionProfilingStatement(
+            parser, "SET SPANNER_JDBC.EXECUTION_PROFILING = true"));
+    assertEquals(
+        Boolean.FALSE,
+        ExecutionProfiler.parseSetExecutionProfilingStatement(
+            parser, "/* comment */ set spanner_jdbc.execution_profiling='FALSE'"));
+    assertEquals(
+        Boolean.TRUE,
+        ExecutionProfiler.parseSetExecutionProfilingStatement(
+            parser, "set spanner_jdbc.execution_profiling to true"));
+    assertNull(
+        ExecutionProfiler.parseSetExecutionProfilingStatement(
+            parser, "SET SPANNER_JDBC.EXECUTION_PROFILING = maybe"));
+    assertNull(
+        ExecutionProfiler.parseSetExecutionProfilingStatement(
+            parser, "SHOW VARIABLE SPANNER_JDBC.EXECUTION_PROFILING"));
+    assertNull(ExecutionProfiler.parseSetExecutionProfilingStatement(parser, "SELECT 1"));
+  }
+}
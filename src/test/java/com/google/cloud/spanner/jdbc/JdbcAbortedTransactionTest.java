@@ -253,6 +253,44 @@ public class JdbcAbortedTransactionTest {
     }
   }
 
+  @Test
+  public void testReplayCostTracker() throws SQLException {
+    // The replay cost is only tracked if statements are instrumented, which is the case if metrics
+    // are enabled.
+    OpenMetricsRegistry registry = OpenMetricsRegistry.getInstance();
+    boolean registryEnabled = registry.isEnabled();
+    registry.setEnabled(true);
+    try (java.sql.Connection connection = createConnection()) {
+      connection.setAutoCommit(false);
+      try (ResultSet rs = connection.createStatement().executeQuery(SELECT1.getSql())) {
+        while (rs.next()) {
+          assertThat(rs.getLong(1)).isEqualTo(1L);
+        }
+      }
+      connection.createStatement().executeUpdate(UPDATE_STATEMENT.getSql());
+      TransactionReplayCostTracker tracker =
+          connection.unwrap(JdbcConnection.class).getReplayCostTracker();
+      assertThat(tracker.getStatements()).isEqualTo(2L);
+      assertThat(tracker.getRows()).isEqualTo(1L);
+
+      mockSpanner.abortNextStatement();
+      connection.createStatement().executeUpdate(UPDATE_STATEMENT.getSql());
+      assertThat(getRetryCount(connection)).isEqualTo(1);
+      assertThat(tracker.getStatements()).isEqualTo(3L);
+      connection.commit();
+
+      // The counters are reset when a new transaction starts.
+      connection.createStatement().executeUpdate(UPDATE_STATEMENT.getSql());
+      assertThat(tracker.getStatements()).isEqualTo(1L);
+      assertThat(tracker.getRows()).isEqualTo(0L);
+      connection.commit();
+    } catch (JdbcAbortedException e) {
+      assertThat(retryAbortsInternally).isFalse();
+    } finally {
+      registry.setEnabled(registryEnabled);
+    }
+  }
+
   @Test
   public void testTransactionalUpdateWithConcurrentModificationsAborted() throws SQLException {
     // As the transaction does a random select, the retry will always see different data than the
@@ -459,4 +459,39 @@ public class JdbcArrayTest {
           .isEqualTo(ErrorCode.INVALID_ARGUMENT.getGrpcStatusCode().value());
     }
   }
+
+  @Test
+  public void testGetPrimitiveArray() throws SQLException {
+    assertArrayEquals(
+        new long[] {1L, 2L, 3L},
+        (long[])
+            JdbcArray.createArray("INT64", new Long[] {1L, 2L, 3L}).getPrimitiveArray(long.class));
+    assertArrayEquals(
+        new double[] {1d, 2d},
+        (double[])
+            JdbcArray.createArray("FLOAT64", new Double[] {1d, 2d})
+                .getPrimitiveArray(double.class),
+        0d);
+    assertArrayEquals(
+        new boolean[] {true, false},
+        (boolean[])
+            JdbcArray.createArray("BOOL", new Boolean[] {true, false})
+                .getPrimitiveArray(boolean.class));
+    assertNull(JdbcArray.createArray("INT64", null).getPrimitiveArray(long.class));
+
+    JdbcSqlExceptionImpl nullElement =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () ->
+                JdbcArray.createArray("INT64", new Long[] {1L, null})
+                    .getPrimitiveArray(long.class));
+    assertEquals(com.google.rpc.Code.INVALID_ARGUMENT, nullElement.getCode());
+    JdbcSqlExceptionImpl invalidType =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () ->
+                JdbcArray.createArray("INT64", new Long[] {1L})
+                    .getPrimitiveArray(double.class));
+    assertEquals(com.google.rpc.Code.INVALID_ARGUMENT, invalidType.getCode());
+  }
 }
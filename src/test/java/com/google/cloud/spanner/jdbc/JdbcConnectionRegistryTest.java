@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.SessionPoolOptions;
+import com.google.cloud.spanner.Spanner;
+import com.google.cloud.spanner.SpannerOptions;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class JdbcConnectionRegistryTest {
+
+  private static JdbcConnection mockConnection(
+      String database, Spanner spanner, AbstractJdbcStatement... statements) throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDatabaseName()).thenReturn(database);
+    when(connection.getSpanner()).thenReturn(spanner);
+    when(connection.getDialect()).thenReturn(Dialect.GOOGLE_STANDARD_SQL);
+    when(connection.getParser())
+        .thenReturn(AbstractStatementParser.getInstance(Dialect.GOOGLE_STANDARD_SQL));
+    when(connection.getOpenStatements()).thenReturn(ImmutableSet.copyOf(statements));
+    when(connection.getOpenResultSetCount()).thenReturn(statements.length);
+    return connection;
+  }
+
+  private static Spanner mockSpanner(int numChannels) {
+    Spanner spanner = mock(Spanner.class);
+    SpannerOptions options = mock(SpannerOptions.class);
+    when(spanner.getOptions()).thenReturn(options);
+    when(options.getHost()).thenReturn("https://spanner.googleapis.com");
+    when(options.getProjectId()).thenReturn("my-project");
+    when(options.getNumChannels()).thenReturn(numChannels);
+    when(options.getSessionPoolOptions())
+        .thenReturn(SessionPoolOptions.newBuilder().setMinSessions(10).setMaxSessions(50).build());
+    return spanner;
+  }
+
+  @Test
+  public void testConnectionCounts() throws SQLException {
+    JdbcConnectionRegistry registry = new JdbcConnectionRegistry();
+    Spanner spanner = mockSpanner(4);
+    JdbcStatement executing = mock(JdbcStatement.class);
+    when(executing.getExecutingStatement())
+        .thenReturn(Statement.of("select * from foo where id=1"));
+    when(executing.getExecutionStartNanos()).thenReturn(System.nanoTime());
+    JdbcStatement idle = mock(JdbcStatement.class);
+    JdbcConnection connection1 = mockConnection("db1", spanner, executing, idle);
+    JdbcConnection connection2 = mockConnection("db1", spanner);
+    JdbcConnection connection3 = mockConnection("db2", mockSpanner(8), idle);
+
+    registry.register(connection1);
+    registry.register(connection2);
+    registry.register(connection3);
+    assertEquals(3, registry.getOpenConnectionCount());
+    assertEquals(ImmutableMap.of("db1", 2, "db2", 1), registry.getOpenConnectionCountPerDatabase());
+    assertEquals(3, registry.getOpenStatementCount());
+    assertEquals(3, registry.getOpenResultSetCount());
+    assertEquals(1, registry.getExecutingStatementCount());
+
+    String[] activeStatements = registry.dumpActiveStatements();
+    assertEquals(1, activeStatements.length);
+    assertTrue(activeStatements[0], activeStatements[0].startsWith("db1 "));
+    assertTrue(
+        activeStatements[0], activeStatements[0].endsWith(": select * from foo where id = ?"));
+
+    List<SpannerInstanceStatistics> instances = registry.getSpannerInstances();
+    assertEquals(2, instances.size());
+    for (SpannerInstanceStatistics instance : instances) {
+      assertEquals("my-project", instance.getProjectId());
+      assertEquals(10, instance.getMinSessions());
+      assertEquals(50, instance.getMaxSessions());
+      assertEquals(instance.getNumChannels() == 4 ? 2 : 1, instance.getOpenConnectionCount());
+    }
+
+    registry.unregister(connection1);
+    registry.unregister(connection2);
+    registry.unregister(connection3);
+    assertEquals(0, registry.getOpenConnectionCount());
+    assertArrayEquals(new String[0], registry.dumpActiveStatements());
+  }
+
+  @Test
+  public void testOperationLatencies() {
+    JdbcConnectionRegistry registry = new JdbcConnectionRegistry();
+    registry.recordOperationLatency(Operation.QUERY, 5L);
+    registry.recordOperationLatency(Operation.QUERY, 100L);
+    registry.recordOperationLatency(Operation.COMMIT, 20L);
+
+    List<LatencyStatistics> latencies = registry.getOperationLatencies();
+    assertEquals(Operation.values().length, latencies.size());
+    for (LatencyStatistics statistics : latencies) {
+      if (statistics.getOperation().equals("query")) {
+        assertEquals(2L, statistics.getCount());
+        assertEquals(5L, statistics.getP50LatencyMillis());
+        assertEquals(100L, statistics.getP99LatencyMillis());
+      } else if (statistics.getOperation().equals("commit")) {
+        assertEquals(1L, statistics.getCount());
+        assertEquals(20L, statistics.getP50LatencyMillis());
+      } else {
+        assertEquals(0L, statistics.getCount());
+      }
+    }
+  }
+}
@@ -43,6 +43,7 @@ import com.google.cloud.spanner.connection.AbstractConnectionImplTest;
 import com.google.cloud.spanner.connection.ConnectionImplTest;
 import com.google.cloud.spanner.connection.ConnectionOptions;
 import com.google.cloud.spanner.jdbc.JdbcSqlExceptionFactory.JdbcSqlExceptionImpl;
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
 import com.google.rpc.Code;
 import io.opentelemetry.api.OpenTelemetry;
 import java.lang.reflect.InvocationTargetException;
@@ -190,6 +191,52 @@ public class JdbcConnectionTest {
     }
   }
 
+  @Test
+  public void testResultSetMetricsSamplingRate() throws SQLException {
+    ConnectionOptions options = mockOptions();
+    OpenMetricsRegistry registry = OpenMetricsRegistry.getInstance();
+    boolean registryEnabled = registry.isEnabled();
+    try (JdbcConnection connection = createConnection(options)) {
+      assertThat(connection.getResultSetMetricsSamplingRate()).isEqualTo(1.0d);
+      // Result set metrics are never sampled if metrics are disabled.
+      registry.setEnabled(false);
+      assertThat(connection.sampleResultSetMetrics()).isFalse();
+      registry.setEnabled(true);
+      assertThat(connection.sampleResultSetMetrics()).isTrue();
+
+      connection.setResultSetMetricsSamplingRate(0.0d);
+      assertThat(connection.getResultSetMetricsSamplingRate()).isEqualTo(0.0d);
+      assertThat(connection.sampleResultSetMetrics()).isFalse();
+
+      JdbcSqlExceptionImpl exception =
+          assertThrows(
+              JdbcSqlExceptionImpl.class, () -> connection.setResultSetMetricsSamplingRate(1.5d));
+      assertThat(exception.getCode()).isEqualTo(Code.INVALID_ARGUMENT);
+      assertThat(connection.getResultSetMetricsSamplingRate()).isEqualTo(0.0d);
+    } finally {
+      registry.setEnabled(registryEnabled);
+    }
+  }
+
+  @Test
+  public void testLeakDetection() throws SQLException {
+    ConnectionOptions options = mockOptions();
+    try (JdbcConnection connection = createConnection(options)) {
+      assertThat(connection.isLeakDetectionEnabled()).isFalse();
+      assertThat(connection.trackLeaks(new Object(), ResourceType.STATEMENT, null, null)).isNull();
+
+      connection.setLeakDetectionEnabled(true);
+      assertThat(connection.isLeakDetectionEnabled()).isTrue();
+      int trackedResourceCount = LeakDetector.getInstance().getTrackedResourceCount();
+      java.sql.Statement statement = connection.createStatement();
+      assertThat(LeakDetector.getInstance().getTrackedResourceCount())
+          .isEqualTo(trackedResourceCount + 1);
+      statement.close();
+      assertThat(LeakDetector.getInstance().getTrackedResourceCount())
+          .isEqualTo(trackedResourceCount);
+    }
+  }
+
   @Test
   public void testClosedJdbcConnection()
       throws SQLException,
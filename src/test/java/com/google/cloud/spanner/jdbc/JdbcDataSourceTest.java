@@ -17,6 +17,7 @@
 package com.google.cloud.spanner.jdbc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.google.cloud.spanner.connection.AbstractMockServerTest;
 import java.sql.Connection;
@@ -60,4 +61,16 @@ public class JdbcDataSourceTest extends AbstractMockServerTest {
       }
     }
   }
+
+  @Test
+  public void testJdbcConnectionProperties() throws SQLException {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setUrl(getBaseUrl() + ";lazyColumnDecoding=true;slowQueryThresholdMs=100");
+    try (Connection connection = dataSource.getConnection()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      assertTrue(cloudSpannerJdbcConnection.isLazyColumnDecoding());
+      assertEquals(100L, cloudSpannerJdbcConnection.getSlowQueryThresholdMs());
+    }
+  }
 }
@@ -176,17 +176,44 @@ public class JdbcDriverTest {
         JdbcDriver.getRegisteredDriver()
             .getPropertyInfo(
                 "jdbc:cloudspanner:/projects/p/instances/i/databases/d", new Properties());
-    assertThat(props).hasLength(ConnectionPropertiesHelper.VALID_CONNECTION_PROPERTIES.size());
+    assertThat(props)
+        .hasLength(
+            ConnectionPropertiesHelper.VALID_CONNECTION_PROPERTIES.size()
+                + JdbcDriver.getJdbcPropertyNames().size());
 
     Collection<String> validConnectionPropertyNames =
-        Collections2.transform(
-            ConnectionPropertiesHelper.VALID_CONNECTION_PROPERTIES,
-            ConnectionPropertiesHelper::getConnectionPropertyName);
+        ImmutableList.<String>builder()
+            .addAll(
+                Collections2.transform(
+                    ConnectionPropertiesHelper.VALID_CONNECTION_PROPERTIES,
+                    ConnectionPropertiesHelper::getConnectionPropertyName))
+            .addAll(JdbcDriver.getJdbcPropertyNames())
+            .build();
     Collection<String> driverPropertyNames =
         Collections2.transform(ImmutableList.copyOf(props), input -> input.name);
     assertThat(driverPropertyNames).containsExactlyElementsIn(validConnectionPropertyNames);
   }
 
+  @Test
+  public void testGetPropertyInfoOfJdbcProperties() throws SQLException {
+    Properties info = new Properties();
+    info.setProperty("slowQueryThresholdMs", "250");
+    DriverPropertyInfo[] props =
+        JdbcDriver.getRegisteredDriver()
+            .getPropertyInfo(
+                "jdbc:cloudspanner:/projects/p/instances/i/databases/d;lazyColumnDecoding=true",
+                info);
+    for (DriverPropertyInfo prop : props) {
+      if (JdbcDriver.SLOW_QUERY_THRESHOLD_MS.equals(prop.name)) {
+        assertEquals("250", prop.value);
+      } else if (JdbcDriver.SLOW_QUERY_LOG_SAMPLE_RATE.equals(prop.name)) {
+        assertEquals("1.0", prop.value);
+      } else if (JdbcDriver.LAZY_COLUMN_DECODING.equals(prop.name)) {
+        assertEquals("true", prop.value);
+      }
+    }
+  }
+
   @Test
   public void testLenient() throws SQLException {
     // With lenient=true the driver should accept unknown properties and only generate a warning.
@@ -215,6 +242,35 @@ public class JdbcDriverTest {
     }
   }
 
+  @Test
+  public void testExtractJdbcProperties() {
+    Properties jdbcProperties = new Properties();
+    assertEquals(
+        "cloudspanner:/projects/p/instances/i/databases/d;minSessions=1",
+        JdbcDriver.extractJdbcProperties(
+            "cloudspanner:/projects/p/instances/i/databases/d;SlowQueryThresholdMs=100;"
+                + "minSessions=1",
+            jdbcProperties));
+    assertEquals("100", jdbcProperties.getProperty(JdbcDriver.SLOW_QUERY_THRESHOLD_MS));
+
+    Properties info = new Properties();
+    info.setProperty("slowQueryLogParameterValues", "true");
+    info.setProperty("numChannels", "2");
+    Properties connectionInfo = JdbcDriver.extractJdbcProperties(info, jdbcProperties);
+    assertEquals("2", connectionInfo.getProperty("numChannels"));
+    assertFalse(connectionInfo.containsKey("slowQueryLogParameterValues"));
+    assertTrue(info.containsKey("slowQueryLogParameterValues"));
+    assertEquals("true", jdbcProperties.getProperty(JdbcDriver.SLOW_QUERY_LOG_PARAMETER_VALUES));
+
+    jdbcProperties = new Properties();
+    assertEquals(
+        "cloudspanner:/projects/p/instances/i/databases/d",
+        JdbcDriver.extractJdbcProperties(
+            "cloudspanner:/projects/p/instances/i/databases/d;lazyColumnDecoding=true",
+            jdbcProperties));
+    assertEquals("true", jdbcProperties.getProperty(JdbcDriver.LAZY_COLUMN_DECODING));
+  }
+
   @Test
   public void testAcceptsURL() throws SQLException {
     JdbcDriver driver = JdbcDriver.getRegisteredDriver();
@@ -18,7 +18,9 @@ package com.google.cloud.spanner.jdbc;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
@@ -1014,6 +1016,60 @@ public class JdbcParameterStoreTest {
             com.google.protobuf.Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build()));
   }
 
+  @Test
+  public void testVectorParameters() throws SQLException {
+    JdbcParameterStore params = new JdbcParameterStore(dialect);
+    float[] floats = new float[] {1f, 2f, 3f};
+    params.setParameter(1, floats, Types.ARRAY);
+    verifyParameter(params, Value.float32Array(new float[] {1f, 2f, 3f}));
+    params.setParameter(1, floats);
+    verifyParameter(params, Value.float32Array(new float[] {1f, 2f, 3f}));
+    params.setParameter(1, new double[] {1d, 2d}, Types.ARRAY);
+    verifyParameter(params, Value.float64Array(new double[] {1d, 2d}));
+
+    // Boxed arrays with and without null elements.
+    params.setParameter(1, new Float[] {1f, 2f}, Types.ARRAY);
+    verifyParameter(params, Value.float32Array(new float[] {1f, 2f}));
+    params.setParameter(1, new Float[] {1f, null}, Types.ARRAY);
+    verifyParameter(params, Value.float32Array(Arrays.asList(1f, null)));
+    params.setParameter(1, new Double[] {1d, 2d}, Types.ARRAY);
+    verifyParameter(params, Value.float64Array(new double[] {1d, 2d}));
+    params.setParameter(1, new Double[] {null, 2d}, Types.ARRAY);
+    verifyParameter(params, Value.float64Array(Arrays.asList(null, 2d)));
+  }
+
+  @Test
+  public void testVectorParameterValueIsCached() throws SQLException {
+    JdbcParameterStore params = new JdbcParameterStore(dialect);
+    double[] vector = new double[] {0.1d, 0.2d, 0.3d};
+    params.setParameter(1, vector, Types.ARRAY);
+    Value first = bind(params);
+    assertSame(first, bind(params));
+
+    // Setting the parameter again invalidates the cached value, also if it is the same array.
+    vector[1] = 0.5d;
+    params.setParameter(1, vector, Types.ARRAY);
+    Value changed = bind(params);
+    assertNotSame(first, changed);
+    assertEquals(Value.float64Array(new double[] {0.1d, 0.5d, 0.3d}), changed);
+    // An equal array that is a different instance is not served from the cache.
+    params.setParameter(1, new double[] {0.1d, 0.5d, 0.3d}, Types.ARRAY);
+    Value copy = bind(params);
+    assertNotSame(changed, copy);
+    assertEquals(changed, copy);
+
+    // Clearing the parameters also clears the cache.
+    params.clearParameters();
+    params.setParameter(1, vector, Types.ARRAY);
+    assertNotSame(changed, bind(params));
+  }
+
+  private Value bind(JdbcParameterStore params) throws SQLException {
+    Statement.Builder builder = Statement.newBuilder("SELECT * FROM FOO WHERE BAR=:p1");
+    params.bindParameterValue(builder.bind("p1"), 1);
+    return builder.build().getParameters().get("p1");
+  }
+
   private void verifyParameter(JdbcParameterStore params, Value value) throws SQLException {
     Statement.Builder builder = Statement.newBuilder("SELECT * FROM FOO WHERE BAR=:p1");
     params.bindParameterValue(builder.bind("p1"), 1);
@@ -21,22 +21,33 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.cloud.ByteArray;
 import com.google.cloud.Date;
 import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.ErrorCode;
 import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.SpannerExceptionFactory;
 import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.Type.StructField;
 import com.google.cloud.spanner.Value;
 import com.google.cloud.spanner.jdbc.JdbcSqlExceptionFactory.JdbcSqlExceptionImpl;
+import com.google.cloud.spanner.jdbc.Metrics.CloseReason;
 import com.google.cloud.spanner.jdbc.it.SingerProto.Genre;
 import com.google.cloud.spanner.jdbc.it.SingerProto.SingerInfo;
 import com.google.common.collect.ImmutableList;
@@ -48,6 +59,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -65,6 +77,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.UUID;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -377,6 +390,73 @@ public class JdbcResultSetTest {
     }
   }
 
+  @Test
+  public void testMetrics() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.sampleResultSetMetrics()).thenReturn(true);
+    JdbcStatement statement = new JdbcStatement(connection);
+    try (JdbcResultSet rs = JdbcResultSet.of(statement, getMockResultSet())) {
+      verify(connection).onResultSetOpened();
+      int num = 0;
+      while (rs.next()) {
+        num++;
+      }
+      verify(connection).recordResultSetFirstRowMetric(anyLong(), any());
+      verify(connection)
+          .recordResultSetConsumedMetric(
+              anyLong(), eq((long) num), eq(CloseReason.EXHAUSTED), any());
+    }
+    verify(connection).onResultSetClosed();
+    // The consumed metric should only be recorded once.
+    verify(connection, times(1)).recordResultSetConsumedMetric(anyLong(), anyLong(), any(), any());
+  }
+
+  @Test
+  public void testMetricsClosedEarly() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.sampleResultSetMetrics()).thenReturn(true);
+    JdbcStatement statement = new JdbcStatement(connection);
+    try (JdbcResultSet rs = JdbcResultSet.of(statement, getMockResultSet())) {
+      assertTrue(rs.next());
+    }
+    verify(connection)
+        .recordResultSetConsumedMetric(anyLong(), eq(1L), eq(CloseReason.CLOSED_EARLY), any());
+  }
+
+  @Test
+  public void testMetricsError() {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.sampleResultSetMetrics()).thenReturn(true);
+    JdbcStatement statement = new JdbcStatement(connection);
+    ResultSet spannerResultSet = mock(ResultSet.class);
+    when(spannerResultSet.next())
+        .thenThrow(
+            SpannerExceptionFactory.newSpannerException(ErrorCode.UNAVAILABLE, "test error"));
+    try (JdbcResultSet rs = JdbcResultSet.of(statement, spannerResultSet)) {
+      assertThrows(SpannerException.class, rs::next);
+    }
+    verify(connection)
+        .recordResultSetConsumedMetric(anyLong(), eq(0L), eq(CloseReason.ERROR), any());
+    verify(connection, times(1)).recordResultSetConsumedMetric(anyLong(), anyLong(), any(), any());
+  }
+
+  @Test
+  public void testMetricsNotSampled() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.sampleResultSetMetrics()).thenReturn(false);
+    JdbcStatement statement = new JdbcStatement(connection);
+    try (JdbcResultSet rs = JdbcResultSet.of(statement, getMockResultSet())) {
+      while (rs.next()) {
+        // ignore
+      }
+    }
+    // The open result sets gauge is always updated.
+    verify(connection).onResultSetOpened();
+    verify(connection).onResultSetClosed();
+    verify(connection, never()).recordResultSetFirstRowMetric(anyLong(), any());
+    verify(connection, never()).recordResultSetConsumedMetric(anyLong(), anyLong(), any(), any());
+  }
+
   @Test
   public void testClose() throws SQLException {
     try (JdbcResultSet rs = JdbcResultSet.of(mock(Statement.class), getMockResultSet())) {
@@ -649,6 +729,79 @@ public class JdbcResultSetTest {
     assertFalse(subject.wasNull());
   }
 
+  @Test
+  public void testPgNumericIsParsedOncePerRow() throws SQLException {
+    BigDecimal value = subject.getBigDecimal(PG_NUMERIC_COLINDEX_NOTNULL);
+    assertEquals(new BigDecimal("3.14"), value);
+    assertSame(value, subject.getBigDecimal(PG_NUMERIC_COL_NOT_NULL));
+    assertEquals(value, subject.getObject(PG_NUMERIC_COLINDEX_NOTNULL));
+    assertEquals(3.14d, subject.getDouble(PG_NUMERIC_COLINDEX_NOTNULL), 0.0d);
+
+    try (JdbcResultSet resultSet =
+        JdbcResultSet.of(
+            ResultSets.forRows(
+                Type.struct(StructField.of("value", Type.pgNumeric())),
+                Arrays.asList(
+                    Struct.newBuilder().set("value").to(Value.pgNumeric("1.5")).build(),
+                    Struct.newBuilder().set("value").to(Value.pgNumeric("NaN")).build(),
+                    Struct.newBuilder().set("value").to(Value.pgNumeric("-2.25")).build())))) {
+      assertTrue(resultSet.next());
+      assertEquals(new BigDecimal("1.5"), resultSet.getBigDecimal(1));
+      assertEquals(1L, resultSet.getLong(1));
+      assertTrue(resultSet.next());
+      assertTrue(Double.isNaN(resultSet.getDouble(1)));
+      assertThrows(SQLException.class, () -> resultSet.getBigDecimal(1));
+      assertTrue(resultSet.next());
+      assertEquals(-2.25d, resultSet.getDouble(1), 0.0d);
+      assertEquals(new BigDecimal("-2.25"), resultSet.getBigDecimal(1));
+      assertEquals(-2L, resultSet.getLong(1));
+      assertFalse(resultSet.next());
+    }
+  }
+
+  @Test
+  public void testGetUuid() throws SQLException {
+    UUID uuid = UUID.fromString("83b988cf-1f4e-428a-be3d-cc712621942e");
+    try (JdbcResultSet resultSet =
+        JdbcResultSet.of(
+            ResultSets.forRows(
+                Type.struct(
+                    StructField.of("uuid", Type.uuid()),
+                    StructField.of("string", Type.string()),
+                    StructField.of("int64", Type.int64())),
+                Arrays.asList(
+                    Struct.newBuilder()
+                        .set("uuid")
+                        .to(uuid)
+                        .set("string")
+                        .to("83B988CF-1F4E-428A-BE3D-CC712621942E")
+                        .set("int64")
+                        .to(1L)
+                        .build(),
+                    Struct.newBuilder()
+                        .set("uuid")
+                        .to((UUID) null)
+                        .set("string")
+                        .to((String) null)
+                        .set("int64")
+                        .to((Long) null)
+                        .build())))) {
+      assertTrue(resultSet.next());
+      assertEquals(uuid, resultSet.getUUID(1));
+      assertEquals(uuid, resultSet.getObject(1, UUID.class));
+      assertEquals(uuid, resultSet.getUUID(2));
+      assertEquals(uuid, resultSet.getObject("string", UUID.class));
+      assertThrows(SQLException.class, () -> resultSet.getObject(3, UUID.class));
+
+      assertTrue(resultSet.next());
+      assertNull(resultSet.getObject(1, UUID.class));
+      assertTrue(resultSet.wasNull());
+      assertNull(resultSet.getObject(2, UUID.class));
+      assertTrue(resultSet.wasNull());
+      assertFalse(resultSet.next());
+    }
+  }
+
   @Test
   public void testGetIntegerTypesOnPgNumericNaN() throws SQLException {
     assertTrue(Double.isNaN(subject.getDouble(PG_NUMERIC_COLINDEX_NAN)));
@@ -785,6 +938,33 @@ public class JdbcResultSetTest {
     assertTrue(subject.wasNull());
   }
 
+  @Test
+  public void testGetLazyProtoMessage() throws SQLException {
+    LazyProtoMessage<SingerInfo> lazy =
+        subject.getLazyProtoMessage(PROTO_MSG_COLINDEX_NOT_NULL, SingerInfo.class);
+    assertNotNull(lazy);
+    assertFalse(subject.wasNull());
+    assertFalse(lazy.isParsed());
+    assertArrayEquals(PROTO_MSG_VALUE.toByteArray(), lazy.getBytes().toByteArray());
+    assertFalse(lazy.isParsed());
+    SingerInfo singerInfo = lazy.get();
+    assertEquals(SingerInfo.newBuilder().setSingerId(1).build(), singerInfo);
+    assertTrue(lazy.isParsed());
+    assertSame(singerInfo, lazy.get());
+
+    assertEquals(
+        singerInfo,
+        subject.getLazyProtoMessage(PROTO_MSG_COL_NOT_NULL, SingerInfo.class).get());
+    assertNull(subject.getLazyProtoMessage(PROTO_MSG_COLINDEX_NULL, SingerInfo.class));
+    assertTrue(subject.wasNull());
+
+    JdbcSqlExceptionImpl exception =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () -> subject.getLazyProtoMessage(STRING_COLINDEX_NOTNULL, SingerInfo.class));
+    assertEquals(Code.INVALID_ARGUMENT, exception.getCode());
+  }
+
   @Test
   public void testGetBytesAsObjectIndexFromProtoMessage() throws SQLException {
     assertNotNull(subject.getObject(PROTO_MSG_COLINDEX_NOT_NULL));
@@ -804,6 +984,19 @@ public class JdbcResultSetTest {
     assertFalse(subject.wasNull());
   }
 
+  @Test
+  public void testGetObjectWithDifferentTargetTypes() throws SQLException {
+    // The converter of a column is cached, and must be replaced when the target type changes.
+    assertEquals(Long.valueOf(LONG_VALUE), subject.getObject(LONG_COLINDEX_NOTNULL, Long.class));
+    assertEquals(
+        String.valueOf(LONG_VALUE), subject.getObject(LONG_COLINDEX_NOTNULL, String.class));
+    assertEquals(
+        BigDecimal.valueOf(LONG_VALUE), subject.getObject(LONG_COL_NOT_NULL, BigDecimal.class));
+    assertEquals(Long.valueOf(LONG_VALUE), subject.getObject(LONG_COLINDEX_NOTNULL, Long.class));
+    assertNull(subject.getObject(LONG_COLINDEX_NULL, String.class));
+    assertTrue(subject.wasNull());
+  }
+
   @Test
   public void testGetIntIndexFromProtoEnum() throws SQLException {
     assertEquals(PROTO_ENUM_VALUE, subject.getInt(PROTO_ENUM_COLINDEX_NOT_NULL));
@@ -1560,6 +1753,53 @@ public class JdbcResultSetTest {
     assertTrue(subject.wasNull());
   }
 
+  @Test
+  public void testWriteColumnTo() throws SQLException {
+    StringBuilder builder = new StringBuilder();
+    for (int column = 1; column <= subject.getMetaData().getColumnCount(); column++) {
+      String expected;
+      try {
+        expected = subject.getString(column);
+      } catch (SQLException exception) {
+        int columnIndex = column;
+        assertThrows(SQLException.class, () -> subject.writeColumnTo(columnIndex, builder));
+        continue;
+      }
+      builder.setLength(0);
+      assertEquals(expected != null, subject.writeColumnTo(column, builder));
+      assertEquals(expected == null, subject.wasNull());
+      assertEquals(expected == null ? "" : expected, builder.toString());
+    }
+    CharBuffer buffer = CharBuffer.allocate(64);
+    assertTrue(subject.writeColumnTo(TIMESTAMP_COL_NOT_NULL, buffer));
+    buffer.flip();
+    assertEquals(TIMESTAMP_VALUE.toString(), buffer.toString());
+    assertFalse(subject.writeColumnTo(TIMESTAMP_COL_NULL, buffer));
+    assertThrows(SQLException.class, () -> subject.writeColumnTo(ARRAY_COL_NULL, builder));
+  }
+
+  @Test
+  public void testGetPrimitiveArrays() throws SQLException {
+    assertArrayEquals(ARRAY_VALUE, subject.getLongArray(ARRAY_COLINDEX_NOTNULL));
+    assertFalse(subject.wasNull());
+    assertArrayEquals(ARRAY_VALUE, subject.getLongArray(ARRAY_COL_NOT_NULL));
+    assertArrayEquals(ARRAY_VALUE, subject.getObject(ARRAY_COLINDEX_NOTNULL, long[].class));
+    assertNull(subject.getLongArray(ARRAY_COLINDEX_NULL));
+    assertTrue(subject.wasNull());
+    assertNull(subject.getObject(ARRAY_COL_NULL, long[].class));
+    assertTrue(subject.wasNull());
+
+    // The element type of the array must match the type of the primitive array.
+    JdbcSqlExceptionImpl invalidType =
+        assertThrows(
+            JdbcSqlExceptionImpl.class, () -> subject.getDoubleArray(ARRAY_COLINDEX_NOTNULL));
+    assertEquals(Code.INVALID_ARGUMENT, invalidType.getCode());
+    assertThrows(JdbcSqlExceptionImpl.class, () -> subject.getFloatArray(ARRAY_COL_NOT_NULL));
+    assertThrows(JdbcSqlExceptionImpl.class, () -> subject.getLongArray(LONG_COLINDEX_NOTNULL));
+    assertThrows(
+        JdbcSqlExceptionImpl.class, () -> subject.getObject(STRING_ARRAY_COL, long[].class));
+  }
+
   @Test
   public void testGetWarnings() {
     assertNull(subject.getWarnings());
@@ -1911,6 +2151,21 @@ public class JdbcResultSetTest {
     assertFalse(subject.wasNull());
   }
 
+  @Test
+  public void testGetInstant() throws SQLException {
+    assertEquals(
+        Instant.ofEpochSecond(TIMESTAMP_VALUE.getSeconds(), TIMESTAMP_VALUE.getNanos()),
+        subject.getObject(TIMESTAMP_COL_NOT_NULL, Instant.class));
+    assertFalse(subject.wasNull());
+    assertNull(subject.getObject(TIMESTAMP_COL_NULL, Instant.class));
+    assertTrue(subject.wasNull());
+    assertNull(subject.getObject(TIMESTAMP_COL_NULL, OffsetDateTime.class));
+    assertTrue(subject.wasNull());
+    assertNull(subject.getObject(DATE_COL_NULL, LocalDate.class));
+    assertTrue(subject.wasNull());
+    assertThrows(SQLException.class, () -> subject.getObject(DATE_COL_NOT_NULL, Instant.class));
+  }
+
   @Test
   public void testCopyOf() throws SQLException {
     ResultSet original =
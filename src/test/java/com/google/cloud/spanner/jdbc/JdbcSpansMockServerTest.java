@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class JdbcSpansMockServerTest extends AbstractMockServerTest {
+  private static final List<SpanData> spans = Collections.synchronizedList(new ArrayList<>());
+  private static OpenTelemetrySdk openTelemetry;
+
+  /** Exporter that keeps all finished spans in memory. */
+  private static final class CollectingSpanExporter implements SpanExporter {
+    @Override
+    public CompletableResultCode export(Collection<SpanData> exported) {
+      spans.addAll(exported);
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
+  @BeforeClass
+  public static void setupOpenTelemetry() {
+    openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(
+                SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOn())
+                    .addSpanProcessor(SimpleSpanProcessor.create(new CollectingSpanExporter()))
+                    .build())
+            .build();
+  }
+
+  @AfterClass
+  public static void closeOpenTelemetry() {
+    openTelemetry.close();
+  }
+
+  @After
+  public void clearSpans() {
+    spans.clear();
+    mockSpanner.clearRequests();
+  }
+
+  private Connection createConnection() throws SQLException {
+    Properties info = new Properties();
+    info.put(JdbcDriver.OPEN_TELEMETRY_PROPERTY_KEY, openTelemetry);
+    return DriverManager.getConnection("jdbc:" + getBaseUrl(), info);
+  }
+
+  private static List<SpanData> getJdbcSpans(String name) {
+    synchronized (spans) {
+      return spans.stream()
+          .filter(span -> span.getName().equals(name))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static void executeQuery(Connection connection) throws SQLException {
+    try (ResultSet resultSet =
+        connection.createStatement().executeQuery(SELECT_COUNT_STATEMENT.getSql())) {
+      while (resultSet.next()) {
+        // consume all rows
+      }
+    }
+  }
+
+  @Test
+  public void testJdbcSpansDisabledByDefault() throws SQLException {
+    try (Connection connection = createConnection()) {
+      assertFalse(connection.unwrap(CloudSpannerJdbcConnection.class).isJdbcSpansEnabled());
+      executeQuery(connection);
+    }
+    assertTrue(getJdbcSpans(JdbcConnection.EXECUTE_SPAN_NAME).isEmpty());
+    assertTrue(getJdbcSpans(JdbcConnection.RESULT_SET_SPAN_NAME).isEmpty());
+  }
+
+  @Test
+  public void testQuerySpans() throws SQLException {
+    try (Connection connection = createConnection()) {
+      connection.unwrap(CloudSpannerJdbcConnection.class).setJdbcSpansEnabled(true);
+      executeQuery(connection);
+    }
+    List<SpanData> executeSpans = getJdbcSpans(JdbcConnection.EXECUTE_SPAN_NAME);
+    assertEquals(1, executeSpans.size());
+    SpanData executeSpan = executeSpans.get(0);
+    assertEquals("query", executeSpan.getAttributes().get(Metrics.OPERATION_KEY));
+    assertNotNull(executeSpan.getAttributes().get(AttributeKey.stringKey("connection_id")));
+
+    List<SpanData> resultSetSpans = getJdbcSpans(JdbcConnection.RESULT_SET_SPAN_NAME);
+    assertEquals(1, resultSetSpans.size());
+    SpanData resultSetSpan = resultSetSpans.get(0);
+    assertEquals(Long.valueOf(1L), resultSetSpan.getAttributes().get(AttributeKey.longKey("rows")));
+    assertEquals("exhausted", resultSetSpan.getAttributes().get(Metrics.CLOSE_REASON_KEY));
+    // The result set is created while the execute span is current.
+    assertEquals(executeSpan.getSpanId(), resultSetSpan.getParentSpanId());
+  }
+
+  @Test
+  public void testCommitAndRollbackSpans() throws SQLException {
+    try (Connection connection = createConnection();
+        Statement statement = connection.createStatement()) {
+      connection.unwrap(CloudSpannerJdbcConnection.class).setJdbcSpansEnabled(true);
+      connection.setAutoCommit(false);
+      statement.executeUpdate(INSERT_STATEMENT.getSql());
+      connection.commit();
+      statement.executeUpdate(INSERT_STATEMENT.getSql());
+      connection.rollback();
+    }
+    assertEquals(2, getJdbcSpans(JdbcConnection.EXECUTE_SPAN_NAME).size());
+    assertEquals(
+        "update",
+        getJdbcSpans(JdbcConnection.EXECUTE_SPAN_NAME)
+            .get(0)
+            .getAttributes()
+            .get(Metrics.OPERATION_KEY));
+    assertEquals(1, getJdbcSpans(JdbcConnection.COMMIT_SPAN_NAME).size());
+    assertEquals(1, getJdbcSpans(JdbcConnection.ROLLBACK_SPAN_NAME).size());
+  }
+}
@@ -26,14 +26,18 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.api.gax.rpc.ServerStream;
 import com.google.cloud.spanner.Dialect;
 import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.MutationGroup;
 import com.google.cloud.spanner.SpannerExceptionFactory;
 import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.connection.AbstractStatementParser;
@@ -43,6 +47,9 @@ import com.google.cloud.spanner.connection.StatementResult.ResultType;
 import com.google.cloud.spanner.jdbc.JdbcSqlExceptionFactory.JdbcSqlExceptionImpl;
 import com.google.common.collect.ImmutableList;
 import com.google.rpc.Code;
+import com.google.rpc.Status;
+import com.google.spanner.v1.BatchWriteResponse;
+import java.sql.BatchUpdateException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -549,6 +556,205 @@ public class JdbcStatementTest {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testMutationGroupBatch() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDialect()).thenReturn(dialect);
+    when(connection.getParser()).thenReturn(AbstractStatementParser.getInstance(dialect));
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            ImmutableList.of(
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(0)
+                        .addIndexes(2)
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .build(),
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(1)
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .build())
+                .iterator());
+    when(connection.batchWrite(any())).thenReturn(stream);
+
+    try (JdbcStatement statement = new JdbcStatement(connection)) {
+      for (int id = 0; id < 3; id++) {
+        statement.addBatch(
+            MutationGroup.of(
+                Mutation.newInsertOrUpdateBuilder("FOO").set("ID").to(id).build(),
+                Mutation.newInsertOrUpdateBuilder("BAR").set("ID").to(id).build()));
+      }
+      assertArrayEquals(
+          new long[] {
+            Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO
+          },
+          statement.executeLargeBatch());
+      verify(connection).batchWrite(anyList());
+      // The batch should be cleared after it has been executed.
+      assertArrayEquals(new int[0], statement.executeBatch());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testMutationGroupBatchWithFailedGroup() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDialect()).thenReturn(dialect);
+    when(connection.getParser()).thenReturn(AbstractStatementParser.getInstance(dialect));
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            ImmutableList.of(
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(1)
+                        .setStatus(
+                            Status.newBuilder()
+                                .setCode(Code.ALREADY_EXISTS_VALUE)
+                                .setMessage("Row already exists"))
+                        .build(),
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(0)
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .build())
+                .iterator());
+    when(connection.batchWrite(any())).thenReturn(stream);
+
+    try (JdbcStatement statement = new JdbcStatement(connection)) {
+      statement.addBatch(
+          MutationGroup.of(Mutation.newInsertBuilder("FOO").set("ID").to(1L).build()));
+      statement.addBatch(
+          MutationGroup.of(Mutation.newInsertBuilder("FOO").set("ID").to(2L).build()));
+      BatchUpdateException exception =
+          assertThrows(BatchUpdateException.class, statement::executeBatch);
+      assertEquals(Code.ALREADY_EXISTS, ((JdbcSqlException) exception).getCode());
+      assertArrayEquals(
+          new int[] {Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED},
+          exception.getUpdateCounts());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testMutationGroupBatchWithPartialResponse() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDialect()).thenReturn(dialect);
+    when(connection.getParser()).thenReturn(AbstractStatementParser.getInstance(dialect));
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            ImmutableList.of(
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(0)
+                        .addIndexes(2)
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .build())
+                .iterator());
+    when(connection.batchWrite(any())).thenReturn(stream);
+
+    try (JdbcStatement statement = new JdbcStatement(connection)) {
+      for (int id = 0; id < 3; id++) {
+        statement.addBatch(
+            MutationGroup.of(Mutation.newInsertOrUpdateBuilder("FOO").set("ID").to(id).build()));
+      }
+      BatchUpdateException exception =
+          assertThrows(BatchUpdateException.class, statement::executeLargeBatch);
+      assertEquals(Code.INTERNAL, ((JdbcSqlException) exception).getCode());
+      assertArrayEquals(
+          new long[] {
+            Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED, Statement.SUCCESS_NO_INFO
+          },
+          exception.getLargeUpdateCounts());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testMutationGroupBatchKeepsFailedGroupFailed() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDialect()).thenReturn(dialect);
+    when(connection.getParser()).thenReturn(AbstractStatementParser.getInstance(dialect));
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            ImmutableList.of(
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(0)
+                        .setStatus(
+                            Status.newBuilder()
+                                .setCode(Code.ABORTED_VALUE)
+                                .setMessage("Transaction was aborted"))
+                        .build(),
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(0)
+                        .addIndexes(1)
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .build())
+                .iterator());
+    when(connection.batchWrite(any())).thenReturn(stream);
+
+    try (JdbcStatement statement = new JdbcStatement(connection)) {
+      statement.addBatch(
+          MutationGroup.of(Mutation.newInsertBuilder("FOO").set("ID").to(1L).build()));
+      statement.addBatch(
+          MutationGroup.of(Mutation.newInsertBuilder("FOO").set("ID").to(2L).build()));
+      BatchUpdateException exception =
+          assertThrows(BatchUpdateException.class, statement::executeBatch);
+      assertEquals(Code.ABORTED, ((JdbcSqlException) exception).getCode());
+      assertArrayEquals(
+          new int[] {Statement.EXECUTE_FAILED, Statement.SUCCESS_NO_INFO},
+          exception.getUpdateCounts());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testMutationGroupBatchWithInvalidIndex() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDialect()).thenReturn(dialect);
+    when(connection.getParser()).thenReturn(AbstractStatementParser.getInstance(dialect));
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            ImmutableList.of(
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(1)
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .build())
+                .iterator());
+    when(connection.batchWrite(any())).thenReturn(stream);
+
+    try (JdbcStatement statement = new JdbcStatement(connection)) {
+      statement.addBatch(
+          MutationGroup.of(Mutation.newInsertBuilder("FOO").set("ID").to(1L).build()));
+      JdbcSqlException exception = assertThrows(JdbcSqlException.class, statement::executeBatch);
+      assertEquals(Code.INTERNAL, exception.getCode());
+      assertTrue(
+          exception.getMessage(),
+          exception.getMessage().contains("invalid mutation group index: 1"));
+      verify(stream).cancel();
+    }
+  }
+
+  @Test
+  public void testNoMutationGroupAndSqlBatchMixing() throws SQLException {
+    try (JdbcStatement statement = createStatement()) {
+      statement.addBatch("INSERT INTO FOO (ID, NAME) VALUES (1, 'FOO')");
+      JdbcSqlExceptionImpl sqlException =
+          assertThrows(
+              JdbcSqlExceptionImpl.class,
+              () ->
+                  statement.addBatch(
+                      MutationGroup.of(Mutation.newInsertBuilder("FOO").set("ID").to(1L).build())));
+      assertEquals(Code.INVALID_ARGUMENT, sqlException.getCode());
+      assertTrue(
+          sqlException.getMessage(),
+          sqlException
+              .getMessage()
+              .contains("Mixing SQL statements and mutation groups in a batch is not allowed."));
+    }
+  }
+
   @Test
   public void testConvertUpdateCounts() throws SQLException {
     JdbcConnection connection = mock(JdbcConnection.class);
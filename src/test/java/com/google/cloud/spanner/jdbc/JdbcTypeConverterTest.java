@@ -32,12 +32,16 @@ import static com.google.cloud.spanner.jdbc.JdbcTypeConverter.toSqlTimestamps;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.fail;
 
 import com.google.cloud.ByteArray;
 import com.google.cloud.spanner.Type;
 import com.google.cloud.spanner.connection.ReadOnlyStalenessUtil;
 import com.google.cloud.spanner.jdbc.JdbcSqlExceptionFactory.JdbcSqlExceptionImpl;
+import com.google.cloud.spanner.jdbc.JdbcTypeConverter.ValueConverter;
 import com.google.cloud.spanner.jdbc.it.SingerProto.Genre;
 import com.google.cloud.spanner.jdbc.it.SingerProto.SingerInfo;
 import com.google.rpc.Code;
@@ -51,12 +55,15 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.DecimalFormat;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -1025,6 +1032,120 @@ public class JdbcTypeConverterTest {
         });
   }
 
+  @Test
+  public void testDateAndTimeConversionsMatchCalendar() {
+    TimeZone initialDefault = TimeZone.getDefault();
+    List<com.google.cloud.Date> dates =
+        Arrays.asList(
+            com.google.cloud.Date.fromYearMonthDay(2019, 8, 24),
+            com.google.cloud.Date.fromYearMonthDay(2018, 3, 25),
+            com.google.cloud.Date.fromYearMonthDay(1970, 1, 1),
+            com.google.cloud.Date.fromYearMonthDay(1900, 12, 31),
+            com.google.cloud.Date.fromYearMonthDay(1000, 6, 1));
+    List<com.google.cloud.Timestamp> timestamps =
+        Arrays.asList(
+            com.google.cloud.Timestamp.parseTimestamp("2019-08-24T07:20:19.123456789Z"),
+            com.google.cloud.Timestamp.parseTimestamp("2018-03-25T01:30:00Z"),
+            com.google.cloud.Timestamp.parseTimestamp("1960-01-01T23:59:59.999Z"));
+    List<TimeZone> zones = new ArrayList<>(Arrays.asList(getTestTimeZones()));
+    zones.add(TimeZone.getTimeZone("Europe/Oslo"));
+    zones.add(TimeZone.getTimeZone("America/Los_Angeles"));
+    // Time zones with an offset on 1 January 1970 that differs from their current offset.
+    zones.add(TimeZone.getTimeZone("Asia/Kathmandu"));
+    zones.add(TimeZone.getTimeZone("Asia/Singapore"));
+    zones.add(TimeZone.getTimeZone("Africa/Monrovia"));
+    try {
+      for (TimeZone zone : zones) {
+        TimeZone.setDefault(zone);
+        for (TimeZone calendarZone : zones) {
+          for (com.google.cloud.Date date : dates) {
+            Calendar cal = Calendar.getInstance(calendarZone);
+            //noinspection MagicConstant
+            cal.set(date.getYear(), date.getMonth() - 1, date.getDayOfMonth(), 0, 0, 0);
+            cal.clear(Calendar.MILLISECOND);
+            assertEquals(
+                cal.getTimeInMillis(),
+                toSqlDate(date, Calendar.getInstance(calendarZone)).getTime());
+          }
+          for (com.google.cloud.Timestamp timestamp : timestamps) {
+            Calendar cal = Calendar.getInstance(calendarZone);
+            Timestamp expected =
+                JdbcTypeConverter.getTimestampInCalendar(timestamp.toSqlTimestamp(), cal);
+            assertEquals(expected, getAsSqlTimestamp(timestamp, cal));
+            assertEquals(toLegacySqlTime(expected), toSqlTime(timestamp, cal));
+          }
+        }
+        for (com.google.cloud.Timestamp timestamp : timestamps) {
+          assertEquals(toLegacySqlTime(timestamp.toSqlTimestamp()), toSqlTime(timestamp));
+        }
+      }
+    } finally {
+      TimeZone.setDefault(initialDefault);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Time toLegacySqlTime(Timestamp timestamp) {
+    Time time = new Time(timestamp.getHours(), timestamp.getMinutes(), timestamp.getSeconds());
+    time.setTime(time.getTime() + timestamp.getNanos() / 1_000_000);
+    return time;
+  }
+
+  @Test
+  public void testGetProtoParser() {
+    assertSame(SingerInfo.parser(), JdbcTypeConverter.getProtoParser(SingerInfo.class));
+    assertSame(
+        JdbcTypeConverter.getProtoParser(SingerInfo.class),
+        JdbcTypeConverter.getProtoParser(SingerInfo.class));
+    assertNull(JdbcTypeConverter.getProtoParser(String.class));
+    assertNull(JdbcTypeConverter.getProtoParser(Genre.class));
+  }
+
+  @Test
+  public void testParseProtoMessageAliased() throws SQLException {
+    SingerInfo singerInfo =
+        SingerInfo.newBuilder().setSingerId(1L).setNationality("Country1").build();
+    assertEquals(
+        singerInfo,
+        JdbcTypeConverter.parseProtoMessageAliased(
+            SingerInfo.class, SingerInfo.parser(), singerInfo.toByteArray()));
+
+    JdbcSqlExceptionImpl exception =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () ->
+                JdbcTypeConverter.parseProtoMessageAliased(
+                    SingerInfo.class, SingerInfo.parser(), new byte[] {(byte) 0xff}));
+    assertEquals(Code.INVALID_ARGUMENT, exception.getCode());
+  }
+
+  @Test
+  public void testGetZoneRules() {
+    TimeZone timeZone = TimeZone.getTimeZone("Europe/Oslo");
+    assertEquals(timeZone.toZoneId().getRules(), JdbcTypeConverter.getZoneRules(timeZone));
+    assertSame(
+        JdbcTypeConverter.getZoneRules(timeZone),
+        JdbcTypeConverter.getZoneRules(TimeZone.getTimeZone("Europe/Oslo")));
+    // Custom time zones without a corresponding ZoneId are not supported.
+    assertNull(JdbcTypeConverter.getZoneRules(new SimpleTimeZone(3_600_000, "Custom/Zone")));
+  }
+
+  @Test
+  public void testToOffsetDateTime() {
+    TimeZone initialDefault = TimeZone.getDefault();
+    Instant instant = Instant.parse("2019-08-24T07:20:19.123456789Z");
+    try {
+      for (TimeZone zone : getTestTimeZones()) {
+        TimeZone.setDefault(zone);
+        assertEquals(
+            OffsetDateTime.ofInstant(instant, zone.toZoneId()),
+            JdbcTypeConverter.toOffsetDateTime(instant));
+      }
+    } finally {
+      TimeZone.setDefault(initialDefault);
+    }
+  }
+
   @Test
   public void testParseSqlTimeWithCalendar() {
     assertThat(
@@ -1044,4 +1165,51 @@ public class JdbcTypeConverterTest {
                     .toSqlTimestamp()
                     .getTime()));
   }
+
+  @Test
+  public void testGetConverter() throws Exception {
+    ValueConverter converter = JdbcTypeConverter.getConverter(Type.int64(), Integer.class);
+    assertSame(converter, JdbcTypeConverter.getConverter(Type.int64(), Integer.class));
+    assertEquals(100, converter.convert(100L));
+    assertEquals(100, JdbcTypeConverter.convert(100L, Integer.class, converter));
+    assertEquals(
+        "100",
+        JdbcTypeConverter.getConverter(Type.numeric(), String.class)
+            .convert(new BigDecimal("100")));
+    assertThat(JdbcTypeConverter.convert(null, Integer.class, converter)).isNull();
+
+    JdbcSqlExceptionImpl overflow =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () -> JdbcTypeConverter.convert(Long.MAX_VALUE, Integer.class, converter));
+    assertEquals(Code.OUT_OF_RANGE, overflow.getCode());
+  }
+
+  @Test
+  public void testGetConverterUnsupported() throws Exception {
+    ValueConverter converter = JdbcTypeConverter.getConverter(Type.date(), Long.class);
+    JdbcSqlExceptionImpl exception =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () -> JdbcTypeConverter.convert(new Date(0L), Long.class, converter));
+    assertEquals(Code.INVALID_ARGUMENT, exception.getCode());
+    assertThat(exception.getMessage()).contains("Cannot convert DATE to java.lang.Long");
+
+    assertThrows(
+        JdbcSqlExceptionImpl.class, () -> JdbcTypeConverter.getConverter(Type.int64(), null));
+  }
+
+  @Test
+  public void testAppendBase64() {
+    for (int length = 0; length < 8; length++) {
+      byte[] bytes = new byte[length];
+      for (int i = 0; i < length; i++) {
+        bytes[i] = (byte) (i * 97 - 128);
+      }
+      ByteArray value = ByteArray.copyFrom(bytes);
+      StringBuilder builder = new StringBuilder("prefix:");
+      assertSame(builder, JdbcTypeConverter.appendBase64(builder, value));
+      assertEquals("prefix:" + value.toBase64(), builder.toString());
+    }
+  }
 }
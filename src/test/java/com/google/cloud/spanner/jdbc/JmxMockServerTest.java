@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import com.google.spanner.v1.ExecuteSqlRequest;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class JmxMockServerTest extends AbstractMockServerTest {
+  private static final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+
+  private static int getOpenConnectionCount() throws Exception {
+    return (Integer)
+        SERVER.getAttribute(
+            new ObjectName(JdbcConnectionsMXBean.OBJECT_NAME), "OpenConnectionCount");
+  }
+
+  @Test
+  public void testOpenConnectionCount() throws Exception {
+    try (Connection connection = createJdbcConnection()) {
+      int count = getOpenConnectionCount();
+      assertTrue(count > 0);
+      try (Connection otherConnection = createJdbcConnection()) {
+        assertEquals(count + 1, getOpenConnectionCount());
+      }
+      assertEquals(count, getOpenConnectionCount());
+    }
+  }
+
+  @Test
+  public void testSpannerPool() throws Exception {
+    try (Connection connection = createJdbcConnection()) {
+      ObjectName name = new ObjectName(SpannerPoolMXBean.OBJECT_NAME);
+      CompositeData[] instances = (CompositeData[]) SERVER.getAttribute(name, "SpannerInstances");
+      assertTrue(instances.length > 0);
+      int connections = 0;
+      for (CompositeData instance : instances) {
+        connections += (Integer) instance.get("openConnectionCount");
+      }
+      assertEquals(getOpenConnectionCount(), connections);
+    }
+  }
+
+  @Test
+  public void testDumpActiveStatements() throws Exception {
+    ExecutorService service = Executors.newSingleThreadExecutor();
+    String sql = INSERT_STATEMENT.getSql();
+    try (Connection connection = createJdbcConnection();
+        Statement statement = connection.createStatement()) {
+      mockSpanner.freeze();
+      Future<Integer> updateCount = service.submit(() -> statement.executeUpdate(sql));
+      mockSpanner.waitForRequestsToContain(
+          message ->
+              message instanceof ExecuteSqlRequest
+                  && ((ExecuteSqlRequest) message).getSql().equals(sql),
+          5000L);
+
+      String[] activeStatements =
+          (String[])
+              SERVER.invoke(
+                  new ObjectName(JdbcConnectionsMXBean.OBJECT_NAME),
+                  "dumpActiveStatements",
+                  new Object[0],
+                  new String[0]);
+      String expected =
+          QueryFingerprint.normalize(connection.unwrap(JdbcConnection.class).getDialect(), sql);
+      boolean found = false;
+      for (String activeStatement : activeStatements) {
+        found |= activeStatement.endsWith(": " + expected);
+      }
+      assertTrue(String.join("\n", activeStatements), found);
+
+      mockSpanner.unfreeze();
+      assertEquals(1, updateCount.get().intValue());
+    } finally {
+      mockSpanner.unfreeze();
+      service.shutdown();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spanner.Type.StructField;
+import com.google.cloud.spanner.Value;
+import com.google.common.io.CharStreams;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class JsonCodecsTest {
+  private static final String JSON = "{\"name\":\"John\"}";
+
+  /** Test value type that is decoded by {@link TextCodec}. */
+  static final class JsonText {
+    private final String text;
+
+    JsonText(String text) {
+      this.text = text;
+    }
+  }
+
+  /**
+   * Test codec that is registered in META-INF/services/com.google.cloud.spanner.jdbc.JsonCodec in
+   * the test resources.
+   */
+  public static class TextCodec implements JsonCodec {
+    @Override
+    public boolean canDecode(Class<?> type) {
+      return type == JsonText.class;
+    }
+
+    @Override
+    public <T> T decode(Reader reader, Class<T> type) throws IOException {
+      return type.cast(new JsonText(CharStreams.toString(reader)));
+    }
+  }
+
+  private static JdbcResultSet createResultSet(Type type, Value value) {
+    return JdbcResultSet.of(
+        ResultSets.forRows(
+            Type.struct(StructField.of("value", type)),
+            Collections.singletonList(Struct.newBuilder().set("value").to(value).build())));
+  }
+
+  @Test
+  public void testFind() {
+    assertTrue(JsonCodecs.find(JsonText.class) instanceof TextCodec);
+    assertSame(JsonCodecs.find(JsonText.class), JsonCodecs.find(JsonText.class));
+    assertNull(JsonCodecs.find(Integer.class));
+  }
+
+  @Test
+  public void testGetObjectWithCodec() throws SQLException {
+    try (JdbcResultSet resultSet = createResultSet(Type.json(), Value.json(JSON))) {
+      assertTrue(resultSet.next());
+      assertEquals(JSON, resultSet.getObject(1, JsonText.class).text);
+      assertEquals(JSON, resultSet.getObject(1, String.class));
+      assertThrows(SQLException.class, () -> resultSet.getObject(1, Integer.class));
+    }
+    try (JdbcResultSet resultSet = createResultSet(Type.pgJsonb(), Value.pgJsonb(JSON))) {
+      assertTrue(resultSet.next());
+      assertEquals(JSON, resultSet.getObject(1, JsonText.class).text);
+    }
+    try (JdbcResultSet resultSet = createResultSet(Type.json(), Value.json(null))) {
+      assertTrue(resultSet.next());
+      assertNull(resultSet.getObject(1, JsonText.class));
+    }
+  }
+
+  @Test
+  public void testCodecIsOnlyUsedForJson() throws SQLException {
+    try (JdbcResultSet resultSet = createResultSet(Type.string(), Value.string(JSON))) {
+      assertTrue(resultSet.next());
+      assertThrows(SQLException.class, () -> resultSet.getObject(1, JsonText.class));
+    }
+  }
+}
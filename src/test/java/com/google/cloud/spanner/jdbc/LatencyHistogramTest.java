@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.spanner.jdbc.Metrics.LatencyOptions;
+import com.google.cloud.spanner.jdbc.Metrics.LatencyUnit;
+import java.util.Arrays;
+import java.util.Properties;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LatencyHistogramTest {
+
+  @Test
+  public void testPercentile() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0L, histogram.getPercentile(0.5d));
+    for (long millis = 1L; millis <= 100L; millis++) {
+      histogram.record(millis);
+    }
+    assertEquals(100L, histogram.getCount());
+    assertEquals(50L, histogram.getPercentile(0.5d));
+    assertEquals(100L, histogram.getPercentile(0.99d));
+
+    histogram.record(200_000L);
+    assertEquals(100000L, histogram.getPercentile(1.0d));
+  }
+
+  @Test
+  public void testEmptySnapshot() {
+    LatencySnapshot snapshot =
+        new LatencyHistogram(Metrics.RPC_MICROS_BUCKET_BOUNDARIES).snapshot();
+    assertEquals(0L, snapshot.getCount());
+    assertEquals(0L, snapshot.getMinMicros());
+    assertEquals(0L, snapshot.getMaxMicros());
+    assertEquals(0.0d, snapshot.getMeanMicros(), 0.0d);
+    assertEquals(0L, snapshot.getValueAtPercentile(99.0d));
+  }
+
+  @Test
+  public void testSnapshot() {
+    LatencyHistogram histogram = new LatencyHistogram(Metrics.RPC_MICROS_BUCKET_BOUNDARIES);
+    for (long micros = 1L; micros <= 1000L; micros++) {
+      histogram.record(micros);
+    }
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertEquals(1000L, snapshot.getCount());
+    assertEquals(1L, snapshot.getMinMicros());
+    assertEquals(1000L, snapshot.getMaxMicros());
+    assertEquals(500.5d, snapshot.getMeanMicros(), 0.0d);
+    assertEquals(10L, snapshot.getValueAtPercentile(0.0d));
+    assertEquals(100L, snapshot.getValueAtPercentile(10.0d));
+    assertEquals(500L, snapshot.getValueAtPercentile(50.0d));
+    assertEquals(1000L, snapshot.getValueAtPercentile(100.0d));
+    assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101.0d));
+
+    histogram.reset();
+    assertEquals(0L, histogram.snapshot().getCount());
+    // The snapshot is not affected by the reset.
+    assertEquals(1000L, snapshot.getCount());
+  }
+
+  @Test
+  public void testSnapshotIsCappedByMaxValue() {
+    LatencyHistogram histogram = new LatencyHistogram(Arrays.asList(100L, 200L));
+    histogram.record(-1L);
+    histogram.record(150L);
+    histogram.record(250L);
+    LatencySnapshot snapshot = histogram.snapshot();
+    assertEquals(3L, snapshot.getCount());
+    assertEquals(0L, snapshot.getMinMicros());
+    assertEquals(250L, snapshot.getMaxMicros());
+    assertEquals(100L, snapshot.getValueAtPercentile(33.0d));
+    assertEquals(200L, snapshot.getValueAtPercentile(66.0d));
+    assertEquals(250L, snapshot.getValueAtPercentile(100.0d));
+  }
+
+  @Test
+  public void testMicrosBucketBoundaries() {
+    assertEquals(
+        Arrays.asList(10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2000L, 3000L),
+        Metrics.RPC_MICROS_BUCKET_BOUNDARIES.subList(0, 9));
+    assertEquals(
+        Arrays.asList(10L, 25L, 50L, 100L, 250L, 500L, 5000L, 10000L),
+        Metrics.toMicrosBucketBoundaries(Arrays.asList(5L, 10L)));
+    assertEquals(Arrays.asList(0L, 1000L), Metrics.toMicrosBucketBoundaries(Arrays.asList(0L, 1L)));
+  }
+
+  @Test
+  public void testLatencyOptions() {
+    Properties properties = new Properties();
+    assertSame(LatencyOptions.DEFAULT, LatencyOptions.fromProperties(properties));
+    assertEquals(
+        Metrics.RPC_MILLIS_BUCKET_BOUNDARIES, LatencyOptions.DEFAULT.getBucketBoundaries());
+    assertEquals(
+        Metrics.RPC_MICROS_BUCKET_BOUNDARIES, LatencyOptions.DEFAULT.getMicrosBucketBoundaries());
+
+    properties.setProperty(JdbcDriver.LATENCY_HISTOGRAM_UNIT, "us");
+    LatencyOptions micros = LatencyOptions.fromProperties(properties);
+    assertEquals(LatencyUnit.MICROSECONDS, micros.getUnit());
+    assertEquals(Metrics.RPC_MICROS_BUCKET_BOUNDARIES, micros.getBucketBoundaries());
+
+    properties.setProperty(JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES, "100, 200,500");
+    LatencyOptions custom = LatencyOptions.fromProperties(properties);
+    assertEquals(Arrays.asList(100L, 200L, 500L), custom.getBucketBoundaries());
+    assertEquals(Arrays.asList(100L, 200L, 500L), custom.getMicrosBucketBoundaries());
+
+    for (String invalid : new String[] {"10,5", "foo", "-1", ","}) {
+      properties.setProperty(JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES, invalid);
+      assertThrows(
+          IllegalArgumentException.class, () -> LatencyOptions.fromProperties(properties));
+    }
+    properties.remove(JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES);
+    properties.setProperty(JdbcDriver.LATENCY_HISTOGRAM_UNIT, "s");
+    assertThrows(IllegalArgumentException.class, () -> LatencyOptions.fromProperties(properties));
+
+    assertEquals(LatencyUnit.MICROSECONDS, LatencyUnit.of("us"));
+    assertEquals(1500L, LatencyUnit.MICROSECONDS.fromNanos(1_500_000L));
+    assertEquals(1L, LatencyUnit.MILLISECONDS.fromNanos(1_500_000L));
+  }
+}
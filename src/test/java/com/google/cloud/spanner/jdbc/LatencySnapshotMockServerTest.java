@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LatencySnapshotMockServerTest extends AbstractMockServerTest {
+
+  @After
+  public void clearRequests() {
+    mockSpanner.clearRequests();
+  }
+
+  @Test
+  public void testLatencySnapshotsDisabledByDefault() throws SQLException {
+    try (Connection connection = createJdbcConnection();
+        Statement statement = connection.createStatement()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      assertFalse(cloudSpannerJdbcConnection.isLatencySnapshotsEnabled());
+      statement.executeUpdate(INSERT_STATEMENT.getSql());
+      assertTrue(cloudSpannerJdbcConnection.getLatencySnapshots().isEmpty());
+    }
+  }
+
+  @Test
+  public void testLatencySnapshots() throws SQLException {
+    try (Connection connection = createJdbcConnection();
+        Statement statement = connection.createStatement()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      cloudSpannerJdbcConnection.setLatencySnapshotsEnabled(true);
+      assertTrue(cloudSpannerJdbcConnection.isLatencySnapshotsEnabled());
+
+      for (int i = 0; i < 10; i++) {
+        try (ResultSet resultSet = statement.executeQuery(SELECT_COUNT_STATEMENT.getSql())) {
+          assertTrue(resultSet.next());
+        }
+      }
+      assertEquals(1, statement.executeUpdate(INSERT_STATEMENT.getSql()));
+
+      Map<String, LatencySnapshot> snapshots = cloudSpannerJdbcConnection.getLatencySnapshots();
+      assertEquals(2, snapshots.size());
+      LatencySnapshot queries = snapshots.get("query");
+      assertEquals(10L, queries.getCount());
+      assertTrue(queries.getMaxMicros() >= queries.getValueAtPercentile(99.0d));
+      assertTrue(queries.getValueAtPercentile(99.0d) >= queries.getValueAtPercentile(50.0d));
+      assertTrue(queries.getMinMicros() <= queries.getValueAtPercentile(50.0d));
+      assertEquals(1L, snapshots.get("update").getCount());
+
+      cloudSpannerJdbcConnection.resetLatencySnapshots();
+      assertEquals(0L, cloudSpannerJdbcConnection.getLatencySnapshots().get("query").getCount());
+    }
+  }
+
+  @Test
+  public void testLatencyHistogramConnectionProperties() throws SQLException {
+    Properties info = new Properties();
+    info.setProperty(JdbcDriver.LATENCY_HISTOGRAM_UNIT, "us");
+    info.setProperty(JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES, "1000000000");
+    try (Connection connection = DriverManager.getConnection("jdbc:" + getBaseUrl(), info);
+        Statement statement = connection.createStatement()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      cloudSpannerJdbcConnection.setLatencySnapshotsEnabled(true);
+      assertEquals(1, statement.executeUpdate(INSERT_STATEMENT.getSql()));
+
+      // All latencies are in the only bucket, so all percentiles are the maximum latency.
+      LatencySnapshot updates = cloudSpannerJdbcConnection.getLatencySnapshots().get("update");
+      assertEquals(1L, updates.getCount());
+      assertEquals(updates.getMaxMicros(), updates.getValueAtPercentile(50.0d));
+    }
+
+    info.setProperty(JdbcDriver.LATENCY_HISTOGRAM_BOUNDARIES, "10,5");
+    assertThrows(
+        SQLException.class, () -> DriverManager.getConnection("jdbc:" + getBaseUrl(), info));
+  }
+}
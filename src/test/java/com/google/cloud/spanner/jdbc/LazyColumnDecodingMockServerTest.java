@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LazyColumnDecodingMockServerTest extends AbstractMockServerTest {
+
+  @Test
+  public void testDisabledByDefault() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      assertFalse(cloudSpannerJdbcConnection.isLazyColumnDecoding());
+      cloudSpannerJdbcConnection.setLazyColumnDecoding(true);
+      assertTrue(cloudSpannerJdbcConnection.isLazyColumnDecoding());
+    }
+  }
+
+  @Test
+  public void testQueryWithLazyColumnDecoding() throws SQLException {
+    Properties info = new Properties();
+    info.setProperty(JdbcDriver.LAZY_COLUMN_DECODING, "true");
+    try (Connection connection = DriverManager.getConnection("jdbc:" + getBaseUrl(), info);
+        Statement statement = connection.createStatement()) {
+      assertTrue(connection.unwrap(CloudSpannerJdbcConnection.class).isLazyColumnDecoding());
+      try (ResultSet resultSet = statement.executeQuery(SELECT_COUNT_STATEMENT.getSql())) {
+        assertTrue(resultSet.next());
+        assertEquals(COUNT_BEFORE_INSERT, resultSet.getLong(1));
+        assertFalse(resultSet.wasNull());
+        assertFalse(resultSet.next());
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
+import com.google.cloud.spanner.jdbc.LeakDetector.TrackedResource;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class LeakDetectorTest {
+
+  private static JdbcConnection mockConnection() {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDatabaseName())
+        .thenReturn("projects/project/instances/instance/databases/database");
+    return connection;
+  }
+
+  /** Tracks a resource that is not referenced by anything after this method returns. */
+  private static TrackedResource trackUnreferencedResource(
+      LeakDetector detector,
+      JdbcConnection connection,
+      Runnable releaseAction,
+      Runnable closeAction) {
+    return detector.track(
+        new Object(), ResourceType.RESULT_SET, connection, releaseAction, closeAction);
+  }
+
+  /** Triggers garbage collections until a leak has been processed, or the timeout is reached. */
+  private static boolean awaitLeak(LeakDetector detector) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+    while (System.nanoTime() < deadline) {
+      System.gc();
+      if (detector.processNextLeak(100L)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Test
+  public void testLeakedResourceIsReported() throws InterruptedException {
+    LeakDetector detector = new LeakDetector(1.0d, true);
+    JdbcConnection connection = mockConnection();
+    AtomicBoolean released = new AtomicBoolean();
+    AtomicBoolean closed = new AtomicBoolean();
+    trackUnreferencedResource(
+        detector, connection, () -> released.set(true), () -> closed.set(true));
+    assertEquals(1, detector.getTrackedResourceCount());
+
+    assertTrue(awaitLeak(detector));
+    assertEquals(1L, detector.getLeakCount());
+    assertEquals(0, detector.getTrackedResourceCount());
+    assertTrue(released.get());
+    assertTrue(closed.get());
+    verify(connection).recordLeakedResourceMetric(ResourceType.RESULT_SET);
+  }
+
+  @Test
+  public void testLeakedResourceIsNotClosedByDefault() throws InterruptedException {
+    LeakDetector detector = new LeakDetector(0.0d, false);
+    JdbcConnection connection = mockConnection();
+    AtomicBoolean released = new AtomicBoolean();
+    AtomicBoolean closed = new AtomicBoolean();
+    trackUnreferencedResource(
+        detector, connection, () -> released.set(true), () -> closed.set(true));
+
+    assertTrue(awaitLeak(detector));
+    assertEquals(1L, detector.getLeakCount());
+    // The open resource bookkeeping is always updated, also if the resource is not closed.
+    assertTrue(released.get());
+    assertFalse(closed.get());
+    verify(connection).recordLeakedResourceMetric(ResourceType.RESULT_SET);
+  }
+
+  @Test
+  public void testClosedResourceIsNotReported() throws InterruptedException {
+    LeakDetector detector = new LeakDetector(1.0d, true);
+    JdbcConnection connection = mockConnection();
+    AtomicBoolean released = new AtomicBoolean();
+    AtomicBoolean closed = new AtomicBoolean();
+    trackUnreferencedResource(
+            detector, connection, () -> released.set(true), () -> closed.set(true))
+        .close();
+    assertEquals(0, detector.getTrackedResourceCount());
+
+    System.gc();
+    assertFalse(detector.processNextLeak(500L));
+    assertEquals(0L, detector.getLeakCount());
+    assertFalse(released.get());
+    assertFalse(closed.get());
+    verify(connection, never()).recordLeakedResourceMetric(ResourceType.RESULT_SET);
+  }
+
+  @Test
+  public void testStackTraceSampling() {
+    JdbcConnection connection = mockConnection();
+    Object resource = new Object();
+
+    TrackedResource sampled =
+        new LeakDetector(1.0d, false)
+            .track(resource, ResourceType.STATEMENT, connection, null, null);
+    assertEquals(ResourceType.STATEMENT, sampled.getType());
+    assertNotNull(sampled.getAllocationSite());
+    assertThat(sampled.getAllocationSite().getMessage()).contains("statement");
+    assertThat(sampled.getAllocationSite().getStackTrace()[1].getMethodName())
+        .isEqualTo("testStackTraceSampling");
+
+    TrackedResource notSampled =
+        new LeakDetector(0.0d, false)
+            .track(resource, ResourceType.STATEMENT, connection, null, null);
+    assertNull(notSampled.getAllocationSite());
+  }
+
+  @Test
+  public void testResourceTypes() {
+    assertEquals("prepared_statement", ResourceType.PREPARED_STATEMENT.getAttributeValue());
+    assertEquals("prepared statement", ResourceType.PREPARED_STATEMENT.getDescription());
+    assertEquals("result_set", ResourceType.RESULT_SET.getAttributeValue());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.connection.StatementResult;
+import com.google.cloud.spanner.connection.StatementResult.ClientSideStatementType;
+import com.google.cloud.spanner.connection.StatementResult.ResultType;
+import com.google.cloud.spanner.jdbc.AutoBatchDmlFlushPolicy.FlushReason;
+import com.google.cloud.spanner.jdbc.LeakDetector.ResourceType;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class MetricAttributesTest {
+  private static final Attributes BASE =
+      Attributes.of(AttributeKey.stringKey("database"), "test-database");
+
+  @Test
+  public void testOperationAttributesArePrecomputed() {
+    MetricAttributes attributes = new MetricAttributes(BASE);
+    assertSame(BASE, attributes.get());
+    for (Operation operation : Operation.values()) {
+      Attributes operationAttributes = attributes.get(operation);
+      assertSame(operationAttributes, attributes.get(operation));
+      assertSame(operationAttributes, attributes.get(operation, null));
+      assertSame(operationAttributes, attributes.get(operation, ""));
+      assertEquals("test-database", operationAttributes.get(AttributeKey.stringKey("database")));
+      assertEquals(operation.getAttributeValue(), operationAttributes.get(Metrics.OPERATION_KEY));
+      assertNull(operationAttributes.get(Metrics.STATEMENT_TAG_KEY));
+    }
+  }
+
+  @Test
+  public void testFlushReasonAttributesArePrecomputed() {
+    MetricAttributes attributes = new MetricAttributes(BASE);
+    for (FlushReason reason : FlushReason.values()) {
+      Attributes reasonAttributes = attributes.get(reason);
+      assertSame(reasonAttributes, attributes.get(reason));
+      assertEquals("test-database", reasonAttributes.get(AttributeKey.stringKey("database")));
+      assertEquals(reason.getAttributeValue(), reasonAttributes.get(Metrics.FLUSH_REASON_KEY));
+    }
+  }
+
+  @Test
+  public void testResourceTypeAttributesArePrecomputed() {
+    MetricAttributes attributes = new MetricAttributes(BASE);
+    for (ResourceType type : ResourceType.values()) {
+      Attributes typeAttributes = attributes.get(type);
+      assertSame(typeAttributes, attributes.get(type));
+      assertEquals("test-database", typeAttributes.get(AttributeKey.stringKey("database")));
+      assertEquals(type.getAttributeValue(), typeAttributes.get(Metrics.RESOURCE_TYPE_KEY));
+    }
+  }
+
+  @Test
+  public void testStatementTagAttributes() {
+    MetricAttributes attributes = new MetricAttributes(BASE);
+    Attributes tagged = attributes.get(Operation.QUERY, "my-tag");
+    assertSame(tagged, attributes.get(Operation.QUERY, "my-tag"));
+    assertEquals("my-tag", tagged.get(Metrics.STATEMENT_TAG_KEY));
+    assertEquals("query", tagged.get(Metrics.OPERATION_KEY));
+  }
+
+  @Test
+  public void testStatementTagCardinalityIsLimited() {
+    MetricAttributes attributes = new MetricAttributes(BASE);
+    for (int i = 0; i < MetricAttributes.MAX_STATEMENT_TAGS; i++) {
+      String tag = "tag-" + i;
+      assertEquals(tag, attributes.get(Operation.UPDATE, tag).get(Metrics.STATEMENT_TAG_KEY));
+    }
+    assertEquals(
+        MetricAttributes.OTHER_STATEMENT_TAG,
+        attributes.get(Operation.UPDATE, "one-too-many").get(Metrics.STATEMENT_TAG_KEY));
+    // Tags that were already registered are still recorded.
+    assertEquals("tag-0", attributes.get(Operation.UPDATE, "tag-0").get(Metrics.STATEMENT_TAG_KEY));
+  }
+
+  @Test
+  public void testOperationOfStatementResult() {
+    assertEquals(Operation.QUERY, Operation.of(result(ResultType.RESULT_SET, null)));
+    assertEquals(Operation.UPDATE, Operation.of(result(ResultType.UPDATE_COUNT, null)));
+    assertEquals(Operation.DDL, Operation.of(result(ResultType.NO_RESULT, null)));
+    assertEquals(
+        Operation.COMMIT,
+        Operation.of(result(ResultType.NO_RESULT, ClientSideStatementType.COMMIT)));
+    assertEquals(
+        Operation.ROLLBACK,
+        Operation.of(result(ResultType.NO_RESULT, ClientSideStatementType.ROLLBACK)));
+    assertEquals(
+        Operation.CLIENT_SIDE,
+        Operation.of(result(ResultType.RESULT_SET, ClientSideStatementType.SHOW_AUTOCOMMIT)));
+  }
+
+  private static StatementResult result(ResultType type, ClientSideStatementType clientSideType) {
+    StatementResult result = mock(StatementResult.class);
+    when(result.getResultType()).thenReturn(type);
+    when(result.getClientSideStatementType()).thenReturn(clientSideType);
+    return result;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.CharStreams;
+import io.opentelemetry.api.common.Attributes;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class OpenMetricsEndpointTest {
+
+  @Test
+  public void testScrape() throws IOException {
+    try (OpenMetricsEndpoint endpoint =
+        OpenMetricsEndpoint.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+      assertTrue(OpenMetricsRegistry.getInstance().isEnabled());
+      OpenMetricsRegistry.getInstance()
+          .counter("spanner/jdbc/endpoint_test", "Test counter")
+          .add(3L, Attributes.empty());
+
+      URL url =
+          new URL(
+              "http",
+              endpoint.getAddress().getHostString(),
+              endpoint.getAddress().getPort(),
+              OpenMetricsEndpoint.PATH);
+      HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+      try {
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(OpenMetricsRegistry.CONTENT_TYPE, connection.getContentType());
+        String body;
+        try (InputStreamReader reader =
+            new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+          body = CharStreams.toString(reader);
+        }
+        assertTrue(body, body.contains("spanner_jdbc_endpoint_test_total 3\n"));
+        assertTrue(body, body.contains("# TYPE spanner_jdbc_open_connections gauge\n"));
+        assertTrue(body, body.contains("# TYPE spanner_jdbc_open_statements gauge\n"));
+        assertTrue(body, body.contains("# TYPE spanner_jdbc_open_result_sets gauge\n"));
+        assertTrue(body, body.contains("spanner_jdbc_executing_statements "));
+        assertTrue(body, body.endsWith("# EOF\n"));
+      } finally {
+        connection.disconnect();
+      }
+    }
+  }
+
+  @Test
+  public void testStartWithPortListensOnLoopbackAddress() throws IOException {
+    try (OpenMetricsEndpoint endpoint = OpenMetricsEndpoint.start(0)) {
+      assertEquals(InetAddress.getLoopbackAddress(), endpoint.getAddress().getAddress());
+    }
+  }
+}
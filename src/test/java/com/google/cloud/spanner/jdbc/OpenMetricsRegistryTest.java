@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.jdbc.Metrics.LatencyOptions;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class OpenMetricsRegistryTest {
+  private static final Attributes ATTRIBUTES =
+      Attributes.of(AttributeKey.stringKey("database"), "db", AttributeKey.stringKey("op"), "q");
+
+  private static String write(OpenMetricsRegistry registry) throws IOException {
+    StringWriter writer = new StringWriter();
+    registry.write(writer, null);
+    return writer.toString();
+  }
+
+  @Test
+  public void testDisabledByDefault() throws IOException {
+    OpenMetricsRegistry registry = new OpenMetricsRegistry();
+    OpenMetricsRegistry.Counter counter = registry.counter("spanner/jdbc/test", "Test counter");
+    counter.add(1L, ATTRIBUTES);
+
+    assertEquals(
+        "# TYPE spanner_jdbc_test counter\n"
+            + "# HELP spanner_jdbc_test Test counter\n"
+            + "# EOF\n",
+        write(registry));
+  }
+
+  @Test
+  public void testCounterAndGauge() throws IOException {
+    OpenMetricsRegistry registry = new OpenMetricsRegistry();
+    registry.setEnabled(true);
+    OpenMetricsRegistry.Counter counter = registry.counter("spanner/jdbc/test", "Test counter");
+    counter.add(2L, ATTRIBUTES);
+    counter.add(3L, ATTRIBUTES);
+    OpenMetricsRegistry.Gauge gauge = registry.gauge("spanner/jdbc/open", "Open \"things\"");
+    gauge.add(2L, Attributes.empty());
+    gauge.add(-1L, Attributes.empty());
+
+    String output = write(registry);
+    assertTrue(output, output.contains("spanner_jdbc_test_total{database=\"db\",op=\"q\"} 5\n"));
+    assertTrue(output, output.contains("# HELP spanner_jdbc_open Open \\\"things\\\"\n"));
+    assertTrue(output, output.contains("spanner_jdbc_open 1\n"));
+    assertTrue(output, output.endsWith("# EOF\n"));
+  }
+
+  @Test
+  public void testHistogram() throws IOException {
+    OpenMetricsRegistry registry = new OpenMetricsRegistry();
+    registry.setEnabled(true);
+    OpenMetricsRegistry.Histogram histogram =
+        registry.histogram("spanner/jdbc/latencies", "Latency", "ms", Arrays.asList(1L, 10L));
+    histogram.record(1L, Attributes.empty());
+    histogram.record(5L, Attributes.empty());
+    histogram.record(100L, Attributes.empty());
+
+    assertEquals(
+        "# TYPE spanner_jdbc_latencies_milliseconds histogram\n"
+            + "# UNIT spanner_jdbc_latencies_milliseconds milliseconds\n"
+            + "# HELP spanner_jdbc_latencies_milliseconds Latency\n"
+            + "spanner_jdbc_latencies_milliseconds_bucket{le=\"1\"} 1\n"
+            + "spanner_jdbc_latencies_milliseconds_bucket{le=\"10\"} 2\n"
+            + "spanner_jdbc_latencies_milliseconds_bucket{le=\"+Inf\"} 3\n"
+            + "spanner_jdbc_latencies_milliseconds_count 3\n"
+            + "spanner_jdbc_latencies_milliseconds_sum 106\n"
+            + "# EOF\n",
+        write(registry));
+  }
+
+  @Test
+  public void testFamiliesAreShared() {
+    OpenMetricsRegistry registry = new OpenMetricsRegistry();
+    assertTrue(
+        registry.counter("spanner/jdbc/test", "Test")
+            == registry.counter("spanner/jdbc/test", "Test"));
+    assertThrows(IllegalStateException.class, () -> registry.gauge("spanner/jdbc/test", "Test"));
+    assertTrue(
+        registry.histogram("spanner/jdbc/hist", "Test", "ms", Arrays.asList(1L, 10L))
+            == registry.histogram("spanner/jdbc/hist", "Test", "ms", Arrays.asList(1L, 10L)));
+  }
+
+  @Test
+  public void testSeriesAreBounded() throws IOException {
+    OpenMetricsRegistry registry = new OpenMetricsRegistry();
+    registry.setEnabled(true);
+    OpenMetricsRegistry.Counter counter = registry.counter("spanner/jdbc/test", "Test counter");
+    AttributeKey<String> tagKey = AttributeKey.stringKey("tag");
+    for (int i = 0; i < OpenMetricsRegistry.MAX_SERIES_PER_FAMILY + 10; i++) {
+      counter.add(1L, Attributes.of(tagKey, "tag" + i));
+    }
+    // Existing series are still updated after the limit has been reached.
+    counter.add(1L, Attributes.of(tagKey, "tag0"));
+
+    assertEquals(OpenMetricsRegistry.MAX_SERIES_PER_FAMILY + 1, counter.series.size());
+    String output = write(registry);
+    assertTrue(output, output.contains("spanner_jdbc_test_total{tag=\"tag0\"} 2\n"));
+    assertTrue(
+        output, output.contains("spanner_jdbc_test_total{otel_metric_overflow=\"true\"} 10\n"));
+  }
+
+  @Test
+  public void testMetricsAreRecordedInRegistry() throws IOException {
+    OpenMetricsRegistry registry = new OpenMetricsRegistry();
+    registry.setEnabled(true);
+    Metrics metrics = new Metrics(OpenTelemetry.noop(), registry, LatencyOptions.DEFAULT);
+    metrics.recordAbortedOperation(ATTRIBUTES);
+    metrics.recordBatchSize(5L, ATTRIBUTES);
+    // The number of open statements is computed from the connections when the registry is written.
+    metrics.addOpenStatements(-1L, ATTRIBUTES);
+
+    String output = write(registry);
+    assertFalse(output, output.contains("spanner_jdbc_open_statements"));
+    assertTrue(
+        output,
+        output.contains("spanner_jdbc_aborted_operations_total{database=\"db\",op=\"q\"} 1\n"));
+    assertTrue(
+        output,
+        output.contains("spanner_jdbc_batch_sizes_count{database=\"db\",op=\"q\"} 1\n"));
+  }
+
+  @Test
+  public void testSanitize() {
+    assertEquals("spanner_jdbc_foo", OpenMetricsRegistry.sanitize("spanner/jdbc/foo"));
+    assertEquals("_1a_b", OpenMetricsRegistry.sanitize("1a.b"));
+  }
+}
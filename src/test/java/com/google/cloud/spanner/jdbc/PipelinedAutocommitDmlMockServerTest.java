@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.spanner.MockSpannerServiceImpl.StatementResult;
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import com.google.cloud.spanner.jdbc.JdbcSqlExceptionFactory.JdbcSqlExceptionImpl;
+import com.google.protobuf.AbstractMessage;
+import com.google.rpc.Code;
+import com.google.spanner.v1.CommitRequest;
+import com.google.spanner.v1.ExecuteBatchDmlRequest;
+import com.google.spanner.v1.ExecuteSqlRequest;
+import io.grpc.Status;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class PipelinedAutocommitDmlMockServerTest extends AbstractMockServerTest {
+  private static final String INSERT = "insert into foo (id, value) values (1, 'One')";
+  private static final String UPDATE = "update foo set value='Zero' where id>=0";
+  private static final String INVALID_UPDATE = "update foo set value='Zero' where bar=1";
+  private static final String PARAMETERIZED_INSERT =
+      "insert into foo (id, value) values (@p1, @p2)";
+
+  @BeforeClass
+  public static void setup() {
+    mockSpanner.putStatementResult(
+        StatementResult.update(com.google.cloud.spanner.Statement.of(INSERT), 1L));
+    mockSpanner.putStatementResult(
+        StatementResult.update(com.google.cloud.spanner.Statement.of(UPDATE), 5L));
+    mockSpanner.putStatementResult(
+        StatementResult.exception(
+            com.google.cloud.spanner.Statement.of(INVALID_UPDATE),
+            Status.INVALID_ARGUMENT.withDescription("Column not found: bar").asRuntimeException()));
+    mockSpanner.putStatementResult(
+        StatementResult.update(
+            com.google.cloud.spanner.Statement.newBuilder(PARAMETERIZED_INSERT)
+                .bind("p1")
+                .to(2L)
+                .bind("p2")
+                .to("Two")
+                .build(),
+            1L));
+  }
+
+  @After
+  public void clearRequests() {
+    mockSpanner.clearRequests();
+  }
+
+  private Connection createPipelinedConnection() throws SQLException {
+    Connection connection = createJdbcConnection();
+    connection.unwrap(CloudSpannerJdbcConnection.class).setPipelinedAutocommitDml(true);
+    return connection;
+  }
+
+  @Test
+  public void testPipelinedStatements() throws Exception {
+    try (Connection connection = createPipelinedConnection();
+        Statement statement = connection.createStatement()) {
+      CloudSpannerJdbcStatement cloudSpannerJdbcStatement =
+          statement.unwrap(CloudSpannerJdbcStatement.class);
+      ApiFuture<Long> insertCount = cloudSpannerJdbcStatement.executeLargeUpdateAsync(INSERT);
+      ApiFuture<Long> updateCount = cloudSpannerJdbcStatement.executeLargeUpdateAsync(UPDATE);
+      assertFalse(insertCount.isDone());
+      assertFalse(updateCount.isDone());
+      assertEquals(0, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+
+      // Waiting for an update count flushes the pipeline, including the statements before it.
+      assertEquals(5L, updateCount.get().longValue());
+      assertEquals(1L, insertCount.get(1L, TimeUnit.SECONDS).longValue());
+    }
+    assertEquals(1, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+    assertEquals(0, mockSpanner.countRequestsOfType(ExecuteSqlRequest.class));
+    assertEquals(1, mockSpanner.countRequestsOfType(CommitRequest.class));
+    ExecuteBatchDmlRequest request =
+        mockSpanner.getRequestsOfType(ExecuteBatchDmlRequest.class).get(0);
+    assertEquals(2, request.getStatementsCount());
+  }
+
+  @Test
+  public void testPreparedStatement() throws Exception {
+    try (Connection connection = createPipelinedConnection();
+        PreparedStatement statement = connection.prepareStatement(PARAMETERIZED_INSERT)) {
+      statement.setLong(1, 2L);
+      statement.setString(2, "Two");
+      ApiFuture<Long> updateCount =
+          statement.unwrap(CloudSpannerJdbcPreparedStatement.class).executeLargeUpdateAsync();
+      connection.unwrap(CloudSpannerJdbcConnection.class).flushPipelinedDml();
+      assertEquals(1L, updateCount.get().longValue());
+    }
+    assertEquals(1, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+  }
+
+  @Test
+  public void testOtherStatementFlushesPipeline() throws Exception {
+    try (Connection connection = createPipelinedConnection();
+        Statement statement = connection.createStatement()) {
+      ApiFuture<Long> insertCount =
+          statement.unwrap(CloudSpannerJdbcStatement.class).executeLargeUpdateAsync(INSERT);
+      assertEquals(5, statement.executeUpdate(UPDATE));
+      assertEquals(1L, insertCount.get().longValue());
+    }
+    List<Class<?>> requests =
+        mockSpanner.getRequests().stream()
+            .filter(
+                request ->
+                    request instanceof ExecuteBatchDmlRequest
+                        || request instanceof ExecuteSqlRequest)
+            .map(AbstractMessage::getClass)
+            .collect(Collectors.toList());
+    assertEquals(2, requests.size());
+    assertEquals(ExecuteBatchDmlRequest.class, requests.get(0));
+    assertEquals(ExecuteSqlRequest.class, requests.get(1));
+  }
+
+  @Test
+  public void testFailedStatementFailsBatch() throws SQLException {
+    try (Connection connection = createPipelinedConnection();
+        Statement statement = connection.createStatement()) {
+      CloudSpannerJdbcStatement cloudSpannerJdbcStatement =
+          statement.unwrap(CloudSpannerJdbcStatement.class);
+      ApiFuture<Long> insertCount = cloudSpannerJdbcStatement.executeLargeUpdateAsync(INSERT);
+      ApiFuture<Long> invalidCount =
+          cloudSpannerJdbcStatement.executeLargeUpdateAsync(INVALID_UPDATE);
+      connection.unwrap(CloudSpannerJdbcConnection.class).flushPipelinedDml();
+
+      ExecutionException exception = assertThrows(ExecutionException.class, invalidCount::get);
+      assertTrue(exception.getCause() instanceof JdbcSqlException);
+      assertEquals(Code.INVALID_ARGUMENT, ((JdbcSqlException) exception.getCause()).getCode());
+      // The statements in a pipelined batch are applied atomically.
+      assertThrows(ExecutionException.class, insertCount::get);
+    }
+    assertEquals(0, mockSpanner.countRequestsOfType(CommitRequest.class));
+  }
+
+  @Test
+  public void testNotPipelinedInTransaction() throws Exception {
+    try (Connection connection = createPipelinedConnection();
+        Statement statement = connection.createStatement()) {
+      connection.setAutoCommit(false);
+      ApiFuture<Long> insertCount =
+          statement.unwrap(CloudSpannerJdbcStatement.class).executeLargeUpdateAsync(INSERT);
+      assertTrue(insertCount.isDone());
+      assertEquals(1L, insertCount.get().longValue());
+      connection.commit();
+    }
+    assertEquals(0, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+    assertEquals(1, mockSpanner.countRequestsOfType(ExecuteSqlRequest.class));
+  }
+
+  @Test
+  public void testOnlyDmlCanBePipelined() throws SQLException {
+    try (Connection connection = createPipelinedConnection();
+        Statement statement = connection.createStatement()) {
+      JdbcSqlExceptionImpl exception =
+          assertThrows(
+              JdbcSqlExceptionImpl.class,
+              () ->
+                  statement
+                      .unwrap(CloudSpannerJdbcStatement.class)
+                      .executeLargeUpdateAsync("select * from foo"));
+      assertEquals(Code.INVALID_ARGUMENT, exception.getCode());
+    }
+  }
+
+  @Test
+  public void testDisablePipeliningFlushesBuffer() throws Exception {
+    try (Connection connection = createPipelinedConnection();
+        Statement statement = connection.createStatement()) {
+      ApiFuture<Long> insertCount =
+          statement.unwrap(CloudSpannerJdbcStatement.class).executeLargeUpdateAsync(INSERT);
+      connection.unwrap(CloudSpannerJdbcConnection.class).setPipelinedAutocommitDml(false);
+      assertFalse(connection.unwrap(CloudSpannerJdbcConnection.class).isPipelinedAutocommitDml());
+      assertEquals(1L, insertCount.get().longValue());
+    }
+    assertEquals(1, mockSpanner.countRequestsOfType(ExecuteBatchDmlRequest.class));
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class QueryFingerprintTest {
+
+  private static String normalize(String sql) {
+    return QueryFingerprint.normalize(Dialect.GOOGLE_STANDARD_SQL, sql);
+  }
+
+  private static String normalizePostgres(String sql) {
+    return QueryFingerprint.normalize(Dialect.POSTGRESQL, sql);
+  }
+
+  @Test
+  public void testNormalizeLiterals() {
+    assertEquals(
+        "select * from singers where singerid = ? and name = ? and x = ?",
+        normalize("SELECT * FROM Singers WHERE SingerId=1 AND Name='foo' and x=@p1"));
+    assertEquals(
+        "select * from singers where singerid = ? and name = ? and x = ?",
+        normalize("select *\n  from singers\twhere singerid = 2 and name = \"bar\" and x = @name"));
+    assertEquals(
+        "select ?, ?, ?, ?, ?, ?, ? from t",
+        normalize(
+            "SELECT r'raw', b'bytes', '''triple ' quote''', 1.5e-3, .5, 0xFF, 'it\\'s' FROM t"));
+    assertEquals("select ?", normalize("select 'unterminated"));
+  }
+
+  @Test
+  public void testNormalizeLists() {
+    assertEquals(
+        "select * from t where id in(?)", normalize("select * from t where id in (1,2,3)"));
+    assertEquals(
+        "select * from t where id in(?)", normalize("select * from t where id IN (@p1, @p2)"));
+    assertEquals(
+        "insert into t(a, b) values(?, ?)",
+        normalize("INSERT INTO T (a, b) VALUES (1, 'a'), (2, 'b'), (3, 'c')"));
+    assertEquals("select array[?], [?]", normalize("SELECT ARRAY[1,2,3], [4, 5]"));
+  }
+
+  @Test
+  public void testNormalizeKeepsQuotedIdentifiers() {
+    assertEquals(
+        "@{force_index = idx} select t.col from `My Table` t where t.id <= ? and count(*) > ?",
+        normalize(
+            "@{FORCE_INDEX=idx} SELECT t.col FROM `My Table` t WHERE t.id<=10 AND count(*)>0"));
+    assertEquals(
+        "select * from \"Singers\" where id = ?",
+        normalizePostgres("SELECT * FROM \"Singers\" WHERE id = 1"));
+  }
+
+  @Test
+  public void testNormalizePostgres() {
+    assertEquals(
+        "select * from t where id in(?) and a = ? and b = ? and c = ? and d = ? and e :: text = ?",
+        normalizePostgres(
+            "SELECT * FROM t WHERE id IN ($1,$2) AND a = E'it\\'s' AND b = 'a''b' "
+                + "AND c = $$body$$ AND d=$tag$x$tag$ AND e::text = 'x'"));
+  }
+
+  @Test
+  public void testFingerprint() {
+    AbstractStatementParser parser =
+        AbstractStatementParser.getInstance(Dialect.GOOGLE_STANDARD_SQL);
+    String sql = "/* comment */ SELECT * FROM foo WHERE id=1";
+    QueryFingerprint fingerprint = QueryFingerprint.of(Dialect.GOOGLE_STANDARD_SQL, parser, sql);
+    assertSame(fingerprint, QueryFingerprint.of(Dialect.GOOGLE_STANDARD_SQL, parser, sql));
+    assertEquals("select * from foo where id = ?", fingerprint.getNormalizedSql());
+    assertEquals(16, fingerprint.getFingerprint().length());
+
+    QueryFingerprint other =
+        QueryFingerprint.of(
+            Dialect.GOOGLE_STANDARD_SQL, parser, "select *\nfrom foo -- comment\nwhere id = 2");
+    assertEquals(fingerprint, other);
+    assertEquals(fingerprint.getFingerprint(), other.getFingerprint());
+
+    QueryFingerprint different =
+        QueryFingerprint.of(Dialect.GOOGLE_STANDARD_SQL, parser, "select * from bar where id=1");
+    assertNotEquals(fingerprint, different);
+    assertNotEquals(fingerprint.getFingerprint(), different.getFingerprint());
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.MockSpannerServiceImpl.StatementResult;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class QueryStatsMockServerTest extends AbstractMockServerTest {
+  private static final String QUERY = "SELECT COUNT(*) FROM FOO WHERE ID=%d";
+  private static final String NORMALIZED_QUERY = "select count(*) from foo where id = ?";
+
+  @BeforeClass
+  public static void setupResults() {
+    for (int id = 1; id <= 2; id++) {
+      mockSpanner.putStatementResult(
+          StatementResult.query(
+              Statement.of(String.format(QUERY, id)), SELECT_COUNT_RESULTSET_BEFORE_INSERT));
+    }
+  }
+
+  @Before
+  public void resetQueryStats() {
+    QueryStatsTracker.getInstance().reset();
+  }
+
+  @After
+  public void clearRequests() {
+    mockSpanner.clearRequests();
+  }
+
+  private static void executeQueries(Connection connection) throws SQLException {
+    for (int id = 1; id <= 2; id++) {
+      try (ResultSet resultSet =
+          connection.createStatement().executeQuery(String.format(QUERY, id))) {
+        while (resultSet.next()) {
+          // consume all rows
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testShowQueryStats() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      assertFalse(cloudSpannerJdbcConnection.isQueryStatsEnabled());
+      cloudSpannerJdbcConnection.setQueryStatsEnabled(true);
+      assertTrue(cloudSpannerJdbcConnection.isQueryStatsEnabled());
+      executeQueries(connection);
+      // Client-side statements are not recorded.
+      connection.createStatement().execute("SHOW VARIABLE AUTOCOMMIT");
+
+      try (ResultSet resultSet =
+          connection.createStatement().executeQuery("SHOW VARIABLE SPANNER_JDBC.QUERY_STATS")) {
+        assertTrue(resultSet.next());
+        assertEquals(NORMALIZED_QUERY, resultSet.getString("NORMALIZED_SQL"));
+        assertEquals(2L, resultSet.getLong("EXECUTION_COUNT"));
+        assertEquals(2L, resultSet.getLong("ROW_COUNT"));
+        assertFalse(resultSet.next());
+      }
+    }
+  }
+
+  @Test
+  public void testShowQueryStatsWithExecute() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      connection.unwrap(CloudSpannerJdbcConnection.class).setQueryStatsEnabled(true);
+      executeQueries(connection);
+
+      java.sql.Statement statement = connection.createStatement();
+      assertTrue(statement.execute("/* stats */ SHOW VARIABLE spanner_jdbc.query_stats"));
+      try (ResultSet resultSet = statement.getResultSet()) {
+        assertTrue(resultSet.next());
+        assertEquals(NORMALIZED_QUERY, resultSet.getString("NORMALIZED_SQL"));
+        assertFalse(resultSet.next());
+      }
+    }
+  }
+
+  @Test
+  public void testQueryStatsDisabled() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      executeQueries(connection);
+      try (ResultSet resultSet =
+          connection.createStatement().executeQuery("SHOW VARIABLE SPANNER_JDBC.QUERY_STATS")) {
+        assertFalse(resultSet.next());
+      }
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.ObjectName;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class QueryStatsTrackerTest {
+  private static final QueryFingerprint SELECT = new QueryFingerprint("select * from foo");
+  private static final QueryFingerprint UPDATE = new QueryFingerprint("update foo set bar = ?");
+  private static final QueryFingerprint DELETE = new QueryFingerprint("delete from foo");
+
+  @Test
+  public void testRecordExecutions() {
+    QueryStatsTracker tracker = new QueryStatsTracker(10);
+    for (int i = 0; i < 100; i++) {
+      tracker.recordExecution(SELECT, i < 50 ? 5L : 100L);
+    }
+    tracker.recordRows(SELECT, 10L);
+    tracker.recordRows(SELECT, 20L);
+    tracker.recordExecution(UPDATE, 20L);
+
+    List<QueryStatistics> statistics = tracker.getTopQueries();
+    assertEquals(2, statistics.size());
+    assertEquals(2, tracker.getTrackedQueryCount());
+    QueryStatistics select = statistics.get(0);
+    assertEquals(SELECT.getFingerprint(), select.getFingerprint());
+    assertEquals("select * from foo", select.getNormalizedSql());
+    assertEquals(100L, select.getExecutionCount());
+    assertEquals(0L, select.getExecutionCountError());
+    assertEquals(5L, select.getP50LatencyMillis());
+    assertEquals(100L, select.getP99LatencyMillis());
+    assertEquals(30L, select.getRowCount());
+    QueryStatistics update = statistics.get(1);
+    assertEquals(1L, update.getExecutionCount());
+    assertEquals(20L, update.getP50LatencyMillis());
+    assertEquals(0L, update.getRowCount());
+
+    tracker.reset();
+    assertEquals(0, tracker.getTrackedQueryCount());
+  }
+
+  @Test
+  public void testLatencyPercentileIsRoundedUpToBucketBoundary() {
+    QueryStatsTracker tracker = new QueryStatsTracker(10);
+    tracker.recordExecution(SELECT, 7L);
+    assertEquals(8L, tracker.getTopQueries().get(0).getP50LatencyMillis());
+    tracker.recordExecution(SELECT, Long.MAX_VALUE);
+    assertEquals(100000L, tracker.getTopQueries().get(0).getP99LatencyMillis());
+  }
+
+  @Test
+  public void testEvictsLeastFrequentFingerprint() {
+    QueryStatsTracker tracker = new QueryStatsTracker(2);
+    tracker.recordExecution(SELECT, 1L);
+    tracker.recordExecution(SELECT, 1L);
+    tracker.recordExecution(SELECT, 1L);
+    tracker.recordExecution(UPDATE, 1L);
+    tracker.recordExecution(DELETE, 1L);
+
+    List<QueryStatistics> statistics = tracker.getTopQueries();
+    assertEquals(2, statistics.size());
+    assertEquals(SELECT.getFingerprint(), statistics.get(0).getFingerprint());
+    // The new fingerprint replaces the least frequent fingerprint and inherits its count.
+    QueryStatistics delete = statistics.get(1);
+    assertEquals(DELETE.getFingerprint(), delete.getFingerprint());
+    assertEquals(2L, delete.getExecutionCount());
+    assertEquals(1L, delete.getExecutionCountError());
+
+    // Rows are not recorded for fingerprints that are no longer tracked.
+    tracker.recordRows(UPDATE, 10L);
+    assertEquals(2, tracker.getTrackedQueryCount());
+  }
+
+  @Test
+  public void testSampledEvictionKeepsFrequentFingerprints() {
+    int capacity = QueryStatsTracker.EVICTION_SAMPLE_SIZE * 10;
+    QueryStatsTracker tracker = new QueryStatsTracker(capacity);
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordExecution(SELECT, 1L);
+    }
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordExecution(new QueryFingerprint("select * from foo where id=" + i), 1L);
+    }
+    assertEquals(capacity, tracker.getTrackedQueryCount());
+    QueryStatistics select = tracker.getTopQueries().get(0);
+    assertEquals(SELECT.getFingerprint(), select.getFingerprint());
+    assertEquals(1000L, select.getExecutionCount());
+
+    tracker.reset();
+    assertEquals(0, tracker.getTrackedQueryCount());
+    tracker.recordExecution(SELECT, 1L);
+    assertEquals(1L, tracker.getTopQueries().get(0).getExecutionCount());
+  }
+
+  @Test
+  public void testCreateResultSet() {
+    QueryStatsTracker tracker = new QueryStatsTracker(10);
+    tracker.recordExecution(SELECT, 3L);
+    tracker.recordRows(SELECT, 5L);
+    try (ResultSet resultSet = tracker.createResultSet()) {
+      assertTrue(resultSet.next());
+      assertEquals(SELECT.getFingerprint(), resultSet.getString("FINGERPRINT"));
+      assertEquals("select * from foo", resultSet.getString("NORMALIZED_SQL"));
+      assertEquals(1L, resultSet.getLong("EXECUTION_COUNT"));
+      assertEquals(0L, resultSet.getLong("EXECUTION_COUNT_ERROR"));
+      assertEquals(3L, resultSet.getLong("P50_LATENCY_MS"));
+      assertEquals(3L, resultSet.getLong("P99_LATENCY_MS"));
+      assertEquals(5L, resultSet.getLong("ROW_COUNT"));
+      assertFalse(resultSet.next());
+    }
+  }
+
+  @Test
+  public void testIsShowQueryStatsStatement() {
+    for (Dialect dialect : Dialect.values()) {
+      AbstractStatementParser parser = AbstractStatementParser.getInstance(dialect);
+      assertTrue(
+          QueryStatsTracker.isShowQueryStatsStatement(
+              parser, "show variable spanner_jdbc.query_stats"));
+      assertTrue(
+          QueryStatsTracker.isShowQueryStatsStatement(
+              parser, "/* comment */ SHOW SPANNER_JDBC.QUERY_STATS"));
+      assertFalse(QueryStatsTracker.isShowQueryStatsStatement(parser, "select * from query_stats"));
+      assertFalse(QueryStatsTracker.isShowQueryStatsStatement(parser, "show variable autocommit"));
+      assertTrue(
+          QueryStatsTracker.isShowQueryStatsStatement(
+              parser, "\n  -- comment\n  show spanner_jdbc.query_stats  "));
+      assertFalse(
+          QueryStatsTracker.isShowQueryStatsStatement(
+              parser, "select 'show spanner_jdbc.query_stats'"));
+      assertFalse(QueryStatsTracker.isShowQueryStatsStatement(parser, "  "));
+    }
+  }
+
+  @Test
+  public void testMBean() throws Exception {
+    QueryStatsTracker tracker = QueryStatsTracker.getInstance();
+    assertSame(tracker, QueryStatsTracker.getInstance());
+    ObjectName name = new ObjectName(QueryStatsMXBean.OBJECT_NAME);
+    assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    assertEquals(
+        tracker.getTrackedQueryCount(),
+        ManagementFactory.getPlatformMBeanServer().getAttribute(name, "TrackedQueryCount"));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.google.cloud.spanner.MockSpannerServiceImpl.SimulatedExecutionTime;
+import com.google.cloud.spanner.connection.AbstractMockServerTest;
+import com.google.cloud.spanner.jdbc.JdbcSqlExceptionFactory.JdbcSqlExceptionImpl;
+import com.google.rpc.Code;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class SlowQueryLogMockServerTest extends AbstractMockServerTest {
+  private static final Logger SLOW_QUERY_LOGGER = Logger.getLogger(SlowQueryLog.class.getName());
+
+  private final BlockingQueue<String> records = new LinkedBlockingQueue<>();
+  private final Handler handler =
+      new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+          records.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+      };
+
+  @Before
+  public void addHandler() {
+    SLOW_QUERY_LOGGER.addHandler(handler);
+  }
+
+  @After
+  public void removeHandler() {
+    SLOW_QUERY_LOGGER.removeHandler(handler);
+    mockSpanner.setExecuteStreamingSqlExecutionTime(SimulatedExecutionTime.none());
+    mockSpanner.clearRequests();
+  }
+
+  private Connection createConnection(long thresholdMs) throws SQLException {
+    Properties info = new Properties();
+    info.setProperty(JdbcDriver.SLOW_QUERY_THRESHOLD_MS, String.valueOf(thresholdMs));
+    return DriverManager.getConnection("jdbc:" + getBaseUrl(), info);
+  }
+
+  @Test
+  public void testSlowQueryIsLogged() throws Exception {
+    mockSpanner.setExecuteStreamingSqlExecutionTime(
+        SimulatedExecutionTime.ofMinimumAndRandomTime(20, 0));
+    try (Connection connection = createConnection(10L);
+        Statement statement = connection.createStatement()) {
+      assertEquals(
+          10L, connection.unwrap(CloudSpannerJdbcConnection.class).getSlowQueryThresholdMs());
+      try (ResultSet resultSet = statement.executeQuery(SELECT_COUNT_STATEMENT.getSql())) {
+        assertTrue(resultSet.next());
+        assertEquals(COUNT_BEFORE_INSERT, resultSet.getLong(1));
+      }
+    }
+    String record = records.poll(10L, TimeUnit.SECONDS);
+    assertNotNull(record);
+    assertTrue(record, record.contains("\"operation\":\"query\""));
+    assertTrue(record, record.contains("\"outcome\":\"closed_early\""));
+    assertTrue(record, record.contains("\"rows\":1"));
+  }
+
+  @Test
+  public void testDisabledByDefault() throws SQLException {
+    try (Connection connection = createJdbcConnection()) {
+      CloudSpannerJdbcConnection cloudSpannerJdbcConnection =
+          connection.unwrap(CloudSpannerJdbcConnection.class);
+      assertEquals(0L, cloudSpannerJdbcConnection.getSlowQueryThresholdMs());
+      cloudSpannerJdbcConnection.setSlowQueryThresholdMs(100L);
+      assertEquals(100L, cloudSpannerJdbcConnection.getSlowQueryThresholdMs());
+      assertThrows(
+          SQLException.class, () -> cloudSpannerJdbcConnection.setSlowQueryThresholdMs(-1L));
+    }
+  }
+
+  @Test
+  public void testInvalidThreshold() {
+    Properties info = new Properties();
+    info.setProperty(JdbcDriver.SLOW_QUERY_THRESHOLD_MS, "foo");
+    JdbcSqlExceptionImpl exception =
+        assertThrows(
+            JdbcSqlExceptionImpl.class,
+            () -> DriverManager.getConnection("jdbc:" + getBaseUrl(), info).close());
+    assertEquals(Code.INVALID_ARGUMENT, exception.getCode());
+  }
+}
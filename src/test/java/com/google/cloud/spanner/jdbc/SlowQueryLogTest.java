@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.Dialect;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.connection.AbstractStatementParser;
+import com.google.cloud.spanner.jdbc.Metrics.Operation;
+import io.opentelemetry.api.common.Attributes;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class SlowQueryLogTest {
+  private static final Statement STATEMENT =
+      Statement.newBuilder("select * from foo where id=@id and name='test'")
+          .bind("id")
+          .to(1L)
+          .build();
+
+  private static JdbcConnection mockConnection() throws SQLException {
+    JdbcConnection connection = mock(JdbcConnection.class);
+    when(connection.getDatabaseName()).thenReturn("projects/p/instances/i/databases/d");
+    when(connection.getDialect()).thenReturn(Dialect.GOOGLE_STANDARD_SQL);
+    when(connection.getParser())
+        .thenReturn(AbstractStatementParser.getInstance(Dialect.GOOGLE_STANDARD_SQL));
+    when(connection.getReplayCostTracker())
+        .thenReturn(new TransactionReplayCostTracker(mock(Metrics.class), Attributes.empty()));
+    return connection;
+  }
+
+  @Test
+  public void testRecordsAreDroppedWhenQueueIsFull() throws InterruptedException {
+    List<String> records = new ArrayList<>();
+    SlowQueryLog log = new SlowQueryLog(1, records::add);
+    assertTrue(log.offer(() -> "first"));
+    assertFalse(log.offer(() -> "second"));
+    assertEquals(1L, log.getDroppedRecordCount());
+
+    assertTrue(log.writeNext(0L));
+    assertFalse(log.writeNext(0L));
+    assertEquals(1, records.size());
+    assertEquals("first", records.get(0));
+    assertEquals(0L, log.getDroppedRecordCount());
+  }
+
+  @Test
+  public void testSlowQueryIsLogged() throws Exception {
+    List<String> records = new ArrayList<>();
+    SlowQueryLog log = new SlowQueryLog(10, records::add);
+    SlowQueryLog.Execution execution =
+        new SlowQueryLog.Execution(
+            log, mockConnection(), STATEMENT, "my-tag", null, 0L, 1.0d, false);
+    execution.executed(Operation.QUERY, TimeUnit.MILLISECONDS.toNanos(1L));
+    execution.finish(5L, "exhausted");
+    // An execution is only logged once.
+    execution.finish(5L, "closed_early");
+    assertTrue(log.writeNext(0L));
+    assertFalse(log.writeNext(0L));
+
+    String record = records.get(0);
+    assertTrue(record, record.startsWith("{\"timestamp\":\""));
+    assertTrue(record, record.contains("\"database\":\"projects/p/instances/i/databases/d\""));
+    assertTrue(record, record.contains("\"operation\":\"query\""));
+    assertTrue(record, record.contains("\"outcome\":\"exhausted\""));
+    assertTrue(record, record.contains("\"statement_tag\":\"my-tag\""));
+    assertTrue(record, record.contains("\"fingerprint\":\""));
+    assertTrue(record, record.contains("\"parameter_types\":{\"id\":\"INT64\"}"));
+    assertFalse(record, record.contains("parameter_values"));
+    assertFalse(record, record.contains("'test'"));
+    assertTrue(record, record.contains("\"rows\":5"));
+    assertTrue(record, record.contains("\"estimated_statement_bytes\":"));
+    assertTrue(record, record.contains("\"retries\":0"));
+    assertTrue(record, record.contains("\"execute_us\":1000"));
+    assertTrue(record, record.endsWith("}"));
+  }
+
+  @Test
+  public void testParameterValues() throws Exception {
+    List<String> records = new ArrayList<>();
+    SlowQueryLog log = new SlowQueryLog(10, records::add);
+    SlowQueryLog.Execution execution =
+        new SlowQueryLog.Execution(log, mockConnection(), STATEMENT, null, null, 0L, 1.0d, true);
+    execution.executed(Operation.UPDATE, 0L);
+    execution.finish(0L, "ok");
+    assertTrue(log.writeNext(0L));
+
+    String record = records.get(0);
+    assertTrue(record, record.contains("\"parameter_values\":{\"id\":\"1\"}"));
+    assertFalse(record, record.contains("statement_tag"));
+    assertFalse(record, record.contains("\"rows\""));
+  }
+
+  @Test
+  public void testFastQueryIsNotLogged() throws Exception {
+    List<String> records = new ArrayList<>();
+    SlowQueryLog log = new SlowQueryLog(10, records::add);
+    SlowQueryLog.Execution execution =
+        new SlowQueryLog.Execution(
+            log,
+            mockConnection(),
+            STATEMENT,
+            null,
+            null,
+            TimeUnit.HOURS.toNanos(1L),
+            1.0d,
+            false);
+    execution.executed(Operation.QUERY, 0L);
+    execution.finish(1L, "exhausted");
+    assertFalse(log.writeNext(0L));
+
+    // A sample rate of zero never logs anything.
+    execution =
+        new SlowQueryLog.Execution(log, mockConnection(), STATEMENT, null, null, 0L, 0.0d, false);
+    execution.finish(1L, "exhausted");
+    assertFalse(log.writeNext(0L));
+  }
+
+  @Test
+  public void testAppendString() {
+    StringBuilder builder = new StringBuilder();
+    SlowQueryLog.appendString(builder, "a\"b\\c\nd\u0001");
+    assertEquals("\"a\\\"b\\\\c\\nd\\u0001\"", builder.toString());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.connection.TransactionRetryListener.RetryResult;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class TransactionReplayCostTrackerTest {
+
+  @Test
+  public void testCounters() {
+    TransactionReplayCostTracker tracker =
+        new TransactionReplayCostTracker(mock(Metrics.class), Attributes.empty());
+    tracker.onStatement(true);
+    tracker.onRow();
+    tracker.onRow();
+    tracker.onStatement(false);
+    tracker.onRow();
+    assertEquals(2L, tracker.getStatements());
+    assertEquals(3L, tracker.getRows());
+
+    tracker.onStatement(true);
+    assertEquals(1L, tracker.getStatements());
+    assertEquals(0L, tracker.getRows());
+  }
+
+  @Test
+  public void testRecordsRetry() {
+    Metrics metrics = mock(Metrics.class);
+    Attributes attributes = Attributes.of(AttributeKey.stringKey("database"), "db");
+    TransactionReplayCostTracker tracker = new TransactionReplayCostTracker(metrics, attributes);
+    tracker.onStatement(true);
+    tracker.onRow();
+    tracker.onStatement(false);
+
+    tracker.retryStarting(Timestamp.now(), 1L, 1);
+    tracker.retryFinished(Timestamp.now(), 1L, 1, RetryResult.RETRY_SUCCESSFUL);
+
+    verify(metrics)
+        .recordTransactionRetry(
+            anyLong(),
+            eq(2L),
+            eq(1L),
+            eq(attributes.toBuilder().put(Metrics.RETRY_RESULT_KEY, "retry_successful").build()));
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spanner.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.UUID;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class UuidParserTest {
+
+  @Test
+  public void testParseAndToString() {
+    Random random = new Random();
+    for (int i = 0; i < 1000; i++) {
+      UUID uuid = new UUID(random.nextLong(), random.nextLong());
+      String value = uuid.toString();
+      assertEquals(value, UuidParser.toString(uuid));
+      assertEquals(value, uuid, UuidParser.parse(value));
+      assertEquals(value, uuid, UuidParser.parse(value.toUpperCase()));
+    }
+    for (UUID uuid : new UUID[] {new UUID(0L, 0L), new UUID(-1L, -1L), UUID.randomUUID()}) {
+      assertEquals(uuid.toString(), UuidParser.toString(uuid));
+      assertEquals(uuid, UuidParser.parse(uuid.toString()));
+    }
+  }
+
+  @Test
+  public void testParseNonCanonical() {
+    for (String value : new String[] {"1-2-3-4-5", "0-0-0-0-0", "83b988cf-1f4e-428a-be3d-cc7126"}) {
+      assertEquals(value, UUID.fromString(value), UuidParser.parse(value));
+    }
+  }
+
+  @Test
+  public void testParseInvalid() {
+    for (String value :
+        new String[] {
+          "",
+          "foo",
+          "x3b988cf-1f4e-428a-be3d-cc712621942e",
+          "83b988cf-1f4e-428a-be3d-cc712621942g",
+          "83b988cf+1f4e-428a-be3d-cc712621942e",
+        }) {
+      assertThrows(value, IllegalArgumentException.class, () -> UuidParser.parse(value));
+    }
+  }
+}